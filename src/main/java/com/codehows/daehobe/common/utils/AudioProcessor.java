@@ -8,11 +8,15 @@ import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @Slf4j
@@ -21,7 +25,32 @@ public class AudioProcessor {
     @Value("${ffmpeg.path:/usr/bin/ffmpeg}")
     private String ffmpegPath;
 
+    @Value("${ffmpeg.streaming.enabled:true}")
+    private boolean streamingEnabled;
+
+    @Value("${ffmpeg.streaming.finish-timeout-seconds:60}")
+    private long streamingFinishTimeoutSeconds;
+
+    // ffmpeg가 입력을 못 따라와 이만큼 밀리면 스트리밍 인코딩 포기 (종료 시 전체 인코딩)
+    @Value("${ffmpeg.streaming.max-pending-bytes:16777216}")
+    private long streamingMaxPendingBytes;
+
+    // 재생용 WAV 생성 (헤더/메타데이터 정상화)
+    // 이미 재생 형식의 PCM WAV면 헤더만 보정해 outputPath로 이동 (입력 파일은 사라짐), 아니면 ffmpeg 변환
     public void fixAudioMetadata(Path inputPath, Path outputPath) {
+        if (WavHeaderPatcher.patchInPlace(inputPath, AudioProfile.PLAYBACK_WAV)) {
+            try {
+                Files.move(inputPath, outputPath, StandardCopyOption.REPLACE_EXISTING);
+                log.info("[WAV] 헤더 보정만으로 처리 (ffmpeg 생략): {}", outputPath);
+                return;
+            } catch (IOException e) {
+                log.warn("[WAV] 보정 파일 이동 실패, ffmpeg로 대체", e);
+            }
+        }
+        transcode(inputPath, outputPath, AudioProfile.PLAYBACK_WAV);
+    }
+
+    public void transcode(Path inputPath, Path outputPath, AudioProfile profile) {
         try {
             String inputAbsPath = inputPath.toAbsolutePath().toString().replace("\\", "/");
             String outputAbsPath = outputPath.toAbsolutePath().toString().replace("\\", "/");
@@ -30,7 +59,7 @@ public class AudioProcessor {
             log.info("File size: {} bytes", Files.size(inputPath));
             log.info("File exists: {}", Files.exists(inputPath));
 
-            Process process = getProcessForEncode(inputAbsPath, outputAbsPath);
+            Process process = getProcessForEncode(inputAbsPath, outputAbsPath, profile);
 
             StringBuilder output = new StringBuilder();
             try (BufferedReader reader = new BufferedReader(
@@ -67,22 +96,85 @@ public class AudioProcessor {
         }
     }
 
-    private Process getProcessForEncode(String inputPath, String outputPath) throws IOException {
-        ProcessBuilder pb = new ProcessBuilder(
-                ffmpegPath,
-                "-i", inputPath,
-                "-c:a", "pcm_s16le",     // Opus → 16비트 PCM (WAV 표준)
-                "-ar", "48000",          // 샘플레이트 48kHz (Opus 표준)
-                "-ac", "2",              // 스테레오
-                "-vn",                    // 비디오 스트림 제거
-                "-f", "wav",              // 출력 형식 명시적 WAV 지정
-                "-map_metadata", "0",     // 메타데이터 복사
-                "-y",                     // 덮어쓰기
-                "-threads", "0",          // 모든 CPU 코어 사용
-                outputPath
-        );
+    /**
+     * 업로드 스트림을 stdin으로 받아 변환 (원본을 디스크에 따로 저장하지 않음)
+     */
+    public void transcode(InputStream input, Path outputPath, AudioProfile profile) {
+        Path logPath = outputPath.resolveSibling(outputPath.getFileName() + ".log");
+        try {
+            ProcessBuilder pb = new ProcessBuilder(encodeCommand("pipe:0",
+                    outputPath.toAbsolutePath().toString().replace("\\", "/"), profile));
+            pb.redirectErrorStream(true);
+            pb.redirectOutput(logPath.toFile());
+            Process process = pb.start();
+            try (OutputStream stdin = process.getOutputStream()) {
+                input.transferTo(stdin);
+            }
+
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                log.error("[FFmpeg] 실행 실패 (exit code: {})\n{}", exitCode, Files.readString(logPath));
+                throw new RuntimeException("인코딩 실패");
+            }
+            log.info("[FFmpeg] 변환 완료 ({}): {}", profile, outputPath);
+        } catch (Exception e) {
+            log.error("[FFmpeg] 변환 실패", e);
+            try {
+                Files.deleteIfExists(outputPath);
+            } catch (IOException ex) {
+                log.warn("Failed to delete {}", outputPath, ex);
+            }
+            throw new RuntimeException("오디오 파일 처리 실패", e);
+        } finally {
+            try {
+                Files.deleteIfExists(logPath);
+            } catch (IOException e) {
+                log.warn("Failed to delete {}", logPath, e);
+            }
+        }
+    }
+
+    /**
+     * 녹음 시작 시 stdin 입력을 받는 ffmpeg 프로세스 기동
+     * 출력 형식은 fixAudioMetadata와 동일하며, 결과는 outputPath에 점진적으로 기록됨
+     *
+     * @return 비활성화되었거나 기동 실패 시 null (종료 시 전체 인코딩으로 대체)
+     */
+    public StreamingEncodeSession startStreamingEncode(Path outputPath) {
+        if (!streamingEnabled) return null;
+        Path logPath = outputPath.resolveSibling(outputPath.getFileName() + ".log");
+        try {
+            ProcessBuilder pb = new ProcessBuilder(encodeCommand("pipe:0",
+                    outputPath.toAbsolutePath().toString().replace("\\", "/"), AudioProfile.PLAYBACK_WAV));
+            pb.redirectErrorStream(true);
+            // 출력은 파일로 보내 파이프가 가득 차 ffmpeg가 멈추지 않도록
+            pb.redirectOutput(logPath.toFile());
+            log.info("[FFmpeg] 스트리밍 인코딩 시작: {}", outputPath);
+            return new StreamingEncodeSession(pb.start(), outputPath, logPath,
+                    streamingFinishTimeoutSeconds, streamingMaxPendingBytes);
+        } catch (IOException e) {
+            log.warn("[FFmpeg] 스트리밍 인코딩 기동 실패, 종료 시 전체 인코딩으로 대체", e);
+            return null;
+        }
+    }
+
+    private Process getProcessForEncode(String inputPath, String outputPath, AudioProfile profile) throws IOException {
+        ProcessBuilder pb = new ProcessBuilder(encodeCommand(inputPath, outputPath, profile));
 
         pb.redirectErrorStream(true);
         return pb.start();
     }
-}
\ No newline at end of file
+
+    private List<String> encodeCommand(String input, String outputPath, AudioProfile profile) {
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegPath);
+        command.addAll(List.of("-i", input));
+        command.add("-vn");                         // 비디오 스트림 제거
+        command.addAll(profile.getFfmpegArgs());    // 코덱/샘플레이트/채널/컨테이너
+        command.addAll(List.of("-map_metadata", "0"));  // 메타데이터 복사
+        command.add("-y");                          // 덮어쓰기
+        command.addAll(List.of("-threads", "0"));   // 모든 CPU 코어 사용
+        command.add(outputPath);
+        return command;
+    }
+}
@@ -0,0 +1,36 @@
+package com.codehows.daehobe.common.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ffmpeg 출력 프로파일
+ * - PLAYBACK_WAV: 재생용 원본 품질 (48kHz 스테레오 PCM, 시간당 약 690MB)
+ * - 나머지: 음성 인식 전송용 (16kHz 모노, 시간당 WAV 약 115MB / FLAC 약 50MB / Opus 약 11MB)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AudioProfile {
+
+    PLAYBACK_WAV("wav", "audio/wav", 48000, 2,
+            List.of("-c:a", "pcm_s16le", "-ar", "48000", "-ac", "2", "-f", "wav")),
+    WAV_16K_MONO("wav", "audio/wav", 16000, 1,
+            List.of("-c:a", "pcm_s16le", "-ar", "16000", "-ac", "1", "-f", "wav")),
+    FLAC_16K_MONO("flac", "audio/flac", 16000, 1,
+            List.of("-c:a", "flac", "-ar", "16000", "-ac", "1", "-f", "flac")),
+    OPUS_16K_MONO("ogg", "audio/ogg", 16000, 1,
+            List.of("-c:a", "libopus", "-b:a", "24k", "-application", "voip", "-ar", "16000", "-ac", "1", "-f", "ogg"));
+
+    private final String extension;
+    private final String contentType;
+    private final int sampleRate;
+    private final int channels;
+    private final List<String> ffmpegArgs;
+
+    // 16비트 PCM WAV 프로파일이면 헤더 보정만으로 만족 가능 (WavHeaderPatcher)
+    public boolean isPcmWav() {
+        return "wav".equals(extension);
+    }
+}
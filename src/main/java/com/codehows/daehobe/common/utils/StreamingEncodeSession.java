@@ -0,0 +1,195 @@
+package com.codehows.daehobe.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 녹음 중 ffmpeg 스트리밍 인코딩 세션
+ * - 청크가 도착할 때마다 세션 전용 스레드가 순서대로 stdin으로 밀어 넣음 → 호출 측(청크 기록 lock)은 ffmpeg를 기다리지 않음
+ * - ffmpeg가 입력을 못 따라와 밀린 양이 maxPendingBytes를 넘으면 broken 처리 (프로세스 종료로 막힌 기록도 풀림)
+ * - 종료 시 밀린 입력을 모두 보낸 뒤 stdin을 닫아 WAV 헤더 확정만 기다림
+ * - 한 번이라도 기록에 실패하면 broken 처리 → 호출 측은 원본 파일 전체 재인코딩으로 대체
+ */
+@Slf4j
+public class StreamingEncodeSession {
+
+    private final Process process;
+    private final WritableByteChannel stdin;
+    private final Path outputPath;
+    private final Path logPath;
+    private final long finishTimeoutSeconds;
+    private final long maxPendingBytes;
+    private final ExecutorService feeder;
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private volatile boolean broken;
+
+    StreamingEncodeSession(Process process, Path outputPath, Path logPath,
+                           long finishTimeoutSeconds, long maxPendingBytes) {
+        this.process = process;
+        this.stdin = Channels.newChannel(process.getOutputStream());
+        this.outputPath = outputPath;
+        this.logPath = logPath;
+        this.finishTimeoutSeconds = finishTimeoutSeconds;
+        this.maxPendingBytes = maxPendingBytes;
+        // 중단 시 stdin은 전달 스레드가 끝난 뒤 닫음 (막힌 기록이 stdin lock을 잡고 있어 abort에서 닫으면 같이 막힘)
+        this.feeder = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().daemon().name("ffmpeg-feed-" + outputPath.getFileName()).factory()) {
+            @Override
+            protected void terminated() {
+                if (broken) closeStdin();
+            }
+        };
+    }
+
+    // 인코딩 중인 PCM WAV 출력 (녹음 중 실시간 전사가 완성된 프레임까지 읽음)
+    public Path getOutputPath() {
+        return outputPath;
+    }
+
+    /**
+     * 원본 녹음 파일에 방금 기록된 구간을 ffmpeg stdin으로 전달 예약 (기다리지 않음)
+     * source는 awaitFed()가 끝날 때까지 열려 있어야 함
+     */
+    public void feed(FileChannel source, long position, long size) {
+        if (broken) return;
+        if (pendingBytes.get() > maxPendingBytes) {
+            log.warn("[FFmpeg] 스트리밍 인코딩 입력 적체 ({} bytes), 종료 시 전체 인코딩으로 대체", pendingBytes.get());
+            abort();
+            return;
+        }
+        pendingBytes.addAndGet(size);
+        try {
+            feeder.execute(() -> transfer(source, position, size));
+        } catch (RejectedExecutionException e) {
+            // 이미 종료된 세션: 입력이 빠지므로 결과를 쓸 수 없음
+            pendingBytes.addAndGet(-size);
+            abort();
+        }
+    }
+
+    /**
+     * 예약된 입력을 모두 보낼 때까지 대기 (원본 채널을 닫기 전에 호출), 이후 feed는 받지 않음
+     *
+     * @return 모두 보냈으면 true, 시간 초과나 입력 실패면 false (broken 처리)
+     */
+    public boolean awaitFed() {
+        feeder.shutdown();
+        try {
+            if (!feeder.awaitTermination(finishTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.error("[FFmpeg] 스트리밍 인코딩 입력 대기 시간 초과 ({}s)", finishTimeoutSeconds);
+                abort();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+        }
+        return !broken;
+    }
+
+    /**
+     * 남은 입력을 보내고 stdin을 닫아 ffmpeg 종료를 기다린 뒤 결과를 targetPath로 이동
+     *
+     * @return 성공 시 true, 실패하면 false (임시 출력은 삭제됨)
+     */
+    public boolean finish(Path targetPath) {
+        if (!awaitFed()) return false;
+        try {
+            stdin.close();
+            if (!process.waitFor(finishTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.error("[FFmpeg] 스트리밍 인코딩 종료 대기 시간 초과 ({}s)", finishTimeoutSeconds);
+                abort();
+                return false;
+            }
+            if (process.exitValue() != 0) {
+                log.error("[FFmpeg] 스트리밍 인코딩 실패 (exit code: {})\n{}", process.exitValue(), readLog());
+                abort();
+                return false;
+            }
+            Files.move(outputPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            deleteQuietly(logPath);
+            log.info("[FFmpeg] 스트리밍 인코딩 완료: {}", targetPath);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            return false;
+        } catch (IOException e) {
+            log.error("[FFmpeg] 스트리밍 인코딩 마무리 실패", e);
+            abort();
+            return false;
+        }
+    }
+
+    // 프로세스를 종료해 stdin 기록에서 막힌 전달 스레드를 풀고, stdin은 전달 스레드 종료 후 닫힘 (기다리지 않음)
+    // 전달 스레드는 interrupt하지 않음 (interrupt되면 원본 녹음 FileChannel까지 닫힘)
+    public void abort() {
+        broken = true;
+        feeder.shutdown();
+        process.destroyForcibly();
+        if (feeder.isTerminated()) {
+            closeStdin();
+        }
+        deleteQuietly(outputPath);
+        deleteQuietly(logPath);
+    }
+
+    public boolean isBroken() {
+        return broken;
+    }
+
+    private void transfer(FileChannel source, long position, long size) {
+        try {
+            if (broken) return;
+            long sent = 0;
+            while (sent < size) {
+                long n = source.transferTo(position + sent, size - sent, stdin);
+                if (n <= 0) break;
+                sent += n;
+            }
+        } catch (IOException e) {
+            if (!broken) {
+                log.warn("[FFmpeg] 스트리밍 인코딩 입력 실패, 종료 시 전체 인코딩으로 대체: {}", e.getMessage());
+                abort();
+            }
+        } finally {
+            pendingBytes.addAndGet(-size);
+        }
+    }
+
+    private void closeStdin() {
+        try {
+            stdin.close();
+        } catch (IOException ignored) {
+            // 프로세스가 이미 종료된 경우
+        }
+    }
+
+    private String readLog() {
+        try {
+            return Files.readString(logPath);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.codehows.daehobe.common.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * ffmpeg 없이 처리 가능한 WAV 판별/헤더 보정
+ * - 녹음 청크를 이어 붙인 PCM WAV는 오디오 자체는 정상이고 RIFF/data 크기만 틀린 경우가 대부분
+ * - 헤더를 읽어 목표 프로파일(16비트 PCM, 샘플레이트/채널 일치)이면 크기 필드만 FileChannel 위치 쓰기로 수정
+ * - 그 외 형식(webm/opus, 다른 샘플레이트 등)은 false를 반환 → 호출 측이 ffmpeg로 변환
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WavHeaderPatcher {
+
+    private static final int PCM_FORMAT = 1;
+    private static final int PCM_BITS = 16;
+    private static final int SNIFF_BYTES = 4096;
+    private static final long MAX_RIFF_SIZE = 0xFFFFFFFFL;
+
+    public record WavFormat(int audioFormat, int channels, int sampleRate, int bitsPerSample,
+                            int blockAlign, long dataOffset) {
+
+        public boolean matches(AudioProfile profile) {
+            return profile.isPcmWav()
+                    && audioFormat == PCM_FORMAT
+                    && bitsPerSample == PCM_BITS
+                    && channels == profile.getChannels()
+                    && sampleRate == profile.getSampleRate();
+        }
+    }
+
+    /**
+     * 파일 앞부분의 RIFF/WAVE 헤더를 읽어 fmt 정보와 data 시작 위치를 반환
+     * data 청크 크기는 신뢰하지 않음 (스트리밍 녹음은 0 또는 임의 값)
+     */
+    public static Optional<WavFormat> sniff(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SNIFF_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        int read = channel.read(header, 0);
+        if (read < 12) return Optional.empty();
+        header.flip();
+
+        if (header.getInt(0) != fourCc("RIFF") || header.getInt(8) != fourCc("WAVE")) {
+            return Optional.empty();
+        }
+
+        int pos = 12;
+        int audioFormat = -1, channels = 0, sampleRate = 0, bitsPerSample = 0, blockAlign = 0;
+        while (pos + 8 <= header.limit()) {
+            int chunkId = header.getInt(pos);
+            long chunkSize = Integer.toUnsignedLong(header.getInt(pos + 4));
+            if (chunkId == fourCc("fmt ")) {
+                if (pos + 24 > header.limit()) return Optional.empty();
+                audioFormat = Short.toUnsignedInt(header.getShort(pos + 8));
+                channels = Short.toUnsignedInt(header.getShort(pos + 10));
+                sampleRate = header.getInt(pos + 12);
+                blockAlign = Short.toUnsignedInt(header.getShort(pos + 20));
+                bitsPerSample = Short.toUnsignedInt(header.getShort(pos + 22));
+            } else if (chunkId == fourCc("data")) {
+                if (audioFormat < 0 || blockAlign == 0) return Optional.empty();
+                return Optional.of(new WavFormat(audioFormat, channels, sampleRate, bitsPerSample,
+                        blockAlign, pos + 8L));
+            }
+            // 청크는 짝수 바이트 정렬
+            pos += 8 + (int) Math.min(chunkSize + (chunkSize & 1), SNIFF_BYTES);
+        }
+        return Optional.empty();
+    }
+
+    public static boolean matches(Path file, AudioProfile profile) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return sniff(channel).map(format -> format.matches(profile)).orElse(false);
+        } catch (IOException e) {
+            log.warn("Failed to sniff WAV header: {}", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * 목표 프로파일과 형식이 같으면 RIFF/data 크기를 실제 파일 크기로 수정
+     * 마지막 불완전 프레임은 잘라냄
+     *
+     * @return 보정했으면 true, ffmpeg 변환이 필요하면 false (파일은 변경되지 않음)
+     */
+    public static boolean patchInPlace(Path file, AudioProfile profile) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            Optional<WavFormat> sniffed = sniff(channel);
+            if (sniffed.isEmpty() || !sniffed.get().matches(profile)) {
+                return false;
+            }
+            WavFormat format = sniffed.get();
+
+            long dataSize = channel.size() - format.dataOffset();
+            dataSize -= dataSize % format.blockAlign();
+            long fileSize = format.dataOffset() + dataSize;
+            if (fileSize - 8 > MAX_RIFF_SIZE) {
+                return false;   // 4GB 초과는 RF64 필요 → ffmpeg
+            }
+
+            channel.truncate(fileSize);
+            writeUInt32(channel, 4, fileSize - 8);
+            writeUInt32(channel, format.dataOffset() - 4, dataSize);
+            channel.force(false);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to patch WAV header: {}", file, e);
+            return false;
+        }
+    }
+
+    private static void writeUInt32(FileChannel channel, long position, long value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt((int) value).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static int fourCc(String id) {
+        return (id.charAt(0)) | (id.charAt(1) << 8) | (id.charAt(2) << 16) | (id.charAt(3) << 24);
+    }
+}
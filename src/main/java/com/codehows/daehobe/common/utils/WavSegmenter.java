@@ -0,0 +1,168 @@
+package com.codehows.daehobe.common.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 16비트 PCM WAV를 무음 구간에서 나누기 (재인코딩 없음)
+ * - 이상적인 절단 위치(전체 길이 / N의 배수) 주변 탐색 구간에서 진폭 합이 가장 작은 창의 중앙을 절단점으로 선택
+ * - 절단점은 프레임(blockAlign) 경계에 맞춤 → 샘플이 쪼개지지 않음
+ * - 구간 복사는 44바이트 헤더 + FileChannel.transferTo 범위 복사
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WavSegmenter {
+
+    private static final int PCM_FORMAT = 1;
+    private static final int PCM_BITS = 16;
+    private static final int HEADER_SIZE = 44;
+    // 무음 창 하나를 이 개수의 블록으로 나눠 블록 단위로 창을 이동
+    private static final int BLOCKS_PER_WINDOW = 4;
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    public record Segment(int index, long startFrame, long frameCount, long offsetMs, long durationMs) {
+    }
+
+    public static boolean isSegmentable(WavHeaderPatcher.WavFormat format) {
+        return format.audioFormat() == PCM_FORMAT && format.bitsPerSample() == PCM_BITS
+                && format.sampleRate() > 0 && format.blockAlign() > 0;
+    }
+
+    public static long totalFrames(FileChannel channel, WavHeaderPatcher.WavFormat format) throws IOException {
+        return Math.max(0, channel.size() - format.dataOffset()) / format.blockAlign();
+    }
+
+    /**
+     * @param count        나눌 구간 수 (1이면 전체 한 구간)
+     * @param searchFrames 이상적인 절단 위치 앞뒤로 무음을 찾을 범위
+     * @param windowFrames 무음으로 판단할 창 길이
+     */
+    public static List<Segment> plan(FileChannel channel, WavHeaderPatcher.WavFormat format, int count,
+                                     long searchFrames, long windowFrames) throws IOException {
+        long total = totalFrames(channel, format);
+        List<Long> cuts = new ArrayList<>();
+        cuts.add(0L);
+        for (int i = 1; i < count; i++) {
+            long ideal = total * i / count;
+            long from = Math.max(cuts.getLast() + windowFrames, ideal - searchFrames);
+            long to = Math.min(total - windowFrames, ideal + searchFrames);
+            cuts.add(to - from >= windowFrames ? findQuietestFrame(channel, format, from, to, windowFrames) : ideal);
+        }
+        cuts.add(total);
+
+        List<Segment> segments = new ArrayList<>(count);
+        for (int i = 0; i + 1 < cuts.size(); i++) {
+            segments.add(range(format, i, cuts.get(i), cuts.get(i + 1)));
+        }
+        return segments;
+    }
+
+    public static Segment range(WavHeaderPatcher.WavFormat format, int index, long startFrame, long endFrame) {
+        long frames = endFrame - startFrame;
+        return new Segment(index, startFrame, frames, toMillis(format, startFrame), toMillis(format, frames));
+    }
+
+    // 구간 [start, start + frameCount)를 독립된 WAV 파일로 복사
+    public static void copy(FileChannel source, WavHeaderPatcher.WavFormat format, Segment segment, Path target)
+            throws IOException {
+        long dataSize = segment.frameCount() * format.blockAlign();
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = header(format, dataSize);
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            long position = format.dataOffset() + segment.startFrame() * format.blockAlign();
+            long copied = 0;
+            while (copied < dataSize) {
+                long transferred = source.transferTo(position + copied, dataSize - copied, out);
+                if (transferred <= 0) {
+                    throw new IOException("WAV 구간 복사 중단: " + target);
+                }
+                copied += transferred;
+            }
+        }
+    }
+
+    /**
+     * [from, to) 범위에서 진폭 합이 가장 작은 창의 중앙 프레임 (to - from >= windowFrames)
+     * 블록별 진폭 합을 한 번 읽어 계산한 뒤 창 단위 이동 합으로 비교
+     */
+    public static long findQuietestFrame(FileChannel channel, WavHeaderPatcher.WavFormat format,
+                                          long from, long to, long windowFrames) throws IOException {
+        long blockFrames = Math.max(1, windowFrames / BLOCKS_PER_WINDOW);
+        int blocks = (int) ((to - from) / blockFrames);
+        long[] energy = blockEnergy(channel, format, from, blocks, blockFrames);
+
+        int window = (int) Math.min(blocks, Math.max(1, windowFrames / blockFrames));
+        long sum = 0;
+        for (int i = 0; i < window; i++) {
+            sum += energy[i];
+        }
+        long best = sum;
+        int bestStart = 0;
+        for (int i = window; i < blocks; i++) {
+            sum += energy[i] - energy[i - window];
+            if (sum < best) {
+                best = sum;
+                bestStart = i - window + 1;
+            }
+        }
+        return from + (bestStart * blockFrames) + (window * blockFrames) / 2;
+    }
+
+    private static long[] blockEnergy(FileChannel channel, WavHeaderPatcher.WavFormat format,
+                                      long from, int blocks, long blockFrames) throws IOException {
+        int blockAlign = format.blockAlign();
+        long[] energy = new long[blocks];
+        long totalBytes = blocks * blockFrames * blockAlign;
+        long base = format.dataOffset() + from * blockAlign;
+        // 버퍼 크기를 프레임 경계에 맞춰 한 프레임이 두 번 읽기에 걸치지 않도록
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(blockAlign, READ_BUFFER_BYTES / blockAlign * blockAlign))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        long read = 0;
+        while (read < totalBytes) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), totalBytes - read));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, base + read + buffer.position()) < 0) break;
+            }
+            buffer.flip();
+            int frames = buffer.remaining() / blockAlign;
+            for (int f = 0; f < frames; f++) {
+                long frameIndex = read / blockAlign + f;
+                long amplitude = 0;
+                for (int c = 0; c < format.channels(); c++) {
+                    amplitude += Math.abs(buffer.getShort(f * blockAlign + c * 2));
+                }
+                energy[(int) (frameIndex / blockFrames)] += amplitude;
+            }
+            if (frames == 0) break;
+            read += (long) frames * blockAlign;
+        }
+        return energy;
+    }
+
+    static ByteBuffer header(WavHeaderPatcher.WavFormat format, long dataSize) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt((int) (dataSize + HEADER_SIZE - 8)).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) PCM_FORMAT).putShort((short) format.channels())
+                .putInt(format.sampleRate()).putInt(format.sampleRate() * format.blockAlign())
+                .putShort((short) format.blockAlign()).putShort((short) PCM_BITS);
+        buffer.put("data".getBytes()).putInt((int) dataSize);
+        return buffer.flip();
+    }
+
+    private static long toMillis(WavHeaderPatcher.WavFormat format, long frames) {
+        return frames * 1000 / format.sampleRate();
+    }
+}
@@ -0,0 +1,185 @@
+package com.codehows.daehobe.common.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 16비트 PCM WAV 무음 구간 압축 (음성 구간 검출, VAD)
+ * - 분석 창(frame-ms)마다 평균 진폭 + 영교차율로 음성 여부 판단
+ *   · 평균 진폭 >= energyThreshold → 음성
+ *   · 평균 진폭 >= energyThreshold / 4 이고 영교차율 >= zeroCrossingRate → 음성 (작은 마찰음/무성 자음)
+ * - minSilenceMs 이상 이어진 무음은 앞뒤 keepSilenceMs / 2씩만 남기고 제거, 짧은 무음(말 사이 쉼)은 그대로
+ * - 한 번 순차로 읽으며 읽기 버퍼 하나만 재사용 (창 단위 객체 생성 없음)
+ * - 남길 범위는 재인코딩 없이 44바이트 헤더 + FileChannel.transferTo 범위 복사
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WavSilenceTrimmer {
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+    private static final int LOW_ENERGY_DIVISOR = 4;
+
+    /**
+     * @param frameMs          분석 창 길이
+     * @param energyThreshold  음성으로 볼 평균 진폭 (16비트 샘플 절댓값 기준)
+     * @param zeroCrossingRate 작은 진폭이라도 음성으로 볼 샘플당 부호 변경 비율
+     * @param minSilenceMs     이 이상 이어진 무음만 압축
+     * @param keepSilenceMs    압축한 무음 자리에 남길 길이 (앞뒤 절반씩)
+     */
+    public record Settings(int frameMs, int energyThreshold, double zeroCrossingRate,
+                           long minSilenceMs, long keepSilenceMs) {
+    }
+
+    // 원본 기준 남길 프레임 범위 [startFrame, endFrame)
+    public record Range(long startFrame, long endFrame) {
+        public long frameCount() {
+            return endFrame - startFrame;
+        }
+    }
+
+    /**
+     * 압축된 오디오 시각 → 원본 시각 변환표
+     * i번째 남긴 범위가 압축본의 trimmedStartMs[i], 원본의 originalStartMs[i]에서 시작
+     */
+    public record TimeMap(long[] trimmedStartMs, long[] originalStartMs) {
+
+        public long toOriginal(long trimmedMs) {
+            int i = Arrays.binarySearch(trimmedStartMs, trimmedMs);
+            if (i < 0) i = Math.max(0, -i - 2);
+            return originalStartMs[i] + (trimmedMs - trimmedStartMs[i]);
+        }
+    }
+
+    /**
+     * 남길 범위 계산 (서로 겹치지 않고 오름차순)
+     */
+    public static List<Range> plan(FileChannel channel, WavHeaderPatcher.WavFormat format, Settings settings)
+            throws IOException {
+        long total = WavSegmenter.totalFrames(channel, format);
+        int blockAlign = format.blockAlign();
+        int channels = format.channels();
+        int windowFrames = Math.max(1, format.sampleRate() * settings.frameMs() / 1000);
+        long minSilenceFrames = settings.minSilenceMs() * format.sampleRate() / 1000;
+        long padFrames = settings.keepSilenceMs() * format.sampleRate() / 1000 / 2;
+        long lowEnergy = settings.energyThreshold() / LOW_ENERGY_DIVISOR;
+        // 버퍼 크기를 분석 창 경계에 맞춰 한 창이 두 번 읽기에 걸치지 않도록
+        int windowBytes = windowFrames * blockAlign;
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(windowBytes, READ_BUFFER_BYTES / windowBytes * windowBytes))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        List<Range> kept = new ArrayList<>();
+        long keepStart = 0;
+        long silenceStart = -1;
+        int previous = 0;
+        long frame = 0;
+        while (frame < total) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), (total - frame) * blockAlign));
+            long position = format.dataOffset() + frame * blockAlign;
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) break;
+            }
+            buffer.flip();
+            int frames = buffer.remaining() / blockAlign;
+            if (frames == 0) break;
+
+            for (int start = 0; start < frames; start += windowFrames) {
+                int count = Math.min(windowFrames, frames - start);
+                long amplitude = 0;
+                int crossings = 0;
+                for (int f = start; f < start + count; f++) {
+                    int sample = 0;
+                    for (int c = 0; c < channels; c++) {
+                        sample += buffer.getShort(f * blockAlign + c * 2);
+                    }
+                    sample /= channels;
+                    amplitude += Math.abs(sample);
+                    if ((sample >= 0) != (previous >= 0)) crossings++;
+                    previous = sample;
+                }
+                long meanAmplitude = amplitude / count;
+                boolean speech = meanAmplitude >= settings.energyThreshold()
+                        || (meanAmplitude >= lowEnergy && crossings >= settings.zeroCrossingRate() * count);
+
+                long windowStart = frame + start;
+                if (speech && silenceStart >= 0) {
+                    keepStart = closeSilence(kept, keepStart, silenceStart, windowStart, minSilenceFrames, padFrames);
+                    silenceStart = -1;
+                } else if (!speech && silenceStart < 0) {
+                    silenceStart = windowStart;
+                }
+            }
+            frame += frames;
+        }
+
+        if (silenceStart >= 0) {
+            keepStart = closeSilence(kept, keepStart, silenceStart, frame, minSilenceFrames, padFrames);
+        }
+        if (frame > keepStart) {
+            kept.add(new Range(keepStart, frame));
+        }
+        return kept;
+    }
+
+    public static long keptFrames(List<Range> ranges) {
+        return ranges.stream().mapToLong(Range::frameCount).sum();
+    }
+
+    // 남길 범위를 이어 붙여 하나의 WAV로 복사
+    public static void write(FileChannel source, WavHeaderPatcher.WavFormat format, List<Range> ranges, Path target)
+            throws IOException {
+        long dataSize = keptFrames(ranges) * format.blockAlign();
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = WavSegmenter.header(format, dataSize);
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            for (Range range : ranges) {
+                long position = format.dataOffset() + range.startFrame() * format.blockAlign();
+                long size = range.frameCount() * format.blockAlign();
+                long copied = 0;
+                while (copied < size) {
+                    long transferred = source.transferTo(position + copied, size - copied, out);
+                    if (transferred <= 0) {
+                        throw new IOException("WAV 무음 압축 복사 중단: " + target);
+                    }
+                    copied += transferred;
+                }
+            }
+        }
+    }
+
+    public static TimeMap timeMap(WavHeaderPatcher.WavFormat format, List<Range> ranges) {
+        long[] trimmedStartMs = new long[ranges.size()];
+        long[] originalStartMs = new long[ranges.size()];
+        long trimmedFrames = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            trimmedStartMs[i] = trimmedFrames * 1000 / format.sampleRate();
+            originalStartMs[i] = ranges.get(i).startFrame() * 1000 / format.sampleRate();
+            trimmedFrames += ranges.get(i).frameCount();
+        }
+        return new TimeMap(trimmedStartMs, originalStartMs);
+    }
+
+    // 무음 [from, to)가 충분히 길면 앞뒤 여유만 남기고 잘라냄 → 다음 남길 범위 시작 프레임
+    private static long closeSilence(List<Range> kept, long keepStart, long from, long to,
+                                     long minSilenceFrames, long padFrames) {
+        if (to - from < minSilenceFrames) {
+            return keepStart;
+        }
+        long end = from + padFrames;
+        if (end > keepStart) {
+            kept.add(new Range(keepStart, end));
+        }
+        return to - padFrames;
+    }
+}
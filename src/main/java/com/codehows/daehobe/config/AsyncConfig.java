@@ -16,14 +16,74 @@ public class AsyncConfig {
 
     private final AsyncProperties asyncProperties;
 
+    // 포화 시 AbortPolicy로 즉시 거절 → SttJobDispatcher가 다음 폴링 주기로 미룸
     @Bean("sttTaskExecutor")
-    public Executor sttTaskExecutor() {
+    public ThreadPoolTaskExecutor sttTaskExecutor() {
         AsyncProperties.ExecutorProperties props = asyncProperties.getStt();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(props.getCorePoolSize());
         executor.setMaxPoolSize(props.getMaxPoolSize());
         executor.setQueueCapacity(props.getQueueCapacity());
         executor.setThreadNamePrefix(props.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 인코딩 전용 풀: 포화 시 거절 → 작업은 인코딩 ZSet에 남아 SttEncodingQueue가 재제출
+    @Bean("sttEncodingExecutor")
+    public ThreadPoolTaskExecutor sttEncodingExecutor() {
+        AsyncProperties.ExecutorProperties props = asyncProperties.getEncoding();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getCorePoolSize());
+        executor.setMaxPoolSize(props.getMaxPoolSize());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setThreadNamePrefix(props.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 비동기 제출 전용 풀: 포화 시 거절 → 작업은 제출 대기 ZSet에 남아 SttSubmissionQueue가 재제출
+    @Bean("sttSubmitExecutor")
+    public ThreadPoolTaskExecutor sttSubmitExecutor() {
+        AsyncProperties.ExecutorProperties props = asyncProperties.getSubmit();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getCorePoolSize());
+        executor.setMaxPoolSize(props.getMaxPoolSize());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setThreadNamePrefix(props.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 구간 업로드 풀: 포화 시 호출 스레드(제출 워커)에서 직접 업로드 → 병렬도만 줄어듦
+    @Bean("sttSegmentExecutor")
+    public ThreadPoolTaskExecutor sttSegmentExecutor() {
+        AsyncProperties.ExecutorProperties props = asyncProperties.getSegment();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getCorePoolSize());
+        executor.setMaxPoolSize(props.getMaxPoolSize());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setThreadNamePrefix(props.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 포화 시 호출 스레드에서 직접 실행 → hedge 없이 일반 호출로 처리
+    @Bean("sttHedgeExecutor")
+    public ThreadPoolTaskExecutor sttHedgeExecutor() {
+        AsyncProperties.ExecutorProperties props = asyncProperties.getHedge();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getCorePoolSize());
+        executor.setMaxPoolSize(props.getMaxPoolSize());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setThreadNamePrefix(props.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
@@ -13,6 +13,15 @@ public class AsyncProperties {
 
     private ExecutorProperties stt = new ExecutorProperties(2, 4, 100, "stt-task-");
     private ExecutorProperties push = new ExecutorProperties(20, 100, 500, "push-async-");
+    // 상태 조회 hedge: 원 호출과 hedge 호출을 실행 (대기 중인 호출 스레드는 sttTaskExecutor)
+    private ExecutorProperties hedge = new ExecutorProperties(4, 16, 0, "stt-hedge-");
+    // 비동기 제출: 프로바이더 업로드 대기(I/O 바운드)
+    private ExecutorProperties submit = new ExecutorProperties(4, 8, 100, "stt-submit-");
+    // 긴 녹음 구간 병렬 업로드 (I/O 바운드)
+    private ExecutorProperties segment = new ExecutorProperties(4, 8, 32, "stt-segment-");
+    // ffmpeg는 CPU 바운드 → 기본 스레드 수 = CPU 코어 수
+    private ExecutorProperties encoding = new ExecutorProperties(
+            Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors(), 50, "stt-encoding-");
 
     @Getter
     @Setter
@@ -1,10 +1,13 @@
 package com.codehows.daehobe.config.Daglo;
 
+import com.codehows.daehobe.common.utils.AudioProfile;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "daglo.api")
 @Getter
@@ -12,5 +15,30 @@ import org.springframework.stereotype.Component;
 public class DagloProperties {
     private String token;
     private String baseUrl;
+    // 응답 대기 시간(초), 작업별 timeout이 없으면 이 값 사용
     private int timeout;
+    // 전사 요청 시 업로드할 오디오 형식 (재생용 WAV와 별개)
+    private AudioProfile audioProfile = AudioProfile.WAV_16K_MONO;
+
+    // 작업 종류별 격리 (동시 호출 수 + 응답 대기 시간), 서킷 브레이커도 작업별로 분리
+    private Isolation transcribe = new Isolation(4, null);
+    private Isolation transcriptionStatus = new Isolation(16, null);
+    private Isolation summarize = new Isolation(4, null);
+    private Isolation summaryStatus = new Isolation(8, null);
+
+    @Getter
+    @Setter
+    public static class Isolation {
+        // 동시에 진행할 수 있는 호출 수, 넘는 호출은 기다리지 않고 거절
+        private int maxConcurrentCalls;
+        // 요청 전송(업로드 포함)부터 응답 수신까지 최대 시간
+        private Duration timeout;
+
+        public Isolation() {}
+
+        public Isolation(int maxConcurrentCalls, Duration timeout) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.timeout = timeout;
+        }
+    }
 }
@@ -6,18 +6,25 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 /**
  * Daglo API용 RestClient 설정
  * WebClient에서 RestClient로 마이그레이션 - 동기식 HTTP 클라이언트
+ * 작업별 응답 대기 시간은 DagloOperationGuard가 같은 HttpClient(연결 풀)를 공유하는 클라이언트로 따로 둠
  */
 @Configuration
 public class RestClientConfig {
 
     @Bean
-    public RestClient dagloRestClient(DagloProperties dagloProperties) {
-        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory();
+    public HttpClient dagloHttpClient() {
+        return HttpClient.newHttpClient();
+    }
+
+    @Bean
+    public RestClient dagloRestClient(DagloProperties dagloProperties, HttpClient dagloHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(dagloHttpClient);
         requestFactory.setReadTimeout(Duration.ofSeconds(dagloProperties.getTimeout()));
 
         return RestClient.builder()
@@ -0,0 +1,40 @@
+package com.codehows.daehobe.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open-in-View 인터셉터 (spring.jpa.open-in-view=true일 때 Spring Boot 기본 등록을 대체, 조건 동일)
+ * - OSIV는 요청 중 첫 DB 접근에서 잡은 커넥션을 응답까지 놓지 않음
+ * - 프로바이더 업로드를 기다리는 STT 전사 요청 경로는 제외 → 서비스의 짧은 트랜잭션이 끝나면 커넥션 반환
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenInViewConfig {
+
+    // STTController: uploadAndTranslate, startTranslateForRecorded
+    static final String[] EXCLUDED_PATHS = {"/stt/upload/**", "/stt/*/recording/finish"};
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Bean
+    public WebMvcConfigurer openEntityManagerInViewInterceptorConfigurer(
+            OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor)
+                        .excludePathPatterns(EXCLUDED_PATHS);
+            }
+        };
+    }
+}
@@ -1,12 +1,21 @@
 package com.codehows.daehobe.config;
 
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
 
+/**
+ * Daglo 호출 종류별 서킷 브레이커/bulkhead 인스턴스는 DagloOperationGuard가 이 레지스트리에서 생성
+ * 레지스트리를 직접 정의하므로 메트릭 바인딩도 직접 등록 (/actuator/prometheus, name 태그 = 인스턴스 이름)
+ */
 @Configuration
 public class Resilience4jConfig {
 
@@ -18,14 +27,26 @@ public class Resilience4jConfig {
                 .permittedNumberOfCallsInHalfOpenState(3)
                 .slidingWindowSize(10)
                 .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                // 한도 초과(429)는 장애가 아니므로 실패율에 넣지 않음 (호출 측이 Retry-After 뒤 재시도)
+                .ignoreExceptions(SttRateLimitedException.class)
                 .build();
 
         return CircuitBreakerRegistry.of(config);
     }
 
     @Bean
-    public io.github.resilience4j.circuitbreaker.CircuitBreaker dagloApiCircuitBreaker(
-            CircuitBreakerRegistry registry) {
-        return registry.circuitBreaker("dagloApi");
+    public BulkheadRegistry bulkheadRegistry() {
+        return BulkheadRegistry.ofDefaults();
+    }
+
+    // 이후 레지스트리에 추가되는 인스턴스도 자동으로 등록됨
+    @Bean
+    public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    public MeterBinder bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
     }
 }
@@ -10,13 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.*;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,6 +38,7 @@ public class FileService {
     private String fileLocation;
     private final FileRepository fileRepository;
     private final AudioProcessor audioProcessor;
+    private final RecordingChunkWriter recordingChunkWriter;
 
     public File createFile(String fileName, Long targetId, TargetType targetType) {
         String filePath = "/file/" + fileName;
@@ -51,36 +52,32 @@ public class FileService {
                 .build());
     }
 
+    // 녹음 파일 메타데이터는 세션 최초 청크에서만 조회 후 RecordingChunkWriter에 캐시
     public File appendChunk(Long targetId, MultipartFile chunk, TargetType targetType) {
-        java.io.File dir = new java.io.File(fileLocation);
-        if (!dir.exists() && !dir.mkdirs()) throw new RuntimeException("Unable to create directory: " + fileLocation);
-
-        List<File> recordingFiles = fileRepository.findByTargetIdAndTargetType(targetId, targetType);
-        if(recordingFiles.isEmpty()) {
-            throw new EntityNotFoundException("File not found");
-        }
-        File recordingFile = recordingFiles.getFirst();
-        Path path = Paths.get(fileLocation, recordingFile.getSavedName());
-        synchronized (recordingFile.getSavedName().intern()) {
-            try (OutputStream os = Files.newOutputStream(path,
-                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
-                os.write(chunk.getBytes());
-                os.flush();
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to append chunk to file", e);
+        return recordingChunkWriter.append(targetId, chunk, () -> {
+            List<File> recordingFiles = fileRepository.findByTargetIdAndTargetType(targetId, targetType);
+            if (recordingFiles.isEmpty()) {
+                throw new EntityNotFoundException("File not found");
             }
-        }
-        return recordingFile;
+            return recordingFiles.getFirst();
+        });
     }
 
+    // ffmpeg 실행 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행 (저장/삭제는 repository 단위 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public File encodeAudioFile(File originalFile) {
         Path originalPath = Paths.get(fileLocation, originalFile.getSavedName());
         String newSavedName = "encoded-" + UUID.randomUUID() + ".wav";
         Path newPath = Paths.get(fileLocation, newSavedName);
 
-        synchronized (originalFile.getSavedName().intern()) {
-            audioProcessor.fixAudioMetadata(originalPath, newPath);
-        }
+        // 녹음 채널을 닫고 인코딩 (인코딩 중 늦게 도착한 청크는 거부되어 원본과 경합하지 않음)
+        // 녹음 중 스트리밍 인코딩이 정상이면 헤더 확정만, 아니면 원본 전체 재인코딩
+        recordingChunkWriter.closeAndRun(originalFile.getTargetId(), streamingEncoder -> {
+            if (streamingEncoder == null || !streamingEncoder.finish(newPath)) {
+                audioProcessor.fixAudioMetadata(originalPath, newPath);
+            }
+            return null;
+        });
 
         try {
             long newSize = Files.size(newPath);
@@ -173,6 +170,9 @@ public class FileService {
     // 실제 파일 삭제 + DB 삭제
     public void deleteFiles(List<File> files) {
         for (File file : files) {
+            if (file.getTargetType() == TargetType.STT) {
+                recordingChunkWriter.close(file.getTargetId());
+            }
             java.io.File f = new java.io.File(fileLocation, file.getSavedName());
             if (f.exists()) f.delete();
         }
@@ -0,0 +1,276 @@
+package com.codehows.daehobe.file.service;
+
+import com.codehows.daehobe.common.utils.AudioProcessor;
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.common.utils.StreamingEncodeSession;
+import com.codehows.daehobe.common.utils.WavHeaderPatcher;
+import com.codehows.daehobe.file.entity.File;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 녹음 청크 수신 경로
+ * - 녹음 세션(sttId)마다 FileChannel과 파일 메타데이터를 열어 두고 재사용 (청크당 DB 조회/스트림 생성 제거)
+ * - 청크는 InputStream.transferTo로 채널 끝에 직접 기록 (청크 크기 heap 배열 복사 없음)
+ *   (디스크에 임시 저장된 청크의 파일 스트림은 JDK가 FileChannel 간 transferTo로 zero-copy, 메모리 청크는 배열 그대로 기록)
+ * - sttId 기준 lock striping: 같은 녹음의 청크는 직렬화, 서로 다른 녹음은 병렬 기록
+ * - 새 녹음이면 첫 청크를 보고 ffmpeg 스트리밍 인코더를 열어 청크 구간을 전달 → 종료 시 헤더 확정만 수행
+ *   (전달은 인코더 전용 스레드가 수행, stripe lock을 잡은 채 ffmpeg stdin에서 막히지 않음)
+ *   (첫 청크가 이미 재생 형식의 PCM WAV면 인코더 없이 종료 시 헤더만 보정)
+ * - 종료 인코딩은 stripe lock 밖에서 수행 (lock 안에서는 세션 분리만, 같은 stripe의 다른 녹음 청크를 막지 않음)
+ *   (인코딩 중 도착한 같은 녹음의 청크는 거부, 인코딩 중인 원본 파일에 섞이지 않도록)
+ * - 일정 시간 청크가 없는 세션은 채널을 닫아 fd 누수 방지
+ */
+@Slf4j
+@Component
+public class RecordingChunkWriter {
+
+    private final Map<Long, RecordingSession> sessions = new ConcurrentHashMap<>();
+    // closeAndRun 진행 중인 녹음 (sttId → 진행 수)
+    private final Map<Long, Integer> finalizing = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final AudioProcessor audioProcessor;
+
+    @Value("${file.location}")
+    private String fileLocation;
+
+    @Value("${file.recording.idle-timeout-ms:300000}")
+    private long idleTimeoutMs;
+
+    public RecordingChunkWriter(@Value("${file.recording.lock-stripes:64}") int lockStripes,
+                                AudioProcessor audioProcessor) {
+        this.audioProcessor = audioProcessor;
+        // 2의 거듭제곱으로 맞춰 mask 연산으로 stripe 선택
+        int size = Integer.highestOneBit(Math.max(lockStripes, 1) * 2 - 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 청크를 녹음 파일 끝에 이어 쓴다.
+     *
+     * @param sttId          녹음 세션 ID
+     * @param chunk          업로드된 청크
+     * @param metadataLoader 세션 최초 청크에서만 호출되는 녹음 파일 메타데이터 조회
+     * @return 세션에 캐시된 녹음 파일 메타데이터
+     */
+    public File append(Long sttId, MultipartFile chunk, Supplier<File> metadataLoader) {
+        ReentrantLock lock = stripeFor(sttId);
+        lock.lock();
+        try {
+            if (finalizing.containsKey(sttId)) {
+                throw new IllegalStateException("Recording is being finalized: " + sttId);
+            }
+            RecordingSession session = sessions.get(sttId);
+            if (session == null) {
+                session = open(metadataLoader.get());
+                sessions.put(sttId, session);
+            }
+            long position = session.write(chunk);
+            if (session.awaitingFirstChunk) {
+                session.awaitingFirstChunk = false;
+                startStreamingEncoderIfNeeded(session);
+            }
+            if (session.encoder != null) {
+                session.encoder.feed(session.channel, position, session.channel.size() - position);
+            }
+            return session.file;
+        } catch (IOException e) {
+            discard(sessions.remove(sttId));
+            throw new RuntimeException("Failed to append chunk to file", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 세션을 분리해 채널을 닫은 뒤 작업 실행
+     * stripe lock은 세션 분리에만 사용하고 작업(ffmpeg 인코딩)은 lock 밖에서 실행, 실행 중 같은 녹음의 청크는 거부
+     * action에는 세션의 스트리밍 인코더가 전달됨 (없거나 실패한 경우 null)
+     * action이 끝나면 인코더에 남은 프로세스/임시 파일은 정리됨
+     */
+    public <T> T closeAndRun(Long sttId, Function<StreamingEncodeSession, T> action) {
+        RecordingSession session;
+        ReentrantLock lock = stripeFor(sttId);
+        lock.lock();
+        try {
+            finalizing.merge(sttId, 1, Integer::sum);
+            session = sessions.remove(sttId);
+        } finally {
+            lock.unlock();
+        }
+
+        StreamingEncodeSession encoder = session == null ? null : session.encoder;
+        try {
+            if (session != null) {
+                // 인코더가 원본 채널에서 읽어 가므로 밀린 구간을 다 보낸 뒤 채널을 닫음 (분리된 세션이라 새 기록 없음)
+                if (encoder != null) {
+                    encoder.awaitFed();
+                }
+                closeSession(session);
+            }
+            return action.apply(encoder == null || encoder.isBroken() ? null : encoder);
+        } finally {
+            if (encoder != null) {
+                encoder.abort();
+            }
+            finalizing.computeIfPresent(sttId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * 녹음 중 실시간 전사가 읽을 PCM WAV 경로 (이 인스턴스에 열린 세션이 있을 때만)
+     * 재생 형식 PCM으로 받는 녹음은 원본 파일, 그 외는 스트리밍 인코더 출력
+     * 두 파일 모두 끝에 이어 쓰기만 하므로 호출 측은 현재 크기까지의 완성된 프레임만 읽으면 됨
+     */
+    public Optional<Path> livePcmSource(Long sttId) {
+        ReentrantLock lock = stripeFor(sttId);
+        lock.lock();
+        try {
+            RecordingSession session = sessions.get(sttId);
+            if (session == null || session.awaitingFirstChunk) {
+                return Optional.empty();
+            }
+            if (session.encoder == null) {
+                return Optional.of(Paths.get(fileLocation).resolve(session.file.getSavedName()));
+            }
+            return session.encoder.isBroken() ? Optional.empty() : Optional.of(session.encoder.getOutputPath());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close(Long sttId) {
+        discard(detach(sttId, Long.MAX_VALUE));
+    }
+
+    public int getOpenSessionCount() {
+        return sessions.size();
+    }
+
+    @Scheduled(fixedDelayString = "${file.recording.idle-sweep-interval-ms:60000}")
+    public void closeIdleSessions() {
+        long threshold = System.currentTimeMillis() - idleTimeoutMs;
+        sessions.forEach((sttId, session) -> {
+            if (session.lastWriteAt < threshold) {
+                // 확인 후 청크가 도착했을 수 있으므로 lock 안에서 다시 확인
+                RecordingSession idle = detach(sttId, threshold);
+                if (idle != null) {
+                    log.info("Closing idle recording channel for STT {}", sttId);
+                    discard(idle);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        sessions.keySet().forEach(this::close);
+    }
+
+    private ReentrantLock stripeFor(Long sttId) {
+        return stripes[Long.hashCode(sttId) & (stripes.length - 1)];
+    }
+
+    // lastWriteAt이 기준 시각보다 이전인 세션만 분리
+    private RecordingSession detach(Long sttId, long writtenBefore) {
+        ReentrantLock lock = stripeFor(sttId);
+        lock.lock();
+        try {
+            RecordingSession session = sessions.get(sttId);
+            if (session == null || session.lastWriteAt >= writtenBefore) {
+                return null;
+            }
+            return sessions.remove(sttId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 결과를 쓰지 않는 세션: 인코더를 중단하고 채널을 닫음
+    private void discard(RecordingSession session) {
+        if (session == null) return;
+        if (session.encoder != null) {
+            session.encoder.abort();
+        }
+        closeSession(session);
+    }
+
+    private RecordingSession open(File recordingFile) throws IOException {
+        Path dir = Paths.get(fileLocation);
+        Files.createDirectories(dir);
+        FileChannel channel = FileChannel.open(dir.resolve(recordingFile.getSavedName()),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // 이미 기록된 녹음(재시작/유휴 종료 후 재개)은 앞부분을 못 받으므로 스트리밍 인코딩 생략
+        return new RecordingSession(recordingFile, channel, channel.size() == 0);
+    }
+
+    private void startStreamingEncoderIfNeeded(RecordingSession session) throws IOException {
+        boolean playbackReady = WavHeaderPatcher.sniff(session.channel)
+                .map(format -> format.matches(AudioProfile.PLAYBACK_WAV))
+                .orElse(false);
+        if (playbackReady) {
+            log.debug("Recording {} is already playback PCM WAV. Streaming encoder skipped.", session.file.getSavedName());
+            return;
+        }
+        session.encoder = audioProcessor.startStreamingEncode(
+                Paths.get(fileLocation).resolve("encoding-" + UUID.randomUUID() + ".wav"));
+    }
+
+    private void closeSession(RecordingSession session) {
+        if (session == null) return;
+        try {
+            session.channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close recording channel: {}", session.file.getSavedName(), e);
+        }
+    }
+
+    private static final class RecordingSession {
+        private final File file;
+        private final FileChannel channel;
+        private StreamingEncodeSession encoder;
+        private boolean awaitingFirstChunk;
+        private volatile long lastWriteAt = System.currentTimeMillis();
+
+        private RecordingSession(File file, FileChannel channel, boolean awaitingFirstChunk) {
+            this.file = file;
+            this.channel = channel;
+            this.awaitingFirstChunk = awaitingFirstChunk;
+        }
+
+        // 기록을 시작한 위치 반환
+        private long write(MultipartFile chunk) throws IOException {
+            long position = channel.size();
+            // 채널 출력 스트림은 현재 위치에 기록, 닫으면 세션 채널까지 닫히므로 닫지 않음
+            channel.position(position);
+            try (InputStream in = chunk.getInputStream()) {
+                in.transferTo(Channels.newOutputStream(channel));
+            }
+            lastWriteAt = System.currentTimeMillis();
+            return position;
+        }
+    }
+}
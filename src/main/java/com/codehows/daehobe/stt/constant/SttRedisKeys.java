@@ -5,8 +5,28 @@ public final class SttRedisKeys {
     private SttRedisKeys() {}
 
     public static final String STT_STATUS_HASH_PREFIX = "stt:status:";
-    public static final String STT_RECORDING_HEARTBEAT_PREFIX = "stt:recording:heartbeat:";
+    public static final String STT_CONTENT_PREFIX = "stt:content:";
+    public static final String STT_SUMMARY_PREFIX = "stt:summary:";
+    // pub/sub 채널 (키 아님): 메시지 본문 = sttId
+    public static final String STT_STATUS_INVALIDATION_CHANNEL = "stt:channel:status-invalidation";
+    // 녹음 세션 생존 마감 ZSet (score = 마감 epoch ms)
+    public static final String STT_RECORDING_DEADLINES = "stt:recording:deadlines";
     public static final String STT_POLLING_PROCESSING_SET = "stt:polling:processing";
     public static final String STT_POLLING_SUMMARIZING_SET = "stt:polling:summarizing";
+    public static final String STT_POLLING_ENCODING_SET = "stt:polling:encoding";
+    // 비동기 제출 대기 ZSet (score = 다음 제출 시도 epoch ms), 대기 중 상태는 PROCESSING + rid 없음
+    public static final String STT_SUBMIT_PENDING_SET = "stt:submit:pending";
     public static final String STT_RETRY_COUNT_PREFIX = "stt:retry:";
+    public static final String STT_LEASE_POLLING_PREFIX = "stt:lease:polling:";
+    public static final String STT_LEASE_RECOVERY_PREFIX = "stt:lease:recovery:";
+    public static final String STT_LEASE_ENCODING_PREFIX = "stt:lease:encoding:";
+    public static final String STT_LEASE_SUBMIT_PREFIX = "stt:lease:submit:";
+    public static final String STT_DEDUP_RESULT_PREFIX = "stt:dedup:result:";
+    public static final String STT_DEDUP_INFLIGHT_PREFIX = "stt:dedup:inflight:";
+    // 구간 전사 그룹 Hash: 구간별 rid/오프셋/길이/진행률/완료 결과
+    public static final String STT_SEGMENT_GROUP_PREFIX = "stt:segments:";
+    // 일부 구간 업로드가 실패한 그룹 ID (재시도 시 실패 구간만 다시 요청), 키 접미사는 호출 측 재개 키(sttId)
+    public static final String STT_SEGMENT_RESUME_PREFIX = "stt:segment-resume:";
+    // 녹음 중 실시간 전사 Hash: 구간 그룹 ID / 다음 구간 시작 프레임 / 구간 수
+    public static final String STT_LIVE_PREFIX = "stt:live:";
 }
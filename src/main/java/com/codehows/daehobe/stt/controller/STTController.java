@@ -25,13 +25,14 @@ public class STTController {
     }
 
     @GetMapping("/status/{id}")
-    public ResponseEntity<STTDto> getSTT(@PathVariable Long id) {
-        return ResponseEntity.ok(sttService.getDynamicSttStatus(id));
+    public ResponseEntity<STTDto> getSTT(@PathVariable Long id,
+                                         @RequestParam(defaultValue = "true") boolean includeContent) {
+        return ResponseEntity.ok(sttService.getDynamicSttStatus(id, includeContent));
     }
 
     @PostMapping("/recording/start")
     public ResponseEntity<STTDto> startRecording(@RequestBody StartRecordingRequest request) {
-        return ResponseEntity.ok(sttService.startRecording(request.getMeetingId()));
+        return ResponseEntity.ok(sttService.startRecording(request.getMeetingId(), request.isLive()));
     }
 
     @PostMapping("/{sttId}/chunk")
@@ -56,14 +57,23 @@ public class STTController {
         return ResponseEntity.ok().build();
     }
 
+    // async=true: 작업 저장 후 202 Accepted, rid 발급/진행 상황은 STOMP로 전달
     @PostMapping("/upload/{id}")
     public ResponseEntity<STTDto> createSTT(@PathVariable Long id,
-                                                  @RequestPart(value = "file", required = false) MultipartFile multipartFiles) {
+                                                  @RequestPart(value = "file", required = false) MultipartFile multipartFiles,
+                                                  @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            return ResponseEntity.accepted().body(sttService.submitUpload(id, multipartFiles));
+        }
         return ResponseEntity.ok(sttService.uploadAndTranslate(id, multipartFiles));
     }
 
     @PostMapping("/{sttId}/recording/finish")
-    public ResponseEntity<STTDto> finishRecording(@PathVariable Long sttId) {
+    public ResponseEntity<STTDto> finishRecording(@PathVariable Long sttId,
+                                                  @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            return ResponseEntity.accepted().body(sttService.submitRecorded(sttId));
+        }
         return ResponseEntity.ok(sttService.startTranslateForRecorded(sttId));
     }
 }
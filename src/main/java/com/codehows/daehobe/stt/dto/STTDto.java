@@ -27,6 +27,9 @@ public class STTDto {
     private Long memberId;
     private Integer progress;
     private Integer retryCount;
+    private String contentHash;
+    // WebSocket 메시지 순번 (전체/delta 공통, sttId별 증가)
+    private Long sequence;
 
     public void updateRid(String rid) {
         this.rid = rid;
@@ -65,6 +68,7 @@ public class STTDto {
                 )
                 .status(stt.getStatus())
                 .memberId(stt.getCreatedBy())
+                .contentHash(stt.getContentHash())
                 .build();
     }
 
@@ -82,9 +86,14 @@ public class STTDto {
                 .status(stt.getStatus())
                 .file(audioFile)
                 .memberId(stt.getCreatedBy())
+                .contentHash(stt.getContentHash())
                 .build();
     }
 
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public void updateFile(FileDto file) {
         this.file = file;
     }
@@ -93,6 +102,15 @@ public class STTDto {
         this.retryCount = retryCount;
     }
 
+    public void updateSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long advanceSequence() {
+        this.sequence = (this.sequence == null) ? 1L : this.sequence + 1;
+        return this.sequence;
+    }
+
     public void incrementRetryCount() {
         this.retryCount = (this.retryCount == null) ? 1 : this.retryCount + 1;
     }
@@ -1,9 +1,11 @@
 package com.codehows.daehobe.stt.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /*
@@ -31,7 +33,20 @@ public class STTResponseDto {
         if (sttResults == null || sttResults.isEmpty()) return null;
 
         StringBuilder sb = new StringBuilder();
+        for (SttTranscriptionResult.Utterance utterance : getUtterances()) {
+            sb.append(renderSpeakerBlock(utterance.speaker(), utterance.text()));
+        }
+        return sb.toString();
+    }
+
+    // 화자가 바뀔 때마다 한 발화로 묶음, 시작 시각은 첫 단어의 startTime
+    @JsonIgnore
+    public List<SttTranscriptionResult.Utterance> getUtterances() {
+        List<SttTranscriptionResult.Utterance> utterances = new ArrayList<>();
+        if (sttResults == null) return utterances;
+
         String prevSpeaker = null;
+        long startMs = 0;
         StringBuilder currentSpeakerText = new StringBuilder();
 
         for (STTResult result : sttResults) {
@@ -43,10 +58,12 @@ public class STTResponseDto {
                 if (speaker != null && !speaker.equals(prevSpeaker)) {
                     // 이전 화자 내용 마무리
                     if (prevSpeaker != null) {
-                        sb.append(renderSpeakerBlock(prevSpeaker, currentSpeakerText.toString().trim()));
+                        utterances.add(new SttTranscriptionResult.Utterance(
+                                prevSpeaker.trim(), startMs, currentSpeakerText.toString().trim()));
                     }
                     currentSpeakerText = new StringBuilder();
                     prevSpeaker = speaker;
+                    startMs = toMillis(word.getStartTime());
                 }
 
                 currentSpeakerText.append(word.getWord()).append(" ");
@@ -55,10 +72,19 @@ public class STTResponseDto {
 
         // 마지막 화자 처리
         if (prevSpeaker != null) {
-            sb.append(renderSpeakerBlock(prevSpeaker, currentSpeakerText.toString().trim()));
+            utterances.add(new SttTranscriptionResult.Utterance(
+                    prevSpeaker.trim(), startMs, currentSpeakerText.toString().trim()));
         }
+        return utterances;
+    }
 
-        return sb.toString();
+    private static long toMillis(STTResult.Word.Time time) {
+        if (time == null || time.getSeconds() == null) return 0;
+        try {
+            return Long.parseLong(time.getSeconds().trim()) * 1000 + time.getNanos() / 1_000_000;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 
     private String renderSpeakerBlock(String speaker, String text) {
@@ -5,4 +5,6 @@ import lombok.Data;
 @Data
 public class StartRecordingRequest {
     private Long meetingId;
+    // 녹음 중 부분 전사 (기본 off)
+    private boolean live;
 }
@@ -0,0 +1,34 @@
+package com.codehows.daehobe.stt.dto;
+
+import com.codehows.daehobe.stt.entity.STT;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+폴링 진행 중 WebSocket 전송용 (전체 STTDto 대신 변경분만)
+- baseSequence: 이 delta를 적용할 기준 sequence, 마지막으로 적용한 sequence와 다르면 누락
+  → GET /stt/status/{id}로 전체 상태 재동기화 (묶어 보낸 delta는 baseSequence < sequence - 1)
+- appendedContent: contentOffset 위치부터 이어 붙일 전사 텍스트
+- 상태 전이 시에는 전체 STTDto가 전송되며, 클라이언트는 그 sequence를 기준으로 다시 delta 적용
+ */
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SttProgressDelta {
+    public static final String TYPE = "DELTA";
+
+    @Builder.Default
+    private String type = TYPE;
+    private Long id;
+    private Long meetingId;
+    private Long baseSequence;
+    private Long sequence;
+    private STT.Status status;
+    private Integer progress;
+    private Integer contentOffset;
+    private String appendedContent;
+}
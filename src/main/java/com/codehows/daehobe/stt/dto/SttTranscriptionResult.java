@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -13,6 +15,11 @@ public class SttTranscriptionResult {
     private boolean completed;
     private String content;
     private int progress;
+    // 화자 발화 단위 원문 + 시작 시각 (구간 전사 이어 붙이기용, 프로바이더가 주지 않으면 null)
+    private List<Utterance> utterances;
+
+    public record Utterance(String speaker, long startMs, String text) {
+    }
 
     public static SttTranscriptionResult from(STTResponseDto dagloResult) {
         if (dagloResult == null) {
@@ -26,6 +33,7 @@ public class SttTranscriptionResult {
                 .completed(dagloResult.isCompleted())
                 .content(dagloResult.getContent())
                 .progress(dagloResult.getProgress())
+                .utterances(dagloResult.getUtterances())
                 .build();
     }
 
@@ -7,7 +7,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "stt")
+@Table(name = "stt", indexes = @Index(name = "idx_stt_content_hash", columnList = "content_hash"))
 @Getter
 @Setter
 @ToString
@@ -27,6 +27,10 @@ public class STT extends BaseEntity {
     @Column(name = "summary_rid", unique = true)
     private String summaryRid;
 
+    // 업로드 원본 오디오 SHA-256 (같은 파일 재전사 방지)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(columnDefinition = "LONGTEXT")
     private String content;
 
@@ -0,0 +1,20 @@
+package com.codehows.daehobe.stt.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 프로바이더 호출 한도 초과 (클라이언트 측 예산 소진 또는 429 응답)
+ * 일시적 상태이므로 서킷 브레이커 실패로 집계하지 않고, retryAfter 이후 다시 시도
+ */
+@Getter
+public class SttRateLimitedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public SttRateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 
@@ -28,4 +29,6 @@ public interface STTRepository extends JpaRepository<STT,Long> {
 
     @Query("SELECT s.id FROM STT s WHERE s.status = :status")
     Set<Long> findIdsByStatus(@Param("status") STT.Status status);
+
+    Optional<STT> findFirstByContentHashAndStatusOrderByIdDesc(String contentHash, STT.Status status);
 }
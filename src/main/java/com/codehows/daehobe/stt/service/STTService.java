@@ -9,19 +9,27 @@ import com.codehows.daehobe.meeting.repository.MeetingRepository;
 import com.codehows.daehobe.stt.dto.STTDto;
 import com.codehows.daehobe.stt.entity.STT;
 import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.audio.SttAudioPreparer;
+import com.codehows.daehobe.stt.service.audio.TranscriptionAudio;
 import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.cache.SttStatusNearCache;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import com.codehows.daehobe.stt.service.processing.SttEncodingQueue;
+import com.codehows.daehobe.stt.service.processing.SttSubmissionQueue;
 import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
+import com.codehows.daehobe.stt.service.segment.SttLiveTranscriber;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -35,13 +43,11 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX;
-import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_STATUS_HASH_PREFIX;
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_LEASE_RECOVERY_PREFIX;
 
 @Slf4j
 @Service
@@ -50,11 +56,20 @@ public class STTService {
     private final MeetingRepository meetingRepository;
     private final STTRepository sttRepository;
     private final FileService fileService;
-    @Qualifier("dagloSttProvider")
+    @Qualifier("sttProviderRouter")
     private final SttProvider sttProvider;
-    private final StringRedisTemplate hashRedisTemplate;
     private final SttCacheService sttCacheService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SttUpdatePublisher sttUpdatePublisher;
+    private final SttJobLeaseService sttJobLeaseService;
+    private final SttEncodingQueue sttEncodingQueue;
+    private final SttSubmissionQueue sttSubmissionQueue;
+    private final SttAudioPreparer sttAudioPreparer;
+    private final SttSegmentedTranscriber sttSegmentedTranscriber;
+    private final SttLiveTranscriber sttLiveTranscriber;
+    private final SttDedupService sttDedupService;
+    private final SttStatusNearCache sttStatusNearCache;
+    private final SttRecordingDeadlineService sttRecordingDeadlineService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.base-url}")
     private String appBaseUrl;
@@ -67,11 +82,9 @@ public class STTService {
     @Value("${file.location}")
     private String fileLocation;
 
-    @Value("${stt.recording.heartbeat-ttl-seconds:30}")
-    private long heartbeatTtl;
-
-    // 단일 인스턴스용 in-memory 락: 동일 sttId에 대한 중복 복구 방지
-    private final ConcurrentHashMap<Long, Boolean> recoveryInProgress = new ConcurrentHashMap<>();
+    // 복구(인코딩) 소요 시간을 덮을 만큼 여유 있게
+    @Value("${stt.lease.recovery-ttl-ms:600000}")
+    private long recoveryLeaseTtlMs;
 
     @Transactional(readOnly = true)
     public STTDto getSTTById(Long id) {
@@ -82,7 +95,14 @@ public class STTService {
 
     @Transactional(readOnly = true)
     public STTDto getDynamicSttStatus(Long sttId) {
-        STTDto cachedDto = sttCacheService.getCachedSttStatus(sttId);
+        return getDynamicSttStatus(sttId, true);
+    }
+
+    // includeContent=false: 캐시에서는 상태 해시만 읽음 (전사/요약 본문 제외)
+    // 로컬 near cache → Redis → DB 순, DB 결과는 near cache에 넣지 않음
+    public STTDto getDynamicSttStatus(Long sttId, boolean includeContent) {
+        STTDto cachedDto = sttStatusNearCache.get(sttId, includeContent,
+                () -> sttCacheService.getCachedSttStatus(sttId, includeContent));
         if (cachedDto != null) {
             return cachedDto;
         }
@@ -123,12 +143,18 @@ public class STTService {
         File savedFile = fileService.getSTTFile(stt.getId());
         fileService.updateFiles(id, null, List.of(savedFile.getFileId()), TargetType.STT);
         sttRepository.delete(stt);
-        hashRedisTemplate.delete(STT_STATUS_HASH_PREFIX + id);
-        hashRedisTemplate.delete(STT_RECORDING_HEARTBEAT_PREFIX + id);
+        sttCacheService.evictSttStatus(id);
+        sttRecordingDeadlineService.remove(id);
     }
 
     @Transactional
     public STTDto startRecording(Long meetingId) {
+        return startRecording(meetingId, false);
+    }
+
+    // live: 녹음 중 일정 길이마다 구간을 잘라 부분 전사 (SttLiveTranscriber)
+    @Transactional
+    public STTDto startRecording(Long meetingId, boolean live) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid meeting ID: " + meetingId));
         STT newSTT = sttRepository.save(STT.builder()
@@ -142,10 +168,13 @@ public class STTService {
         File newFile = fileService.createFile(savedFileName, newSTT.getId(), TargetType.STT);
 
         STTDto sttDto = STTDto.fromEntity(newSTT, FileDto.fromEntity(newFile));
+        sttUpdatePublisher.publishSnapshot(sttDto);
         sttCacheService.cacheSttStatus(sttDto);
-        messagingTemplate.convertAndSend("/topic/stt/updates/" + sttDto.getMeetingId(), sttDto);
-        // 비정상 종료 감지를 위한 Heartbeat 키 생성
-        hashRedisTemplate.opsForValue().set(STT_RECORDING_HEARTBEAT_PREFIX + newSTT.getId(), "", heartbeatTtl, TimeUnit.SECONDS);
+        // 비정상 종료 감지를 위한 생존 마감 등록
+        sttRecordingDeadlineService.register(newSTT.getId());
+        if (live) {
+            sttLiveTranscriber.start(newSTT.getId());
+        }
         return sttDto;
     }
 
@@ -158,80 +187,172 @@ public class STTService {
         STTDto sttDto = STTDto.fromEntity(stt, FileDto.fromEntity(file));
 
         if (Boolean.TRUE.equals(finish)) {
+            // 실시간 전사 녹음: DB 본문은 비어 있으므로 캐시의 부분 전사와 sequence를 이어받음 (종료 시점에 화면이 비지 않도록)
+            if (sttLiveTranscriber.isLive(sttId)) {
+                STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
+                if (cachedStatus != null) {
+                    sttDto.updateContent(cachedStatus.getContent() != null ? cachedStatus.getContent() : "");
+                    sttDto.updateSequence(cachedStatus.getSequence());
+                }
+            }
             stt.setStatus(STT.Status.ENCODING);
             sttDto.updateStatus(STT.Status.ENCODING);
+            sttUpdatePublisher.publishSnapshot(sttDto);
             sttCacheService.cacheSttStatus(sttDto);
-            messagingTemplate.convertAndSend("/topic/stt/updates/" + sttDto.getMeetingId(), sttDto);
             try {
-                hashRedisTemplate.delete(STT_RECORDING_HEARTBEAT_PREFIX + sttId);
+                sttRecordingDeadlineService.remove(sttId);
             } catch (Exception e) {
-                log.warn("[Heartbeat] Failed to delete heartbeat for sttId={}. Redis may be unavailable.", sttId, e);
+                log.warn("[Heartbeat] Failed to clear recording deadline for sttId={}. Redis may be unavailable.", sttId, e);
             }
-            processSingleEncodingJob(sttId);
+            // 인코딩은 전용 워커 풀에서 수행, 요청은 ENCODING 상태로 즉시 반환
+            sttEncodingQueue.submit(sttId);
         } else {
-            // 마지막 청크 시각 업데이트 -> 비정상 종료 처리에 활용 (Heartbeat 갱신)
-            try {
-                hashRedisTemplate.opsForValue().set(
-                        STT_RECORDING_HEARTBEAT_PREFIX + sttId,
-                        "",
-                        heartbeatTtl,
-                        TimeUnit.SECONDS
-                );
-            } catch (Exception e) {
-                log.warn("[Heartbeat] Failed to renew heartbeat for sttId={}. Redis may be unavailable.", sttId, e);
-            }
+            // 마지막 청크 시각 기준으로 생존 마감 연장 -> 비정상 종료 처리에 활용 (Heartbeat 갱신)
+            // 메모리에만 기록, Redis 반영은 주기적 일괄 flush
+            sttRecordingDeadlineService.touch(sttId);
         }
 
         return sttDto;
     }
 
-    @Transactional
+    // 같은 내용(SHA-256)의 전사가 이미 완료됐으면 재사용, 진행 중이면 그 결과를 기다림 (프로바이더 호출 생략)
+    // 트랜잭션 없음: 프로바이더 업로드 동안 DB 커넥션을 잡지 않고, 회의 조회와 저장만 각각 짧은 트랜잭션으로
     public STTDto uploadAndTranslate(Long id, MultipartFile file) {
-        Meeting meeting = meetingRepository.findById(id).orElseThrow(IllegalArgumentException::new);
-        String rid = sttProvider.requestTranscription(file.getResource());
+        Meeting meeting = transactionTemplate.execute(status ->
+                meetingRepository.findById(id).orElseThrow(IllegalArgumentException::new));
+        String rid;
+        String contentHash;
+        try (TranscriptionAudio audio = sttAudioPreparer.prepare(file, sttProvider.getAudioProfile())) {
+            contentHash = audio.contentHash();
+            Optional<SttDedupService.DedupEntry> completed = sttDedupService.findCompleted(contentHash);
+            if (completed.isPresent()) {
+                log.info("Reusing completed transcription for content hash {}", contentHash);
+                return saveReusedTranscription(meeting, file, contentHash, completed.get());
+            }
+            if (!sttDedupService.tryClaim(contentHash)) {
+                log.info("Identical transcription in flight for content hash {}. Waiting for it.", contentHash);
+                return saveUploadedStt(meeting, file, null, contentHash);
+            }
+            try {
+                rid = sttProvider.requestTranscription(audio.resource());
+            } catch (RuntimeException e) {
+                sttDedupService.release(contentHash);
+                throw e;
+            }
+        }
+        STTDto sttDto = saveUploadedStt(meeting, file, rid, contentHash);
+        sttDedupService.markInFlight(contentHash, sttDto.getId());
+        return sttDto;
+    }
+
+    // rid가 없으면 같은 내용을 전사 중인 작업의 완료를 기다리는 대기 작업 (SttJobProcessor가 완료 인덱스 확인)
+    private STTDto saveUploadedStt(Meeting meeting, MultipartFile file, String rid, String contentHash) {
         // 최초 생성은 ENCODED 상태로 DB 저장 (PROCESSING은 Redis-only)
-        STT savedStt = sttRepository.save(STT.builder()
-                .rid(rid)
-                .meeting(meeting)
-                .summary("")
-                .content("")
-                .status(STT.Status.ENCODED)
-                .build());
-        File savedFile = fileService.uploadFiles(savedStt.getId(), List.of(file), TargetType.STT).getFirst();
-        STTDto sttDto = STTDto.fromEntity(savedStt, FileDto.fromEntity(savedFile));
-        // Redis 캐시는 PROCESSING 상태로
+        STTDto sttDto = transactionTemplate.execute(status -> {
+            STT savedStt = sttRepository.save(STT.builder()
+                    .rid(rid)
+                    .meeting(meeting)
+                    .summary("")
+                    .content("")
+                    .contentHash(contentHash)
+                    .status(STT.Status.ENCODED)
+                    .build());
+            File savedFile = fileService.uploadFiles(savedStt.getId(), List.of(file), TargetType.STT).getFirst();
+            return STTDto.fromEntity(savedStt, FileDto.fromEntity(savedFile));
+        });
+        // Redis 캐시는 PROCESSING 상태로 (커밋 이후 기록)
         sttDto.updateStatus(STT.Status.PROCESSING);
         sttDto.updateRetryCount(0);
+        sttUpdatePublisher.publishSnapshot(sttDto);
         sttCacheService.cacheSttStatus(sttDto);
-        sttCacheService.addToPollingSet(savedStt.getId(), STT.Status.PROCESSING);
-        messagingTemplate.convertAndSend("/topic/stt/updates/" + sttDto.getMeetingId(), sttDto);
+        sttCacheService.addToPollingSet(sttDto.getId(), STT.Status.PROCESSING);
         return sttDto;
     }
 
-    @Transactional(readOnly = true)
-    public STTDto startTranslateForRecorded(Long sttId) {
-        STT stt = sttRepository.findById(sttId)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid STT ID: " + sttId));
-
-        File savedFile = fileService.getSTTFile(sttId);
-        Path filePath = Paths.get(fileLocation, savedFile.getSavedName());
+    private STTDto saveReusedTranscription(Meeting meeting, MultipartFile file, String contentHash,
+                                           SttDedupService.DedupEntry entry) {
+        STTDto sttDto = transactionTemplate.execute(status -> {
+            STT savedStt = sttRepository.save(STT.builder()
+                    .meeting(meeting)
+                    .content(entry.content())
+                    .summary(entry.summary())
+                    .contentHash(contentHash)
+                    .status(STT.Status.COMPLETED)
+                    .build());
+            File savedFile = fileService.uploadFiles(savedStt.getId(), List.of(file), TargetType.STT).getFirst();
+            return STTDto.fromEntity(savedStt, FileDto.fromEntity(savedFile));
+        });
+        sttDto.updateProgress(100);
+        sttUpdatePublisher.publishSnapshot(sttDto);
+        sttCacheService.cacheSttStatus(sttDto);
+        return sttDto;
+    }
 
-        Resource resource = new FileSystemResource(filePath);
-        String rid = sttProvider.requestTranscription(resource);
+    // 트랜잭션 없음: 조회만 짧은 트랜잭션으로 끝내고 프로바이더 업로드는 DB 커넥션 없이
+    public STTDto startTranslateForRecorded(Long sttId) {
+        STTDto sttDto = transactionTemplate.execute(status -> {
+            STT stt = sttRepository.findById(sttId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid STT ID: " + sttId));
+            return STTDto.fromEntity(stt, FileDto.fromEntity(fileService.getSTTFile(sttId)));
+        });
+        Path filePath = Paths.get(fileLocation, sttDto.getFile().getSavedName());
+
+        // 재생용 WAV와 별개로 프로바이더 프로파일로 변환해 전송, 긴 녹음은 무음 경계로 나눠 구간별 병렬 요청
+        // 실시간 전사 중이던 녹음은 남은 꼬리 구간만 요청
+        String rid = sttLiveTranscriber.finish(sttId, filePath)
+                .orElseGet(() -> sttSegmentedTranscriber.requestTranscription(filePath, String.valueOf(sttId)));
 
         // Redis-only: DB 저장 제거, Redis 캐시 + polling set만 사용
-        STTDto sttDto = STTDto.fromEntity(stt, FileDto.fromEntity(savedFile));
         sttDto.updateStatus(STT.Status.PROCESSING);
         sttDto.updateRid(rid);
         sttDto.updateRetryCount(0);
+        sttUpdatePublisher.publishSnapshot(sttDto);
         sttCacheService.cacheSttStatus(sttDto);
         sttCacheService.addToPollingSet(sttId, STT.Status.PROCESSING);
-        messagingTemplate.convertAndSend("/topic/stt/updates/" + sttDto.getMeetingId(), sttDto);
         return sttDto;
     }
 
+    // 비동기 제출(202): 업로드 파일과 STT만 저장하고 바로 반환, 프로바이더 업로드는 SttSubmissionQueue 워커가 수행
+    public STTDto submitUpload(Long id, MultipartFile file) {
+        STTDto sttDto = transactionTemplate.execute(status -> {
+            Meeting meeting = meetingRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+            STT savedStt = sttRepository.save(STT.builder()
+                    .meeting(meeting)
+                    .summary("")
+                    .content("")
+                    .status(STT.Status.ENCODED)
+                    .build());
+            File savedFile = fileService.uploadFiles(savedStt.getId(), List.of(file), TargetType.STT).getFirst();
+            return STTDto.fromEntity(savedStt, FileDto.fromEntity(savedFile));
+        });
+        return enqueueSubmission(sttDto);
+    }
+
+    // 비동기 제출(202): 녹음 종료 후 인코딩된 파일을 워커가 업로드
+    public STTDto submitRecorded(Long sttId) {
+        STTDto sttDto = transactionTemplate.execute(status -> {
+            STT stt = sttRepository.findById(sttId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid STT ID: " + sttId));
+            return STTDto.fromEntity(stt, FileDto.fromEntity(fileService.getSTTFile(sttId)));
+        });
+        return enqueueSubmission(sttDto);
+    }
+
+    // 제출 대기: rid/contentHash 없는 PROCESSING (Redis-only), 진행 상황은 기존 STOMP 토픽으로 발행
+    private STTDto enqueueSubmission(STTDto sttDto) {
+        sttDto.updateStatus(STT.Status.PROCESSING);
+        sttDto.updateRid(null);
+        sttDto.updateContentHash(null);
+        sttDto.updateRetryCount(0);
+        sttUpdatePublisher.publishSnapshot(sttDto);
+        sttCacheService.cacheSttStatus(sttDto);
+        sttSubmissionQueue.submit(sttDto.getId());
+        return sttDto;
+    }
+
+    // Redis lease로 인스턴스 간 중복 복구 방지 (마감 스위퍼와 DB 안전망이 같은 sttId를 동시에 넘길 수 있음)
     public void handleAbnormalTermination(Long sttId) {
-        if (recoveryInProgress.putIfAbsent(sttId, Boolean.TRUE) != null) {
+        if (!sttJobLeaseService.tryAcquire(STT_LEASE_RECOVERY_PREFIX, sttId, Duration.ofMillis(recoveryLeaseTtlMs))) {
             log.info("Recovery already in progress for STT {}. Skipping duplicate.", sttId);
             return;
         }
@@ -242,10 +363,13 @@ public class STTService {
                 log.warn("STT {} is not in RECORDING state. Skipping recovery.", sttId);
                 return;
             }
-            processSingleEncodingJob(sttId);
-            log.info("Completed abnormal termination recovery for STT {}.", sttId);
+            cachedStatus.updateStatus(STT.Status.ENCODING);
+            sttUpdatePublisher.publishSnapshot(cachedStatus);
+            sttCacheService.cacheSttStatus(cachedStatus);
+            sttEncodingQueue.submit(sttId);
+            log.info("Submitted abnormal termination recovery encoding for STT {}.", sttId);
         } finally {
-            recoveryInProgress.remove(sttId);
+            sttJobLeaseService.release(STT_LEASE_RECOVERY_PREFIX, sttId);
         }
     }
 
@@ -269,35 +393,6 @@ public class STTService {
         handleAbnormalTermination(sttId);
     }
 
-    private void processSingleEncodingJob(Long sttId) {
-        try {
-            STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
-
-            cachedStatus.updateStatus(STT.Status.ENCODING);
-            sttCacheService.cacheSttStatus(cachedStatus);
-            messagingTemplate.convertAndSend("/topic/stt/updates/" + cachedStatus.getMeetingId(), cachedStatus);
-
-            log.info("Starting encoding job for STT ID: {}", sttId);
-            File originalFile = fileService.getSTTFile(sttId);
-            File encodedFile = fileService.encodeAudioFile(originalFile);
-
-            cachedStatus.updateFile(FileDto.fromEntity(encodedFile));
-            cachedStatus.updateStatus(STT.Status.ENCODED);
-            sttCacheService.cacheSttStatus(cachedStatus);
-            messagingTemplate.convertAndSend("/topic/stt/updates/" + cachedStatus.getMeetingId(), cachedStatus);
-
-            // ENCODED 상태에서 DB 저장 (사용자 복귀 대비)
-            STT stt = sttRepository.findById(sttId).orElseThrow(EntityNotFoundException::new);
-            stt.setStatus(STT.Status.ENCODED);
-            sttRepository.save(stt);
-
-            log.info("Finished encoding for STT {}. Awaiting user action to start transcription.", sttId);
-        } catch (Exception e) {
-            log.error("Failed to process encoding job for STT: {}", sttId, e);
-            throw new RuntimeException(e); // Re-throw the exception to be handled by the consumer
-        }
-    }
-
 //    private boolean isFileReadyToBeServed(File sttFile) throws InterruptedException {
 //        String fileUrl = appBaseUrl + sttFile.getPath();
 //        HttpRequest request = HttpRequest.newBuilder()
@@ -0,0 +1,43 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 무음 경계로 나눈 녹음 구간 파일들
+ * 구간 파일은 임시 파일이므로 close 시 삭제 (try-with-resources로 사용)
+ * segments가 비어 있으면 나누지 않은 것 → 호출 측이 원본을 그대로 전송
+ */
+@Slf4j
+public record SegmentedAudio(List<AudioSegment> segments) implements AutoCloseable {
+
+    /**
+     * @param offsetMs   원본 녹음 기준 구간 시작 위치 (전사 타임스탬프 보정용)
+     * @param durationMs 구간 길이 (진행률 가중치)
+     */
+    public record AudioSegment(int index, Path file, long offsetMs, long durationMs) {
+    }
+
+    public static SegmentedAudio unsplit() {
+        return new SegmentedAudio(List.of());
+    }
+
+    public boolean isSegmented() {
+        return segments.size() > 1;
+    }
+
+    @Override
+    public void close() {
+        for (AudioSegment segment : segments) {
+            try {
+                Files.deleteIfExists(segment.file());
+            } catch (IOException e) {
+                log.warn("Failed to delete segment temp file: {}", segment.file(), e);
+            }
+        }
+    }
+}
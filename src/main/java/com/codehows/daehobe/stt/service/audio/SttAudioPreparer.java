@@ -0,0 +1,103 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import com.codehows.daehobe.common.utils.AudioProcessor;
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.common.utils.WavHeaderPatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 전사 요청용 오디오 준비
+ * - 재생용 WAV(48kHz 스테레오)는 그대로 두고, 프로바이더 프로파일(16kHz 모노 WAV/FLAC/Opus)로 변환한 임시 파일을 전송
+ * - 프로파일이 PLAYBACK_WAV이거나 재생 파일이 이미 목표 PCM 형식이면 변환 없이 원본 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SttAudioPreparer {
+
+    private final AudioProcessor audioProcessor;
+
+    @Value("${file.location}")
+    private String fileLocation;
+
+    public TranscriptionAudio prepare(Path playbackFile, AudioProfile profile) {
+        if (isPassthrough(profile) || WavHeaderPatcher.matches(playbackFile, profile)) {
+            return TranscriptionAudio.passthrough(new FileSystemResource(playbackFile));
+        }
+        Path target = tempPath(profile);
+        audioProcessor.transcode(playbackFile, target, profile);
+        return new TranscriptionAudio(new FileSystemResource(target), target);
+    }
+
+    // 디스크에 저장된 원본의 SHA-256 (비동기 제출 워커의 중복 전사 확인용, 변환은 구간 분할 후 구간별로)
+    public String contentHash(Path sourceFile) {
+        MessageDigest digest = sha256();
+        try (DigestInputStream in = new DigestInputStream(Files.newInputStream(sourceFile), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new RuntimeException("원본 파일 읽기 실패", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 업로드 원본을 한 번 읽으면서 SHA-256 계산과 저장/변환을 함께 수행
+    public TranscriptionAudio prepare(MultipartFile upload, AudioProfile profile) {
+        boolean passthrough = isPassthrough(profile);
+        // 변환 없이 보낼 때도 디스크 임시 파일로 옮겨 스트리밍 전송 (메모리 파트 버퍼링 방지)
+        Path target = passthrough
+                ? Paths.get(fileLocation, "stt-upload-" + UUID.randomUUID() + "." + extensionOf(upload))
+                : tempPath(profile);
+        MessageDigest digest = sha256();
+        try (DigestInputStream in = new DigestInputStream(upload.getInputStream(), digest)) {
+            if (passthrough) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                audioProcessor.transcode(in, target, profile);
+                // ffmpeg가 끝까지 읽지 않은 나머지도 해시에 포함
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일 읽기 실패", e);
+        }
+        return new TranscriptionAudio(new FileSystemResource(target), target, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private boolean isPassthrough(AudioProfile profile) {
+        return profile == null || profile == AudioProfile.PLAYBACK_WAV;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String extensionOf(MultipartFile upload) {
+        String extension = StringUtils.getFilenameExtension(upload.getOriginalFilename());
+        return extension != null ? extension : "bin";
+    }
+
+    private Path tempPath(AudioProfile profile) {
+        return Paths.get(fileLocation, "stt-upload-" + UUID.randomUUID() + "." + profile.getExtension());
+    }
+}
@@ -0,0 +1,95 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import com.codehows.daehobe.common.utils.WavHeaderPatcher;
+import com.codehows.daehobe.common.utils.WavSegmenter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 긴 녹음을 무음 경계에서 N개 구간으로 나누기 (전사 병렬 요청용)
+ * - 대상: 16비트 PCM WAV 중 min-duration-seconds 이상인 녹음, 그 외(webm 업로드 등)는 나누지 않음
+ * - 구간 수 = 전체 길이 / length-seconds (반올림), 절단점은 이상적인 위치 ± search-window-seconds 안의 가장 조용한 창
+ * - 재인코딩 없이 FileChannel 범위 복사 → 구간별 프로파일 변환은 SttAudioPreparer가 담당
+ */
+@Slf4j
+@Component
+public class SttAudioSegmenter {
+
+    @Value("${file.location}")
+    private String fileLocation;
+
+    @Value("${stt.segment.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stt.segment.length-seconds:600}")
+    private long segmentLengthSeconds;
+
+    // 이보다 짧으면 나누지 않음 (구간별 요청 오버헤드 > 병렬 이득)
+    @Value("${stt.segment.min-duration-seconds:1200}")
+    private long minDurationSeconds;
+
+    @Value("${stt.segment.search-window-seconds:30}")
+    private long searchWindowSeconds;
+
+    @Value("${stt.segment.silence-window-ms:300}")
+    private long silenceWindowMs;
+
+    public SegmentedAudio split(Path wavFile) {
+        if (!enabled) {
+            return SegmentedAudio.unsplit();
+        }
+        try (FileChannel channel = FileChannel.open(wavFile, StandardOpenOption.READ)) {
+            Optional<WavHeaderPatcher.WavFormat> sniffed = WavHeaderPatcher.sniff(channel);
+            if (sniffed.isEmpty() || !WavSegmenter.isSegmentable(sniffed.get())) {
+                return SegmentedAudio.unsplit();
+            }
+            WavHeaderPatcher.WavFormat format = sniffed.get();
+            long totalFrames = WavSegmenter.totalFrames(channel, format);
+            long durationSeconds = totalFrames / format.sampleRate();
+            int count = (int) Math.round((double) durationSeconds / segmentLengthSeconds);
+            if (durationSeconds < minDurationSeconds || count < 2) {
+                return SegmentedAudio.unsplit();
+            }
+
+            List<WavSegmenter.Segment> plan = WavSegmenter.plan(channel, format, count,
+                    searchWindowSeconds * format.sampleRate(), silenceWindowMs * format.sampleRate() / 1000);
+            return copySegments(channel, format, plan);
+        } catch (IOException e) {
+            // 나누지 못하면 원본 한 번에 전송
+            log.warn("Failed to split recording {}. Sending it unsplit.", wavFile, e);
+            return SegmentedAudio.unsplit();
+        }
+    }
+
+    private SegmentedAudio copySegments(FileChannel channel, WavHeaderPatcher.WavFormat format,
+                                        List<WavSegmenter.Segment> plan) throws IOException {
+        String groupId = UUID.randomUUID().toString();
+        List<SegmentedAudio.AudioSegment> segments = new ArrayList<>(plan.size());
+        SegmentedAudio segmented = new SegmentedAudio(segments);
+        try {
+            for (WavSegmenter.Segment segment : plan) {
+                Path target = Paths.get(fileLocation, "stt-segment-" + groupId + "-" + segment.index() + ".wav");
+                segments.add(new SegmentedAudio.AudioSegment(segment.index(), target,
+                        segment.offsetMs(), segment.durationMs()));
+                WavSegmenter.copy(channel, format, segment, target);
+            }
+        } catch (IOException e) {
+            segmented.close();
+            throw e;
+        }
+        log.info("Split recording into {} segments at {} ms", plan.size(),
+                plan.stream().map(WavSegmenter.Segment::offsetMs).toList());
+        return segmented;
+    }
+}
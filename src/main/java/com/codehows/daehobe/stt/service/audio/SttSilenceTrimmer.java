@@ -0,0 +1,115 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import com.codehows.daehobe.common.utils.WavHeaderPatcher;
+import com.codehows.daehobe.common.utils.WavSegmenter;
+import com.codehows.daehobe.common.utils.WavSilenceTrimmer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 전사 요청 전 긴 무음 압축 (쉬는 시간, 참석자 대기 등 과금 구간 절감)
+ * - 대상: 16비트 PCM WAV, 그 외 형식이나 분석 실패 시 원본 그대로
+ * - 줄어드는 비율이 min-trim-ratio 미만이면 복사 비용 대비 이득이 없어 원본 그대로
+ * - 압축본 → 원본 시각 변환표(TimeMap)를 함께 돌려줘 전사 결과 시각을 원본 기준으로 보정
+ * - 지표: stt.vad.trimmed.ratio (분석한 녹음별 제거 비율), stt.vad.trimmed.seconds (제거한 길이 누계)
+ */
+@Slf4j
+@Component
+public class SttSilenceTrimmer {
+
+    private final DistributionSummary trimmedRatio;
+    private final Counter trimmedSeconds;
+
+    @Value("${file.location}")
+    private String fileLocation;
+
+    @Value("${stt.vad.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stt.vad.frame-ms:20}")
+    private int frameMs;
+
+    @Value("${stt.vad.energy-threshold:300}")
+    private int energyThreshold;
+
+    @Value("${stt.vad.zero-crossing-rate:0.25}")
+    private double zeroCrossingRate;
+
+    // 이보다 짧은 무음(말 사이 쉼)은 그대로 둠
+    @Value("${stt.vad.min-silence-ms:2000}")
+    private long minSilenceMs;
+
+    // 압축한 무음 자리에 남길 길이 (문장 경계가 붙어 화자 분리/문장 인식이 흐려지지 않도록)
+    @Value("${stt.vad.keep-silence-ms:500}")
+    private long keepSilenceMs;
+
+    @Value("${stt.vad.min-trim-ratio:0.05}")
+    private double minTrimRatio;
+
+    public SttSilenceTrimmer(MeterRegistry meterRegistry) {
+        this.trimmedRatio = DistributionSummary.builder("stt.vad.trimmed.ratio")
+                .description("Fraction of each recording removed as silence before transcription")
+                .register(meterRegistry);
+        this.trimmedSeconds = Counter.builder("stt.vad.trimmed.seconds")
+                .description("Seconds of silence removed before transcription")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public TrimmedAudio trim(Path wavFile) {
+        if (!enabled) {
+            return TrimmedAudio.untouched(wavFile);
+        }
+        try (FileChannel channel = FileChannel.open(wavFile, StandardOpenOption.READ)) {
+            Optional<WavHeaderPatcher.WavFormat> sniffed = WavHeaderPatcher.sniff(channel);
+            if (sniffed.isEmpty() || !WavSegmenter.isSegmentable(sniffed.get())) {
+                return TrimmedAudio.untouched(wavFile);
+            }
+            WavHeaderPatcher.WavFormat format = sniffed.get();
+            long totalFrames = WavSegmenter.totalFrames(channel, format);
+            if (totalFrames == 0) {
+                return TrimmedAudio.untouched(wavFile);
+            }
+
+            List<WavSilenceTrimmer.Range> ranges = WavSilenceTrimmer.plan(channel, format,
+                    new WavSilenceTrimmer.Settings(frameMs, energyThreshold, zeroCrossingRate,
+                            minSilenceMs, keepSilenceMs));
+            long removedFrames = totalFrames - WavSilenceTrimmer.keptFrames(ranges);
+            double ratio = (double) removedFrames / totalFrames;
+            if (ranges.isEmpty() || ratio < minTrimRatio) {
+                trimmedRatio.record(0);
+                return TrimmedAudio.untouched(wavFile);
+            }
+
+            Path target = Paths.get(fileLocation, "stt-vad-" + UUID.randomUUID() + ".wav");
+            try {
+                WavSilenceTrimmer.write(channel, format, ranges, target);
+            } catch (IOException e) {
+                Files.deleteIfExists(target);
+                throw e;
+            }
+            trimmedRatio.record(ratio);
+            trimmedSeconds.increment((double) removedFrames / format.sampleRate());
+            log.info("Trimmed {}% silence from {} ({} ranges kept)", Math.round(ratio * 100), wavFile, ranges.size());
+            return new TrimmedAudio(target, target, WavSilenceTrimmer.timeMap(format, ranges));
+        } catch (IOException e) {
+            // 압축하지 못하면 원본 그대로 전송
+            log.warn("Failed to trim silence from {}. Sending it untrimmed.", wavFile, e);
+            return TrimmedAudio.untouched(wavFile);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 전사 요청에 업로드할 오디오
+ * 프로파일 변환으로 만든 임시 파일이면 close 시 삭제 (try-with-resources로 사용)
+ * contentHash: 업로드 원본의 SHA-256 (중복 전사 방지용, 계산하지 않았으면 null)
+ */
+@Slf4j
+public record TranscriptionAudio(Resource resource, Path tempFile, String contentHash) implements AutoCloseable {
+
+    public TranscriptionAudio(Resource resource, Path tempFile) {
+        this(resource, tempFile, null);
+    }
+
+    public static TranscriptionAudio passthrough(Resource resource) {
+        return new TranscriptionAudio(resource, null);
+    }
+
+    @Override
+    public void close() {
+        if (tempFile == null) return;
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete transcription temp file: {}", tempFile, e);
+        }
+    }
+}
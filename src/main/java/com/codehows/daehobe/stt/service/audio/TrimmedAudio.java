@@ -0,0 +1,35 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import com.codehows.daehobe.common.utils.WavSilenceTrimmer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 무음 압축을 거친 전사 대상 오디오
+ * 압축했으면 file = 임시 파일(close 시 삭제), timeMap = 압축본 → 원본 시각 변환표
+ * 압축하지 않았으면 file = 원본, timeMap = null
+ */
+@Slf4j
+public record TrimmedAudio(Path file, Path tempFile, WavSilenceTrimmer.TimeMap timeMap) implements AutoCloseable {
+
+    public static TrimmedAudio untouched(Path file) {
+        return new TrimmedAudio(file, null, null);
+    }
+
+    public boolean isTrimmed() {
+        return timeMap != null;
+    }
+
+    @Override
+    public void close() {
+        if (tempFile == null) return;
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete trimmed audio temp file: {}", tempFile, e);
+        }
+    }
+}
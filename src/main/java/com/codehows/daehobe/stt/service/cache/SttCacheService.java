@@ -1,19 +1,40 @@
 package com.codehows.daehobe.stt.service.cache;
 
+import com.codehows.daehobe.file.dto.FileDto;
 import com.codehows.daehobe.stt.dto.STTDto;
 import com.codehows.daehobe.stt.entity.STT;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static com.codehows.daehobe.stt.constant.SttRedisKeys.*;
 
@@ -23,19 +44,91 @@ import static com.codehows.daehobe.stt.constant.SttRedisKeys.*;
 public class SttCacheService {
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final SttStatusNearCache statusNearCache;
 
-    private static final String STT_STATUS_PREFIX = "stt:status:";
+    // 상태 해시 필드 (전사/요약 본문은 별도 키)
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_RID = "rid";
+    private static final String FIELD_SUMMARY_RID = "summaryRid";
+    private static final String FIELD_MEETING_ID = "meetingId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_FILE = "file";
+    private static final String FIELD_MEMBER_ID = "memberId";
+    private static final String FIELD_PROGRESS = "progress";
+    private static final String FIELD_RETRY_COUNT = "retryCount";
+    private static final String FIELD_CONTENT_HASH = "contentHash";
+    private static final String FIELD_SEQUENCE = "sequence";
+    private static final String FIELD_CONTENT_SIG = "contentSig";
+    private static final String FIELD_CONTENT_ENCODING = "contentEncoding";
+    private static final String FIELD_SUMMARY_SIG = "summarySig";
+    private static final String FIELD_SUMMARY_ENCODING = "summaryEncoding";
+    private static final String ENCODING_PLAIN = "plain";
+    private static final String ENCODING_GZIP = "gzip";
+    // 본문 서명에 쓰는 SHA-256 앞부분 길이 (128비트)
+    private static final int SIGNATURE_DIGEST_BYTES = 16;
+
+    // KEYS: 1 상태 해시, 2 이전 폴링 ZSet, 3 다음 폴링 ZSet('' = 없음), 4 retry, 5 전사 본문, 6 요약 본문
+    // ARGV: 1 기대 상태, 2 sttId, 3 다음 폴링 score, 4 TTL(초), 5~7 전사(서명, 값, 인코딩), 8~10 요약, 11~ 해시 필드/값
+    private static final RedisScript<Long> TRANSITION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], 'status') ~= ARGV[1] then return 0 end " +
+                    "local function text(key, sigField, encField, sig, value, enc) " +
+                    "  if sig == '' then " +
+                    "    if redis.call('hexists', KEYS[1], sigField) == 1 then redis.call('expire', key, ARGV[4]) end " +
+                    "  elseif redis.call('hget', KEYS[1], sigField) ~= sig then " +
+                    "    redis.call('set', key, value, 'EX', ARGV[4]) " +
+                    "    redis.call('hset', KEYS[1], sigField, sig, encField, enc) " +
+                    "  else redis.call('expire', key, ARGV[4]) end " +
+                    "end " +
+                    "text(KEYS[5], 'contentSig', 'contentEncoding', ARGV[5], ARGV[6], ARGV[7]) " +
+                    "text(KEYS[6], 'summarySig', 'summaryEncoding', ARGV[8], ARGV[9], ARGV[10]) " +
+                    "redis.call('hset', KEYS[1], unpack(ARGV, 11)) " +
+                    "redis.call('expire', KEYS[1], ARGV[4]) " +
+                    "if KEYS[2] ~= '' then redis.call('zrem', KEYS[2], ARGV[2]) end " +
+                    "if KEYS[3] ~= '' then redis.call('zadd', KEYS[3], ARGV[3], ARGV[2]) end " +
+                    "redis.call('del', KEYS[4]) " +
+                    "return 1",
+            Long.class);
+
+    // 상태가 기대 상태일 때만 전사 본문 + sequence 기록 (다른 필드는 그대로)
+    // KEYS: 1 상태 해시, 2 전사 본문 / ARGV: 1 기대 상태, 2~4 전사(서명, 값, 인코딩), 5 TTL(초), 6 sequence
+    private static final RedisScript<Long> CONTENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], 'status') ~= ARGV[1] then return 0 end " +
+                    "if redis.call('hget', KEYS[1], 'contentSig') ~= ARGV[2] then " +
+                    "  redis.call('set', KEYS[2], ARGV[3], 'EX', ARGV[5]) " +
+                    "  redis.call('hset', KEYS[1], 'contentSig', ARGV[2], 'contentEncoding', ARGV[4]) " +
+                    "else redis.call('expire', KEYS[2], ARGV[5]) end " +
+                    "redis.call('hset', KEYS[1], 'sequence', ARGV[6]) " +
+                    "return 1",
+            Long.class);
 
     @Value("${stt.polling.stale-threshold-minutes:60}")
     private long staleThresholdMinutes;
 
+    // 이 크기(UTF-8 바이트) 이상인 전사/요약 본문은 gzip + Base64로 저장, 0 이하면 압축하지 않음
+    @Value("${stt.cache.compress-threshold-bytes:16384}")
+    private int compressThresholdBytes;
+
+    /**
+     * STT 상태 캐싱
+     * - stt:status:{id}: 상태/진행률/rid 등 작은 필드만 담은 Hash (매 진행률 갱신마다 기록)
+     * - stt:content:{id}, stt:summary:{id}: 본문 문자열, 서명(길이 + SHA-256 앞 128비트)이 바뀐 경우에만 다시 기록
+     * - DTO의 본문이 null이면(본문 없이 조회한 DTO) 기존 본문 키를 유지
+     */
     public void cacheSttStatus(STTDto sttDto) {
         try {
-            String key = STT_STATUS_PREFIX + sttDto.getId();
-            String jsonValue = objectMapper.writeValueAsString(sttDto);
+            String key = STT_STATUS_HASH_PREFIX + sttDto.getId();
             long ttlMinutes = calculateTtl(sttDto.getStatus());
 
-            redisTemplate.opsForValue().set(key, jsonValue, ttlMinutes, TimeUnit.MINUTES);
+            Map<String, String> fields = toStatusFields(sttDto);
+            List<Object> storedSigs = readStoredSigs(key);
+            writeTextIfChanged(STT_CONTENT_PREFIX + sttDto.getId(), sttDto.getContent(), storedSigs.get(0),
+                    FIELD_CONTENT_SIG, FIELD_CONTENT_ENCODING, fields, ttlMinutes);
+            writeTextIfChanged(STT_SUMMARY_PREFIX + sttDto.getId(), sttDto.getSummary(), storedSigs.get(1),
+                    FIELD_SUMMARY_SIG, FIELD_SUMMARY_ENCODING, fields, ttlMinutes);
+
+            redisTemplate.opsForHash().putAll(key, fields);
+            redisTemplate.expire(key, ttlMinutes, TimeUnit.MINUTES);
+            statusNearCache.invalidate(sttDto.getId());
 
             log.debug("STT status cached - ID: {}, TTL: {} minutes", sttDto.getId(), ttlMinutes);
         } catch (Exception e) {
@@ -52,24 +145,294 @@ public class SttCacheService {
         };
     }
 
+    /**
+     * 상태 전이를 한 번의 Lua 스크립트로 원자 처리
+     * 기대 상태가 아니면(다른 워커가 이미 전이) 아무것도 바꾸지 않고 false
+     * - 상태 해시 필드 기록 + TTL, 본문은 서명이 바뀐 경우에만 기록
+     * - 이전 상태 폴링 ZSet에서 제거, 다음 상태 폴링 ZSet에 (now + nextPollDelayMs)로 등록
+     * - retry count 초기화
+     * 키가 여러 슬롯에 걸치므로 단일 노드(비클러스터) Redis 기준
+     *
+     * @param sttDto 전이 후 상태가 반영된 DTO
+     */
+    public boolean transitionStatus(STTDto sttDto, STT.Status expectedStatus, long nextPollDelayMs) {
+        Long sttId = sttDto.getId();
+        try {
+            String fromSet = getPollingSetKey(expectedStatus);
+            String toSet = getPollingSetKey(sttDto.getStatus());
+            long ttlSeconds = TimeUnit.MINUTES.toSeconds(calculateTtl(sttDto.getStatus()));
+
+            List<String> args = new ArrayList<>(List.of(
+                    expectedStatus.name(),
+                    String.valueOf(sttId),
+                    String.valueOf(System.currentTimeMillis() + nextPollDelayMs),
+                    String.valueOf(ttlSeconds)));
+            addTextArgs(args, sttDto.getContent());
+            addTextArgs(args, sttDto.getSummary());
+            toStatusFields(sttDto).forEach((field, value) -> {
+                args.add(field);
+                args.add(value);
+            });
+
+            Long moved = redisTemplate.execute(TRANSITION_SCRIPT,
+                    List.of(STT_STATUS_HASH_PREFIX + sttId,
+                            fromSet != null ? fromSet : "",
+                            toSet != null ? toSet : "",
+                            STT_RETRY_COUNT_PREFIX + sttId,
+                            STT_CONTENT_PREFIX + sttId,
+                            STT_SUMMARY_PREFIX + sttId),
+                    args.toArray());
+            if (moved == null || moved != 1L) {
+                log.warn("STT {} is no longer {}. Transition to {} skipped.", sttId, expectedStatus, sttDto.getStatus());
+                return false;
+            }
+            statusNearCache.invalidate(sttId);
+            log.debug("STT {} transitioned {} -> {}", sttId, expectedStatus, sttDto.getStatus());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to transition STT {} from {} to {}", sttId, expectedStatus, sttDto.getStatus(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 전사 본문만 갱신 (녹음 중 부분 전사 등 상태를 바꾸지 않는 쓰기)
+     * 읽은 뒤 오래 걸린 작업의 결과를 전체 DTO로 덮어쓰면 그 사이 바뀐 상태(녹음 종료 → ENCODING)가 되돌아가므로
+     * 상태가 expectedStatus일 때만 본문과 sequence를 기록
+     *
+     * @return 기록 여부 (상태가 바뀌었거나 Redis 오류면 false)
+     */
+    public boolean cacheContentIfStatus(STTDto sttDto, STT.Status expectedStatus) {
+        Long sttId = sttDto.getId();
+        try {
+            EncodedText encoded = encodeText(sttDto.getContent() != null ? sttDto.getContent() : "");
+            long ttlSeconds = TimeUnit.MINUTES.toSeconds(calculateTtl(expectedStatus));
+            Long written = redisTemplate.execute(CONTENT_SCRIPT,
+                    List.of(STT_STATUS_HASH_PREFIX + sttId, STT_CONTENT_PREFIX + sttId),
+                    expectedStatus.name(), encoded.sig(), encoded.value(), encoded.encoding(),
+                    String.valueOf(ttlSeconds), toField(sttDto.getSequence()));
+            if (written == null || written != 1L) {
+                log.debug("STT {} is no longer {}. Content update skipped.", sttId, expectedStatus);
+                return false;
+            }
+            statusNearCache.invalidate(sttId);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to cache content of STT {}", sttId, e);
+            return false;
+        }
+    }
+
+    // 본문 인자 3개(서명, 값, 인코딩), 본문이 없으면 빈 문자열 → 기존 본문 유지
+    private void addTextArgs(List<String> args, String text) throws IOException {
+        if (text == null) {
+            args.addAll(List.of("", "", ""));
+            return;
+        }
+        EncodedText encoded = encodeText(text);
+        args.addAll(List.of(encoded.sig(), encoded.value(), encoded.encoding()));
+    }
+
     public STTDto getCachedSttStatus(Long sttId) {
+        return getCachedSttStatus(sttId, true);
+    }
+
+    /**
+     * @param includeText false면 상태 해시만 조회 (content/summary는 null)
+     */
+    public STTDto getCachedSttStatus(Long sttId, boolean includeText) {
+        String key = STT_STATUS_HASH_PREFIX + sttId;
+        Map<Object, Object> fields;
         try {
-            String key = STT_STATUS_PREFIX + sttId;
-            String jsonValue = redisTemplate.opsForValue().get(key);
+            fields = redisTemplate.opsForHash().entries(key);
+        } catch (DataAccessException e) {
+            // 이전 형식(전체 JSON 문자열) 키는 WRONGTYPE → 한 번 읽어 해시로 옮김
+            return migrateLegacyStatus(sttId);
+        }
 
-            return jsonValue != null ? objectMapper.readValue(jsonValue, STTDto.class) : null;
+        try {
+            if (fields == null || fields.isEmpty()) {
+                return null;
+            }
+            STTDto sttDto = fromStatusFields(fields);
+            if (includeText) {
+                List<String> texts = redisTemplate.opsForValue()
+                        .multiGet(List.of(STT_CONTENT_PREFIX + sttId, STT_SUMMARY_PREFIX + sttId));
+                if (texts != null) {
+                    sttDto.updateContent(decodeText(texts.get(0), (String) fields.get(FIELD_CONTENT_ENCODING)));
+                    sttDto.updateSummary(decodeText(texts.get(1), (String) fields.get(FIELD_SUMMARY_ENCODING)));
+                }
+            }
+            return sttDto;
+        } catch (Exception e) {
+            log.error("Failed to get STT status for ID: {}", sttId, e);
+            return null;
+        }
+    }
+
+    private STTDto migrateLegacyStatus(Long sttId) {
+        String key = STT_STATUS_HASH_PREFIX + sttId;
+        try {
+            String jsonValue = redisTemplate.opsForValue().get(key);
+            if (jsonValue == null) {
+                return null;
+            }
+            STTDto sttDto = objectMapper.readValue(jsonValue, STTDto.class);
+            redisTemplate.delete(key);
+            cacheSttStatus(sttDto);
+            log.info("Migrated legacy JSON STT status to hash - ID: {}", sttId);
+            return sttDto;
         } catch (Exception e) {
             log.error("Failed to get STT status for ID: {}", sttId, e);
             return null;
         }
     }
 
+    private List<Object> readStoredSigs(String key) {
+        List<Object> sigs;
+        try {
+            sigs = redisTemplate.opsForHash().multiGet(key, List.of(FIELD_CONTENT_SIG, FIELD_SUMMARY_SIG));
+        } catch (DataAccessException e) {
+            // 이전 형식(JSON 문자열) 키 위에는 HSET 불가 → 지우고 새로 기록
+            redisTemplate.delete(key);
+            sigs = null;
+        }
+        return sigs != null && sigs.size() == 2 ? sigs : Arrays.asList(null, null);
+    }
+
+    private Map<String, String> toStatusFields(STTDto sttDto) throws JsonProcessingException {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_ID, toField(sttDto.getId()));
+        fields.put(FIELD_RID, toField(sttDto.getRid()));
+        fields.put(FIELD_SUMMARY_RID, toField(sttDto.getSummaryRid()));
+        fields.put(FIELD_MEETING_ID, toField(sttDto.getMeetingId()));
+        fields.put(FIELD_STATUS, toField(sttDto.getStatus()));
+        fields.put(FIELD_FILE, sttDto.getFile() != null ? objectMapper.writeValueAsString(sttDto.getFile()) : "");
+        fields.put(FIELD_MEMBER_ID, toField(sttDto.getMemberId()));
+        fields.put(FIELD_PROGRESS, toField(sttDto.getProgress()));
+        fields.put(FIELD_RETRY_COUNT, toField(sttDto.getRetryCount()));
+        fields.put(FIELD_CONTENT_HASH, toField(sttDto.getContentHash()));
+        fields.put(FIELD_SEQUENCE, toField(sttDto.getSequence()));
+        return fields;
+    }
+
+    private STTDto fromStatusFields(Map<Object, Object> fields) throws JsonProcessingException {
+        String file = fieldValue(fields, FIELD_FILE);
+        String status = fieldValue(fields, FIELD_STATUS);
+        return STTDto.builder()
+                .id(longField(fields, FIELD_ID))
+                .rid(fieldValue(fields, FIELD_RID))
+                .summaryRid(fieldValue(fields, FIELD_SUMMARY_RID))
+                .meetingId(longField(fields, FIELD_MEETING_ID))
+                .status(status != null ? STT.Status.valueOf(status) : null)
+                .file(file != null ? objectMapper.readValue(file, FileDto.class) : null)
+                .memberId(longField(fields, FIELD_MEMBER_ID))
+                .progress(intField(fields, FIELD_PROGRESS))
+                .retryCount(intField(fields, FIELD_RETRY_COUNT))
+                .contentHash(fieldValue(fields, FIELD_CONTENT_HASH))
+                .sequence(longField(fields, FIELD_SEQUENCE))
+                .build();
+    }
+
+    // null은 빈 문자열로 저장 (HDEL 없이 한 번의 HSET으로 덮어쓰기)
+    private String toField(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private String fieldValue(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value == null || value.toString().isEmpty() ? null : value.toString();
+    }
+
+    private Long longField(Map<Object, Object> fields, String name) {
+        String value = fieldValue(fields, name);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private Integer intField(Map<Object, Object> fields, String name) {
+        String value = fieldValue(fields, name);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    private void writeTextIfChanged(String textKey, String text, Object storedSig, String sigField,
+                                    String encodingField, Map<String, String> fields, long ttlMinutes) throws IOException {
+        if (text == null) {
+            if (storedSig != null) {
+                redisTemplate.expire(textKey, ttlMinutes, TimeUnit.MINUTES);
+            }
+            return;
+        }
+        String sig = signature(text);
+        if (sig.equals(storedSig)) {
+            redisTemplate.expire(textKey, ttlMinutes, TimeUnit.MINUTES);
+            return;
+        }
+        EncodedText encoded = encodeText(text);
+        redisTemplate.opsForValue().set(textKey, encoded.value(), ttlMinutes, TimeUnit.MINUTES);
+        fields.put(sigField, encoded.sig());
+        fields.put(encodingField, encoded.encoding());
+    }
+
+    private record EncodedText(String sig, String value, String encoding) {
+    }
+
+    // 저장된 본문과 같은지 판단하는 서명 (hashCode는 충돌이 쉬워 바뀐 본문을 같은 것으로 보고 건너뛸 수 있음)
+    static String signature(String text) {
+        return signature(text.length(), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String signature(int length, byte[] utf8) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(utf8);
+            return length + ":" + HexFormat.of().formatHex(digest, 0, SIGNATURE_DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private EncodedText encodeText(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        String sig = signature(text.length(), bytes);
+        boolean compress = compressThresholdBytes > 0 && bytes.length >= compressThresholdBytes;
+        return compress
+                ? new EncodedText(sig, gzipBase64(bytes), ENCODING_GZIP)
+                : new EncodedText(sig, text, ENCODING_PLAIN);
+    }
+
+    private String decodeText(String stored, String encoding) throws IOException {
+        if (stored == null || !ENCODING_GZIP.equals(encoding)) {
+            return stored;
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(stored)))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String gzipBase64(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        }
+        return Base64.getEncoder().encodeToString(buffer.toByteArray());
+    }
+
+    public void evictSttStatus(Long sttId) {
+        redisTemplate.delete(List.of(
+                STT_STATUS_HASH_PREFIX + sttId, STT_CONTENT_PREFIX + sttId, STT_SUMMARY_PREFIX + sttId));
+        statusNearCache.invalidate(sttId);
+    }
+
+    // ZSet score = 다음 폴링 예정 시각(epoch ms). 최초 등록은 즉시 폴링 대상
     public void addToPollingSet(Long sttId, STT.Status status) {
+        schedulePolling(sttId, status, 0);
+    }
+
+    public void schedulePolling(Long sttId, STT.Status status, long delayMs) {
         String setKey = getPollingSetKey(status);
         if (setKey != null) {
-            double score = System.currentTimeMillis();
+            double score = System.currentTimeMillis() + delayMs;
             redisTemplate.opsForZSet().add(setKey, String.valueOf(sttId), score);
-            log.debug("Added STT {} to polling ZSet: {} with score: {}", sttId, setKey, score);
+            log.debug("Scheduled STT {} in polling ZSet: {} due at: {}", sttId, setKey, score);
         }
     }
 
@@ -102,12 +465,63 @@ public class SttCacheService {
         }
     }
 
+    // 예정 시각이 지난 작업만 최대 limit개 조회 (ZRANGEBYSCORE key 0 now LIMIT 0 limit)
+    public Set<Long> getDuePollingTaskIds(STT.Status status, int limit) {
+        String setKey = getPollingSetKey(status);
+        if (setKey == null) {
+            return Collections.emptySet();
+        }
+        return getDueTaskIds(setKey, limit);
+    }
+
+    // 비동기 제출 대기: 상태별 폴링 ZSet과 별개 (대기 중에도 상태는 PROCESSING)
+    public void scheduleSubmission(Long sttId, long delayMs) {
+        redisTemplate.opsForZSet().add(STT_SUBMIT_PENDING_SET, String.valueOf(sttId), System.currentTimeMillis() + delayMs);
+    }
+
+    public void removeSubmission(Long sttId) {
+        redisTemplate.opsForZSet().remove(STT_SUBMIT_PENDING_SET, String.valueOf(sttId));
+    }
+
+    public Set<Long> getDueSubmissionIds(int limit) {
+        return getDueTaskIds(STT_SUBMIT_PENDING_SET, limit);
+    }
+
+    private Set<Long> getDueTaskIds(String setKey, int limit) {
+        try {
+            Set<String> members = redisTemplate.opsForZSet()
+                    .rangeByScore(setKey, 0, System.currentTimeMillis(), 0, limit);
+            if (members == null || members.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            return members.stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        } catch (Exception e) {
+            log.warn("Redis unavailable for polling ZSet {}. Exception: {}", setKey, e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
+    // 다른 워커가 이번 주기에 이미 처리해 재예약했다면 score가 미래 → false
+    public boolean isPollingDue(Long sttId, STT.Status status) {
+        String setKey = getPollingSetKey(status);
+        if (setKey == null) {
+            return false;
+        }
+        Double score = redisTemplate.opsForZSet().score(setKey, String.valueOf(sttId));
+        return score != null && score <= System.currentTimeMillis();
+    }
+
+    // 예정 시각이 stale 임계치 이상 지났는데도 재예약되지 않은 작업 정리
     @Scheduled(fixedDelayString = "${stt.polling.cleanup-interval-ms:600000}")
     public void cleanupStalePollingTasks() {
         long thresholdTime = System.currentTimeMillis() - (staleThresholdMinutes * 60 * 1000);
 
         cleanupStaleTasksFromSet(STT_POLLING_PROCESSING_SET, thresholdTime);
         cleanupStaleTasksFromSet(STT_POLLING_SUMMARIZING_SET, thresholdTime);
+        cleanupStaleTasksFromSet(STT_POLLING_ENCODING_SET, thresholdTime);
     }
 
     private void cleanupStaleTasksFromSet(String setKey, long thresholdTime) {
@@ -155,6 +569,7 @@ public class SttCacheService {
         return switch (status) {
             case PROCESSING -> STT_POLLING_PROCESSING_SET;
             case SUMMARIZING -> STT_POLLING_SUMMARIZING_SET;
+            case ENCODING -> STT_POLLING_ENCODING_SET;
             default -> null;
         };
     }
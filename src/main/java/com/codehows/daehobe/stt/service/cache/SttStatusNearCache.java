@@ -0,0 +1,164 @@
+package com.codehows.daehobe.stt.service.cache;
+
+import com.codehows.daehobe.stt.dto.STTDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_STATUS_INVALIDATION_CHANNEL;
+
+/**
+ * 상태 조회 API(GET /stt/status/{id})용 인스턴스 로컬 캐시 (Redis 앞단)
+ * - 크기 제한(LRU) + TTL, TTL이 pub/sub 유실 시 최대 stale 시간
+ * - 무효화: SttCacheService가 상태를 기록한 뒤 invalidate → 로컬 제거 + 채널 발행, 다른 노드는 수신 즉시 제거
+ * - 읽기-무효화 경쟁: sttId 스트라이프별 세대 번호를 로드 전후로 비교해, 로드 중 무효화되었으면 저장하지 않음
+ * - 반환 DTO는 여러 요청이 공유하므로 호출 측에서 변경하지 않음 (폴링/인코딩 처리는 SttCacheService 직접 사용)
+ * - 메트릭: stt.cache.near.requests{result=hit|miss}, stt.cache.near.invalidations{source=local|pubsub}, stt.cache.near.size
+ */
+@Slf4j
+@Component
+public class SttStatusNearCache {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final StringRedisTemplate redisTemplate;
+    // access-order LinkedHashMap, 모든 접근은 entries 락 안에서
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter localInvalidationCounter;
+    private final Counter pubsubInvalidationCounter;
+
+    // 0 이하면 캐시 없이 항상 Redis 조회
+    @Value("${stt.cache.near.max-size:1000}")
+    private int maxSize;
+
+    @Value("${stt.cache.near.ttl-ms:2000}")
+    private long ttlMs;
+
+    public SttStatusNearCache(StringRedisTemplate hashRedisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = hashRedisTemplate;
+        this.hitCounter = Counter.builder("stt.cache.near.requests")
+                .tag("result", "hit")
+                .description("STT status reads served by the near cache")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("stt.cache.near.requests")
+                .tag("result", "miss")
+                .description("STT status reads served by the near cache")
+                .register(meterRegistry);
+        this.localInvalidationCounter = Counter.builder("stt.cache.near.invalidations")
+                .tag("source", "local")
+                .description("STT near cache invalidations")
+                .register(meterRegistry);
+        this.pubsubInvalidationCounter = Counter.builder("stt.cache.near.invalidations")
+                .tag("source", "pubsub")
+                .description("STT near cache invalidations")
+                .register(meterRegistry);
+        Gauge.builder("stt.cache.near.size", this, SttStatusNearCache::size)
+                .description("STT status entries held in the near cache")
+                .register(meterRegistry);
+        redisMessageListenerContainer.addMessageListener(this::onInvalidation,
+                new ChannelTopic(STT_STATUS_INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * @param loader 미스 시 Redis 조회 (null 결과는 캐시하지 않음 → DB fallback은 호출 측 책임)
+     */
+    public STTDto get(Long sttId, boolean includeText, Supplier<STTDto> loader) {
+        if (maxSize <= 0 || ttlMs <= 0) {
+            return loader.get();
+        }
+
+        Key key = new Key(sttId, includeText);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hitCounter.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        missCounter.increment();
+
+        long generation = generations.get(stripe(sttId));
+        STTDto loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        synchronized (entries) {
+            if (generations.get(stripe(sttId)) == generation) {
+                entries.put(key, new Entry(loaded, System.currentTimeMillis() + ttlMs));
+                if (entries.size() > maxSize) {
+                    entries.remove(entries.keySet().iterator().next());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Redis 기록이 끝난 뒤 호출 (기록 전에 비우면 그 사이 조회가 이전 값을 다시 채움)
+     */
+    public void invalidate(Long sttId) {
+        evictLocal(sttId);
+        localInvalidationCounter.increment();
+        try {
+            redisTemplate.convertAndSend(STT_STATUS_INVALIDATION_CHANNEL, String.valueOf(sttId));
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("Failed to publish STT near cache invalidation for ID {}: {}", sttId, e.getMessage());
+        }
+    }
+
+    void onInvalidation(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+            pubsubInvalidationCounter.increment();
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed STT near cache invalidation: {}", body);
+        }
+    }
+
+    private void evictLocal(Long sttId) {
+        synchronized (entries) {
+            generations.incrementAndGet(stripe(sttId));
+            entries.remove(new Key(sttId, true));
+            entries.remove(new Key(sttId, false));
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private int stripe(Long sttId) {
+        return Math.floorMod(Long.hashCode(sttId), GENERATION_STRIPES);
+    }
+
+    private record Key(Long sttId, boolean includeText) {
+    }
+
+    private record Entry(STTDto value, long expiresAt) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.codehows.daehobe.stt.service.dedup;
+
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_DEDUP_INFLIGHT_PREFIX;
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_DEDUP_RESULT_PREFIX;
+
+/**
+ * 오디오 내용 해시(SHA-256) 기반 전사 중복 제거
+ * - 완료 인덱스: stt:dedup:result:{hash} → rid/content/summary (Redis Hash, 만료 시 DB의 COMPLETED STT로 재구성)
+ * - 진행 중 선점: stt:dedup:inflight:{hash} SET NX → 같은 파일 동시 요청 중 한 건만 프로바이더 호출
+ *   나머지는 rid 없이 PROCESSING 폴링 셋에 올라가 완료 인덱스가 채워지길 기다림 (SttJobProcessor)
+ * - Redis 장애 시 중복 제거 없이 정상 전사 진행
+ */
+@Slf4j
+@Service
+public class SttDedupService {
+
+    private static final String FIELD_RID = "rid";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_SUMMARY = "summary";
+    private static final String PENDING = "pending";
+
+    private final StringRedisTemplate redisTemplate;
+    private final STTRepository sttRepository;
+
+    // 업로드 ~ rid 발급까지 (프로세스가 죽으면 만료로 반환)
+    @Value("${stt.dedup.claim-ttl-seconds:600}")
+    private long claimTtlSeconds;
+
+    // rid 발급 후 전사 + 요약 완료까지
+    @Value("${stt.dedup.in-flight-ttl-seconds:21600}")
+    private long inFlightTtlSeconds;
+
+    @Value("${stt.dedup.result-ttl-hours:168}")
+    private long resultTtlHours;
+
+    public SttDedupService(StringRedisTemplate hashRedisTemplate, STTRepository sttRepository) {
+        this.redisTemplate = hashRedisTemplate;
+        this.sttRepository = sttRepository;
+    }
+
+    public record DedupEntry(String rid, String content, String summary) {
+    }
+
+    public Optional<DedupEntry> findCompleted(String contentHash) {
+        if (contentHash == null) return Optional.empty();
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(STT_DEDUP_RESULT_PREFIX + contentHash);
+            if (fields != null && fields.containsKey(FIELD_CONTENT)) {
+                return Optional.of(new DedupEntry(
+                        (String) fields.get(FIELD_RID),
+                        (String) fields.get(FIELD_CONTENT),
+                        (String) fields.get(FIELD_SUMMARY)));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read dedup index for {}: {}", contentHash, e.getMessage());
+        }
+
+        Optional<DedupEntry> fromDb = sttRepository
+                .findFirstByContentHashAndStatusOrderByIdDesc(contentHash, STT.Status.COMPLETED)
+                .map(stt -> new DedupEntry(stt.getRid(), stt.getContent(), stt.getSummary()));
+        fromDb.ifPresent(entry -> writeResult(contentHash, entry));
+        return fromDb;
+    }
+
+    /**
+     * 같은 내용의 전사를 이 요청이 맡을지 선점
+     *
+     * @return 선점했으면 true (프로바이더 호출 후 markInFlight/release), 이미 진행 중이면 false
+     */
+    public boolean tryClaim(String contentHash) {
+        if (contentHash == null) return true;
+        try {
+            Boolean claimed = redisTemplate.opsForValue()
+                    .setIfAbsent(STT_DEDUP_INFLIGHT_PREFIX + contentHash, PENDING, Duration.ofSeconds(claimTtlSeconds));
+            return Boolean.TRUE.equals(claimed);
+        } catch (Exception e) {
+            log.warn("Failed to claim dedup key for {}: {}", contentHash, e.getMessage());
+            return true;
+        }
+    }
+
+    // rid 발급 완료: 전사 완료까지 선점 유지
+    public void markInFlight(String contentHash, Long sttId) {
+        if (contentHash == null) return;
+        try {
+            redisTemplate.opsForValue().set(STT_DEDUP_INFLIGHT_PREFIX + contentHash, String.valueOf(sttId),
+                    Duration.ofSeconds(inFlightTtlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to mark dedup in-flight for {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    public boolean isInFlight(String contentHash) {
+        if (contentHash == null) return false;
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(STT_DEDUP_INFLIGHT_PREFIX + contentHash));
+        } catch (Exception e) {
+            log.warn("Failed to check dedup in-flight for {}: {}", contentHash, e.getMessage());
+            return false;
+        }
+    }
+
+    // 전사 실패: 대기 중인 요청들은 선점이 사라진 것을 보고 ENCODED로 롤백
+    public void release(String contentHash) {
+        if (contentHash == null) return;
+        try {
+            redisTemplate.delete(STT_DEDUP_INFLIGHT_PREFIX + contentHash);
+        } catch (Exception e) {
+            log.warn("Failed to release dedup key for {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    public void recordCompleted(String contentHash, String rid, String content, String summary) {
+        if (contentHash == null) return;
+        writeResult(contentHash, new DedupEntry(rid, content, summary));
+        release(contentHash);
+    }
+
+    private void writeResult(String contentHash, DedupEntry entry) {
+        try {
+            String key = STT_DEDUP_RESULT_PREFIX + contentHash;
+            Map<String, String> fields = new HashMap<>();
+            if (entry.rid() != null) fields.put(FIELD_RID, entry.rid());
+            fields.put(FIELD_CONTENT, entry.content() != null ? entry.content() : "");
+            fields.put(FIELD_SUMMARY, entry.summary() != null ? entry.summary() : "");
+            redisTemplate.opsForHash().putAll(key, fields);
+            redisTemplate.expire(key, Duration.ofHours(resultTtlHours));
+        } catch (Exception e) {
+            log.warn("Failed to write dedup index for {}: {}", contentHash, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.codehows.daehobe.stt.service.lease;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * STT 작업 Redis 임대(lease)
+ * - 여러 백엔드 인스턴스가 같은 sttId를 동시에 처리하지 않도록 SET NX PX로 선점
+ * - 소유 토큰이 일치할 때만 갱신/해제 (Lua로 비교 후 실행)
+ * - 프로세스가 죽어도 TTL 만료로 자동 반환
+ */
+@Slf4j
+@Service
+public class SttJobLeaseService {
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 인스턴스 식별 토큰 (JVM 당 1개)
+    @Getter
+    private final String ownerToken = UUID.randomUUID().toString();
+
+    public SttJobLeaseService(StringRedisTemplate hashRedisTemplate) {
+        this.redisTemplate = hashRedisTemplate;
+    }
+
+    public boolean tryAcquire(String leasePrefix, Long sttId, Duration ttl) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leasePrefix + sttId, ownerToken, ttl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("Failed to acquire lease {}{}: {}", leasePrefix, sttId, e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean renew(String leasePrefix, Long sttId, Duration ttl) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(leasePrefix + sttId),
+                    ownerToken, String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed == 1L;
+        } catch (Exception e) {
+            log.warn("Failed to renew lease {}{}: {}", leasePrefix, sttId, e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(String leasePrefix, Long sttId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leasePrefix + sttId), ownerToken);
+        } catch (Exception e) {
+            log.warn("Failed to release lease {}{}: {}", leasePrefix, sttId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.codehows.daehobe.stt.service.messaging;
+
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttProgressDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.codehows.daehobe.stt.service.messaging.SttTopicSubscriptionTracker.TOPIC_PREFIX;
+
+/**
+ * 회의 토픽 단위 STT 업데이트 전송
+ * - 구독자 없음: convertAndSend(직렬화 포함)를 호출하지 않고 버림
+ * - 병합: 토픽마다 coalesce-window-ms 동안 STT별 최신 상태 하나만 보관, 창이 끝나면 flushDue가 전송
+ *   창이 비어 있던 첫 메시지는 바로 전송
+ *   · 스냅샷이 섞이면 최신 STTDto 스냅샷으로 대체
+ *   · 이어지는 delta끼리는 appendedContent를 합치고 baseSequence는 첫 delta 기준 유지
+ * - 메트릭: stt.broadcast.sent, stt.broadcast.suppressed{reason=no_subscribers|coalesced}
+ */
+@Slf4j
+@Component
+public class SttUpdateBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SttTopicSubscriptionTracker subscriptionTracker;
+    private final Map<Long, TopicWindow> windows = new ConcurrentHashMap<>();
+    private final Counter sentCounter;
+    private final Counter noSubscriberCounter;
+    private final Counter coalescedCounter;
+
+    // 0이면 병합 없이 즉시 전송
+    @Value("${stt.broadcast.coalesce-window-ms:500}")
+    private long coalesceWindowMs;
+
+    public SttUpdateBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                SttTopicSubscriptionTracker subscriptionTracker,
+                                MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.subscriptionTracker = subscriptionTracker;
+        this.sentCounter = Counter.builder("stt.broadcast.sent")
+                .description("STT update messages sent to meeting topics")
+                .register(meterRegistry);
+        this.noSubscriberCounter = Counter.builder("stt.broadcast.suppressed")
+                .tag("reason", "no_subscribers")
+                .description("STT update messages dropped before serialization")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("stt.broadcast.suppressed")
+                .tag("reason", "coalesced")
+                .description("STT update messages dropped before serialization")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param state 전송 시점의 STTDto (sequence 반영 완료)
+     * @param delta null이면 state 전체를 스냅샷으로 전송
+     */
+    public void broadcast(STTDto state, SttProgressDelta delta) {
+        Long meetingId = state.getMeetingId();
+        if (!subscriptionTracker.hasSubscribers(TOPIC_PREFIX + meetingId)) {
+            noSubscriberCounter.increment();
+            return;
+        }
+        Object payload = delta != null ? delta : state;
+        if (coalesceWindowMs <= 0) {
+            send(meetingId, payload);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        while (true) {
+            TopicWindow window = windows.computeIfAbsent(meetingId, id -> new TopicWindow());
+            synchronized (window) {
+                // flushDue가 방금 정리한 창이면 새 창으로 다시 시도
+                if (window.closed) {
+                    continue;
+                }
+                if (!window.pending.isEmpty() || now - window.lastSentAt < coalesceWindowMs) {
+                    window.merge(state, delta);
+                    return;
+                }
+                window.lastSentAt = now;
+            }
+            send(meetingId, payload);
+            return;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stt.broadcast.flush-interval-ms:100}")
+    public void flushDue() {
+        flushDue(System.currentTimeMillis());
+    }
+
+    void flushDue(long now) {
+        for (Map.Entry<Long, TopicWindow> entry : windows.entrySet()) {
+            Long meetingId = entry.getKey();
+            TopicWindow window = entry.getValue();
+            List<Object> payloads;
+            synchronized (window) {
+                if (now - window.lastSentAt < coalesceWindowMs) {
+                    continue;
+                }
+                if (window.pending.isEmpty()) {
+                    window.closed = true;
+                    windows.remove(meetingId, window);
+                    continue;
+                }
+                payloads = new ArrayList<>(window.pending.values());
+                window.pending.clear();
+                window.lastSentAt = now;
+            }
+            if (!subscriptionTracker.hasSubscribers(TOPIC_PREFIX + meetingId)) {
+                noSubscriberCounter.increment(payloads.size());
+                continue;
+            }
+            payloads.forEach(payload -> send(meetingId, payload));
+        }
+    }
+
+    private void send(Long meetingId, Object payload) {
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + meetingId, payload);
+            sentCounter.increment();
+        } catch (Exception e) {
+            log.warn("Failed to publish STT update to meeting {}: {}", meetingId, e.getMessage());
+        }
+    }
+
+    private final class TopicWindow {
+
+        private long lastSentAt;
+        private boolean closed;
+        // sttId → 대기 중인 STTDto 또는 SttProgressDelta
+        private final Map<Long, Object> pending = new LinkedHashMap<>();
+
+        private void merge(STTDto state, SttProgressDelta delta) {
+            Object previous = pending.get(state.getId());
+            if (previous != null) {
+                coalescedCounter.increment();
+            }
+            if (delta != null && previous == null) {
+                pending.put(state.getId(), delta);
+            } else if (delta != null && previous instanceof SttProgressDelta pendingDelta
+                    && pendingDelta.getSequence().equals(delta.getBaseSequence())) {
+                pending.put(state.getId(), SttProgressDelta.builder()
+                        .id(delta.getId())
+                        .meetingId(delta.getMeetingId())
+                        .baseSequence(pendingDelta.getBaseSequence())
+                        .sequence(delta.getSequence())
+                        .status(delta.getStatus())
+                        .progress(delta.getProgress())
+                        .contentOffset(pendingDelta.getContentOffset())
+                        .appendedContent(pendingDelta.getAppendedContent() + delta.getAppendedContent())
+                        .build());
+            } else {
+                pending.put(state.getId(), state);
+            }
+        }
+    }
+}
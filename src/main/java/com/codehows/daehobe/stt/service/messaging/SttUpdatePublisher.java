@@ -0,0 +1,79 @@
+package com.codehows.daehobe.stt.service.messaging;
+
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttProgressDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * STT 상태 WebSocket 전송 (/topic/stt/updates/{meetingId})
+ * - 상태 전이: 전체 STTDto (publishSnapshot)
+ * - 폴링 진행: 상태/진행률/추가된 전사 텍스트만 담은 SttProgressDelta (publishProgress)
+ * - 두 메시지 모두 STTDto.sequence를 증가시키므로 호출 측은 전송 후 캐시에 저장해야 재동기화 기준이 맞음
+ * - 실제 전송(구독자 확인, 토픽 단위 병합)은 SttUpdateBroadcaster
+ */
+@Component
+@RequiredArgsConstructor
+public class SttUpdatePublisher {
+
+    private final SttUpdateBroadcaster sttUpdateBroadcaster;
+
+    public void publishSnapshot(STTDto sttDto) {
+        sttDto.advanceSequence();
+        sttUpdateBroadcaster.broadcast(sttDto, null);
+    }
+
+    /**
+     * 상태 전이용 스냅샷: sequence를 먼저 올려 전이 기록에 포함시키고, 전이가 반영된 경우에만 전송
+     *
+     * @param transition 캐시 상태 전이 (SttCacheService.transitionStatus)
+     * @return 전이 성공 여부
+     */
+    public boolean publishTransition(STTDto sttDto, BooleanSupplier transition) {
+        sttDto.advanceSequence();
+        if (!transition.getAsBoolean()) {
+            return false;
+        }
+        sttUpdateBroadcaster.broadcast(sttDto, null);
+        return true;
+    }
+
+    /**
+     * @param previousContent 직전 메시지 기준 전사 텍스트 (캐시 값)
+     */
+    public void publishProgress(STTDto sttDto, String previousContent) {
+        publishProgress(sttDto, previousContent, () -> true);
+    }
+
+    /**
+     * 조건부 캐시 기록과 묶은 진행 전송: sequence를 먼저 올려 기록에 포함시키고, 기록된 경우에만 전송
+     *
+     * @param write 캐시 기록 (SttCacheService.cacheContentIfStatus)
+     * @return 기록 성공 여부
+     */
+    public boolean publishProgress(STTDto sttDto, String previousContent, BooleanSupplier write) {
+        String content = sttDto.getContent() != null ? sttDto.getContent() : "";
+        String previous = previousContent != null ? previousContent : "";
+        // 앞부분이 수정되면 이어 붙이기로 표현할 수 없으므로 전체 전송
+        if (!content.startsWith(previous)) {
+            return publishTransition(sttDto, write);
+        }
+        long sequence = sttDto.advanceSequence();
+        if (!write.getAsBoolean()) {
+            return false;
+        }
+        sttUpdateBroadcaster.broadcast(sttDto, SttProgressDelta.builder()
+                .id(sttDto.getId())
+                .meetingId(sttDto.getMeetingId())
+                .baseSequence(sequence - 1)
+                .sequence(sequence)
+                .status(sttDto.getStatus())
+                .progress(sttDto.getProgress())
+                .contentOffset(previous.length())
+                .appendedContent(content.substring(previous.length()))
+                .build());
+        return true;
+    }
+}
@@ -0,0 +1,132 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.file.dto.FileDto;
+import com.codehows.daehobe.file.entity.File;
+import com.codehows.daehobe.file.service.FileService;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_LEASE_ENCODING_PREFIX;
+
+/**
+ * 녹음 종료 후 인코딩 작업 (sttEncodingExecutor 워커에서 실행)
+ * - 트랜잭션 밖에서 ffmpeg를 실행해 DB 커넥션을 점유하지 않음, 상태 저장만 짧게 수행
+ * - 상태 전이(ENCODING → ENCODED)는 /topic/stt/updates/{meetingId}로 발행
+ * - 실패 시 인코딩 ZSet에 재예약, 최대 시도 초과 시 원본 녹음 그대로 ENCODED로 롤백 (사용자 재시도 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SttEncodingProcessor {
+
+    private final STTRepository sttRepository;
+    private final FileService fileService;
+    private final SttCacheService sttCacheService;
+    private final SttUpdatePublisher sttUpdatePublisher;
+    private final SttJobLeaseService sttJobLeaseService;
+
+    @Value("${stt.encoding.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${stt.encoding.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    // 긴 녹음의 전체 재인코딩 시간을 덮을 만큼 여유 있게
+    @Value("${stt.lease.encoding-ttl-ms:600000}")
+    private long encodingLeaseTtlMs;
+
+    public void encode(Long sttId) {
+        if (!sttJobLeaseService.tryAcquire(STT_LEASE_ENCODING_PREFIX, sttId, Duration.ofMillis(encodingLeaseTtlMs))) {
+            log.debug("Encoding for STT {} is held by another worker. Skipping.", sttId);
+            return;
+        }
+        try {
+            STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
+            if (cachedStatus == null
+                    || (cachedStatus.getStatus() != STT.Status.ENCODING && cachedStatus.getStatus() != STT.Status.RECORDING)) {
+                log.warn("STT {} is not awaiting encoding. Removing from encoding set.", sttId);
+                sttCacheService.removeFromPollingSet(sttId, STT.Status.ENCODING);
+                return;
+            }
+
+            if (cachedStatus.getStatus() != STT.Status.ENCODING) {
+                cachedStatus.updateStatus(STT.Status.ENCODING);
+                sttUpdatePublisher.publishSnapshot(cachedStatus);
+                sttCacheService.cacheSttStatus(cachedStatus);
+            }
+
+            log.info("Starting encoding job for STT ID: {}", sttId);
+            File originalFile = fileService.getSTTFile(sttId);
+            File encodedFile = fileService.encodeAudioFile(originalFile);
+
+            cachedStatus.updateFile(FileDto.fromEntity(encodedFile));
+            cachedStatus.updateStatus(STT.Status.ENCODED);
+            // 상태 기록 + encoding set 제거 + retry 초기화를 한 번에
+            if (!sttUpdatePublisher.publishTransition(cachedStatus, () -> sttCacheService.transitionStatus(
+                    cachedStatus, STT.Status.ENCODING, 0))) {
+                return;
+            }
+
+            // ENCODED 상태에서 DB 저장 (사용자 복귀 대비)
+            STT stt = sttRepository.findById(sttId).orElseThrow(EntityNotFoundException::new);
+            stt.setStatus(STT.Status.ENCODED);
+            sttRepository.save(stt);
+            log.info("Finished encoding for STT {}. Awaiting user action to start transcription.", sttId);
+        } catch (Exception e) {
+            handleFailure(sttId, e);
+        } finally {
+            sttJobLeaseService.release(STT_LEASE_ENCODING_PREFIX, sttId);
+        }
+    }
+
+    private void handleFailure(Long sttId, Exception cause) {
+        try {
+            int attempts = sttCacheService.incrementRetryCount(sttId);
+            if (attempts >= maxAttempts) {
+                log.error("Encoding for STT {} failed {} times. Giving up.", sttId, attempts, cause);
+                giveUp(sttId);
+                return;
+            }
+            log.error("Failed to process encoding job for STT: {} (attempt {}/{}). Retrying in {}ms.",
+                    sttId, attempts, maxAttempts, retryDelayMs, cause);
+            sttCacheService.schedulePolling(sttId, STT.Status.ENCODING, retryDelayMs);
+        } catch (Exception e) {
+            log.error("Failed to reschedule encoding for STT {}", sttId, e);
+        }
+    }
+
+    // 원본 녹음 그대로 ENCODED로 전이 + DB 저장 (ENCODING에 멈추지 않고 사용자가 전사를 시작/재시도할 수 있도록)
+    // 전이 성공 시 encoding set 제거 + retry 초기화도 함께
+    private void giveUp(Long sttId) {
+        STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId, false);
+        if (cachedStatus == null || cachedStatus.getStatus() != STT.Status.ENCODING) {
+            sttCacheService.removeFromPollingSet(sttId, STT.Status.ENCODING);
+            sttCacheService.resetRetryCount(sttId);
+            return;
+        }
+
+        cachedStatus.updateStatus(STT.Status.ENCODED);
+        if (!sttUpdatePublisher.publishTransition(cachedStatus, () -> sttCacheService.transitionStatus(
+                cachedStatus, STT.Status.ENCODING, 0))) {
+            sttCacheService.removeFromPollingSet(sttId, STT.Status.ENCODING);
+            sttCacheService.resetRetryCount(sttId);
+            return;
+        }
+
+        STT stt = sttRepository.findById(sttId).orElseThrow(EntityNotFoundException::new);
+        stt.setStatus(STT.Status.ENCODED);
+        sttRepository.save(stt);
+        log.warn("STT {} rolled back to ENCODED with the original recording.", sttId);
+    }
+}
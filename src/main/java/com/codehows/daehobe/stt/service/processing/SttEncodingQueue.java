@@ -0,0 +1,110 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인코딩 작업 큐
+ * - 요청 스레드는 인코딩 ZSet 등록 후 즉시 반환, 실제 인코딩은 sttEncodingExecutor(CPU 코어 수) 워커가 수행
+ * - 요청 트랜잭션 커밋 이후에 제출 (워커의 ENCODED 저장이 요청의 ENCODING 커밋에 덮이지 않도록)
+ * - 풀 포화/인스턴스 종료로 유실된 작업은 ZSet에 남아 있다가 주기적으로 재제출
+ * - 메트릭: stt.encoding.in-flight / stt.encoding.queued (gauge), stt.encoding.rejected (counter)
+ */
+@Slf4j
+@Component
+public class SttEncodingQueue {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final SttEncodingProcessor sttEncodingProcessor;
+    private final SttCacheService sttCacheService;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter rejectedCounter;
+
+    // 제출 후 이 시간이 지나도 ZSet에 남아 있으면 유실로 보고 재제출
+    @Value("${stt.encoding.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    @Value("${stt.polling.batch-size:50}")
+    private int batchSize;
+
+    public SttEncodingQueue(@Qualifier("sttEncodingExecutor") ThreadPoolTaskExecutor sttEncodingExecutor,
+                            SttEncodingProcessor sttEncodingProcessor,
+                            SttCacheService sttCacheService,
+                            MeterRegistry meterRegistry) {
+        this.executor = sttEncodingExecutor;
+        this.sttEncodingProcessor = sttEncodingProcessor;
+        this.sttCacheService = sttCacheService;
+        Gauge.builder("stt.encoding.in-flight", inFlight, Set::size)
+                .description("Queued or running STT encoding jobs")
+                .register(meterRegistry);
+        Gauge.builder("stt.encoding.queued", sttEncodingExecutor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("STT encoding jobs waiting in the executor queue")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("stt.encoding.rejected")
+                .description("STT encoding jobs not admitted because the executor was saturated")
+                .register(meterRegistry);
+    }
+
+    public void submit(Long sttId) {
+        sttCacheService.schedulePolling(sttId, STT.Status.ENCODING, retryDelayMs);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(sttId);
+                }
+            });
+        } else {
+            dispatch(sttId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stt.encoding.resubmit-interval-ms:10000}")
+    public void resubmitPending() {
+        for (Long sttId : sttCacheService.getDuePollingTaskIds(STT.Status.ENCODING, batchSize)) {
+            log.info("Resubmitting pending encoding job for STT {}", sttId);
+            dispatch(sttId);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private void dispatch(Long sttId) {
+        if (!inFlight.add(sttId)) {
+            log.debug("Encoding job {} is already in flight. Skipping.", sttId);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    sttEncodingProcessor.encode(sttId);
+                } finally {
+                    inFlight.remove(sttId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(sttId);
+            rejectedCounter.increment();
+            log.warn("sttEncodingExecutor saturated. Encoding job {} will be resubmitted later.", sttId);
+        }
+    }
+}
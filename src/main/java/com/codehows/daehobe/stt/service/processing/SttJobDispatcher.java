@@ -0,0 +1,79 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * sttTaskExecutor 제출 관문
+ * - in-flight 등록: 대기/실행 중인 sttId는 다시 큐에 넣지 않음 (느린 Daglo 호출 중 중복 제출 방지)
+ * - 수용 정책: 최대 스레드 + 큐가 모두 차면 AbortPolicy 거절을 받아 제출 포기,
+ *   작업은 폴링 ZSet에 남아 있으므로 다음 주기에 재시도
+ * - 메트릭: stt.executor.in-flight / stt.executor.queued (gauge), stt.executor.rejected (counter)
+ */
+@Slf4j
+@Component
+public class SttJobDispatcher {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter rejectedCounter;
+
+    public SttJobDispatcher(@Qualifier("sttTaskExecutor") ThreadPoolTaskExecutor sttTaskExecutor,
+                            MeterRegistry meterRegistry) {
+        this.executor = sttTaskExecutor;
+        Gauge.builder("stt.executor.in-flight", inFlight, Set::size)
+                .description("Queued or running STT polling jobs")
+                .register(meterRegistry);
+        Gauge.builder("stt.executor.queued", sttTaskExecutor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("STT polling jobs waiting in the executor queue")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("stt.executor.rejected")
+                .description("STT polling jobs not admitted because the executor was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 제출되었으면 true, 이미 in-flight이거나 수용 거절이면 false
+     */
+    public boolean dispatch(Long sttId, Runnable job) {
+        if (!inFlight.add(sttId)) {
+            log.debug("STT job {} is already in flight. Skipping.", sttId);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    job.run();
+                } catch (Exception e) {
+                    log.error("STT job {} failed on sttTaskExecutor", sttId, e);
+                } finally {
+                    inFlight.remove(sttId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            reject(sttId);
+            return false;
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private void reject(Long sttId) {
+        inFlight.remove(sttId);
+        rejectedCounter.increment();
+        log.warn("sttTaskExecutor saturated. STT job {} deferred to next polling round.", sttId);
+    }
+}
@@ -7,18 +7,22 @@ import com.codehows.daehobe.stt.dto.STTDto;
 import com.codehows.daehobe.stt.dto.SttSummaryResult;
 import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
 import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
 import com.codehows.daehobe.stt.repository.STTRepository;
 import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
 import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.provider.SttStatusCallBudget;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.net.URI;
@@ -26,6 +30,9 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Optional;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_LEASE_POLLING_PREFIX;
 
 @Slf4j
 @Service
@@ -33,84 +40,144 @@ import java.time.Duration;
 public class SttJobProcessor {
 
     private final STTRepository sttRepository;
-    @Qualifier("dagloSttProvider")
+    @Qualifier("sttProviderRouter")
     private final SttProvider sttProvider;
     private final SttCacheService sttCacheService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SttUpdatePublisher sttUpdatePublisher;
+    private final SttPollingBackoff pollingBackoff;
+    private final SttJobLeaseService sttJobLeaseService;
+    private final SttDedupService sttDedupService;
+    private final SttSegmentedTranscriber sttSegmentedTranscriber;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${stt.polling.max-attempts:150}")
     private int maxAttempts;
 
-    @Async(value = "sttTaskExecutor")
-    @Transactional
+    @Value("${stt.lease.polling-ttl-ms:60000}")
+    private long pollingLeaseTtlMs;
+
+    // sttTaskExecutor 제출은 SttJobDispatcher가 담당 (in-flight 중복 방지 + 수용 정책)
+    // 트랜잭션 없음: 프로바이더 호출 동안 DB 커넥션을 잡지 않고, 최종 저장만 짧은 트랜잭션으로 (saveCompleted)
     public void processSingleSttJob(Long sttId) {
+        processSingleSttJob(sttId, SttStatusCallBudget.NONE);
+    }
+
+    // extraStatusCalls: 구간 전사 작업이 두 번째 구간부터 쓰는 이번 주기 공용 상태 조회 예산 (SttPollingScheduler가 나눠 줌)
+    public void processSingleSttJob(Long sttId, SttStatusCallBudget extraStatusCalls) {
+        runLeased(sttId, STT.Status.PROCESSING, () -> pollTranscription(sttId, extraStatusCalls));
+    }
+
+    public void processSingleSummaryJob(Long sttId) {
+        runLeased(sttId, STT.Status.SUMMARIZING, () -> pollSummary(sttId));
+    }
+
+    // 여러 인스턴스가 같은 작업을 받아도 lease를 선점한 한 곳만 처리
+    // 선점 후 예정 시각을 재확인해 이번 주기에 이미 처리된 작업은 건너뜀
+    private void runLeased(Long sttId, STT.Status status, Runnable job) {
+        if (!sttJobLeaseService.tryAcquire(STT_LEASE_POLLING_PREFIX, sttId, Duration.ofMillis(pollingLeaseTtlMs))) {
+            log.debug("STT job {} is leased by another worker. Skipping.", sttId);
+            return;
+        }
+        try {
+            if (!sttCacheService.isPollingDue(sttId, status)) {
+                log.debug("STT job {} was already polled this round. Skipping.", sttId);
+                return;
+            }
+            job.run();
+        } finally {
+            sttJobLeaseService.release(STT_LEASE_POLLING_PREFIX, sttId);
+        }
+    }
+
+    private void pollTranscription(Long sttId, SttStatusCallBudget extraStatusCalls) {
         STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
 
         if (cachedStatus == null) {
             log.warn("STT job {} not found in cache. Skipping.", sttId);
+            sttCacheService.removeFromPollingSet(sttId, STT.Status.PROCESSING);
+            return;
+        }
+
+        // 같은 내용을 전사 중인 다른 작업의 결과를 기다리는 대기 작업 (rid 없음)
+        if (cachedStatus.getStatus() == STT.Status.PROCESSING && cachedStatus.getRid() == null
+                && cachedStatus.getContentHash() != null) {
+            pollDedupResult(sttId, cachedStatus);
             return;
         }
 
         if(cachedStatus.getStatus() != STT.Status.PROCESSING || cachedStatus.getRid() == null) {
             log.warn("STT job {} is not in PROCESSING state. Skipping.", sttId);
+            sttCacheService.removeFromPollingSet(sttId, STT.Status.PROCESSING);
             return;
         }
 
         try {
-            SttTranscriptionResult result = sttProvider.checkTranscriptionStatus(cachedStatus.getRid());
+            // 구간 전사(rid "seg:")는 구간별 조회 후 진행률/본문을 합쳐서 반환
+            SttTranscriptionResult result = SttSegmentedTranscriber.isSegmented(cachedStatus.getRid())
+                    ? sttSegmentedTranscriber.checkTranscriptionStatus(cachedStatus.getRid(), extraStatusCalls)
+                    : sttProvider.checkTranscriptionStatus(cachedStatus.getRid());
 
             if (result == null) {
                 log.error("STT status check for rid {} returned null", cachedStatus.getRid());
                 throw new RuntimeException("STT status check returned null");
             }
 
+            String previousContent = cachedStatus.getContent();
             cachedStatus.updateContent(result.getContent());
             cachedStatus.updateProgress(result.getProgress());
-            sttCacheService.cacheSttStatus(cachedStatus);
-            messagingTemplate.convertAndSend("/topic/stt/updates/" + cachedStatus.getMeetingId(), cachedStatus);
 
             if (result.isCompleted()) {
                 log.info("STT {} completed, transitioning to SUMMARIZING", sttId);
-
+                sttJobLeaseService.renew(STT_LEASE_POLLING_PREFIX, sttId, Duration.ofMillis(pollingLeaseTtlMs));
                 String summaryRid = sttProvider.requestSummary(result.getContent());
 
                 cachedStatus.updateStatus(STT.Status.SUMMARIZING);
                 cachedStatus.updateSummaryRid(summaryRid);
                 cachedStatus.updateRetryCount(0);
-                sttCacheService.cacheSttStatus(cachedStatus);
-                messagingTemplate.convertAndSend("/topic/stt/updates/" + cachedStatus.getMeetingId(), cachedStatus);
 
-                // Redis-only: polling set 전환 (DB 저장 제거)
-                sttCacheService.removeFromPollingSet(sttId, STT.Status.PROCESSING);
-                sttCacheService.addToPollingSet(sttId, STT.Status.SUMMARIZING);
-                sttCacheService.resetRetryCount(sttId);
+                // Redis-only: 상태/전사 본문 기록 + polling set 전환 + retry 초기화를 한 번에 (DB 저장 제거)
+                // 요약은 요청 직후 완료되지 않으므로 base 간격 뒤 첫 폴링
+                sttUpdatePublisher.publishTransition(cachedStatus, () -> sttCacheService.transitionStatus(
+                        cachedStatus, STT.Status.PROCESSING, pollingBackoff.getBaseDelayMs()));
             } else {
-                log.info("STT {} is still in progress ({}%). Will retry.", sttId, result.getProgress());
+                // 진행 중: 전체 DTO 대신 추가된 전사 텍스트만 전송
+                sttUpdatePublisher.publishProgress(cachedStatus, previousContent);
+                sttCacheService.cacheSttStatus(cachedStatus);
+
                 int retryCount = sttCacheService.incrementRetryCount(sttId);
                 if (retryCount >= maxAttempts) {
                     handleMaxRetryExceeded(sttId, STT.Status.PROCESSING);
+                } else {
+                    long delayMs = pollingBackoff.nextDelayMs(result.getProgress(), retryCount);
+                    log.info("STT {} is still in progress ({}%). Next poll in {} ms.", sttId, result.getProgress(), delayMs);
+                    sttCacheService.schedulePolling(sttId, STT.Status.PROCESSING, delayMs);
                 }
             }
+        } catch (SttRateLimitedException e) {
+            log.info("Daglo API rate limited for sttId {}. Next poll in {} ms.", sttId, e.getRetryAfter().toMillis());
+            rescheduleAfterThrottle(sttId, STT.Status.PROCESSING, e.getRetryAfter());
         } catch (Exception e) {
             log.error("Failed to process STT job for sttId: {}", sttId, e);
             if (isUnrecoverableError(e)) {
                 handleMaxRetryExceeded(sttId, STT.Status.PROCESSING);
+            } else {
+                rescheduleAfterError(sttId, STT.Status.PROCESSING);
             }
         }
     }
 
-    @Async(value = "sttTaskExecutor")
-    @Transactional
-    public void processSingleSummaryJob(Long sttId) {
+    private void pollSummary(Long sttId) {
         STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
 
         if (cachedStatus == null) {
             log.warn("STT summary job {} not found in cache. Skipping.", sttId);
+            sttCacheService.removeFromPollingSet(sttId, STT.Status.SUMMARIZING);
             return;
         }
 
         if (cachedStatus.getStatus() != STT.Status.SUMMARIZING || cachedStatus.getSummaryRid() == null) {
             log.warn("STT summary job {} is not in SUMMARIZING state. Skipping.", sttId);
+            sttCacheService.removeFromPollingSet(sttId, STT.Status.SUMMARIZING);
             return;
         }
 
@@ -124,47 +191,130 @@ public class SttJobProcessor {
 
             cachedStatus.updateSummary(result.getSummaryText());
             cachedStatus.updateProgress(result.getProgress());
-            sttCacheService.cacheSttStatus(cachedStatus);
-            messagingTemplate.convertAndSend("/topic/stt/updates/" + cachedStatus.getMeetingId(), cachedStatus);
 
             if (result.isCompleted()) {
                 log.info("Summary for sttId {} completed", sttId);
                 cachedStatus.updateStatus(STT.Status.COMPLETED);
-                sttCacheService.cacheSttStatus(cachedStatus);
-                messagingTemplate.convertAndSend("/topic/stt/updates/" + cachedStatus.getMeetingId(), cachedStatus);
 
-                // polling set에서 제거 및 retry count 정리
-                sttCacheService.removeFromPollingSet(sttId, STT.Status.SUMMARIZING);
-                sttCacheService.resetRetryCount(sttId);
+                // 상태 기록 + polling set 제거 + retry 초기화 (이미 다른 워커가 전이했으면 중단)
+                if (!sttUpdatePublisher.publishTransition(cachedStatus, () -> sttCacheService.transitionStatus(
+                        cachedStatus, STT.Status.SUMMARIZING, 0))) {
+                    return;
+                }
 
                 // COMPLETED에서 최종 DB 저장
-                STT stt = sttRepository.findById(sttId).orElseThrow(EntityNotFoundException::new);
-                stt.updateFromDto(cachedStatus);
-                sttRepository.save(stt);
+                saveCompleted(sttId, cachedStatus);
+
+                // 같은 오디오 재업로드 시 재사용 + 대기 중인 요청 완료
+                sttDedupService.recordCompleted(cachedStatus.getContentHash(), cachedStatus.getRid(),
+                        cachedStatus.getContent(), cachedStatus.getSummary());
             } else {
-                log.info("STT summary {} is still in progress ({}%). Will retry.", sttId, result.getProgress());
+                // 요약 진행 중: 전사 텍스트는 그대로이므로 상태/진행률만 전송
+                sttUpdatePublisher.publishProgress(cachedStatus, cachedStatus.getContent());
+                sttCacheService.cacheSttStatus(cachedStatus);
+
                 int retryCount = sttCacheService.incrementRetryCount(sttId);
                 if (retryCount >= maxAttempts) {
                     handleMaxRetryExceeded(sttId, STT.Status.SUMMARIZING);
+                } else {
+                    long delayMs = pollingBackoff.nextDelayMs(result.getProgress(), retryCount);
+                    log.info("STT summary {} is still in progress ({}%). Next poll in {} ms.", sttId, result.getProgress(), delayMs);
+                    sttCacheService.schedulePolling(sttId, STT.Status.SUMMARIZING, delayMs);
                 }
             }
+        } catch (SttRateLimitedException e) {
+            log.info("Daglo API rate limited for sttId {}. Next poll in {} ms.", sttId, e.getRetryAfter().toMillis());
+            rescheduleAfterThrottle(sttId, STT.Status.SUMMARIZING, e.getRetryAfter());
         } catch (Exception e) {
             log.error("Failed to process summary job for sttId: {}", sttId, e);
             if (isUnrecoverableError(e)) {
                 handleMaxRetryExceeded(sttId, STT.Status.SUMMARIZING);
+            } else {
+                rescheduleAfterError(sttId, STT.Status.SUMMARIZING);
             }
         }
     }
 
+    // 완료 인덱스가 채워졌으면 결과 복사, 선점이 살아 있으면 다시 대기, 선점이 사라졌으면(선행 작업 실패) ENCODED로 롤백
+    private void pollDedupResult(Long sttId, STTDto cachedStatus) {
+        String contentHash = cachedStatus.getContentHash();
+        Optional<SttDedupService.DedupEntry> completed = sttDedupService.findCompleted(contentHash);
+        if (completed.isPresent()) {
+            log.info("STT {} completed from identical transcription (hash {})", sttId, contentHash);
+            cachedStatus.updateContent(completed.get().content());
+            cachedStatus.updateSummary(completed.get().summary());
+            cachedStatus.updateProgress(100);
+            cachedStatus.updateStatus(STT.Status.COMPLETED);
+            if (!sttUpdatePublisher.publishTransition(cachedStatus, () -> sttCacheService.transitionStatus(
+                    cachedStatus, STT.Status.PROCESSING, 0))) {
+                return;
+            }
+
+            saveCompleted(sttId, cachedStatus);
+            return;
+        }
+
+        if (!sttDedupService.isInFlight(contentHash)) {
+            log.warn("Identical transcription for STT {} is no longer in flight. Rolling back.", sttId);
+            handleMaxRetryExceeded(sttId, STT.Status.PROCESSING);
+            return;
+        }
+
+        int retryCount = sttCacheService.incrementRetryCount(sttId);
+        if (retryCount >= maxAttempts) {
+            handleMaxRetryExceeded(sttId, STT.Status.PROCESSING);
+        } else {
+            sttCacheService.schedulePolling(sttId, STT.Status.PROCESSING, pollingBackoff.getBaseDelayMs());
+        }
+    }
+
+    // 조회 + 저장만 감싸는 짧은 트랜잭션 (커넥션은 이 구간에서만 점유)
+    private void saveCompleted(Long sttId, STTDto completedStatus) {
+        transactionTemplate.executeWithoutResult(status -> {
+            STT stt = sttRepository.findById(sttId).orElseThrow(EntityNotFoundException::new);
+            stt.updateFromDto(completedStatus);
+            sttRepository.save(stt);
+        });
+    }
+
+    // 일시적 오류: base 간격 뒤 재시도 (Redis 장애 시 재예약 실패는 stale 정리에 맡김)
+    private void rescheduleAfterError(Long sttId, STT.Status currentStatus) {
+        try {
+            sttCacheService.schedulePolling(sttId, currentStatus, pollingBackoff.getBaseDelayMs());
+        } catch (Exception ex) {
+            log.warn("Failed to reschedule STT {} after error: {}", sttId, ex.getMessage());
+        }
+    }
+
+    // 호출 한도 초과: 재시도 횟수를 늘리지 않고 허용 시각 이후로 재예약
+    private void rescheduleAfterThrottle(Long sttId, STT.Status currentStatus, Duration retryAfter) {
+        try {
+            sttCacheService.schedulePolling(sttId, currentStatus,
+                    Math.max(pollingBackoff.getBaseDelayMs(), retryAfter.toMillis()));
+        } catch (Exception ex) {
+            log.warn("Failed to reschedule STT {} after rate limit: {}", sttId, ex.getMessage());
+        }
+    }
+
     private void handleMaxRetryExceeded(Long sttId, STT.Status currentStatus) {
         log.warn("Max retry attempts exceeded for STT {}. Removing from polling set.", sttId);
-        sttCacheService.removeFromPollingSet(sttId, currentStatus);
-        sttCacheService.resetRetryCount(sttId);
 
-        STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
-        if (cachedStatus != null) {
-            cachedStatus.updateStatus(STT.Status.ENCODED); // ENCODED로 롤백 (사용자 재시도 가능)
-            sttCacheService.cacheSttStatus(cachedStatus);
+        STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId, false);
+        if (cachedStatus == null || cachedStatus.getStatus() != currentStatus) {
+            sttCacheService.removeFromPollingSet(sttId, currentStatus);
+            sttCacheService.resetRetryCount(sttId);
+            return;
+        }
+
+        // 직접 전사하던 작업(rid 보유)이면 선점 해제 → 대기 중인 동일 요청도 롤백
+        if (cachedStatus.getRid() != null) {
+            sttDedupService.release(cachedStatus.getContentHash());
+        }
+        // ENCODED로 롤백 (사용자 재시도 가능), polling set 제거 + retry 초기화
+        cachedStatus.updateStatus(STT.Status.ENCODED);
+        if (!sttCacheService.transitionStatus(cachedStatus, currentStatus, 0)) {
+            sttCacheService.removeFromPollingSet(sttId, currentStatus);
+            sttCacheService.resetRetryCount(sttId);
         }
     }
 
@@ -0,0 +1,31 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * STT 폴링 다음 예정 시각 계산
+ * - 재시도 횟수에 따라 지수적으로 간격 증가 (base * 2^retry, 상한 max)
+ * - 진행률이 높을수록 남은 비율만큼 간격 축소 (하한 base) → 완료 직전 작업은 빠르게 확인
+ */
+@Component
+@Getter
+public class SttPollingBackoff {
+
+    private static final int MAX_SHIFT = 10;
+
+    @Value("${stt.polling.base-delay-ms:2000}")
+    private long baseDelayMs;
+
+    @Value("${stt.polling.max-delay-ms:30000}")
+    private long maxDelayMs;
+
+    public long nextDelayMs(Integer progress, int retryCount) {
+        long exponential = Math.min(baseDelayMs << Math.min(Math.max(retryCount, 0), MAX_SHIFT), maxDelayMs);
+        int clampedProgress = progress == null ? 0 : Math.min(Math.max(progress, 0), 100);
+        double remainingRatio = (100 - clampedProgress) / 100.0;
+
+        return Math.max((long) (exponential * remainingRatio), baseDelayMs);
+    }
+}
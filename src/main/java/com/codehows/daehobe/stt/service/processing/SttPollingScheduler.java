@@ -1,18 +1,21 @@
 package com.codehows.daehobe.stt.service.processing;
 
-import com.codehows.daehobe.stt.constant.SttRedisKeys;
 import com.codehows.daehobe.stt.dto.STTDto;
 import com.codehows.daehobe.stt.entity.STT;
 import com.codehows.daehobe.stt.repository.STTRepository;
 import com.codehows.daehobe.stt.service.STTService;
 import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.provider.SttStatusCallBudget;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Set;
 
 @Component
@@ -22,45 +25,90 @@ public class SttPollingScheduler {
 
     private final STTRepository sttRepository;
     private final SttJobProcessor sttJobProcessor;
+    private final SttJobDispatcher sttJobDispatcher;
     private final SttCacheService sttCacheService;
     private final STTService sttService;
-    private final StringRedisTemplate redisTemplate;
+    private final SttRecordingDeadlineService sttRecordingDeadlineService;
+    @Qualifier("sttProviderRouter")
+    private final SttProvider sttProvider;
 
     @Value("${stt.recording.orphan-threshold-hours:3}")
     private long orphanThresholdHours;
 
+    @Value("${stt.polling.batch-size:50}")
+    private int batchSize;
+
+    @Value("${stt.recording.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
     @Scheduled(fixedDelayString = "${stt.polling.interval-ms:2000}")
     public void pollProcessingTasks() {
-        Set<Long> taskIds = getTaskIdsWithFallback(STT.Status.PROCESSING);
+        int available = sttProvider.availableStatusCalls();
+        Set<Long> taskIds = getTaskIdsWithFallback(STT.Status.PROCESSING, available);
+        // 꺼낸 작업마다 1회씩 쓰고 남은 호출 수: 구간 전사 작업의 추가 구간 조회가 나눠 씀
+        SttStatusCallBudget extraStatusCalls = SttStatusCallBudget.of(available - taskIds.size());
 
         for (Long sttId : taskIds) {
-            sttJobProcessor.processSingleSttJob(sttId);
+            try {
+                sttJobDispatcher.dispatch(sttId, () -> sttJobProcessor.processSingleSttJob(sttId, extraStatusCalls));
+            } catch (Exception e) {
+                log.error("Failed to dispatch STT job {}. Continuing.", sttId, e);
+            }
         }
     }
 
     @Scheduled(fixedDelayString = "${stt.polling.interval-ms:2000}")
     public void pollSummarizingTasks() {
-        Set<Long> taskIds = getTaskIdsWithFallback(STT.Status.SUMMARIZING);
+        Set<Long> taskIds = getTaskIdsWithFallback(STT.Status.SUMMARIZING, sttProvider.availableStatusCalls());
 
         for (Long sttId : taskIds) {
-            sttJobProcessor.processSingleSummaryJob(sttId);
+            try {
+                sttJobDispatcher.dispatch(sttId, () -> sttJobProcessor.processSingleSummaryJob(sttId));
+            } catch (Exception e) {
+                log.error("Failed to dispatch STT summary job {}. Continuing.", sttId, e);
+            }
+        }
+    }
+
+    // 마감이 지난 녹음만 가져와 복구 (비용 O(만료 건수)), 가져가는 순간 ZSet에서 빠지므로 인스턴스 간 중복 없음
+    @Scheduled(fixedDelayString = "${stt.recording.sweep-interval-ms:5000}")
+    public void sweepExpiredRecordings() {
+        List<Long> expiredIds;
+        try {
+            expiredIds = sttRecordingDeadlineService.claimExpired(sweepBatchSize);
+        } catch (Exception e) {
+            log.warn("[Sweeper] Failed to claim expired recordings: {}", e.getMessage());
+            return;
+        }
+        for (Long sttId : expiredIds) {
+            try {
+                log.warn("[Sweeper] Recording deadline passed for sttId={}. Triggering recovery.", sttId);
+                sttService.handleAbnormalTermination(sttId);
+            } catch (Exception e) {
+                log.error("[Sweeper] Error recovering sttId={}. Continuing.", sttId, e);
+            }
         }
     }
 
+    // 2차 안전망: DB상 RECORDING인데 마감 ZSet에 없는 세션 (Redis 재시작, 스윕 후 복구 실패 등)
     @Scheduled(fixedDelayString = "${stt.recording.safety-net-interval-ms:60000}")
     public void scanOrphanedRecordingTasks() {
         Set<Long> recordingIds = sttRepository.findIdsByStatus(STT.Status.RECORDING);
-        for (Long sttId : recordingIds) {
+        List<Long> untrackedIds;
+        try {
+            untrackedIds = sttRecordingDeadlineService.findUntracked(recordingIds);
+        } catch (Exception e) {
+            log.warn("[SafetyNet] Failed to read recording deadlines: {}", e.getMessage());
+            return;
+        }
+        for (Long sttId : untrackedIds) {
             try {
-                String heartbeatKey = SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX + sttId;
-                if (Boolean.TRUE.equals(redisTemplate.hasKey(heartbeatKey))) continue; // 정상 진행 중
-
-                STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
+                STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId, false);
                 if (cachedStatus != null) {
-                    // Redis 정상: heartbeat만 없는 실제 고아
+                    // Redis 정상: 마감만 빠진 세션 → 마감을 다시 걸어 살아 있으면 청크가 연장, 아니면 스위퍼가 복구
                     if (cachedStatus.getStatus() == STT.Status.RECORDING) {
-                        log.warn("[SafetyNet] Confirmed orphan sttId={}. Triggering recovery.", sttId);
-                        sttService.handleAbnormalTermination(sttId);
+                        log.warn("[SafetyNet] Untracked recording sttId={}. Re-arming deadline.", sttId);
+                        sttRecordingDeadlineService.register(sttId);
                     }
                 } else {
                     // 캐시도 없음: Redis 재시작 후 키 소실 가능성
@@ -73,8 +121,15 @@ public class SttPollingScheduler {
         }
     }
 
-    private Set<Long> getTaskIdsWithFallback(STT.Status status) {
-        Set<Long> taskIds = sttCacheService.getPollingTaskIds(status);
+    // 예정 시각이 도래한 작업만 조회, 다음 예정 시각은 SttJobProcessor가 진행률/재시도 기반으로 재예약
+    // 이번 주기에 쓸 수 있는 상태 조회 호출 수만큼만 꺼냄 → 남은 작업은 예정 시각이 유지되어 다음 주기에 처리
+    private Set<Long> getTaskIdsWithFallback(STT.Status status, int availableStatusCalls) {
+        int limit = Math.min(batchSize, availableStatusCalls);
+        if (limit <= 0) {
+            log.debug("No status call budget left for {} polling this tick.", status);
+            return Set.of();
+        }
+        Set<Long> taskIds = sttCacheService.getDuePollingTaskIds(status, limit);
 
         if (taskIds.isEmpty() && !sttCacheService.isRedisAvailable()) {
             try {
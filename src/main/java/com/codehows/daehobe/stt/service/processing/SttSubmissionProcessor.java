@@ -0,0 +1,192 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.file.entity.File;
+import com.codehows.daehobe.file.service.FileService;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.audio.SttAudioPreparer;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import com.codehows.daehobe.stt.service.segment.SttLiveTranscriber;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_LEASE_SUBMIT_PREFIX;
+
+/**
+ * 비동기 전사 제출 (sttSubmitExecutor 워커에서 실행)
+ * - 요청은 작업(STT + 파일)만 저장하고 202로 반환, 프로바이더 업로드(rid 발급)는 여기서 트랜잭션 없이 수행
+ * - 제출 대기 상태: PROCESSING + rid/contentHash 없음 (Redis-only)
+ * - 긴 녹음은 SttSegmentedTranscriber가 무음 경계로 나눠 구간별 병렬 요청
+ * - 같은 내용(SHA-256)의 전사가 완료됐으면 결과 재사용, 전사 중이면 그 결과를 기다리는 대기 작업으로 전환
+ * - rid 발급 시 PROCESSING 폴링으로 전이, 상태는 /topic/stt/updates/{meetingId}로 발행
+ * - 실패 시 지수 backoff로 재예약 (429는 Retry-After 이후, 횟수 미포함), 최대 시도 초과 시 ENCODED로 롤백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SttSubmissionProcessor {
+
+    private final STTRepository sttRepository;
+    private final FileService fileService;
+    private final SttCacheService sttCacheService;
+    private final SttUpdatePublisher sttUpdatePublisher;
+    private final SttJobLeaseService sttJobLeaseService;
+    private final SttAudioPreparer sttAudioPreparer;
+    private final SttSegmentedTranscriber sttSegmentedTranscriber;
+    private final SttLiveTranscriber sttLiveTranscriber;
+    private final SttDedupService sttDedupService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.location}")
+    private String fileLocation;
+
+    @Value("${stt.submit.max-attempts:5}")
+    private int maxAttempts;
+
+    // n번째 실패 후 retry-delay-ms * 2^(n-1), 최대 max-retry-delay-ms
+    @Value("${stt.submit.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    @Value("${stt.submit.max-retry-delay-ms:120000}")
+    private long maxRetryDelayMs;
+
+    // 큰 파일 업로드 시간을 덮을 만큼 여유 있게
+    @Value("${stt.lease.submit-ttl-ms:600000}")
+    private long submitLeaseTtlMs;
+
+    public void submit(Long sttId) {
+        if (!sttJobLeaseService.tryAcquire(STT_LEASE_SUBMIT_PREFIX, sttId, Duration.ofMillis(submitLeaseTtlMs))) {
+            log.debug("Submission for STT {} is held by another worker. Skipping.", sttId);
+            return;
+        }
+        try {
+            STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId, false);
+            if (!isAwaitingSubmission(cachedStatus)) {
+                log.warn("STT {} is not awaiting submission. Removing from submit set.", sttId);
+                sttCacheService.removeSubmission(sttId);
+                return;
+            }
+
+            File savedFile = fileService.getSTTFile(sttId);
+            Path filePath = Paths.get(fileLocation, savedFile.getSavedName());
+            String contentHash = sttAudioPreparer.contentHash(filePath);
+            Optional<SttDedupService.DedupEntry> completed = sttDedupService.findCompleted(contentHash);
+            if (completed.isPresent()) {
+                log.info("STT {} reuses completed transcription for content hash {}", sttId, contentHash);
+                completeFromDedup(cachedStatus, contentHash, completed.get());
+                return;
+            }
+
+            cachedStatus.updateContentHash(contentHash);
+            if (!sttDedupService.tryClaim(contentHash)) {
+                // rid 없이 PROCESSING 폴링 → SttJobProcessor가 완료 인덱스를 확인
+                log.info("Identical transcription in flight for STT {} (hash {}). Waiting for it.", sttId, contentHash);
+                transitionToPolling(cachedStatus);
+                return;
+            }
+
+            // 긴 녹음은 구간별 병렬 요청 (rid = "seg:{groupId}"), 실시간 전사 중이던 녹음은 남은 꼬리 구간만
+            String rid;
+            try {
+                rid = sttLiveTranscriber.finish(sttId, filePath)
+                        .orElseGet(() -> sttSegmentedTranscriber.requestTranscription(filePath, String.valueOf(sttId)));
+            } catch (RuntimeException e) {
+                sttDedupService.release(contentHash);
+                throw e;
+            }
+            cachedStatus.updateRid(rid);
+            if (transitionToPolling(cachedStatus)) {
+                sttDedupService.markInFlight(contentHash, sttId);
+                log.info("Submitted STT {} to provider (rid {})", sttId, rid);
+            } else {
+                sttDedupService.release(contentHash);
+            }
+        } catch (SttRateLimitedException e) {
+            long delayMs = Math.max(retryDelayMs, e.getRetryAfter().toMillis());
+            log.info("STT provider rate limited. Submission for STT {} retried in {} ms.", sttId, delayMs);
+            sttCacheService.scheduleSubmission(sttId, delayMs);
+        } catch (Exception e) {
+            handleFailure(sttId, e);
+        } finally {
+            sttJobLeaseService.release(STT_LEASE_SUBMIT_PREFIX, sttId);
+        }
+    }
+
+    private boolean isAwaitingSubmission(STTDto cachedStatus) {
+        return cachedStatus != null
+                && cachedStatus.getStatus() == STT.Status.PROCESSING
+                && cachedStatus.getRid() == null
+                && cachedStatus.getContentHash() == null;
+    }
+
+    // 상태 기록 + polling set 등록 + retry 초기화를 한 번에, 제출 대기 ZSet에서 제거
+    private boolean transitionToPolling(STTDto cachedStatus) {
+        boolean moved = sttUpdatePublisher.publishTransition(cachedStatus, () -> sttCacheService.transitionStatus(
+                cachedStatus, STT.Status.PROCESSING, 0));
+        sttCacheService.removeSubmission(cachedStatus.getId());
+        return moved;
+    }
+
+    private void completeFromDedup(STTDto cachedStatus, String contentHash, SttDedupService.DedupEntry entry) {
+        cachedStatus.updateContentHash(contentHash);
+        cachedStatus.updateContent(entry.content());
+        cachedStatus.updateSummary(entry.summary());
+        cachedStatus.updateProgress(100);
+        cachedStatus.updateStatus(STT.Status.COMPLETED);
+        if (!transitionToPolling(cachedStatus)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            STT stt = sttRepository.findById(cachedStatus.getId()).orElseThrow(EntityNotFoundException::new);
+            stt.updateFromDto(cachedStatus);
+            sttRepository.save(stt);
+        });
+    }
+
+    private void handleFailure(Long sttId, Exception cause) {
+        try {
+            int attempts = sttCacheService.incrementRetryCount(sttId);
+            if (attempts >= maxAttempts || cause instanceof IllegalArgumentException) {
+                log.error("Submission for STT {} failed {} times. Rolling back to ENCODED.", sttId, attempts, cause);
+                rollback(sttId);
+                return;
+            }
+            long delayMs = Math.min(maxRetryDelayMs, retryDelayMs << Math.min(attempts - 1, 20));
+            log.error("Failed to submit STT {} (attempt {}/{}). Retrying in {}ms.",
+                    sttId, attempts, maxAttempts, delayMs, cause);
+            sttCacheService.scheduleSubmission(sttId, delayMs);
+        } catch (Exception e) {
+            log.error("Failed to reschedule submission for STT {}", sttId, e);
+        }
+    }
+
+    // ENCODED로 롤백 (사용자 재시도 가능), retry 초기화
+    private void rollback(Long sttId) {
+        sttCacheService.removeSubmission(sttId);
+        STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId, false);
+        if (!isAwaitingSubmission(cachedStatus)) {
+            sttCacheService.resetRetryCount(sttId);
+            return;
+        }
+        cachedStatus.updateStatus(STT.Status.ENCODED);
+        if (!sttUpdatePublisher.publishTransition(cachedStatus, () -> sttCacheService.transitionStatus(
+                cachedStatus, STT.Status.PROCESSING, 0))) {
+            sttCacheService.resetRetryCount(sttId);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비동기 전사 제출 큐
+ * - 요청 스레드는 제출 대기 ZSet(stt:submit:pending) 등록 후 즉시 반환, 프로바이더 업로드는 sttSubmitExecutor 워커가 수행
+ * - 풀 포화/인스턴스 종료로 유실된 작업과 재시도 예약된 작업은 ZSet에 남아 있다가 예정 시각에 재제출
+ * - 메트릭: stt.submit.in-flight (gauge), stt.submit.rejected (counter)
+ */
+@Slf4j
+@Component
+public class SttSubmissionQueue {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final SttSubmissionProcessor sttSubmissionProcessor;
+    private final SttCacheService sttCacheService;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter rejectedCounter;
+
+    // 제출 후 이 시간이 지나도 ZSet에 남아 있으면 유실로 보고 재제출 (업로드 중이면 lease가 중복 실행을 막음)
+    @Value("${stt.submit.redispatch-delay-ms:120000}")
+    private long redispatchDelayMs;
+
+    @Value("${stt.polling.batch-size:50}")
+    private int batchSize;
+
+    public SttSubmissionQueue(@Qualifier("sttSubmitExecutor") ThreadPoolTaskExecutor sttSubmitExecutor,
+                              SttSubmissionProcessor sttSubmissionProcessor,
+                              SttCacheService sttCacheService,
+                              MeterRegistry meterRegistry) {
+        this.executor = sttSubmitExecutor;
+        this.sttSubmissionProcessor = sttSubmissionProcessor;
+        this.sttCacheService = sttCacheService;
+        Gauge.builder("stt.submit.in-flight", inFlight, Set::size)
+                .description("Queued or running asynchronous STT submissions")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("stt.submit.rejected")
+                .description("STT submissions not admitted because the executor was saturated")
+                .register(meterRegistry);
+    }
+
+    public void submit(Long sttId) {
+        sttCacheService.scheduleSubmission(sttId, redispatchDelayMs);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(sttId);
+                }
+            });
+        } else {
+            dispatch(sttId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stt.submit.resubmit-interval-ms:5000}")
+    public void resubmitPending() {
+        for (Long sttId : sttCacheService.getDueSubmissionIds(batchSize)) {
+            log.info("Resubmitting pending STT submission {}", sttId);
+            sttCacheService.scheduleSubmission(sttId, redispatchDelayMs);
+            dispatch(sttId);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private void dispatch(Long sttId) {
+        if (!inFlight.add(sttId)) {
+            log.debug("STT submission {} is already in flight. Skipping.", sttId);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    sttSubmissionProcessor.submit(sttId);
+                } finally {
+                    inFlight.remove(sttId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(sttId);
+            rejectedCounter.increment();
+            log.warn("sttSubmitExecutor saturated. STT submission {} will be resubmitted later.", sttId);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.stt.service.provider.DagloRateLimiter.Budget;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Daglo API 호출 종류 (bulkhead/timeout/서킷 브레이커 단위)
+ * resilience4j 인스턴스 이름 = "daglo-" + key → Prometheus name 태그
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DagloOperation {
+    TRANSCRIBE("transcribe", Budget.SUBMIT),
+    TRANSCRIPTION_STATUS("transcription-status", Budget.STATUS),
+    SUMMARIZE("summarize", Budget.SUBMIT),
+    SUMMARY_STATUS("summary-status", Budget.STATUS);
+
+    private final String key;
+    // 호출 한도 예산 (DagloRateLimiter)
+    private final Budget budget;
+
+    public String instanceName() {
+        return "daglo-" + key;
+    }
+}
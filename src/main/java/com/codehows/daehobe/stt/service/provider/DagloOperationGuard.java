@@ -0,0 +1,92 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.config.Daglo.DagloProperties;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Daglo API 호출 종류별 격리 (DagloOperation 단위)
+ * - bulkhead: 종류별 동시 호출 수 제한, 넘으면 기다리지 않고 SttRateLimitedException → 느린 요약이 상태 조회 스레드를 잡지 않음
+ * - timeout: 종류별 read timeout을 가진 RestClient (HttpClient 연결 풀은 공유)
+ * - 서킷 브레이커: 종류별 인스턴스 → 요약 API 장애가 전사 상태 조회를 막지 않음
+ * - bulkhead가 바깥: 동시 호출 초과 거절은 브레이커 실패율에 들어가지 않음
+ * - 메트릭: resilience4j.bulkhead.*, resilience4j.circuitbreaker.* {name=daglo-<operation>} (Resilience4jConfig에서 등록)
+ */
+@Slf4j
+@Component
+public class DagloOperationGuard {
+
+    private final Map<DagloOperation, Guard> guards = new EnumMap<>(DagloOperation.class);
+
+    public DagloOperationGuard(RestClient dagloRestClient,
+                               HttpClient dagloHttpClient,
+                               DagloProperties dagloProperties,
+                               CircuitBreakerRegistry circuitBreakerRegistry,
+                               BulkheadRegistry bulkheadRegistry) {
+        for (DagloOperation operation : DagloOperation.values()) {
+            DagloProperties.Isolation isolation = isolation(dagloProperties, operation);
+            Duration timeout = isolation.getTimeout() != null
+                    ? isolation.getTimeout()
+                    : Duration.ofSeconds(dagloProperties.getTimeout());
+
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(dagloHttpClient);
+            requestFactory.setReadTimeout(timeout);
+            RestClient restClient = dagloRestClient.mutate().requestFactory(requestFactory).build();
+
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(operation.instanceName(), BulkheadConfig.custom()
+                    .maxConcurrentCalls(isolation.getMaxConcurrentCalls())
+                    .maxWaitDuration(Duration.ZERO)
+                    .build());
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(operation.instanceName());
+
+            guards.put(operation, new Guard(restClient, bulkhead, circuitBreaker));
+            log.info("Daglo {} guard: maxConcurrentCalls={}, timeout={}",
+                    operation.getKey(), isolation.getMaxConcurrentCalls(), timeout);
+        }
+    }
+
+    /**
+     * bulkhead → 서킷 브레이커 순으로 감싸 호출
+     * 브레이커가 열려 있으면 CallNotPermittedException, 동시 호출 초과면 SttRateLimitedException
+     */
+    public <T> T execute(DagloOperation operation, Function<RestClient, T> call) {
+        Guard guard = guards.get(operation);
+        try {
+            return guard.bulkhead.executeSupplier(
+                    () -> guard.circuitBreaker.executeSupplier(() -> call.apply(guard.restClient)));
+        } catch (BulkheadFullException e) {
+            throw new SttRateLimitedException("Daglo " + operation.getKey() + " 동시 호출 한도 초과", Duration.ZERO);
+        }
+    }
+
+    CircuitBreaker circuitBreaker(DagloOperation operation) {
+        return guards.get(operation).circuitBreaker;
+    }
+
+    private static DagloProperties.Isolation isolation(DagloProperties properties, DagloOperation operation) {
+        return switch (operation) {
+            case TRANSCRIBE -> properties.getTranscribe();
+            case TRANSCRIPTION_STATUS -> properties.getTranscriptionStatus();
+            case SUMMARIZE -> properties.getSummarize();
+            case SUMMARY_STATUS -> properties.getSummaryStatus();
+        };
+    }
+
+    private record Guard(RestClient restClient, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Daglo API 클라이언트 측 호출 한도 (인스턴스 로컬 토큰 버킷)
+ * - 예산 분리: SUBMIT(전사/요약 요청), STATUS(전사/요약 상태 조회) → 폴링 폭주가 신규 요청을 막지 않음
+ * - 429 응답의 Retry-After(초 또는 HTTP-date) 동안 모든 예산 보류 (같은 계정 한도를 공유하므로)
+ *   · 보류가 풀린 직후 burst가 한꺼번에 나가지 않도록 버킷을 비운 채 다시 채움
+ * - 폴링 스케줄러는 availablePermits(STATUS)만큼만 작업을 꺼내 한도를 넘는 호출 자체를 만들지 않음
+ * - 인스턴스별 한도이므로 계정 한도를 인스턴스 수로 나눠 설정, 초당 허용량 0 이하면 해당 예산 제한 없음
+ * - 메트릭: stt.provider.rate-limit.rejected{budget=submit|status}, stt.provider.rate-limit.throttled
+ */
+@Slf4j
+@Component
+public class DagloRateLimiter {
+
+    public enum Budget {
+        SUBMIT, STATUS
+    }
+
+    private final Map<Budget, Bucket> buckets = new EnumMap<>(Budget.class);
+    private final Map<Budget, Counter> rejectedCounters = new EnumMap<>(Budget.class);
+    private final Counter throttledCounter;
+    // 429 Retry-After 보류 종료 시각 (epoch ms)
+    private final AtomicLong blockedUntil = new AtomicLong();
+
+    @Value("${stt.provider.rate-limit.submit-per-second:2}")
+    private double submitPerSecond;
+
+    @Value("${stt.provider.rate-limit.submit-burst:5}")
+    private int submitBurst;
+
+    @Value("${stt.provider.rate-limit.status-per-second:10}")
+    private double statusPerSecond;
+
+    @Value("${stt.provider.rate-limit.status-burst:20}")
+    private int statusBurst;
+
+    // Retry-After 헤더가 없거나 해석할 수 없을 때 보류 시간
+    @Value("${stt.provider.rate-limit.default-retry-after-ms:5000}")
+    private long defaultRetryAfterMs;
+
+    public DagloRateLimiter(MeterRegistry meterRegistry) {
+        for (Budget budget : Budget.values()) {
+            buckets.put(budget, new Bucket());
+            rejectedCounters.put(budget, Counter.builder("stt.provider.rate-limit.rejected")
+                    .tag("budget", budget.name().toLowerCase())
+                    .description("Daglo API calls held back by the client-side rate limiter")
+                    .register(meterRegistry));
+        }
+        this.throttledCounter = Counter.builder("stt.provider.rate-limit.throttled")
+                .description("Daglo API 429 responses")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(Budget budget) {
+        long now = System.currentTimeMillis();
+        if (now < blockedUntil.get()) {
+            rejectedCounters.get(budget).increment();
+            return false;
+        }
+        double perSecond = perSecond(budget);
+        if (perSecond <= 0) {
+            return true;
+        }
+        Bucket bucket = buckets.get(budget);
+        synchronized (bucket) {
+            bucket.refill(perSecond, burst(budget), now);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return true;
+            }
+        }
+        rejectedCounters.get(budget).increment();
+        return false;
+    }
+
+    // 지금 바로 쓸 수 있는 호출 수 (토큰은 소비하지 않음)
+    public int availablePermits(Budget budget) {
+        long now = System.currentTimeMillis();
+        if (now < blockedUntil.get()) {
+            return 0;
+        }
+        double perSecond = perSecond(budget);
+        if (perSecond <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        Bucket bucket = buckets.get(budget);
+        synchronized (bucket) {
+            bucket.refill(perSecond, burst(budget), now);
+            return (int) bucket.tokens;
+        }
+    }
+
+    // 다음 호출이 허용될 때까지 남은 시간
+    public Duration waitTime(Budget budget) {
+        long now = System.currentTimeMillis();
+        long blockedMs = blockedUntil.get() - now;
+        if (blockedMs > 0) {
+            return Duration.ofMillis(blockedMs);
+        }
+        double perSecond = perSecond(budget);
+        if (perSecond <= 0) {
+            return Duration.ZERO;
+        }
+        Bucket bucket = buckets.get(budget);
+        synchronized (bucket) {
+            bucket.refill(perSecond, burst(budget), now);
+            if (bucket.tokens >= 1) {
+                return Duration.ZERO;
+            }
+            return Duration.ofMillis((long) Math.ceil((1 - bucket.tokens) * 1000 / perSecond));
+        }
+    }
+
+    /**
+     * 429 응답 수신: Retry-After 동안 모든 예산 보류
+     *
+     * @param retryAfterHeader Retry-After 헤더 값 (없으면 null)
+     * @return 보류 시간
+     */
+    public Duration onThrottled(String retryAfterHeader) {
+        Duration retryAfter = parseRetryAfter(retryAfterHeader);
+        long until = System.currentTimeMillis() + retryAfter.toMillis();
+        blockedUntil.accumulateAndGet(until, Math::max);
+        for (Bucket bucket : buckets.values()) {
+            synchronized (bucket) {
+                bucket.tokens = 0;
+                bucket.refilledAt = Math.max(bucket.refilledAt, until);
+            }
+        }
+        throttledCounter.increment();
+        log.warn("Daglo API rate limited. Holding all calls for {} ms", retryAfter.toMillis());
+        return retryAfter;
+    }
+
+    Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return Duration.ofMillis(defaultRetryAfterMs);
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            long at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return Duration.ofMillis(Math.max(0, at - System.currentTimeMillis()));
+        } catch (DateTimeParseException e) {
+            log.warn("Unparseable Retry-After header: {}", trimmed);
+            return Duration.ofMillis(defaultRetryAfterMs);
+        }
+    }
+
+    private double perSecond(Budget budget) {
+        return budget == Budget.SUBMIT ? submitPerSecond : statusPerSecond;
+    }
+
+    private int burst(Budget budget) {
+        return budget == Budget.SUBMIT ? submitBurst : statusBurst;
+    }
+
+    // 모든 접근은 버킷 락 안에서, 처음 사용 시 경과 시간이 커서 burst만큼 채워짐
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private void refill(double perSecond, int burst, long now) {
+            if (now <= refilledAt) {
+                return;
+            }
+            tokens = Math.min(Math.max(burst, 1), tokens + (now - refilledAt) * perSecond / 1000d);
+            refilledAt = now;
+        }
+    }
+}
@@ -1,51 +1,90 @@
 package com.codehows.daehobe.stt.service.provider;
 
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.config.Daglo.DagloProperties;
 import com.codehows.daehobe.stt.dto.STTResponseDto;
 import com.codehows.daehobe.stt.dto.SummaryResponseDto;
 import com.codehows.daehobe.stt.dto.SttSummaryResult;
 import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.service.provider.DagloRateLimiter.Budget;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Map;
 
+/**
+ * Daglo STT/요약 API
+ * - 모든 호출은 DagloRateLimiter 예산을 먼저 확보한 뒤 DagloOperationGuard(종류별 bulkhead/timeout/서킷 브레이커) 안에서 실행
+ * - 한도 초과(예산 소진, 429)는 SttRateLimitedException으로 전파 → 브레이커 실패로 집계하지 않고 호출 측이 retryAfter 뒤 재시도
+ */
 @Slf4j
 @Service("dagloSttProvider")
 public class DagloSttProvider implements SttProvider {
 
-    private final RestClient restClient;
     private final ObjectMapper objectMapper;
-    private final CircuitBreaker circuitBreaker;
+    private final DagloProperties dagloProperties;
+    private final DagloRateLimiter rateLimiter;
+    private final DagloOperationGuard operationGuard;
 
     public DagloSttProvider(
-            RestClient dagloRestClient,
             ObjectMapper objectMapper,
-            @Qualifier("dagloApiCircuitBreaker") CircuitBreaker circuitBreaker) {
-        this.restClient = dagloRestClient;
+            DagloProperties dagloProperties,
+            DagloRateLimiter dagloRateLimiter,
+            DagloOperationGuard dagloOperationGuard) {
         this.objectMapper = objectMapper;
-        this.circuitBreaker = circuitBreaker;
+        this.dagloProperties = dagloProperties;
+        this.rateLimiter = dagloRateLimiter;
+        this.operationGuard = dagloOperationGuard;
+    }
+
+    @Override
+    public String getName() {
+        return "daglo";
+    }
+
+    @Override
+    public AudioProfile getAudioProfile() {
+        return dagloProperties.getAudioProfile();
+    }
+
+    @Override
+    public int availableStatusCalls() {
+        return rateLimiter.availablePermits(Budget.STATUS);
+    }
+
+    @Override
+    public int maxConcurrentTranscriptions() {
+        return dagloProperties.getTranscribe().getMaxConcurrentCalls();
+    }
+
+    @Override
+    public Duration transcriptionWaitTime() {
+        return rateLimiter.waitTime(Budget.SUBMIT);
     }
 
     @Override
     public String requestTranscription(Resource audioFile) {
+        acquire(DagloOperation.TRANSCRIBE);
         try {
-            return circuitBreaker.executeSupplier(() -> {
+            return operationGuard.execute(DagloOperation.TRANSCRIBE, restClient -> {
+                StreamingMultipartBody multipartBody = buildMultipartBody(audioFile);
                 STTResponseDto response = restClient.post()
                         .uri("/stt/v1/async/transcripts")
-                        .contentType(MediaType.MULTIPART_FORM_DATA)
-                        .body(buildMultipartBody(audioFile))
+                        .httpRequest(request -> applyMultipartBody(request, multipartBody))
                         .retrieve()
                         .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
                             throw switch (res.getStatusCode().value()) {
@@ -54,7 +93,7 @@ public class DagloSttProvider implements SttProvider {
                                 case 403 -> new RuntimeException("권한 없음");
                                 case 413 -> new RuntimeException("파일이 너무 큽니다.");
                                 case 415 -> new RuntimeException("지원되지 않는 파일 형식입니다.");
-                                case 429 -> new RuntimeException("요청이 너무 많습니다.");
+                                case 429 -> throttled(res);
                                 default -> new RuntimeException("클라이언트 오류");
                             };
                         })
@@ -71,6 +110,8 @@ public class DagloSttProvider implements SttProvider {
         } catch (CallNotPermittedException e) {
             log.warn("Circuit breaker is open. Daglo API unavailable.");
             throw new RuntimeException("Daglo API temporarily unavailable", e);
+        } catch (SttRateLimitedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Daglo STT 요청 실패", e);
             throw e;
@@ -79,11 +120,15 @@ public class DagloSttProvider implements SttProvider {
 
     @Override
     public SttTranscriptionResult checkTranscriptionStatus(String jobId) {
+        acquire(DagloOperation.TRANSCRIPTION_STATUS);
         try {
-            return circuitBreaker.executeSupplier(() -> {
+            return operationGuard.execute(DagloOperation.TRANSCRIPTION_STATUS, restClient -> {
                 STTResponseDto response = restClient.get()
                         .uri("/stt/v1/async/transcripts/{rid}", jobId)
                         .retrieve()
+                        .onStatus(this::isTooManyRequests, (req, res) -> {
+                            throw throttled(res);
+                        })
                         .body(STTResponseDto.class);
 
                 if (response == null) {
@@ -94,6 +139,8 @@ public class DagloSttProvider implements SttProvider {
         } catch (CallNotPermittedException e) {
             log.warn("Circuit breaker is open for checkTranscriptionStatus. Returning stillProcessing for rid: {}", jobId);
             return SttTranscriptionResult.stillProcessing();
+        } catch (SttRateLimitedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("STT 상태 조회 실패. rid: {}", jobId, e);
             return SttTranscriptionResult.stillProcessing();
@@ -102,13 +149,17 @@ public class DagloSttProvider implements SttProvider {
 
     @Override
     public String requestSummary(String text) {
+        acquire(DagloOperation.SUMMARIZE);
         try {
-            return circuitBreaker.executeSupplier(() -> {
+            return operationGuard.execute(DagloOperation.SUMMARIZE, restClient -> {
                 SummaryResponseDto response = restClient.post()
                         .uri("/nlp/v1/async/minutes")
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(Map.of("text", text))
                         .retrieve()
+                        .onStatus(this::isTooManyRequests, (req, res) -> {
+                            throw throttled(res);
+                        })
                         .body(SummaryResponseDto.class);
 
                 if (response == null || response.getRid() == null) {
@@ -119,6 +170,8 @@ public class DagloSttProvider implements SttProvider {
         } catch (CallNotPermittedException e) {
             log.warn("Circuit breaker is open. Daglo Summary API unavailable.");
             throw new RuntimeException("Daglo Summary API temporarily unavailable", e);
+        } catch (SttRateLimitedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Daglo Summary 요청 실패", e);
             throw e;
@@ -127,11 +180,15 @@ public class DagloSttProvider implements SttProvider {
 
     @Override
     public SttSummaryResult checkSummaryStatus(String jobId) {
+        acquire(DagloOperation.SUMMARY_STATUS);
         try {
-            return circuitBreaker.executeSupplier(() -> {
+            return operationGuard.execute(DagloOperation.SUMMARY_STATUS, restClient -> {
                 SummaryResponseDto response = restClient.get()
                         .uri("/nlp/v1/async/minutes/{rid}", jobId)
                         .retrieve()
+                        .onStatus(this::isTooManyRequests, (req, res) -> {
+                            throw throttled(res);
+                        })
                         .body(SummaryResponseDto.class);
 
                 if (response == null) {
@@ -142,17 +199,45 @@ public class DagloSttProvider implements SttProvider {
         } catch (CallNotPermittedException e) {
             log.warn("Circuit breaker is open for checkSummaryStatus. Returning stillProcessing for rid: {}", jobId);
             return SttSummaryResult.stillProcessing();
+        } catch (SttRateLimitedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Summary 상태 조회 실패. rid: {}", jobId, e);
             return SttSummaryResult.stillProcessing();
         }
     }
 
-    private MultiValueMap<String, HttpEntity<?>> buildMultipartBody(Resource audioFile) {
-        MultipartBodyBuilder builder = new MultipartBodyBuilder();
-        builder.part("file", audioFile);
-        builder.part("sttConfig", toJsonSttConfig());
-        return builder.build();
+    // 예산이 없으면 HTTP 호출 없이 바로 실패 (브레이커 호출 수에도 포함되지 않음)
+    private void acquire(DagloOperation operation) {
+        Budget budget = operation.getBudget();
+        if (!rateLimiter.tryAcquire(budget)) {
+            throw new SttRateLimitedException("Daglo API 호출 한도 초과 (" + budget + ")", rateLimiter.waitTime(budget));
+        }
+    }
+
+    private boolean isTooManyRequests(HttpStatusCode status) {
+        return status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private SttRateLimitedException throttled(ClientHttpResponse res) {
+        Duration retryAfter = rateLimiter.onThrottled(res.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        return new SttRateLimitedException("요청이 너무 많습니다.", retryAfter);
+    }
+
+    // 파일을 메모리에 올리지 않고 디스크에서 스트리밍 전송
+    private StreamingMultipartBody buildMultipartBody(Resource audioFile) {
+        return StreamingMultipartBody.builder()
+                .file("file", audioFile)
+                .text("sttConfig", toJsonSttConfig())
+                .build();
+    }
+
+    private void applyMultipartBody(ClientHttpRequest request, StreamingMultipartBody multipartBody) {
+        try {
+            multipartBody.applyTo(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException("multipart 본문 작성 실패", e);
+        }
     }
 
     private String toJsonSttConfig() {
@@ -0,0 +1,119 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.stt.dto.SttSummaryResult;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 호출 없는 로컬 STT 프로바이더 (라우팅/hedge 오프라인 부하 테스트용, stt.provider.stub.enabled=true)
+ * - 호출마다 latency-ms + [0, latency-jitter-ms) 지연, error-rate 확률로 실패
+ * - rid에 발급 시각을 담아 상태 없이 진행률 계산 (processing-ms 뒤 완료) → 여러 인스턴스/재시작에도 동일 결과
+ */
+@Slf4j
+@Service("stubSttProvider")
+@ConditionalOnProperty(name = "stt.provider.stub.enabled", havingValue = "true")
+public class LocalStubSttProvider implements SttProvider {
+
+    @Value("${stt.provider.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @Value("${stt.provider.stub.latency-jitter-ms:50}")
+    private long latencyJitterMs;
+
+    @Value("${stt.provider.stub.error-rate:0}")
+    private double errorRate;
+
+    @Value("${stt.provider.stub.processing-ms:10000}")
+    private long processingMs;
+
+    // 라우터는 기본 프로바이더와 같은 형식의 프로바이더에만 전사를 보냄
+    @Value("${stt.provider.stub.audio-profile:WAV_16K_MONO}")
+    private AudioProfile audioProfile;
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public AudioProfile getAudioProfile() {
+        return audioProfile;
+    }
+
+    @Override
+    public String requestTranscription(Resource audioFile) {
+        simulateCall();
+        return issueRid();
+    }
+
+    @Override
+    public SttTranscriptionResult checkTranscriptionStatus(String jobId) {
+        simulateCall();
+        int progress = progressOf(jobId);
+        return SttTranscriptionResult.builder()
+                .completed(progress >= 100)
+                .content(progress >= 100 ? "[stub] 전사 결과 " + jobId : "")
+                .progress(progress)
+                .build();
+    }
+
+    @Override
+    public String requestSummary(String text) {
+        simulateCall();
+        return issueRid();
+    }
+
+    @Override
+    public SttSummaryResult checkSummaryStatus(String jobId) {
+        simulateCall();
+        int progress = progressOf(jobId);
+        return SttSummaryResult.builder()
+                .completed(progress >= 100)
+                .summaryText(progress >= 100 ? "[stub] 요약 결과 " + jobId : "")
+                .progress(progress)
+                .build();
+    }
+
+    // "<발급 epoch ms>-<uuid>"
+    private String issueRid() {
+        return System.currentTimeMillis() + "-" + UUID.randomUUID();
+    }
+
+    private int progressOf(String jobId) {
+        int separator = jobId.indexOf('-');
+        long issuedAt;
+        try {
+            issuedAt = Long.parseLong(separator > 0 ? jobId.substring(0, separator) : jobId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown stub rid: " + jobId, e);
+        }
+        if (processingMs <= 0) {
+            return 100;
+        }
+        long elapsed = System.currentTimeMillis() - issuedAt;
+        return (int) Math.clamp(elapsed * 100 / processingMs, 0, 100);
+    }
+
+    private void simulateCall() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMs + (latencyJitterMs > 0 ? random.nextLong(latencyJitterMs) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (random.nextDouble() < errorRate) {
+            throw new RuntimeException("stub provider error");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 파일을 힙에 올리지 않는 multipart/form-data 요청 본문
+ * - 파일 파트는 디스크에서 고정 크기 버퍼(64KB)로 읽어 그대로 출력 스트림에 기록
+ * - 파트 크기를 미리 계산해 Content-Length 지정 → JdkClientHttpRequest가 고정 길이로 스트리밍 전송
+ * - 파일 크기를 알 수 없으면 Content-Length 없이 chunked 전송
+ */
+public final class StreamingMultipartBody implements StreamingHttpOutputMessage.Body {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final String boundary;
+    private final List<Part> parts;
+    private final long contentLength;
+
+    private StreamingMultipartBody(String boundary, List<Part> parts) {
+        this.boundary = boundary;
+        this.parts = parts;
+        this.contentLength = computeContentLength();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public MediaType getContentType() {
+        return new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", boundary));
+    }
+
+    // 알 수 없으면 -1
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * 요청에 헤더와 본문을 지정
+     * RestClient.body(Body)는 요청의 getBody() 버퍼에 먼저 기록하므로 사용하지 않고,
+     * StreamingHttpOutputMessage.setBody로 전송 시점에 직접 쓰도록 연결
+     */
+    public void applyTo(ClientHttpRequest request) throws IOException {
+        HttpHeaders headers = request.getHeaders();
+        headers.setContentType(getContentType());
+        if (contentLength >= 0) {
+            headers.setContentLength(contentLength);
+        }
+        if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+            streamingRequest.setBody(this);
+        } else {
+            writeTo(request.getBody());
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (Part part : parts) {
+            out.write(part.header(boundary));
+            part.writeBody(out, buffer);
+            out.write(CRLF);
+        }
+        out.write(closingDelimiter());
+        out.flush();
+    }
+
+    // 파일 기반이라 재시도 시 다시 읽을 수 있음
+    @Override
+    public boolean repeatable() {
+        return true;
+    }
+
+    private long computeContentLength() {
+        long total = closingDelimiter().length;
+        for (Part part : parts) {
+            long bodyLength = part.bodyLength();
+            if (bodyLength < 0) {
+                return -1;
+            }
+            total += part.header(boundary).length + bodyLength + CRLF.length;
+        }
+        return total;
+    }
+
+    private byte[] closingDelimiter() {
+        return ("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private sealed interface Part permits TextPart, ResourcePart {
+
+        byte[] header(String boundary);
+
+        long bodyLength();
+
+        void writeBody(OutputStream out, byte[] buffer) throws IOException;
+    }
+
+    private record TextPart(String name, byte[] value) implements Part {
+
+        @Override
+        public byte[] header(String boundary) {
+            return ("--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"\r\n"
+                    + "Content-Type: text/plain;charset=UTF-8\r\n"
+                    + "\r\n").getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public long bodyLength() {
+            return value.length;
+        }
+
+        @Override
+        public void writeBody(OutputStream out, byte[] buffer) throws IOException {
+            out.write(value);
+        }
+    }
+
+    private record ResourcePart(String name, Resource resource) implements Part {
+
+        @Override
+        public byte[] header(String boundary) {
+            String filename = resource.getFilename() != null ? resource.getFilename() : name;
+            MediaType contentType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            return ("--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+                    + "Content-Type: " + contentType + "\r\n"
+                    + "\r\n").getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public long bodyLength() {
+            try {
+                return resource.contentLength();
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public void writeBody(OutputStream out, byte[] buffer) throws IOException {
+            try (InputStream in = resource.getInputStream()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Part> parts = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder file(String name, Resource resource) {
+            parts.add(new ResourcePart(name, resource));
+            return this;
+        }
+
+        public Builder text(String name, String value) {
+            parts.add(new TextPart(name, value.getBytes(StandardCharsets.UTF_8)));
+            return this;
+        }
+
+        public StreamingMultipartBody build() {
+            return new StreamingMultipartBody(UUID.randomUUID().toString(), List.copyOf(parts));
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package com.codehows.daehobe.stt.service.provider;
 
+import com.codehows.daehobe.common.utils.AudioProfile;
 import com.codehows.daehobe.stt.dto.SttSummaryResult;
 import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
 import org.springframework.core.io.Resource;
 
+import java.time.Duration;
+
 public interface SttProvider {
 
+    /**
+     * 프로바이더 식별 이름입니다. 라우터는 발급된 rid 앞에 이 이름을 붙여 작업을 발급한 프로바이더에 고정합니다.
+     *
+     * @return 프로바이더 이름 (':' 미포함)
+     */
+    String getName();
+
     /**
      * 음성 파일을 STT 서비스에 보내 변환을 요청합니다.
      *
@@ -14,8 +24,19 @@ public interface SttProvider {
      */
     String requestTranscription(Resource audioFile);
 
+    /**
+     * 변환 요청 시 업로드할 오디오 형식을 반환합니다.
+     * 재생용 파일과 다르면 요청 직전에 이 형식으로 변환해 전송합니다.
+     *
+     * @return 업로드 오디오 프로파일
+     */
+    default AudioProfile getAudioProfile() {
+        return AudioProfile.PLAYBACK_WAV;
+    }
+
     /**
      * STT 작업의 현재 상태를 조회합니다.
+     * 호출 한도를 넘으면 SttRateLimitedException을 던지며, 호출 측은 retryAfter 이후 다시 조회합니다.
      *
      * @param jobId 조회할 작업 ID
      * @return STT 결과
@@ -32,9 +53,39 @@ public interface SttProvider {
 
     /**
      * 요약 작업의 현재 상태를 조회합니다.
+     * 호출 한도를 넘으면 SttRateLimitedException을 던집니다.
      *
      * @param jobId 조회할 작업 ID
      * @return 요약 결과
      */
     SttSummaryResult checkSummaryStatus(String jobId);
+
+    /**
+     * 지금 바로 보낼 수 있는 상태 조회 호출 수를 반환합니다.
+     * 폴링 스케줄러는 이 수만큼만 작업을 꺼내 한도를 넘는 호출을 만들지 않습니다.
+     *
+     * @return 허용 호출 수 (제한이 없으면 Integer.MAX_VALUE)
+     */
+    default int availableStatusCalls() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 동시에 진행할 수 있는 전사 요청(업로드) 수를 반환합니다.
+     * 구간 전사는 이 수를 넘겨 업로드하지 않습니다.
+     *
+     * @return 동시 요청 수 (제한이 없으면 Integer.MAX_VALUE)
+     */
+    default int maxConcurrentTranscriptions() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 다음 전사 요청이 호출 한도 안에서 허용될 때까지 남은 시간을 반환합니다.
+     *
+     * @return 대기 시간 (지금 보낼 수 있으면 Duration.ZERO)
+     */
+    default Duration transcriptionWaitTime() {
+        return Duration.ZERO;
+    }
 }
@@ -0,0 +1,393 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.stt.dto.SttSummaryResult;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 여러 SttProvider(프로바이더/계정) 사이의 라우터 (서비스는 이 빈을 주입받음)
+ * - 새 작업(전사/요약 요청): 관측 지연 × (1 + error-weight × 실패율)이 낮은 쪽으로 (후보 3개 이상이면 무작위 2개 중 선택)
+ *   · 아직 관측이 없는 프로바이더는 점수 0 → 먼저 시도해 지연을 학습
+ *   · 선택한 프로바이더가 실패하면 다음 후보로 한 번 넘김
+ *   · 전사는 기본 프로바이더와 업로드 오디오 형식이 같은 프로바이더로만 (오디오는 getAudioProfile 기준으로 미리 변환됨)
+ * - rid 고정: 발급된 rid를 "<프로바이더 이름>:<rid>"로 돌려줘 이후 상태 조회는 발급한 프로바이더로만
+ *   · 접두사가 없거나 모르는 rid(라우터 도입 전 작업)는 기본 프로바이더로
+ * - hedge: 상태 조회가 최근 지연의 percentile을 넘기면 같은 프로바이더에 한 번 더 조회해 먼저 온 응답 사용
+ *   · 조회는 멱등(GET)이라 중복 실행해도 안전, hedge 비율은 max-ratio로 제한 (호출 한도 보호)
+ * - 메트릭: stt.provider.router.routed / hedged {provider}, stt.provider.router.latency / error-rate {provider}
+ */
+@Slf4j
+@Primary
+@Service("sttProviderRouter")
+public class SttProviderRouter implements SttProvider {
+
+    static final String PIN_SEPARATOR = ":";
+    private static final double EWMA_ALPHA = 0.2;
+    private static final int LATENCY_SAMPLES = 256;
+    private static final double MAX_HEDGE_CREDIT = 10;
+
+    private final Map<String, Route> routes = new LinkedHashMap<>();
+    private final Executor hedgeExecutor;
+
+    // 접두사 없는 rid, 업로드 오디오 형식의 기준
+    @Value("${stt.provider.router.default-provider:daglo}")
+    private String defaultProvider;
+
+    @Value("${stt.provider.router.error-weight:10}")
+    private double errorWeight;
+
+    @Value("${stt.provider.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    @Value("${stt.provider.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    // 표본이 이만큼 쌓이기 전에는 hedge 없이 호출
+    @Value("${stt.provider.hedge.min-samples:20}")
+    private int hedgeMinSamples;
+
+    @Value("${stt.provider.hedge.min-delay-ms:50}")
+    private long hedgeMinDelayMs;
+
+    // 상태 조회 대비 hedge 호출 최대 비율
+    @Value("${stt.provider.hedge.max-ratio:0.1}")
+    private double hedgeMaxRatio;
+
+    public SttProviderRouter(List<SttProvider> sttProviders,
+                             @Qualifier("sttHedgeExecutor") Executor sttHedgeExecutor,
+                             MeterRegistry meterRegistry) {
+        this.hedgeExecutor = sttHedgeExecutor;
+        for (SttProvider provider : sttProviders) {
+            if (provider instanceof SttProviderRouter) {
+                continue;
+            }
+            Route route = new Route(provider, meterRegistry);
+            if (routes.putIfAbsent(provider.getName(), route) != null) {
+                throw new IllegalStateException("Duplicate STT provider name: " + provider.getName());
+            }
+        }
+        if (routes.isEmpty()) {
+            throw new IllegalStateException("No STT provider configured");
+        }
+        log.info("STT provider router initialized with {}", routes.keySet());
+    }
+
+    @Override
+    public String getName() {
+        return "router";
+    }
+
+    @Override
+    public AudioProfile getAudioProfile() {
+        return defaultRoute().provider.getAudioProfile();
+    }
+
+    @Override
+    public String requestTranscription(Resource audioFile) {
+        return submit(transcriptionCandidates(), provider -> provider.requestTranscription(audioFile));
+    }
+
+    @Override
+    public SttTranscriptionResult checkTranscriptionStatus(String jobId) {
+        Route route = routeOf(jobId);
+        String rid = unpin(route, jobId);
+        return hedged(route, () -> route.timed(() -> route.provider.checkTranscriptionStatus(rid), true));
+    }
+
+    @Override
+    public String requestSummary(String text) {
+        return submit(List.copyOf(routes.values()), provider -> provider.requestSummary(text));
+    }
+
+    @Override
+    public SttSummaryResult checkSummaryStatus(String jobId) {
+        Route route = routeOf(jobId);
+        String rid = unpin(route, jobId);
+        return hedged(route, () -> route.timed(() -> route.provider.checkSummaryStatus(rid), true));
+    }
+
+    // 작업별로 한 프로바이더에 고정되므로 합계는 근사치
+    @Override
+    public int availableStatusCalls() {
+        long total = 0;
+        for (Route route : routes.values()) {
+            total += route.provider.availableStatusCalls();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
+    // 전사 요청은 업로드 형식이 같은 프로바이더 중 하나로 나가므로 그 프로바이더들 기준
+    @Override
+    public int maxConcurrentTranscriptions() {
+        long total = 0;
+        for (Route route : transcriptionCandidates()) {
+            total += route.provider.maxConcurrentTranscriptions();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
+    @Override
+    public Duration transcriptionWaitTime() {
+        return transcriptionCandidates().stream()
+                .map(route -> route.provider.transcriptionWaitTime())
+                .min(Comparator.naturalOrder())
+                .orElse(Duration.ZERO);
+    }
+
+    private List<Route> transcriptionCandidates() {
+        AudioProfile audioProfile = getAudioProfile();
+        return routes.values().stream()
+                .filter(route -> route.provider.getAudioProfile() == audioProfile)
+                .toList();
+    }
+
+    private String submit(List<Route> candidates, Function<SttProvider, String> call) {
+        Route first = choose(candidates);
+        try {
+            return pin(first, first.timed(() -> call.apply(first.provider), false));
+        } catch (RuntimeException e) {
+            Route next = candidates.stream()
+                    .filter(route -> route != first)
+                    .min(Comparator.comparingDouble(this::score))
+                    .orElse(null);
+            if (next == null) {
+                throw e;
+            }
+            log.warn("STT provider {} failed ({}). Failing over to {}.",
+                    first.provider.getName(), e.getMessage(), next.provider.getName());
+            return pin(next, next.timed(() -> call.apply(next.provider), false));
+        }
+    }
+
+    private Route choose(List<Route> candidates) {
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No STT provider accepts audio profile " + getAudioProfile());
+        }
+        if (candidates.size() == 1) {
+            return candidates.getFirst();
+        }
+        Route a;
+        Route b;
+        if (candidates.size() == 2) {
+            a = candidates.get(0);
+            b = candidates.get(1);
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int i = random.nextInt(candidates.size());
+            int j = random.nextInt(candidates.size() - 1);
+            a = candidates.get(i);
+            b = candidates.get(j >= i ? j + 1 : j);
+        }
+        return score(a) <= score(b) ? a : b;
+    }
+
+    private double score(Route route) {
+        synchronized (route) {
+            if (!route.observed) {
+                return 0;
+            }
+            return route.latencyEwmaMs * (1 + errorWeight * route.errorEwma);
+        }
+    }
+
+    private String pin(Route route, String rid) {
+        route.routed.increment();
+        return route.provider.getName() + PIN_SEPARATOR + rid;
+    }
+
+    private Route routeOf(String jobId) {
+        int separator = jobId.indexOf(PIN_SEPARATOR);
+        if (separator > 0) {
+            Route route = routes.get(jobId.substring(0, separator));
+            if (route != null) {
+                return route;
+            }
+        }
+        return defaultRoute();
+    }
+
+    private String unpin(Route route, String jobId) {
+        String prefix = route.provider.getName() + PIN_SEPARATOR;
+        return jobId.startsWith(prefix) ? jobId.substring(prefix.length()) : jobId;
+    }
+
+    private Route defaultRoute() {
+        Route route = routes.get(defaultProvider);
+        return route != null ? route : routes.values().iterator().next();
+    }
+
+    private <T> T hedged(Route route, Supplier<T> call) {
+        long delayMs = hedgeEnabled ? route.hedgeDelayMs() : -1;
+        route.addHedgeCredit();
+        if (delayMs < 0) {
+            return call.get();
+        }
+
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(call, hedgeExecutor);
+        try {
+            return primary.get(delayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // percentile보다 느림 → hedge
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return join(primary);
+        }
+        if (!route.tryHedge()) {
+            return join(primary);
+        }
+
+        route.hedged.increment();
+        log.debug("STT status check on {} slower than {} ms. Hedging.", route.provider.getName(), delayMs);
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(call, hedgeExecutor);
+        CompletableFuture<T> firstSuccess = new CompletableFuture<>();
+        primary.thenAccept(firstSuccess::complete);
+        hedge.thenAccept(firstSuccess::complete);
+        // 둘 다 실패한 경우에만 예외
+        CompletableFuture.allOf(primary, hedge).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                firstSuccess.completeExceptionally(ex);
+            }
+        });
+        return join(firstSuccess);
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private RuntimeException propagate(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(cause);
+    }
+
+    // 모든 필드 접근은 Route 락 안에서 (provider/메트릭 제외)
+    private final class Route {
+        private final SttProvider provider;
+        private final Counter routed;
+        private final Counter hedged;
+        // 모든 호출의 지연/실패 지수 이동 평균 (라우팅 점수)
+        private double latencyEwmaMs;
+        private double errorEwma;
+        private boolean observed;
+        // 최근 상태 조회 지연 (hedge 기준 percentile)
+        private final long[] statusLatencies = new long[LATENCY_SAMPLES];
+        private int statusSamples;
+        private double hedgeCredit;
+
+        private Route(SttProvider provider, MeterRegistry meterRegistry) {
+            this.provider = provider;
+            String name = provider.getName();
+            this.routed = Counter.builder("stt.provider.router.routed")
+                    .tag("provider", name)
+                    .description("STT jobs submitted through the router")
+                    .register(meterRegistry);
+            this.hedged = Counter.builder("stt.provider.router.hedged")
+                    .tag("provider", name)
+                    .description("STT status checks hedged after exceeding the latency percentile")
+                    .register(meterRegistry);
+            Gauge.builder("stt.provider.router.latency", this, route -> route.snapshot(true))
+                    .tag("provider", name)
+                    .baseUnit("milliseconds")
+                    .description("Exponentially weighted STT provider call latency")
+                    .register(meterRegistry);
+            Gauge.builder("stt.provider.router.error-rate", this, route -> route.snapshot(false))
+                    .tag("provider", name)
+                    .description("Exponentially weighted STT provider call failure rate")
+                    .register(meterRegistry);
+        }
+
+        private <T> T timed(Supplier<T> call, boolean statusCheck) {
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false, statusCheck);
+                return result;
+            } catch (RuntimeException e) {
+                record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true, statusCheck);
+                throw e;
+            }
+        }
+
+        private synchronized void record(long elapsedMs, boolean failed, boolean statusCheck) {
+            if (!observed) {
+                latencyEwmaMs = elapsedMs;
+                errorEwma = failed ? 1 : 0;
+                observed = true;
+            } else {
+                latencyEwmaMs += EWMA_ALPHA * (elapsedMs - latencyEwmaMs);
+                errorEwma += EWMA_ALPHA * ((failed ? 1 : 0) - errorEwma);
+            }
+            if (statusCheck && !failed) {
+                statusLatencies[statusSamples % LATENCY_SAMPLES] = elapsedMs;
+                statusSamples++;
+            }
+        }
+
+        // 표본이 부족하면 -1 (hedge 안 함)
+        private synchronized long hedgeDelayMs() {
+            int count = Math.min(statusSamples, LATENCY_SAMPLES);
+            if (count < Math.max(1, hedgeMinSamples)) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(statusLatencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(hedgePercentile * count) - 1;
+            return Math.max(hedgeMinDelayMs, sorted[Math.clamp(index, 0, count - 1)]);
+        }
+
+        private synchronized void addHedgeCredit() {
+            hedgeCredit = Math.min(MAX_HEDGE_CREDIT, hedgeCredit + hedgeMaxRatio);
+        }
+
+        private synchronized boolean tryHedge() {
+            if (hedgeCredit < 1) {
+                return false;
+            }
+            hedgeCredit -= 1;
+            return true;
+        }
+
+        private synchronized double snapshot(boolean latency) {
+            return latency ? latencyEwmaMs : errorEwma;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 폴링 한 주기 동안 작업들이 나눠 쓰는 추가 상태 조회 호출 수
+ * - 스케줄러는 availableStatusCalls()에서 꺼낸 작업 수(작업당 1회)를 뺀 나머지로 생성
+ * - 구간 전사처럼 작업 하나가 여러 번 조회해야 하면 두 번째 조회부터 여기서 차감 → 주기 전체 호출 수가 예산을 넘지 않음
+ */
+public final class SttStatusCallBudget {
+
+    // 추가 조회 없음 (작업당 1회만)
+    public static final SttStatusCallBudget NONE = new SttStatusCallBudget(0);
+
+    private final AtomicInteger remaining;
+
+    private SttStatusCallBudget(int permits) {
+        this.remaining = new AtomicInteger(Math.max(0, permits));
+    }
+
+    public static SttStatusCallBudget of(int permits) {
+        return permits > 0 ? new SttStatusCallBudget(permits) : NONE;
+    }
+
+    public boolean tryAcquire() {
+        return remaining.getAndUpdate(r -> r > 0 ? r - 1 : r) > 0;
+    }
+
+    public int remaining() {
+        return remaining.get();
+    }
+}
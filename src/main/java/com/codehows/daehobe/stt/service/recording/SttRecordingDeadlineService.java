@@ -0,0 +1,147 @@
+package com.codehows.daehobe.stt.service.recording;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_RECORDING_DEADLINES;
+
+/**
+ * 녹음 세션 생존 마감 시각 (stt:recording:deadlines, score = 마감 epoch ms)
+ * - 녹음 시작/마감 재등록(register)은 바로 기록
+ * - 청크 수신(touch)은 메모리에만 마감을 갱신, flush-interval마다 ZADD XX GT 한 번으로 일괄 반영
+ *   · XX: 이미 종료(remove)되었거나 스위퍼가 가져간 세션은 되살리지 않음
+ *   · GT: 여러 인스턴스가 같은 세션 청크를 받아도 마감이 앞당겨지지 않음
+ *   · flush 주기는 heartbeat TTL보다 충분히 짧아야 함 (기본 5초 / 30초)
+ * - 스위퍼는 마감이 지난 멤버만 조회와 동시에 제거(Lua) → 한 인스턴스만 같은 고아를 가져감
+ * - keyspace 만료 이벤트와 달리 서버 설정(notify-keyspace-events)이 필요 없고, 연결이 끊겨도 다음 스윕에서 처리됨
+ */
+@Slf4j
+@Service
+public class SttRecordingDeadlineService {
+
+    // KEYS: 1 deadlines ZSet / ARGV: 1 now, 2 최대 개수
+    private static final RedisScript<List> CLAIM_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "if #ids > 0 then redis.call('zrem', KEYS[1], unpack(ids)) end " +
+                    "return ids",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // sttId → 아직 Redis에 반영하지 않은 마감
+    private final Map<Long, Long> pendingDeadlines = new ConcurrentHashMap<>();
+
+    @Value("${stt.recording.heartbeat-ttl-seconds:30}")
+    private long heartbeatTtlSeconds;
+
+    public SttRecordingDeadlineService(StringRedisTemplate hashRedisTemplate) {
+        this.redisTemplate = hashRedisTemplate;
+    }
+
+    // 녹음 시작/안전망 재등록: 마감을 now + TTL로 바로 기록
+    public void register(Long sttId) {
+        redisTemplate.opsForZSet().add(STT_RECORDING_DEADLINES, String.valueOf(sttId), nextDeadline());
+    }
+
+    // 청크 수신: Redis 왕복 없이 메모리에만 기록, flushPending이 일괄 반영
+    public void touch(Long sttId) {
+        pendingDeadlines.merge(sttId, nextDeadline(), Math::max);
+    }
+
+    // 정상 종료/삭제
+    public void remove(Long sttId) {
+        pendingDeadlines.remove(sttId);
+        redisTemplate.opsForZSet().remove(STT_RECORDING_DEADLINES, String.valueOf(sttId));
+    }
+
+    @Scheduled(fixedDelayString = "${stt.recording.heartbeat-flush-interval-ms:5000}")
+    public void flushPending() {
+        if (pendingDeadlines.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> batch = new HashMap<>(pendingDeadlines);
+        // flush 도중 들어온 더 늦은 마감은 남겨 둠
+        batch.forEach(pendingDeadlines::remove);
+
+        Set<Tuple> tuples = new LinkedHashSet<>();
+        batch.forEach((sttId, deadline) -> tuples.add(
+                new DefaultTuple(String.valueOf(sttId).getBytes(StandardCharsets.UTF_8), deadline.doubleValue())));
+        byte[] key = STT_RECORDING_DEADLINES.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.zSetCommands().zAdd(key, tuples, ZAddArgs.ifExists().gt()));
+            log.debug("Flushed {} recording heartbeats", batch.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (그 사이 더 늦은 마감이 들어왔으면 그것을 유지)
+            batch.forEach((sttId, deadline) -> pendingDeadlines.merge(sttId, deadline, Math::max));
+            log.warn("Failed to flush {} recording heartbeats: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    private long nextDeadline() {
+        return System.currentTimeMillis() + heartbeatTtlSeconds * 1000;
+    }
+
+    /**
+     * 마감이 지난 sttId를 최대 limit개 가져오면서 ZSet에서 제거
+     * 가져간 뒤 복구에 실패해도 DB 안전망(findUntracked)이 다시 마감을 걸어 줌 (register)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> claimExpired(int limit) {
+        List<Object> claimed = redisTemplate.execute(CLAIM_EXPIRED_SCRIPT, List.of(STT_RECORDING_DEADLINES),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+        if (claimed == null || claimed.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return claimed.stream().map(id -> Long.valueOf(id.toString())).toList();
+    }
+
+    /**
+     * 마감이 등록되지 않은 sttId (ZMSCORE 한 번으로 일괄 확인)
+     * Redis 재시작 등으로 ZSet 멤버가 사라진 녹음을 DB 기준으로 찾을 때 사용
+     */
+    public List<Long> findUntracked(Collection<Long> sttIds) {
+        if (sttIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = new ArrayList<>(sttIds);
+        List<Double> scores = redisTemplate.opsForZSet().score(STT_RECORDING_DEADLINES,
+                ids.stream().map(String::valueOf).toArray());
+        if (scores == null) {
+            return ids;
+        }
+        List<Long> untracked = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i >= scores.size() || scores.get(i) == null) {
+                untracked.add(ids.get(i));
+            }
+        }
+        return untracked;
+    }
+}
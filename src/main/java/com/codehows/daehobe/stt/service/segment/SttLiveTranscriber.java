@@ -0,0 +1,271 @@
+package com.codehows.daehobe.stt.service.segment;
+
+import com.codehows.daehobe.common.utils.WavHeaderPatcher;
+import com.codehows.daehobe.common.utils.WavSegmenter;
+import com.codehows.daehobe.file.service.RecordingChunkWriter;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_LIVE_PREFIX;
+
+/**
+ * 녹음 중 실시간(부분) 전사 (녹음 시작 시 live=true로 선택)
+ * - 주기적으로 새로 기록된 PCM이 interval-seconds 이상이면 끝부분의 가장 조용한 위치까지 잘라 구간으로 요청
+ * - 구간은 SttSegmentedTranscriber 그룹(stt:segments:{groupId})에 차례로 추가, 진행 상태는 stt:live:{sttId}
+ * - 같은 주기에 완료된 앞 구간들의 본문을 이어 붙여 /topic/stt/updates/{meetingId}로 delta 전송
+ * - 부분 전사 조회는 폴링과 같은 프로바이더 STATUS 예산 안에서만 (예산이 없으면 다음 주기로)
+ * - 녹음 종료 후 전사 요청 시 finish()가 남은 꼬리 구간만 요청하고 그룹 rid("seg:")를 반환 → 이미 끝난 구간은 재요청 없음
+ * - 잘라낼 PCM은 청크를 받는 인스턴스의 녹음 세션에서만 읽을 수 있음 (세션이 없는 인스턴스는 건너뜀)
+ */
+@Slf4j
+@Component
+public class SttLiveTranscriber {
+
+    private static final String FIELD_GROUP = "group";
+    private static final String FIELD_CURSOR = "cursorFrame";
+    private static final String FIELD_COUNT = "count";
+
+    private final RecordingChunkWriter recordingChunkWriter;
+    private final SttSegmentedTranscriber sttSegmentedTranscriber;
+    private final SttCacheService sttCacheService;
+    private final SttUpdatePublisher sttUpdatePublisher;
+    private final ThreadPoolTaskExecutor executor;
+    private final StringRedisTemplate redisTemplate;
+    // 이 인스턴스에서 시작한 실시간 전사 녹음, 값은 구간 요청과 종료 처리의 직렬화용
+    private final Map<Long, ReentrantLock> sessions = new ConcurrentHashMap<>();
+
+    @Value("${file.location}")
+    private String fileLocation;
+
+    @Value("${stt.live.enabled:true}")
+    private boolean enabled;
+
+    // 이만큼 새 오디오가 쌓이면 구간 하나로 요청
+    @Value("${stt.live.interval-seconds:300}")
+    private long intervalSeconds;
+
+    // 절단점은 기록된 끝에서 이 범위 안의 가장 조용한 창
+    @Value("${stt.live.search-window-seconds:10}")
+    private long searchWindowSeconds;
+
+    @Value("${stt.segment.silence-window-ms:300}")
+    private long silenceWindowMs;
+
+    @Value("${stt.segment.group-ttl-hours:24}")
+    private long stateTtlHours;
+
+    public SttLiveTranscriber(RecordingChunkWriter recordingChunkWriter,
+                              SttSegmentedTranscriber sttSegmentedTranscriber,
+                              SttCacheService sttCacheService,
+                              SttUpdatePublisher sttUpdatePublisher,
+                              @Qualifier("sttSegmentExecutor") ThreadPoolTaskExecutor sttSegmentExecutor,
+                              StringRedisTemplate hashRedisTemplate) {
+        this.recordingChunkWriter = recordingChunkWriter;
+        this.sttSegmentedTranscriber = sttSegmentedTranscriber;
+        this.sttCacheService = sttCacheService;
+        this.sttUpdatePublisher = sttUpdatePublisher;
+        this.executor = sttSegmentExecutor;
+        this.redisTemplate = hashRedisTemplate;
+    }
+
+    public void start(Long sttId) {
+        if (!enabled) return;
+        String key = STT_LIVE_PREFIX + sttId;
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                FIELD_GROUP, UUID.randomUUID().toString(),
+                FIELD_CURSOR, "0",
+                FIELD_COUNT, "0"));
+        redisTemplate.expire(key, Duration.ofHours(stateTtlHours));
+        sessions.put(sttId, new ReentrantLock());
+        log.info("Live transcription enabled for STT {}", sttId);
+    }
+
+    @Scheduled(fixedDelayString = "${stt.live.tick-interval-ms:15000}")
+    public void tick() {
+        // sttSegmentExecutor 포화 시 스케줄러 스레드에서 직접 실행 (CallerRuns)
+        sessions.keySet().forEach(sttId -> executor.execute(() -> process(sttId)));
+    }
+
+    // 실시간 전사로 시작한 녹음인지 (다른 인스턴스에서 시작했어도 Redis 상태로 판단)
+    public boolean isLive(Long sttId) {
+        return enabled && Boolean.TRUE.equals(redisTemplate.hasKey(STT_LIVE_PREFIX + sttId));
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 녹음 종료 후 전사 요청: 아직 요청하지 않은 꼬리 구간만 요청
+     *
+     * @param recording 인코딩이 끝난 녹음 파일 (실시간 구간과 같은 타임라인의 PCM WAV)
+     * @return 실시간 구간이 있었으면 그룹 rid("seg:{groupId}"), 없으면 empty (호출 측이 전체 요청)
+     */
+    public Optional<String> finish(Long sttId, Path recording) {
+        ReentrantLock lock = sessions.remove(sttId);
+        if (lock != null) {
+            // 진행 중인 구간 요청이 끝날 때까지 대기
+            lock.lock();
+        }
+        try {
+            String key = STT_LIVE_PREFIX + sttId;
+            Map<Object, Object> state = redisTemplate.opsForHash().entries(key);
+            if (state == null || !state.containsKey(FIELD_GROUP)) {
+                return Optional.empty();
+            }
+            if (count(state) == 0) {
+                redisTemplate.delete(key);
+                return Optional.empty();
+            }
+
+            try (FileChannel channel = FileChannel.open(recording, StandardOpenOption.READ)) {
+                Optional<WavHeaderPatcher.WavFormat> format = WavHeaderPatcher.sniff(channel)
+                        .filter(WavSegmenter::isSegmentable);
+                if (format.isEmpty()) {
+                    log.warn("Recording {} is not PCM WAV. Live segments of STT {} discarded.", recording, sttId);
+                    redisTemplate.delete(key);
+                    return Optional.empty();
+                }
+                long cursor = cursor(state);
+                long total = WavSegmenter.totalFrames(channel, format.get());
+                if (total > cursor) {
+                    submitRange(sttId, state, channel, format.get(), cursor, total);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("녹음 파일 읽기 실패", e);
+            }
+
+            redisTemplate.delete(key);
+            log.info("Live transcription of STT {} finished with {} segments", sttId, count(state));
+            return Optional.of(SttSegmentedTranscriber.groupRid((String) state.get(FIELD_GROUP)));
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    void process(Long sttId) {
+        ReentrantLock lock = sessions.get(sttId);
+        if (lock == null || !lock.tryLock()) return;
+        try {
+            if (!sessions.containsKey(sttId)) return;
+            STTDto cachedStatus = sttCacheService.getCachedSttStatus(sttId);
+            if (cachedStatus == null || cachedStatus.getStatus() != STT.Status.RECORDING) {
+                // 녹음 종료/삭제: 이후는 일반 전사 경로(finish)가 처리
+                sessions.remove(sttId);
+                return;
+            }
+            Map<Object, Object> state = redisTemplate.opsForHash().entries(STT_LIVE_PREFIX + sttId);
+            if (state == null || !state.containsKey(FIELD_GROUP)) {
+                sessions.remove(sttId);
+                return;
+            }
+            cutIfReady(sttId, state);
+            publishPartial(cachedStatus, state);
+        } catch (SttRateLimitedException e) {
+            log.info("STT provider rate limited. Live transcription of STT {} retried next tick.", sttId);
+        } catch (Exception e) {
+            log.warn("Live transcription tick failed for STT {}: {}", sttId, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cutIfReady(Long sttId, Map<Object, Object> state) throws IOException {
+        Optional<Path> source = recordingChunkWriter.livePcmSource(sttId);
+        if (source.isEmpty()) return;
+
+        try (FileChannel channel = FileChannel.open(source.get(), StandardOpenOption.READ)) {
+            Optional<WavHeaderPatcher.WavFormat> sniffed = WavHeaderPatcher.sniff(channel)
+                    .filter(WavSegmenter::isSegmentable);
+            if (sniffed.isEmpty()) return;
+            WavHeaderPatcher.WavFormat format = sniffed.get();
+
+            long cursor = cursor(state);
+            long available = WavSegmenter.totalFrames(channel, format);
+            long intervalFrames = intervalSeconds * format.sampleRate();
+            if (available - cursor < intervalFrames) return;
+
+            long windowFrames = silenceWindowMs * format.sampleRate() / 1000;
+            long from = Math.max(cursor + intervalFrames / 2, available - searchWindowSeconds * format.sampleRate());
+            long cut = available - from >= windowFrames
+                    ? WavSegmenter.findQuietestFrame(channel, format, from, available, windowFrames)
+                    : available;
+            submitRange(sttId, state, channel, format, cursor, cut);
+        }
+    }
+
+    // [startFrame, endFrame)를 잘라 요청하고 그룹/진행 상태에 반영 (state도 갱신)
+    private void submitRange(Long sttId, Map<Object, Object> state, FileChannel channel,
+                             WavHeaderPatcher.WavFormat format, long startFrame, long endFrame) throws IOException {
+        int index = count(state);
+        WavSegmenter.Segment segment = WavSegmenter.range(format, index, startFrame, endFrame);
+        Path target = Paths.get(fileLocation, "stt-live-" + UUID.randomUUID() + ".wav");
+        SttSegmentedTranscriber.SegmentRequest request;
+        try {
+            WavSegmenter.copy(channel, format, segment, target);
+            request = sttSegmentedTranscriber.requestSegment(target);
+        } finally {
+            Files.deleteIfExists(target);
+        }
+
+        sttSegmentedTranscriber.appendSegment((String) state.get(FIELD_GROUP), index, request,
+                segment.offsetMs(), segment.durationMs());
+        state.put(FIELD_CURSOR, String.valueOf(endFrame));
+        state.put(FIELD_COUNT, String.valueOf(index + 1));
+        redisTemplate.opsForHash().putAll(STT_LIVE_PREFIX + sttId, Map.of(
+                FIELD_CURSOR, String.valueOf(endFrame),
+                FIELD_COUNT, String.valueOf(index + 1)));
+        log.info("Live segment {} of STT {} requested ({} ms ~ {} ms)", index, sttId,
+                segment.offsetMs(), segment.offsetMs() + segment.durationMs());
+    }
+
+    // 앞에서부터 연속으로 완료된 구간의 본문이 늘어났으면 캐시 반영 후 delta 전송
+    // 구간 요청/조회 사이에 녹음이 종료(ENCODING)됐을 수 있으므로 전체 DTO 대신 RECORDING일 때만 본문만 기록
+    private void publishPartial(STTDto cachedStatus, Map<Object, Object> state) {
+        if (count(state) == 0) return;
+        SttTranscriptionResult result = sttSegmentedTranscriber.checkTranscriptionStatus(
+                SttSegmentedTranscriber.groupRid((String) state.get(FIELD_GROUP)));
+        String content = result.getContent() != null ? result.getContent() : "";
+        String previousContent = cachedStatus.getContent();
+        if (content.isEmpty() || Objects.equals(content, previousContent)) return;
+
+        cachedStatus.updateContent(content);
+        sttUpdatePublisher.publishProgress(cachedStatus, previousContent,
+                () -> sttCacheService.cacheContentIfStatus(cachedStatus, STT.Status.RECORDING));
+    }
+
+    private static int count(Map<Object, Object> state) {
+        return Integer.parseInt((String) state.getOrDefault(FIELD_COUNT, "0"));
+    }
+
+    private static long cursor(Map<Object, Object> state) {
+        return Long.parseLong((String) state.getOrDefault(FIELD_CURSOR, "0"));
+    }
+}
@@ -0,0 +1,489 @@
+package com.codehows.daehobe.stt.service.segment;
+
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.common.utils.WavSilenceTrimmer;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.service.audio.SegmentedAudio;
+import com.codehows.daehobe.stt.service.audio.SttAudioPreparer;
+import com.codehows.daehobe.stt.service.audio.SttAudioSegmenter;
+import com.codehows.daehobe.stt.service.audio.SttSilenceTrimmer;
+import com.codehows.daehobe.stt.service.audio.TranscriptionAudio;
+import com.codehows.daehobe.stt.service.audio.TrimmedAudio;
+import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.provider.SttStatusCallBudget;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_SEGMENT_GROUP_PREFIX;
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_SEGMENT_RESUME_PREFIX;
+
+/**
+ * 긴 녹음 구간 병렬 전사
+ * - 저장된 녹음을 SttAudioSegmenter로 무음 경계에서 나눠 구간마다 프로바이더에 동시에 요청 (sttSegmentExecutor)
+ *   · 동시 업로드는 그룹 전체 합산으로 프로바이더 동시 요청 한도(maxConcurrentTranscriptions) 이하
+ *   · 요청 한도 초과는 바로 실패 처리하지 않고 transcriptionWaitTime/retryAfter만큼 기다렸다 전송 (upload-wait-seconds까지)
+ * - 구간 rid/오프셋/길이는 Redis Hash(stt:segments:{groupId})에 두고 작업 rid는 "seg:{groupId}"
+ * - 일부 구간 업로드 실패: 성공한 구간 rid는 그룹에 남기고 실패 구간만 {i}:failed로 표시,
+ *   재개 키(stt:segment-resume:{key})로 그룹을 기억해 재시도 시 실패/누락 구간만 다시 요청
+ * - 상태 조회: 끝나지 않은 구간만 조회, 완료 결과는 Hash에 보관해 다시 조회하지 않음
+ *   구간 조회 1회 = STATUS 예산 1회, 예산(SttStatusCallBudget) 안에서만 조회하고 나머지 구간은 다음 주기로
+ * - 진행률은 구간 길이 가중 평균, 본문은 앞에서부터 연속으로 완료된 구간까지 SttTranscriptStitcher로 이어 붙임
+ * - 나누지 않는 녹음은 기존과 같이 한 번에 요청 (rid도 프로바이더 rid 그대로)
+ * - 업로드 전 SttSilenceTrimmer로 긴 무음 압축, 압축한 구간은 시각 변환표({i}:timeMap)로 발화 시각을 원본 기준으로 보정
+ *   (나누지 않는 녹음도 압축했으면 구간 하나짜리 그룹으로 저장해 같은 경로로 보정)
+ */
+@Slf4j
+@Component
+public class SttSegmentedTranscriber {
+
+    static final String SEGMENTED_RID_PREFIX = "seg:";
+    private static final String FIELD_COUNT = "count";
+    // 구간 하나짜리 그룹(무음 압축만 한 녹음): 화자 라벨에 구간 번호를 붙이지 않음
+    private static final String FIELD_PLAIN_SPEAKERS = "plainSpeakers";
+    // 업로드 실패 구간 표시 (값 = 예외 종류), 재시도로 접수되면 삭제
+    private static final String FIELD_FAILED = "failed";
+    // 동시 호출 초과 거절(retryAfter 0) 후 다시 보내기까지 최소 간격
+    private static final Duration MIN_SUBMIT_RETRY = Duration.ofMillis(200);
+    private static final TypeReference<List<SttTranscriptionResult.Utterance>> UTTERANCES = new TypeReference<>() {
+    };
+
+    private final SttProvider sttProvider;
+    private final SttAudioSegmenter sttAudioSegmenter;
+    private final SttAudioPreparer sttAudioPreparer;
+    private final SttSilenceTrimmer sttSilenceTrimmer;
+    private final ThreadPoolTaskExecutor executor;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    // 모든 그룹이 공유하는 구간 업로드 슬롯
+    private final Semaphore uploadPermits;
+
+    // 구간 업로드가 동시 요청/호출 한도로 기다릴 수 있는 최대 시간 (그룹 요청 시작부터), 넘으면 해당 구간은 실패로 기록
+    @Value("${stt.segment.upload-wait-seconds:120}")
+    private long uploadWaitSeconds;
+
+    // 구간 전사 + 요약 완료까지 여유 있게
+    @Value("${stt.segment.group-ttl-hours:24}")
+    private long groupTtlHours;
+
+    public SttSegmentedTranscriber(SttProvider sttProvider,
+                                   SttAudioSegmenter sttAudioSegmenter,
+                                   SttAudioPreparer sttAudioPreparer,
+                                   SttSilenceTrimmer sttSilenceTrimmer,
+                                   @Qualifier("sttSegmentExecutor") ThreadPoolTaskExecutor sttSegmentExecutor,
+                                   StringRedisTemplate hashRedisTemplate,
+                                   ObjectMapper objectMapper) {
+        this.sttProvider = sttProvider;
+        this.sttAudioSegmenter = sttAudioSegmenter;
+        this.sttAudioPreparer = sttAudioPreparer;
+        this.sttSilenceTrimmer = sttSilenceTrimmer;
+        this.executor = sttSegmentExecutor;
+        this.redisTemplate = hashRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.uploadPermits = new Semaphore(Math.max(1, sttProvider.maxConcurrentTranscriptions()));
+    }
+
+    // 구간 요청 결과: 프로바이더 rid + 무음 압축 시각 변환표 (압축하지 않았으면 null)
+    public record SegmentRequest(String rid, WavSilenceTrimmer.TimeMap timeMap) {
+    }
+
+    public static boolean isSegmented(String rid) {
+        return rid != null && rid.startsWith(SEGMENTED_RID_PREFIX);
+    }
+
+    /**
+     * 저장된 녹음 전사 요청
+     *
+     * @param resumeKey 재시도를 같은 작업으로 묶는 키 (sttId), null이면 실패 시 이어서 요청하지 않음
+     * @return 프로바이더 rid, 구간으로 나눴으면 "seg:{groupId}"
+     */
+    public String requestTranscription(Path recording, String resumeKey) {
+        AudioProfile profile = sttProvider.getAudioProfile();
+        try (SegmentedAudio segmented = sttAudioSegmenter.split(recording)) {
+            if (!segmented.isSegmented()) {
+                SegmentRequest request = requestSingle(recording, profile);
+                if (request.timeMap() == null) {
+                    return request.rid();
+                }
+                return saveGroup(List.of(new SegmentedAudio.AudioSegment(0, recording, 0, 0)), List.of(request));
+            }
+            return requestSegments(segmented.segments(), profile, resumeKey);
+        }
+    }
+
+    // 이전 시도에서 접수된 구간은 건너뛰고 나머지만 병렬 요청, 결과는 성공/실패와 무관하게 그룹에 기록
+    private String requestSegments(List<SegmentedAudio.AudioSegment> segments, AudioProfile profile, String resumeKey) {
+        String resumeRedisKey = resumeKey != null ? STT_SEGMENT_RESUME_PREFIX + resumeKey : null;
+        Set<Integer> accepted = new HashSet<>();
+        String resumedGroupId = resumableGroup(resumeRedisKey, segments, accepted);
+        String groupId = resumedGroupId != null ? resumedGroupId : UUID.randomUUID().toString();
+        String key = STT_SEGMENT_GROUP_PREFIX + groupId;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(uploadWaitSeconds);
+        Map<SegmentedAudio.AudioSegment, CompletableFuture<SegmentRequest>> requests = new LinkedHashMap<>();
+        for (SegmentedAudio.AudioSegment segment : segments) {
+            if (!accepted.contains(segment.index())) {
+                requests.put(segment, requestPaced(segment, profile, deadline));
+            }
+        }
+        // 모든 업로드가 끝난 뒤에 구간 임시 파일 삭제 (실패한 구간이 있어도 나머지를 기다림)
+        CompletableFuture.allOf(requests.values().toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_COUNT, String.valueOf(segments.size()));
+        List<String> recovered = new ArrayList<>();
+        RuntimeException failure = null;
+        int failed = 0;
+        for (Map.Entry<SegmentedAudio.AudioSegment, CompletableFuture<SegmentRequest>> entry : requests.entrySet()) {
+            SegmentedAudio.AudioSegment segment = entry.getKey();
+            try {
+                fields.putAll(segmentFields(segment.index(), unwrap(entry.getValue()),
+                        segment.offsetMs(), segment.durationMs()));
+                recovered.add(field(segment.index(), FIELD_FAILED));
+            } catch (RuntimeException e) {
+                fields.put(field(segment.index(), "offsetMs"), String.valueOf(segment.offsetMs()));
+                fields.put(field(segment.index(), "durationMs"), String.valueOf(segment.durationMs()));
+                fields.put(field(segment.index(), FIELD_FAILED), e.getClass().getSimpleName());
+                failed++;
+                if (failure == null) failure = e;
+            }
+        }
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, Duration.ofHours(groupTtlHours));
+
+        if (failure != null) {
+            // 접수된 구간(이미 과금 중)의 rid를 버리지 않도록 그룹을 기억, 재시도 시 실패 구간만 요청
+            if (resumeRedisKey != null) {
+                redisTemplate.opsForValue().set(resumeRedisKey, groupId, Duration.ofHours(groupTtlHours));
+            }
+            log.warn("{} of {} segments of group {} failed to upload. Accepted segments kept for retry.",
+                    failed, segments.size(), groupId);
+            throw failure;
+        }
+        if (resumedGroupId != null && !recovered.isEmpty()) {
+            redisTemplate.opsForHash().delete(key, recovered.toArray());
+        }
+        if (resumeRedisKey != null) {
+            redisTemplate.delete(resumeRedisKey);
+        }
+        log.info("Requested segmented transcription {} ({} segments, {} reused)",
+                groupId, segments.size(), accepted.size());
+        return groupRid(groupId);
+    }
+
+    /**
+     * 재개할 그룹 ID (없으면 null), 이전 시도에서 접수된 구간 번호는 accepted에 담음
+     * 분할 결과(구간 수/오프셋)가 달라졌으면(설정 변경 등) 이어서 요청할 수 없으므로 새 그룹
+     */
+    private String resumableGroup(String resumeRedisKey, List<SegmentedAudio.AudioSegment> segments,
+                                  Set<Integer> accepted) {
+        String groupId = resumeRedisKey != null ? redisTemplate.opsForValue().get(resumeRedisKey) : null;
+        if (groupId == null) {
+            return null;
+        }
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(STT_SEGMENT_GROUP_PREFIX + groupId);
+        boolean samePlan = fields != null && String.valueOf(segments.size()).equals(fields.get(FIELD_COUNT))
+                && segments.stream().allMatch(segment -> String.valueOf(segment.offsetMs())
+                .equals(fields.get(field(segment.index(), "offsetMs"))));
+        if (!samePlan) {
+            return null;
+        }
+        for (SegmentedAudio.AudioSegment segment : segments) {
+            if (fields.get(field(segment.index(), "rid")) != null
+                    && !fields.containsKey(field(segment.index(), FIELD_FAILED))) {
+                accepted.add(segment.index());
+            }
+        }
+        log.info("Resuming segment group {}: {} of {} segments already accepted",
+                groupId, accepted.size(), segments.size());
+        return groupId;
+    }
+
+    /**
+     * 예약된 호출 없이 조회 (녹음 중 실시간 전사): 프로바이더 STATUS 예산 안에서만
+     * 남은 예산이 없으면 조회하지 않고 SttRateLimitedException
+     */
+    public SttTranscriptionResult checkTranscriptionStatus(String rid) {
+        int available = sttProvider.availableStatusCalls();
+        if (available <= 0) {
+            throw new SttRateLimitedException("상태 조회 예산 소진: " + rid, Duration.ZERO);
+        }
+        return checkTranscriptionStatus(rid, SttStatusCallBudget.of(available - 1));
+    }
+
+    /**
+     * 상태 조회, 호출 측이 1회분 예산을 이미 확보한 상태 (폴링 스케줄러가 꺼낸 작업)
+     * 구간 rid가 아니면 프로바이더 조회 그대로
+     * 구간 rid면 끝나지 않은 구간을 앞에서부터 조회, 두 번째 구간부터는 extraStatusCalls에서 차감
+     * 예산이 모자라 조회하지 못한 구간은 저장된 진행률을 쓰고 다음 주기에 조회
+     */
+    public SttTranscriptionResult checkTranscriptionStatus(String rid, SttStatusCallBudget extraStatusCalls) {
+        if (!isSegmented(rid)) {
+            return sttProvider.checkTranscriptionStatus(rid);
+        }
+        String key = STT_SEGMENT_GROUP_PREFIX + rid.substring(SEGMENTED_RID_PREFIX.length());
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+        if (fields == null || !fields.containsKey(FIELD_COUNT)) {
+            throw new IllegalStateException("구간 전사 정보가 없습니다: " + rid);
+        }
+
+        int count = Integer.parseInt((String) fields.get(FIELD_COUNT));
+        long totalWeight = 0;
+        long weightedProgress = 0;
+        boolean completed = true;
+        boolean contiguous = true;
+        List<SttTranscriptStitcher.Part> parts = new ArrayList<>();
+        boolean reservedCallUsed = false;
+
+        for (int i = 0; i < count; i++) {
+            String content = (String) fields.get(field(i, "content"));
+            List<SttTranscriptionResult.Utterance> utterances = fromJson((String) fields.get(field(i, "utterances")));
+            int progress = 100;
+            if (content == null) {
+                if (reservedCallUsed && !extraStatusCalls.tryAcquire()) {
+                    progress = storedProgress(fields, i);
+                } else {
+                    reservedCallUsed = true;
+                    SttTranscriptionResult result = sttProvider.checkTranscriptionStatus((String) fields.get(field(i, "rid")));
+                    if (result != null && result.isCompleted()) {
+                        content = result.getContent() != null ? result.getContent() : "";
+                        utterances = result.getUtterances();
+                        saveResult(key, i, content, utterances);
+                    } else {
+                        progress = result != null ? Math.max(0, Math.min(100, result.getProgress())) : 0;
+                        redisTemplate.opsForHash().put(key, field(i, "progress"), String.valueOf(progress));
+                    }
+                }
+            }
+
+            long weight = Math.max(1, Long.parseLong((String) fields.get(field(i, "durationMs"))));
+            totalWeight += weight;
+            weightedProgress += weight * progress;
+
+            if (content == null) {
+                completed = false;
+                contiguous = false;
+            } else if (contiguous) {
+                parts.add(new SttTranscriptStitcher.Part(i, Long.parseLong((String) fields.get(field(i, "offsetMs"))),
+                        content, toOriginal(utterances, timeMapFromJson((String) fields.get(field(i, "timeMap"))))));
+            }
+        }
+
+        return SttTranscriptionResult.builder()
+                .completed(completed)
+                .content(SttTranscriptStitcher.stitch(parts, !fields.containsKey(FIELD_PLAIN_SPEAKERS)))
+                .progress(totalWeight > 0 ? (int) (weightedProgress / totalWeight) : 0)
+                .build();
+    }
+
+    // 구간 하나 요청 (녹음 중 실시간 전사가 잘라낸 구간)
+    public SegmentRequest requestSegment(Path segmentFile) {
+        return requestSingle(segmentFile, sttProvider.getAudioProfile());
+    }
+
+    /**
+     * 그룹 끝에 구간 추가 (녹음 중 실시간 전사: 구간 수가 계속 늘어남)
+     * 구간은 index 순서대로 하나씩 추가되어야 함
+     */
+    public void appendSegment(String groupId, int index, SegmentRequest request, long offsetMs, long durationMs) {
+        String key = STT_SEGMENT_GROUP_PREFIX + groupId;
+        Map<String, String> fields = segmentFields(index, request, offsetMs, durationMs);
+        fields.put(FIELD_COUNT, String.valueOf(index + 1));
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, Duration.ofHours(groupTtlHours));
+    }
+
+    public static String groupRid(String groupId) {
+        return SEGMENTED_RID_PREFIX + groupId;
+    }
+
+    private SegmentRequest requestSingle(Path file, AudioProfile profile) {
+        return requestSingle(file, profile, sttProvider::requestTranscription);
+    }
+
+    private SegmentRequest requestSingle(Path file, AudioProfile profile, Function<Resource, String> submit) {
+        try (TrimmedAudio trimmed = sttSilenceTrimmer.trim(file);
+             TranscriptionAudio audio = sttAudioPreparer.prepare(trimmed.file(), profile)) {
+            return new SegmentRequest(submit.apply(audio.resource()), trimmed.timeMap());
+        }
+    }
+
+    /**
+     * 업로드 슬롯을 얻은 뒤 구간 요청 (슬롯이 빌 때까지 호출 스레드가 대기, deadline을 넘기면 실패한 구간으로)
+     * 슬롯은 업로드가 끝나면 성공/실패와 무관하게 반환
+     */
+    private CompletableFuture<SegmentRequest> requestPaced(SegmentedAudio.AudioSegment segment, AudioProfile profile,
+                                                           long deadline) {
+        try {
+            if (!uploadPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(
+                        new SttRateLimitedException("구간 업로드 동시 요청 대기 시간 초과", Duration.ZERO));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new SttRateLimitedException("구간 업로드 대기 중단", Duration.ZERO));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> requestSingle(segment.file(), profile,
+                            resource -> submitWithinLimit(resource, deadline)), executor)
+                    .whenComplete((request, e) -> uploadPermits.release());
+        } catch (RuntimeException e) {
+            uploadPermits.release();
+            throw e;
+        }
+    }
+
+    // 호출 한도가 풀릴 때까지 기다렸다 전송, 한도 초과로 거절되면 retryAfter 뒤 다시 전송 (deadline까지)
+    private String submitWithinLimit(Resource audio, long deadline) {
+        Duration wait = sttProvider.transcriptionWaitTime();
+        while (true) {
+            awaitSubmit(wait, deadline);
+            try {
+                return sttProvider.requestTranscription(audio);
+            } catch (SttRateLimitedException e) {
+                wait = e.getRetryAfter().compareTo(MIN_SUBMIT_RETRY) > 0 ? e.getRetryAfter() : MIN_SUBMIT_RETRY;
+                if (System.nanoTime() + wait.toNanos() - deadline > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void awaitSubmit(Duration wait, long deadline) {
+        if (wait.isZero() || wait.isNegative()) {
+            return;
+        }
+        if (System.nanoTime() + wait.toNanos() - deadline > 0) {
+            throw new SttRateLimitedException("구간 업로드 호출 한도 대기 시간 초과", wait);
+        }
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SttRateLimitedException("구간 업로드 대기 중단", wait);
+        }
+    }
+
+    private String saveGroup(List<SegmentedAudio.AudioSegment> segments, List<SegmentRequest> requests) {
+        String groupId = UUID.randomUUID().toString();
+        String key = STT_SEGMENT_GROUP_PREFIX + groupId;
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_COUNT, String.valueOf(segments.size()));
+        if (segments.size() == 1) {
+            fields.put(FIELD_PLAIN_SPEAKERS, "true");
+        }
+        for (SegmentedAudio.AudioSegment segment : segments) {
+            fields.putAll(segmentFields(segment.index(), requests.get(segment.index()),
+                    segment.offsetMs(), segment.durationMs()));
+        }
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, Duration.ofHours(groupTtlHours));
+        log.info("Requested segmented transcription {} ({} segments)", groupId, segments.size());
+        return groupRid(groupId);
+    }
+
+    private Map<String, String> segmentFields(int index, SegmentRequest request, long offsetMs, long durationMs) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(field(index, "rid"), request.rid());
+        if (request.timeMap() != null) {
+            fields.put(field(index, "timeMap"), toJson(request.timeMap()));
+        }
+        fields.put(field(index, "offsetMs"), String.valueOf(offsetMs));
+        fields.put(field(index, "durationMs"), String.valueOf(durationMs));
+        fields.put(field(index, "progress"), "0");
+        return fields;
+    }
+
+    private void saveResult(String key, int index, String content, List<SttTranscriptionResult.Utterance> utterances) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(field(index, "content"), content);
+        fields.put(field(index, "progress"), "100");
+        if (utterances != null) {
+            fields.put(field(index, "utterances"), toJson(utterances));
+        }
+        redisTemplate.opsForHash().putAll(key, fields);
+    }
+
+    private static int storedProgress(Map<Object, Object> fields, int index) {
+        String progress = (String) fields.get(field(index, "progress"));
+        return progress != null ? Integer.parseInt(progress) : 0;
+    }
+
+    private static String field(int index, String name) {
+        return index + ":" + name;
+    }
+
+    // 압축본 기준 발화 시각을 원본(구간) 기준으로
+    private static List<SttTranscriptionResult.Utterance> toOriginal(List<SttTranscriptionResult.Utterance> utterances,
+                                                                     WavSilenceTrimmer.TimeMap timeMap) {
+        if (utterances == null || timeMap == null) return utterances;
+        return utterances.stream()
+                .map(u -> new SttTranscriptionResult.Utterance(u.speaker(), timeMap.toOriginal(u.startMs()), u.text()))
+                .toList();
+    }
+
+    private String toJson(Object value) {
+        if (value == null) return null;
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<SttTranscriptionResult.Utterance> fromJson(String json) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, UTTERANCES);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read segment utterances: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private WavSilenceTrimmer.TimeMap timeMapFromJson(String json) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, WavSilenceTrimmer.TimeMap.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read segment time map: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 구간 업로드 실패는 원래 예외로 (SttRateLimitedException 등 호출 측 분기 유지)
+    private static <T> T unwrap(CompletableFuture<T> request) {
+        try {
+            return request.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
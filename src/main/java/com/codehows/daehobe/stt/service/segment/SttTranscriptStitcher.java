@@ -0,0 +1,55 @@
+package com.codehows.daehobe.stt.service.segment;
+
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 구간별 전사 결과를 원본 녹음 기준 하나의 본문으로 이어 붙이기
+ * - 발화 시작 시각 = 구간 오프셋 + 구간 내 시각
+ * - 화자 구분은 구간마다 따로 이뤄지므로 라벨을 "구간번호-화자"로 구분 (구간 간 동일 화자 여부는 알 수 없음)
+ *   구간 하나짜리 그룹(무음 압축만 한 녹음)은 segmentSpeakers = false로 화자 라벨 그대로
+ * - 발화 정보가 없는 결과(스텁 프로바이더 등)는 본문을 그대로 이어 붙임
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SttTranscriptStitcher {
+
+    public record Part(int index, long offsetMs, String content, List<SttTranscriptionResult.Utterance> utterances) {
+    }
+
+    public static String stitch(List<Part> parts, boolean segmentSpeakers) {
+        StringBuilder sb = new StringBuilder();
+        for (Part part : parts) {
+            if (part.utterances() == null || part.utterances().isEmpty()) {
+                if (part.content() != null) sb.append(part.content());
+                continue;
+            }
+            for (SttTranscriptionResult.Utterance utterance : part.utterances()) {
+                String speaker = segmentSpeakers ? (part.index() + 1) + "-" + utterance.speaker() : utterance.speaker();
+                sb.append(renderSpeakerBlock(speaker,
+                        part.offsetMs() + utterance.startMs(), utterance.text()));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String renderSpeakerBlock(String speaker, long startMs, String text) {
+        return String.format(
+                """
+                > **화자 %s** (%s)
+                >
+                > %s
+                >
+
+                """,
+                speaker, formatTime(startMs), text.trim()
+        );
+    }
+
+    private static String formatTime(long millis) {
+        long seconds = millis / 1000;
+        return String.format("%02d:%02d:%02d", seconds / 3600, (seconds % 3600) / 60, seconds % 60);
+    }
+}
@@ -0,0 +1,136 @@
+package com.codehows.daehobe.common.utils;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ffmpeg 대신 stdin을 그대로 출력 파일에 쓰는 셸 프로세스로 세션 수명주기 검증
+ */
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisabledOnOs(OS.WINDOWS)
+@DisplayName("스트리밍 인코딩 세션 테스트")
+class StreamingEncodeSessionTest {
+
+    @TempDir
+    Path tempDir;
+
+    private StreamingEncodeSession start(String script, Path output) throws IOException {
+        return start(script, output, 1 << 20);
+    }
+
+    private StreamingEncodeSession start(String script, Path output, long maxPendingBytes) throws IOException {
+        Path log = tempDir.resolve("encode.log");
+        Process process = new ProcessBuilder("sh", "-c", script, "sh", output.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new StreamingEncodeSession(process, output, log, 5, maxPendingBytes);
+    }
+
+    private FileChannel source(String content) throws IOException {
+        Path raw = tempDir.resolve("raw.webm");
+        Files.writeString(raw, content);
+        return FileChannel.open(raw, StandardOpenOption.READ);
+    }
+
+    @Test
+    @DisplayName("성공: 전달한 구간이 순서대로 기록되고 결과 파일로 이동")
+    void finish_Success_OutputMovedToTarget() throws Exception {
+        // given
+        Path output = tempDir.resolve("encoding.wav");
+        Path target = tempDir.resolve("encoded.wav");
+        StreamingEncodeSession session = start("cat > \"$1\"", output);
+
+        // when: 원본 채널은 finish(입력 전달 완료)까지 열려 있어야 함
+        boolean finished;
+        try (FileChannel raw = source("chunk-1chunk-2")) {
+            session.feed(raw, 0, 7);
+            session.feed(raw, 7, 7);
+            finished = session.finish(target);
+        }
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(Files.readString(target, StandardCharsets.UTF_8)).isEqualTo("chunk-1chunk-2");
+        assertThat(output).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("실패: 비정상 종료 코드면 false, 임시 출력 삭제")
+    void finish_NonZeroExit_ReturnsFalse() throws Exception {
+        // given
+        Path output = tempDir.resolve("encoding.wav");
+        Path target = tempDir.resolve("encoded.wav");
+        StreamingEncodeSession session = start("cat > \"$1\"; exit 1", output);
+
+        // when
+        boolean finished;
+        try (FileChannel raw = source("chunk-1")) {
+            session.feed(raw, 0, 7);
+            finished = session.finish(target);
+        }
+
+        // then
+        assertThat(finished).isFalse();
+        assertThat(session.isBroken()).isTrue();
+        assertThat(output).doesNotExist();
+        assertThat(target).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("입력 실패: 프로세스가 먼저 종료되면 broken 처리")
+    void feed_ProcessGone_MarkedBroken() throws Exception {
+        // given
+        Path output = tempDir.resolve("encoding.wav");
+        StreamingEncodeSession session = start("exit 0", output);
+        Thread.sleep(200);
+
+        // when: 파이프 버퍼를 넘겨 쓰기 실패 유도
+        boolean fed;
+        try (FileChannel raw = source("x".repeat(1 << 20))) {
+            session.feed(raw, 0, raw.size());
+            fed = session.awaitFed();
+        }
+
+        // then
+        assertThat(fed).isFalse();
+        assertThat(session.isBroken()).isTrue();
+        assertThat(session.finish(tempDir.resolve("encoded.wav"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("입력 적체: ffmpeg가 읽지 않아도 feed는 막히지 않고, 한도를 넘으면 broken 처리")
+    void feed_StalledProcess_NotBlockingAndMarkedBroken() throws Exception {
+        // given: stdin을 읽지 않는 프로세스, 적체 한도 1KB
+        Path output = tempDir.resolve("encoding.wav");
+        StreamingEncodeSession session = start("exec sleep 30", output, 1024);
+
+        // when: 파이프 버퍼보다 큰 구간 두 번
+        long startedAt = System.nanoTime();
+        try (FileChannel raw = source("x".repeat(1 << 20))) {
+            session.feed(raw, 0, raw.size());
+            session.feed(raw, 0, raw.size());
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(elapsedMs).isLessThan(1000);
+            assertThat(session.isBroken()).isTrue();
+            assertThat(session.awaitFed()).isFalse();
+        }
+    }
+}
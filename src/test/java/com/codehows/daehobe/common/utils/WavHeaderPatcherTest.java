@@ -0,0 +1,217 @@
+package com.codehows.daehobe.common.utils;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("WAV 헤더 보정 테스트")
+class WavHeaderPatcherTest {
+
+    private static final int HEADER_SIZE = 44;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 스트리밍 녹음처럼 크기 필드가 0인 16비트 PCM WAV 헤더
+     */
+    private static ByteBuffer header(int sampleRate, int channels, int audioFormat) {
+        int blockAlign = channels * 2;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(0).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) audioFormat).putShort((short) channels)
+                .putInt(sampleRate).putInt(sampleRate * blockAlign)
+                .putShort((short) blockAlign).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(0);
+        return buffer.flip();
+    }
+
+    private Path wavFile(String name, int sampleRate, int channels, long dataBytes) throws IOException {
+        Path file = tempDir.resolve(name);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(header(sampleRate, channels, 1));
+            if (dataBytes > 0) {
+                // 희소 파일로 긴 녹음 크기만 재현
+                channel.write(ByteBuffer.allocate(1), HEADER_SIZE + dataBytes - 1);
+            }
+        }
+        return file;
+    }
+
+    private static long readUInt32(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(buffer, position);
+            return Integer.toUnsignedLong(buffer.flip().getInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("sniff / patchInPlace")
+    class PatchTest {
+
+        @Test
+        @DisplayName("재생 형식 PCM WAV: RIFF/data 크기를 실제 크기로 보정")
+        void patchInPlace_PlaybackWav_SizesFixed() throws Exception {
+            // given
+            Path file = wavFile("rec.wav", 48000, 2, 4000);
+
+            // when
+            boolean patched = WavHeaderPatcher.patchInPlace(file, AudioProfile.PLAYBACK_WAV);
+
+            // then
+            assertThat(patched).isTrue();
+            assertThat(readUInt32(file, 4)).isEqualTo(HEADER_SIZE + 4000 - 8);
+            assertThat(readUInt32(file, 40)).isEqualTo(4000);
+        }
+
+        @Test
+        @DisplayName("불완전 마지막 프레임은 잘라냄")
+        void patchInPlace_PartialFrame_Truncated() throws Exception {
+            // given: 4바이트 프레임 + 3바이트 잔여
+            Path file = wavFile("rec.wav", 48000, 2, 4003);
+
+            // when
+            WavHeaderPatcher.patchInPlace(file, AudioProfile.PLAYBACK_WAV);
+
+            // then
+            assertThat(Files.size(file)).isEqualTo(HEADER_SIZE + 4000);
+            assertThat(readUInt32(file, 40)).isEqualTo(4000);
+        }
+
+        @Test
+        @DisplayName("샘플레이트가 다르면 보정하지 않음 (ffmpeg 변환 필요)")
+        void patchInPlace_DifferentRate_NotPatched() throws Exception {
+            // given
+            Path file = wavFile("rec.wav", 44100, 2, 4000);
+
+            // when
+            boolean patched = WavHeaderPatcher.patchInPlace(file, AudioProfile.PLAYBACK_WAV);
+
+            // then
+            assertThat(patched).isFalse();
+            assertThat(readUInt32(file, 40)).isZero();
+            assertThat(WavHeaderPatcher.matches(file, AudioProfile.PLAYBACK_WAV)).isFalse();
+        }
+
+        @Test
+        @DisplayName("16kHz 모노 PCM은 WAV_16K_MONO 프로파일과 일치")
+        void matches_16kMono() throws Exception {
+            // given
+            Path file = wavFile("rec.wav", 16000, 1, 3200);
+
+            // when & then
+            assertThat(WavHeaderPatcher.matches(file, AudioProfile.WAV_16K_MONO)).isTrue();
+            assertThat(WavHeaderPatcher.matches(file, AudioProfile.FLAC_16K_MONO)).isFalse();
+        }
+
+        @Test
+        @DisplayName("WAV가 아니면 (webm 등) sniff 결과 없음")
+        void sniff_NotWav_Empty() throws Exception {
+            // given
+            Path file = Files.write(tempDir.resolve("rec.webm"), new byte[]{0x1A, 0x45, (byte) 0xDF, (byte) 0xA3, 0, 0, 0, 0, 0, 0, 0, 0});
+
+            // when & then
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                assertThat(WavHeaderPatcher.sniff(channel)).isEmpty();
+            }
+            assertThat(WavHeaderPatcher.patchInPlace(file, AudioProfile.PLAYBACK_WAV)).isFalse();
+        }
+
+        @Test
+        @DisplayName("AudioProcessor: 재생 형식이면 ffmpeg 없이 헤더 보정 후 이동")
+        void fixAudioMetadata_PlaybackWav_SkipsFfmpeg() throws Exception {
+            // given: 존재하지 않는 ffmpeg 경로 → 호출되면 실패
+            AudioProcessor audioProcessor = new AudioProcessor();
+            ReflectionTestUtils.setField(audioProcessor, "ffmpegPath", tempDir.resolve("no-ffmpeg").toString());
+            Path input = wavFile("rec.wav", 48000, 2, 4000);
+            Path output = tempDir.resolve("encoded.wav");
+
+            // when
+            audioProcessor.fixAudioMetadata(input, output);
+
+            // then
+            assertThat(output).exists();
+            assertThat(input).doesNotExist();
+            assertThat(readUInt32(output, 40)).isEqualTo(4000);
+        }
+    }
+
+    /**
+     * 1시간 녹음(48kHz 스테레오 16비트 ≈ 691MB) 처리 시간 비교
+     */
+    @Nested
+    @DisplayName("1시간 파일 처리 시간")
+    class TimedTest {
+
+        private static final long ONE_HOUR_PCM_BYTES = 48000L * 2 * 2 * 3600;
+
+        @Test
+        @DisplayName("헤더 보정: 파일 크기와 무관하게 수 ms 내 완료")
+        void patchInPlace_OneHour_Fast() throws Exception {
+            // given
+            Path file = wavFile("one-hour.wav", 48000, 2, ONE_HOUR_PCM_BYTES);
+
+            // when
+            long start = System.nanoTime();
+            boolean patched = WavHeaderPatcher.patchInPlace(file, AudioProfile.PLAYBACK_WAV);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            System.out.printf("[WAV] 1시간 파일 헤더 보정: %d ms%n", elapsedMs);
+            assertThat(patched).isTrue();
+            assertThat(readUInt32(file, 40)).isEqualTo(ONE_HOUR_PCM_BYTES);
+            assertThat(elapsedMs).isLessThan(1000);
+        }
+
+        @Test
+        @EnabledIf("ffmpegAvailable")
+        @DisplayName("ffmpeg 전체 인코딩 대비 헤더 보정이 더 빠름")
+        void patchInPlace_OneHour_FasterThanFfmpeg() throws Exception {
+            // given
+            AudioProcessor audioProcessor = new AudioProcessor();
+            ReflectionTestUtils.setField(audioProcessor, "ffmpegPath", "ffmpeg");
+            Path ffmpegInput = wavFile("ffmpeg-in.wav", 48000, 2, ONE_HOUR_PCM_BYTES);
+            Path patchInput = wavFile("patch-in.wav", 48000, 2, ONE_HOUR_PCM_BYTES);
+
+            // when
+            long ffmpegStart = System.nanoTime();
+            audioProcessor.transcode(ffmpegInput, tempDir.resolve("ffmpeg-out.wav"), AudioProfile.PLAYBACK_WAV);
+            long ffmpegMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ffmpegStart);
+
+            long patchStart = System.nanoTime();
+            audioProcessor.fixAudioMetadata(patchInput, tempDir.resolve("patch-out.wav"));
+            long patchMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - patchStart);
+
+            // then
+            System.out.printf("[WAV] 1시간 파일 - ffmpeg: %d ms, 헤더 보정: %d ms%n", ffmpegMs, patchMs);
+            assertThat(patchMs).isLessThan(ffmpegMs);
+        }
+
+        static boolean ffmpegAvailable() {
+            try {
+                return new ProcessBuilder("ffmpeg", "-version").start().waitFor() == 0;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.codehows.daehobe.common.utils;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("WAV 무음 경계 분할 테스트")
+class WavSegmenterTest {
+
+    private static final int SAMPLE_RATE = 16000;
+    private static final int HEADER_SIZE = 44;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 16kHz 모노 16비트 PCM: 전체 구간 ±8000 진폭, silences(초 단위 [시작, 끝])만 0
+     */
+    private Path wavWithSilences(String name, int seconds, double[]... silences) throws IOException {
+        int frames = SAMPLE_RATE * seconds;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(36 + frames * 2).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2)
+                .putShort((short) 2).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(frames * 2);
+        for (int i = 0; i < frames; i++) {
+            double t = (double) i / SAMPLE_RATE;
+            boolean silent = Arrays.stream(silences).anyMatch(s -> t >= s[0] && t < s[1]);
+            buffer.putShort(silent ? 0 : (short) (i % 2 == 0 ? 8000 : -8000));
+        }
+        Path file = tempDir.resolve(name);
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    @Nested
+    @DisplayName("plan")
+    class PlanTest {
+
+        @Test
+        @DisplayName("이상적인 절단 위치 주변의 무음 구간에서 절단")
+        void plan_CutsInsideSilence() throws Exception {
+            // given: 30초, 이상적인 절단 10초/20초, 무음은 9.0~9.5초 / 21.0~21.5초
+            Path file = wavWithSilences("long.wav", 30, new double[]{9.0, 9.5}, new double[]{21.0, 21.5});
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WavHeaderPatcher.WavFormat format = WavHeaderPatcher.sniff(channel).orElseThrow();
+
+                // when
+                List<WavSegmenter.Segment> segments = WavSegmenter.plan(channel, format, 3,
+                        5L * SAMPLE_RATE, SAMPLE_RATE * 300L / 1000);
+
+                // then
+                assertThat(segments).hasSize(3);
+                assertThat(segments.get(0).offsetMs()).isZero();
+                assertThat(segments.get(1).offsetMs()).isBetween(9000L, 9500L);
+                assertThat(segments.get(2).offsetMs()).isBetween(21000L, 21500L);
+                assertThat(segments.stream().mapToLong(WavSegmenter.Segment::frameCount).sum())
+                        .isEqualTo(30L * SAMPLE_RATE);
+            }
+        }
+
+        @Test
+        @DisplayName("탐색 구간에 무음이 없으면 가장 조용한 위치(또는 이상적인 위치)로 프레임 경계 유지")
+        void plan_NoSilence_StillFrameAligned() throws Exception {
+            // given
+            Path file = wavWithSilences("flat.wav", 10);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WavHeaderPatcher.WavFormat format = WavHeaderPatcher.sniff(channel).orElseThrow();
+
+                // when
+                List<WavSegmenter.Segment> segments = WavSegmenter.plan(channel, format, 2,
+                        2L * SAMPLE_RATE, SAMPLE_RATE * 300L / 1000);
+
+                // then
+                assertThat(segments).hasSize(2);
+                assertThat(segments.get(1).startFrame()).isBetween(3L * SAMPLE_RATE, 7L * SAMPLE_RATE);
+                assertThat(segments.get(0).frameCount() + segments.get(1).frameCount()).isEqualTo(10L * SAMPLE_RATE);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("copy")
+    class CopyTest {
+
+        @Test
+        @DisplayName("구간 복사: 올바른 헤더 + 원본 PCM 범위와 동일한 데이터")
+        void copy_WritesHeaderAndExactRange() throws Exception {
+            // given
+            Path file = wavWithSilences("source.wav", 4, new double[]{1.0, 2.0});
+            Path target = tempDir.resolve("segment.wav");
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WavHeaderPatcher.WavFormat format = WavHeaderPatcher.sniff(channel).orElseThrow();
+                WavSegmenter.Segment segment = new WavSegmenter.Segment(1, SAMPLE_RATE / 2, SAMPLE_RATE, 500, 1000);
+
+                // when
+                WavSegmenter.copy(channel, format, segment, target);
+            }
+
+            // then
+            byte[] source = Files.readAllBytes(file);
+            byte[] copied = Files.readAllBytes(target);
+            assertThat(copied).hasSize(HEADER_SIZE + SAMPLE_RATE * 2);
+            assertThat(Arrays.copyOfRange(copied, HEADER_SIZE, copied.length))
+                    .isEqualTo(Arrays.copyOfRange(source, HEADER_SIZE + SAMPLE_RATE, HEADER_SIZE + SAMPLE_RATE * 3));
+            assertThat(WavHeaderPatcher.matches(target, AudioProfile.WAV_16K_MONO)).isTrue();
+            assertThat(ByteBuffer.wrap(copied, 40, 4).order(ByteOrder.LITTLE_ENDIAN).getInt())
+                    .isEqualTo(SAMPLE_RATE * 2);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.codehows.daehobe.common.utils;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("WAV 무음 압축 테스트")
+class WavSilenceTrimmerTest {
+
+    private static final int SAMPLE_RATE = 16000;
+    private static final int HEADER_SIZE = 44;
+    private static final WavSilenceTrimmer.Settings SETTINGS =
+            new WavSilenceTrimmer.Settings(20, 300, 0.25, 2000, 500);
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 16kHz 모노 16비트 PCM: 전체 구간 ±8000 진폭, silences(초 단위 [시작, 끝])만 ±20 잡음
+     */
+    private Path wavWithSilences(String name, int seconds, double[]... silences) throws IOException {
+        int frames = SAMPLE_RATE * seconds;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(36 + frames * 2).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2)
+                .putShort((short) 2).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(frames * 2);
+        for (int i = 0; i < frames; i++) {
+            double t = (double) i / SAMPLE_RATE;
+            boolean silent = Arrays.stream(silences).anyMatch(s -> t >= s[0] && t < s[1]);
+            int amplitude = silent ? 20 : 8000;
+            buffer.putShort((short) (i % 2 == 0 ? amplitude : -amplitude));
+        }
+        Path file = tempDir.resolve(name);
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    @Nested
+    @DisplayName("plan")
+    class PlanTest {
+
+        @Test
+        @DisplayName("긴 무음은 앞뒤 여유만 남기고 제거, 짧은 무음은 그대로")
+        void plan_LongSilenceCompressed_ShortSilenceKept() throws Exception {
+            // given: 20초, 긴 무음 5~15초, 짧은 무음 16.0~16.5초
+            Path file = wavWithSilences("meeting.wav", 20, new double[]{5.0, 15.0}, new double[]{16.0, 16.5});
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WavHeaderPatcher.WavFormat format = WavHeaderPatcher.sniff(channel).orElseThrow();
+
+                // when
+                List<WavSilenceTrimmer.Range> ranges = WavSilenceTrimmer.plan(channel, format, SETTINGS);
+
+                // then: [0, 5.25초) + [14.75초, 20초)
+                assertThat(ranges).containsExactly(
+                        new WavSilenceTrimmer.Range(0, SAMPLE_RATE * 21L / 4),
+                        new WavSilenceTrimmer.Range(SAMPLE_RATE * 59L / 4, SAMPLE_RATE * 20L));
+                assertThat(WavSilenceTrimmer.keptFrames(ranges)).isEqualTo(SAMPLE_RATE * 21L / 2);
+            }
+        }
+
+        @Test
+        @DisplayName("무음이 없으면 전체 한 범위")
+        void plan_NoSilence_WholeRange() throws Exception {
+            // given
+            Path file = wavWithSilences("speech.wav", 5);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WavHeaderPatcher.WavFormat format = WavHeaderPatcher.sniff(channel).orElseThrow();
+
+                // when
+                List<WavSilenceTrimmer.Range> ranges = WavSilenceTrimmer.plan(channel, format, SETTINGS);
+
+                // then
+                assertThat(ranges).containsExactly(new WavSilenceTrimmer.Range(0, SAMPLE_RATE * 5L));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("write / timeMap")
+    class WriteTest {
+
+        @Test
+        @DisplayName("남긴 범위를 이어 붙인 WAV + 압축본 시각을 원본 시각으로 변환")
+        void write_ConcatenatesRangesAndMapsTimes() throws Exception {
+            // given
+            Path file = wavWithSilences("meeting.wav", 20, new double[]{5.0, 15.0});
+            Path target = tempDir.resolve("trimmed.wav");
+            List<WavSilenceTrimmer.Range> ranges;
+            WavSilenceTrimmer.TimeMap timeMap;
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WavHeaderPatcher.WavFormat format = WavHeaderPatcher.sniff(channel).orElseThrow();
+                ranges = WavSilenceTrimmer.plan(channel, format, SETTINGS);
+
+                // when
+                WavSilenceTrimmer.write(channel, format, ranges, target);
+                timeMap = WavSilenceTrimmer.timeMap(format, ranges);
+            }
+
+            // then
+            byte[] source = Files.readAllBytes(file);
+            byte[] trimmed = Files.readAllBytes(target);
+            int firstBytes = (int) ranges.get(0).frameCount() * 2;
+            assertThat(trimmed).hasSize(HEADER_SIZE + (int) WavSilenceTrimmer.keptFrames(ranges) * 2);
+            assertThat(WavHeaderPatcher.matches(target, AudioProfile.WAV_16K_MONO)).isTrue();
+            assertThat(Arrays.copyOfRange(trimmed, HEADER_SIZE + firstBytes, trimmed.length))
+                    .isEqualTo(Arrays.copyOfRange(source,
+                            HEADER_SIZE + (int) ranges.get(1).startFrame() * 2, source.length));
+            assertThat(timeMap.toOriginal(3_000)).isEqualTo(3_000);
+            assertThat(timeMap.toOriginal(6_000)).isEqualTo(15_500);
+        }
+    }
+}
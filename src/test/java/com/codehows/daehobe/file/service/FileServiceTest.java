@@ -37,6 +37,8 @@ class FileServiceTest {
     private FileRepository fileRepository;
     @Mock
     private AudioProcessor audioProcessor;
+    @Mock
+    private RecordingChunkWriter recordingChunkWriter;
 
     @InjectMocks
     private FileService fileService;
@@ -0,0 +1,343 @@
+package com.codehows.daehobe.file.service;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.constant.TargetType;
+import com.codehows.daehobe.common.utils.AudioProcessor;
+import com.codehows.daehobe.common.utils.StreamingEncodeSession;
+import com.codehows.daehobe.file.entity.File;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("녹음 청크 기록 테스트")
+class RecordingChunkWriterTest {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    @TempDir
+    Path tempDir;
+
+    private AudioProcessor audioProcessor;
+    private RecordingChunkWriter writer;
+    private AtomicInteger metadataLoads;
+
+    @BeforeEach
+    void setUp() {
+        audioProcessor = mock(AudioProcessor.class);
+        writer = new RecordingChunkWriter(8, audioProcessor);
+        ReflectionTestUtils.setField(writer, "fileLocation", tempDir.toString());
+        ReflectionTestUtils.setField(writer, "idleTimeoutMs", 300000L);
+        metadataLoads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.closeAll();
+    }
+
+    private Supplier<File> loader(Long sttId) {
+        return () -> {
+            metadataLoads.incrementAndGet();
+            return File.builder()
+                    .fileId(sttId)
+                    .savedName("stt-recording-" + sttId + ".wav")
+                    .targetId(sttId)
+                    .targetType(TargetType.STT)
+                    .build();
+        };
+    }
+
+    private MockMultipartFile chunk(byte value) {
+        byte[] bytes = new byte[CHUNK_SIZE];
+        Arrays.fill(bytes, value);
+        return new MockMultipartFile("chunk", "chunk.wav", "audio/wav", bytes);
+    }
+
+    @Test
+    @DisplayName("연속 청크: 순서대로 이어 쓰고 메타데이터는 세션당 한 번만 조회")
+    void append_Sequential_AppendedInOrderWithCachedMetadata() throws Exception {
+        // when
+        for (byte i = 0; i < 5; i++) {
+            writer.append(1L, chunk(i), loader(1L));
+        }
+        writer.close(1L);
+
+        // then
+        byte[] written = Files.readAllBytes(tempDir.resolve("stt-recording-1.wav"));
+        assertThat(written).hasSize(CHUNK_SIZE * 5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(written[i * CHUNK_SIZE]).isEqualTo((byte) i);
+        }
+        assertThat(metadataLoads.get()).isEqualTo(1);
+        assertThat(writer.getOpenSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("디스크 임시 청크: 파일 스트림 청크도 메모리 청크 뒤에 이어 씀")
+    void append_DiskBackedChunk_AppendedAtEnd() throws Exception {
+        // given: 서블릿 컨테이너가 디스크에 임시 저장한 청크 (파일 채널 기반 스트림)
+        Path spooled = Files.write(tempDir.resolve("upload.tmp"), chunk((byte) 2).getBytes());
+        MultipartFile diskChunk = mock(MultipartFile.class);
+        when(diskChunk.getSize()).thenReturn((long) CHUNK_SIZE);
+        when(diskChunk.getInputStream()).thenAnswer(invocation -> Files.newInputStream(spooled));
+
+        // when
+        writer.append(1L, chunk((byte) 1), loader(1L));
+        writer.append(1L, diskChunk, loader(1L));
+        writer.append(1L, chunk((byte) 3), loader(1L));
+        writer.close(1L);
+
+        // then
+        byte[] written = Files.readAllBytes(tempDir.resolve("stt-recording-1.wav"));
+        assertThat(written).hasSize(CHUNK_SIZE * 3);
+        assertThat(written[0]).isEqualTo((byte) 1);
+        assertThat(written[CHUNK_SIZE]).isEqualTo((byte) 2);
+        assertThat(written[CHUNK_SIZE * 3 - 1]).isEqualTo((byte) 3);
+    }
+
+    @Test
+    @DisplayName("동시 청크: 같은 녹음의 청크가 섞이지 않고 모두 기록됨")
+    void append_Concurrent_ChunksNotInterleaved() throws Exception {
+        // given
+        int threads = 8;
+        int chunksPerThread = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                byte value = (byte) (t + 1);
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    for (int c = 0; c < chunksPerThread; c++) {
+                        writer.append(1L, chunk(value), loader(1L));
+                    }
+                    return null;
+                }));
+            }
+
+            // when
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        writer.close(1L);
+
+        // then: 청크 단위 블록마다 한 스레드의 값만 존재
+        byte[] written = Files.readAllBytes(tempDir.resolve("stt-recording-1.wav"));
+        assertThat(written).hasSize(CHUNK_SIZE * threads * chunksPerThread);
+        for (int offset = 0; offset < written.length; offset += CHUNK_SIZE) {
+            byte first = written[offset];
+            for (int i = offset; i < offset + CHUNK_SIZE; i++) {
+                assertThat(written[i]).isEqualTo(first);
+            }
+        }
+        assertThat(metadataLoads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("closeAndRun: 세션을 닫은 뒤 작업 실행, 이후 청크는 새 세션으로 기록")
+    void closeAndRun_SessionClosedBeforeAction() throws Exception {
+        // given
+        writer.append(1L, chunk((byte) 1), loader(1L));
+
+        // when
+        Long size = writer.closeAndRun(1L, encoder -> {
+            assertThat(writer.getOpenSessionCount()).isZero();
+            return tempDir.resolve("stt-recording-1.wav").toFile().length();
+        });
+        writer.append(1L, chunk((byte) 2), loader(1L));
+
+        // then
+        assertThat(size).isEqualTo(CHUNK_SIZE);
+        assertThat(metadataLoads.get()).isEqualTo(2);
+        assertThat(Files.size(tempDir.resolve("stt-recording-1.wav"))).isEqualTo(CHUNK_SIZE * 2L);
+    }
+
+    @Test
+    @DisplayName("closeAndRun: 작업 중에도 같은 stripe의 다른 녹음은 기록, 같은 녹음 청크는 거부")
+    void closeAndRun_ActionRunsOutsideStripeLock() throws Exception {
+        // given: stripe 8개 → 1L과 9L은 같은 stripe
+        writer.append(1L, chunk((byte) 1), loader(1L));
+        writer.append(9L, chunk((byte) 1), loader(9L));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // when
+            writer.closeAndRun(1L, encoder -> {
+                Future<File> otherRecording = executor.submit(() -> writer.append(9L, chunk((byte) 2), loader(9L)));
+                assertThatCode(() -> otherRecording.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+                assertThatThrownBy(() -> writer.append(1L, chunk((byte) 2), loader(1L)))
+                        .isInstanceOf(IllegalStateException.class);
+                return null;
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then: 작업이 끝나면 다시 기록 가능
+        writer.append(1L, chunk((byte) 3), loader(1L));
+        assertThat(Files.size(tempDir.resolve("stt-recording-9.wav"))).isEqualTo(CHUNK_SIZE * 2L);
+        assertThat(Files.size(tempDir.resolve("stt-recording-1.wav"))).isEqualTo(CHUNK_SIZE * 2L);
+    }
+
+    @Test
+    @DisplayName("유휴 세션: 청크가 끊긴 세션의 채널을 닫음")
+    void closeIdleSessions_IdleSessionClosed() {
+        // given
+        ReflectionTestUtils.setField(writer, "idleTimeoutMs", -1L);
+        writer.append(1L, chunk((byte) 1), loader(1L));
+
+        // when
+        writer.closeIdleSessions();
+
+        // then
+        assertThat(writer.getOpenSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 세션: 최근에 청크가 기록된 세션과 인코더는 유지")
+    void closeIdleSessions_RecentlyWritten_Kept() {
+        // given
+        StreamingEncodeSession encoder = mock(StreamingEncodeSession.class);
+        when(audioProcessor.startStreamingEncode(any())).thenReturn(encoder);
+        writer.append(1L, chunk((byte) 1), loader(1L));
+
+        // when
+        writer.closeIdleSessions();
+
+        // then
+        assertThat(writer.getOpenSessionCount()).isEqualTo(1);
+        verify(encoder, never()).abort();
+    }
+
+    @Test
+    @DisplayName("메타데이터 조회 실패 시 예외 전파, 세션 생성 안 함")
+    void append_MetadataNotFound_Throws() {
+        // when & then
+        assertThatThrownBy(() -> writer.append(1L, chunk((byte) 1), () -> {
+            throw new EntityNotFoundException("File not found");
+        })).isInstanceOf(EntityNotFoundException.class);
+        assertThat(writer.getOpenSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("스트리밍 인코딩: 새 녹음이면 인코더를 열고 청크 구간을 그대로 전달")
+    void append_NewRecording_ChunksFedToStreamingEncoder() {
+        // given
+        StreamingEncodeSession encoder = mock(StreamingEncodeSession.class);
+        when(audioProcessor.startStreamingEncode(any())).thenReturn(encoder);
+
+        // when
+        writer.append(1L, chunk((byte) 1), loader(1L));
+        writer.append(1L, chunk((byte) 2), loader(1L));
+
+        // then
+        verify(audioProcessor, times(1)).startStreamingEncode(any());
+        verify(encoder).feed(any(), eq(0L), eq((long) CHUNK_SIZE));
+        verify(encoder).feed(any(), eq((long) CHUNK_SIZE), eq((long) CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("스트리밍 인코딩: 이미 기록된 녹음을 다시 열면 인코더를 시작하지 않음")
+    void append_ResumedRecording_NoStreamingEncoder() {
+        // given
+        writer.append(1L, chunk((byte) 1), loader(1L));
+        writer.close(1L);
+        clearInvocations(audioProcessor);
+
+        // when
+        writer.append(1L, chunk((byte) 2), loader(1L));
+
+        // then
+        verify(audioProcessor, never()).startStreamingEncode(any());
+    }
+
+    @Test
+    @DisplayName("closeAndRun: 인코더를 작업에 전달하고 작업 후 정리")
+    void closeAndRun_EncoderHandedToActionThenCleanedUp() {
+        // given
+        StreamingEncodeSession encoder = mock(StreamingEncodeSession.class);
+        when(audioProcessor.startStreamingEncode(any())).thenReturn(encoder);
+        writer.append(1L, chunk((byte) 1), loader(1L));
+
+        // when
+        StreamingEncodeSession handed = writer.closeAndRun(1L, e -> e);
+
+        // then: 밀린 입력을 다 보낸 뒤 작업에 전달, 작업 후 정리
+        assertThat(handed).isSameAs(encoder);
+        InOrder inOrder = inOrder(encoder);
+        inOrder.verify(encoder).awaitFed();
+        inOrder.verify(encoder).abort();
+    }
+
+    @Test
+    @DisplayName("closeAndRun: 실패한 인코더는 전달하지 않음 (전체 인코딩으로 대체)")
+    void closeAndRun_BrokenEncoder_NotHanded() {
+        // given
+        StreamingEncodeSession encoder = mock(StreamingEncodeSession.class);
+        when(encoder.isBroken()).thenReturn(true);
+        when(audioProcessor.startStreamingEncode(any())).thenReturn(encoder);
+        writer.append(1L, chunk((byte) 1), loader(1L));
+
+        // when
+        StreamingEncodeSession handed = writer.closeAndRun(1L, e -> e);
+
+        // then
+        assertThat(handed).isNull();
+    }
+
+    @Test
+    @DisplayName("스트리밍 인코딩: 첫 청크가 이미 재생 형식 PCM WAV면 인코더를 시작하지 않음")
+    void append_PlaybackWavChunk_NoStreamingEncoder() {
+        // given: 48kHz 스테레오 16비트 PCM 헤더 + 데이터
+        ByteBuffer header = ByteBuffer.allocate(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes()).putInt(0).put("WAVE".getBytes());
+        header.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) 1).putShort((short) 2).putInt(48000).putInt(48000 * 4)
+                .putShort((short) 4).putShort((short) 16);
+        header.put("data".getBytes()).putInt(0);
+        MockMultipartFile wavChunk = new MockMultipartFile("chunk", "chunk.wav", "audio/wav", header.array());
+
+        // when
+        writer.append(1L, wavChunk, loader(1L));
+        writer.append(1L, chunk((byte) 2), loader(1L));
+
+        // then
+        verify(audioProcessor, never()).startStreamingEncode(any());
+        assertThat(writer.<StreamingEncodeSession>closeAndRun(1L, e -> e)).isNull();
+    }
+}
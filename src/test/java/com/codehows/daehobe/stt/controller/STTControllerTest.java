@@ -32,6 +32,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -78,7 +80,7 @@ class STTControllerTest {
     void getSTTStatus_Success() throws Exception {
         // given
         STTDto sttDto = STTDto.builder().id(TEST_STT_ID).status(STT.Status.PROCESSING).build();
-        given(sttService.getDynamicSttStatus(eq(TEST_STT_ID))).willReturn(sttDto);
+        given(sttService.getDynamicSttStatus(eq(TEST_STT_ID), eq(true))).willReturn(sttDto);
 
         // when
         ResultActions result = mockMvc.perform(get("/stt/status/{id}", TEST_STT_ID).with(csrf()));
@@ -89,6 +91,25 @@ class STTControllerTest {
                 .andExpect(jsonPath("$.status").value(STT.Status.PROCESSING.name()));
     }
 
+    @Test
+    @DisplayName("성공: STT 상태만 조회 (includeContent=false)")
+    @WithMockUser
+    void getSTTStatus_WithoutContent_Success() throws Exception {
+        // given
+        STTDto sttDto = STTDto.builder().id(TEST_STT_ID).status(STT.Status.PROCESSING).progress(40).build();
+        given(sttService.getDynamicSttStatus(eq(TEST_STT_ID), eq(false))).willReturn(sttDto);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/stt/status/{id}", TEST_STT_ID)
+                .param("includeContent", "false")
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.progress").value(40))
+                .andExpect(jsonPath("$.content").doesNotExist());
+    }
+
     @Test
     @DisplayName("성공: 녹음 시작")
     @WithMockUser
@@ -97,7 +118,7 @@ class STTControllerTest {
         StartRecordingRequest request = new StartRecordingRequest();
         ReflectionTestUtils.setField(request, "meetingId", TEST_MEETING_ID);
         STTDto sttDto = STTDto.builder().id(TEST_STT_ID).status(STT.Status.RECORDING).build();
-        given(sttService.startRecording(eq(TEST_MEETING_ID))).willReturn(sttDto);
+        given(sttService.startRecording(eq(TEST_MEETING_ID), eq(false))).willReturn(sttDto);
 
         // when
         ResultActions result = mockMvc.perform(post("/stt/recording/start")
@@ -201,4 +222,45 @@ class STTControllerTest {
                 .andExpect(jsonPath("$.id").value(TEST_STT_ID))
                 .andExpect(jsonPath("$.status").value(STT.Status.PROCESSING.name()));
     }
+
+    @Test
+    @DisplayName("성공: 비동기 파일 업로드 - 202 Accepted + sttId 즉시 반환")
+    @WithMockUser
+    void uploadAndTranslate_Async_Accepted() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "audio.wav", "audio/wav", "audio data".getBytes());
+        STTDto sttDto = STTDto.builder().id(TEST_STT_ID).status(STT.Status.PROCESSING).build();
+        given(sttService.submitUpload(eq(TEST_MEETING_ID), any(MultipartFile.class))).willReturn(sttDto);
+
+        // when
+        ResultActions result = mockMvc.perform(multipart("/stt/upload/{id}", TEST_MEETING_ID)
+                .file(file)
+                .param("async", "true")
+                .contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(TEST_STT_ID));
+        verify(sttService, never()).uploadAndTranslate(any(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 비동기 녹음 완료 - 202 Accepted")
+    @WithMockUser
+    void finishRecording_Async_Accepted() throws Exception {
+        // given
+        STTDto sttDto = STTDto.builder().id(TEST_STT_ID).status(STT.Status.PROCESSING).build();
+        given(sttService.submitRecorded(eq(TEST_STT_ID))).willReturn(sttDto);
+
+        // when
+        ResultActions result = mockMvc.perform(post("/stt/{sttId}/recording/finish", TEST_STT_ID)
+                .param("async", "true")
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(TEST_STT_ID));
+        verify(sttService, never()).startTranslateForRecorded(any());
+    }
 }
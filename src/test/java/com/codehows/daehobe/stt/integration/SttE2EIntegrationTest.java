@@ -13,6 +13,7 @@ import com.codehows.daehobe.stt.repository.STTRepository;
 import com.codehows.daehobe.stt.service.STTService;
 import com.codehows.daehobe.stt.service.cache.SttCacheService;
 import com.codehows.daehobe.stt.service.processing.SttJobProcessor;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
@@ -84,6 +85,9 @@ class SttE2EIntegrationTest {
     @Autowired
     private SttJobProcessor sttJobProcessor;
 
+    @Autowired
+    private SttRecordingDeadlineService sttRecordingDeadlineService;
+
     @Autowired
     private STTRepository sttRepository;
 
@@ -94,7 +98,7 @@ class SttE2EIntegrationTest {
     private FileService fileService;
 
     private static final String STT_STATUS_PREFIX = "stt:status:";
-    private static final String STT_HEARTBEAT_PREFIX = "stt:recording:heartbeat:";
+    private static final String STT_RECORDING_DEADLINES = "stt:recording:deadlines";
     private static final String STT_POLLING_PROCESSING_SET = "stt:polling:processing";
     private static final String STT_POLLING_SUMMARIZING_SET = "stt:polling:summarizing";
 
@@ -405,24 +409,22 @@ class SttE2EIntegrationTest {
 
     @Test
     @Order(10)
-    @DisplayName("10. Heartbeat 만료 - TTL 만료로 키 삭제 확인")
-    void heartbeatExpiry_TtlExpired_KeyRemoved() {
-        // given
+    @DisplayName("10. 녹음 생존 마감 만료 - 스위퍼가 한 번만 가져감")
+    void recordingDeadline_Expired_ClaimedOnce() {
+        // given - 1초 뒤 마감
         Long sttId = 11L;
-        String heartbeatKey = STT_HEARTBEAT_PREFIX + sttId;
-
-        // when - 짧은 TTL로 heartbeat 설정 (1초)
-        redisTemplate.opsForValue().set(heartbeatKey, "", 1, TimeUnit.SECONDS);
+        redisTemplate.opsForZSet().add(STT_RECORDING_DEADLINES, String.valueOf(sttId), System.currentTimeMillis() + 1000);
 
-        // then - Heartbeat 존재 확인
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isTrue();
+        // then - 마감 전에는 가져가지 않음
+        assertThat(sttRecordingDeadlineService.claimExpired(10)).doesNotContain(sttId);
 
-        // 만료 후 키 삭제됨
+        // 마감 후 한 번만 가져감 (가져가면서 ZSet에서 제거)
         await().atMost(3, TimeUnit.SECONDS)
                 .pollInterval(200, TimeUnit.MILLISECONDS)
-                .until(() -> !Boolean.TRUE.equals(redisTemplate.hasKey(heartbeatKey)));
+                .until(() -> sttRecordingDeadlineService.claimExpired(10).contains(sttId));
 
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isFalse();
+        assertThat(sttRecordingDeadlineService.claimExpired(10)).doesNotContain(sttId);
+        assertThat(redisTemplate.opsForZSet().score(STT_RECORDING_DEADLINES, String.valueOf(sttId))).isNull();
     }
 
     @Test
@@ -7,6 +7,7 @@ import com.codehows.daehobe.stt.repository.STTRepository;
 import com.codehows.daehobe.stt.service.STTService;
 import com.codehows.daehobe.stt.service.cache.SttCacheService;
 import com.codehows.daehobe.stt.service.processing.SttPollingScheduler;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
 import com.redis.testcontainers.RedisContainer;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -35,8 +37,8 @@ import static org.awaitility.Awaitility.await;
  * - 시나리오 C: ConcurrentHashMap putIfAbsent로 중복 실행 방지 (발생률 0%)
  *
  * 포트폴리오 수치 근거:
- * - 감지 시간 평균 30초 이내 (heartbeat TTL=30초 설정)
- * - 고아 파일 잔존율 0% (Safety-Net 배치 + KeyExpiration 이벤트 이중 방어)
+ * - 감지 시간 평균 30초 이내 (heartbeat TTL=30초 + 스위퍼 주기 5초)
+ * - 고아 파일 잔존율 0% (마감 ZSet 스위퍼 + Safety-Net 배치 이중 방어)
  * - 중복 실행 발생률 0% (ConcurrentHashMap.putIfAbsent 구현)
  */
 @SpringBootTest
@@ -63,6 +65,9 @@ class SttOrphanRecoveryMetricsTest {
     @Autowired
     private StringRedisTemplate redisTemplate;
 
+    @Autowired
+    private SttRecordingDeadlineService sttRecordingDeadlineService;
+
     @MockBean
     private com.codehows.daehobe.file.service.FileService fileService;
 
@@ -83,56 +88,59 @@ class SttOrphanRecoveryMetricsTest {
     }
 
     // ─────────────────────────────────────────────────────────────────────────
-    // 시나리오 A: Heartbeat TTL 만료 감지 시간
+    // 시나리오 A: 생존 마감 만료 감지 시간
     // ─────────────────────────────────────────────────────────────────────────
 
+    private Double deadlineOf(Long sttId) {
+        return redisTemplate.opsForZSet().score(SttRedisKeys.STT_RECORDING_DEADLINES, String.valueOf(sttId));
+    }
+
     @Test
     @Order(1)
-    @DisplayName("A-1. Heartbeat TTL 만료 후 Redis 키 삭제 확인 (감지 가능성 검증)")
-    void heartbeatExpiry_KeyRemoved_DetectionPossible() {
-        // given: 짧은 TTL(2초)로 heartbeat 설정
+    @DisplayName("A-1. 생존 마감 만료 후 스위퍼 claim 확인 (감지 가능성 검증)")
+    void deadlineExpiry_Claimed_DetectionPossible() {
+        // given: 짧은 마감(2초)
         Long sttId = 1000L;
-        String heartbeatKey = SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX + sttId;
-
         long setTime = System.currentTimeMillis();
-        redisTemplate.opsForValue().set(heartbeatKey, "", 2, TimeUnit.SECONDS);
+        redisTemplate.opsForZSet().add(SttRedisKeys.STT_RECORDING_DEADLINES, String.valueOf(sttId), setTime + 2000);
 
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isTrue();
+        assertThat(sttRecordingDeadlineService.claimExpired(10)).doesNotContain(sttId);
 
-        // when: TTL 만료 대기
+        // when: 마감 경과 대기
         await().atMost(5, TimeUnit.SECONDS)
                 .pollInterval(100, TimeUnit.MILLISECONDS)
-                .until(() -> !Boolean.TRUE.equals(redisTemplate.hasKey(heartbeatKey)));
+                .until(() -> sttRecordingDeadlineService.claimExpired(10).contains(sttId));
 
         long detectionTime = System.currentTimeMillis() - setTime;
 
-        // then: 감지 가능 (키 삭제됨)
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isFalse();
+        // then: claim과 동시에 ZSet에서 제거됨
+        assertThat(deadlineOf(sttId)).isNull();
 
-        // TTL(2초) 만료 후 감지 시간이 TTL+여유(3초) 이내인지 검증
-        // 실제 heartbeat TTL=30초 기준: 최대 30+α초 이내 감지 보장
-        assertThat(detectionTime).isLessThan(5000L); // 2초 TTL + 3초 여유
-        System.out.printf("[A-1] 단축 TTL(2초) 만료 감지 시간: %d ms (< TTL×2.5)%n", detectionTime);
-        System.out.println("[A-1] 실제 heartbeat TTL=30초 기준 → 최대 30초 이내 감지 보장");
+        // 마감(2초) 후 감지 시간이 마감+여유(3초) 이내인지 검증
+        // 실제 heartbeat TTL=30초 기준: 최대 30초 + 스윕 주기 이내 감지 보장
+        assertThat(detectionTime).isLessThan(5000L); // 2초 마감 + 3초 여유
+        System.out.printf("[A-1] 단축 마감(2초) 만료 감지 시간: %d ms (< TTL×2.5)%n", detectionTime);
+        System.out.println("[A-1] 실제 heartbeat TTL=30초 기준 → 최대 30초 + 스윕 주기 이내 감지 보장");
     }
 
     @Test
     @Order(2)
-    @DisplayName("A-2. Heartbeat 갱신 중 키 유지 확인 (정상 세션 보호)")
-    void heartbeatRenew_KeyMaintained_NormalSession() throws InterruptedException {
-        // given: 짧은 TTL(2초) heartbeat
+    @DisplayName("A-2. 청크 수신(touch)으로 마감 연장 확인 (정상 세션 보호)")
+    void deadlineTouch_Extended_NormalSession() {
+        // given: 녹음 시작
         Long sttId = 1001L;
-        String heartbeatKey = SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX + sttId;
-
-        // when: 1초마다 갱신 (만료되지 않도록)
-        for (int i = 0; i < 3; i++) {
-            redisTemplate.opsForValue().set(heartbeatKey, "", 2, TimeUnit.SECONDS);
-            Thread.sleep(1000);
-        }
-
-        // then: 키가 여전히 존재함 (고아로 감지되지 않음)
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isTrue();
-        System.out.println("[A-2] 정상 세션 heartbeat 갱신으로 고아 감지 방지 확인");
+        sttRecordingDeadlineService.register(sttId);
+        Double first = deadlineOf(sttId);
+
+        // when: 청크 수신 (메모리 기록) 후 주기적 flush
+        await().pollDelay(50, TimeUnit.MILLISECONDS).until(() -> true);
+        sttRecordingDeadlineService.touch(sttId);
+        sttRecordingDeadlineService.flushPending();
+
+        // then: 마감이 뒤로 밀리고 스위퍼가 가져가지 않음
+        assertThat(deadlineOf(sttId)).isGreaterThan(first);
+        assertThat(sttRecordingDeadlineService.claimExpired(10)).doesNotContain(sttId);
+        System.out.println("[A-2] 정상 세션 마감 연장으로 고아 감지 방지 확인");
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -141,9 +149,9 @@ class SttOrphanRecoveryMetricsTest {
 
     @Test
     @Order(3)
-    @DisplayName("B-1. Safety-Net: heartbeat 없는 RECORDING 세션 감지")
-    void safetyNet_NoHeartbeat_OrphanDetected() {
-        // given: RECORDING 상태 캐시 + heartbeat 없음 (비정상 종료 시뮬레이션)
+    @DisplayName("B-1. Safety-Net: 마감 없는 RECORDING 세션 감지")
+    void safetyNet_NoDeadline_OrphanDetected() {
+        // given: RECORDING 상태 캐시 + 마감 없음 (Redis 재시작 등으로 소실 시뮬레이션)
         Long sttId = 2000L;
         STTDto recordingDto = STTDto.builder()
                 .id(sttId)
@@ -154,24 +162,20 @@ class SttOrphanRecoveryMetricsTest {
                 .build();
         sttCacheService.cacheSttStatus(recordingDto);
 
-        // heartbeat 없음 (강제 종료 시뮬레이션)
-        String heartbeatKey = SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX + sttId;
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isFalse();
-
-        // then: Safety-Net이 고아로 감지할 수 있음
-        // - heartbeat 키 없음 + cache에 RECORDING 상태 → 고아 확인됨
+        // then: Safety-Net이 마감 없는 세션으로 찾아냄 (ZMSCORE 일괄 조회)
+        assertThat(sttRecordingDeadlineService.findUntracked(List.of(sttId))).containsExactly(sttId);
         STTDto cached = sttCacheService.getCachedSttStatus(sttId);
         assertThat(cached).isNotNull();
         assertThat(cached.getStatus()).isEqualTo(STT.Status.RECORDING);
 
-        System.out.println("[B-1] Safety-Net 감지 조건 충족: heartbeat 없음 + RECORDING 상태 캐시 존재");
+        System.out.println("[B-1] Safety-Net 감지 조건 충족: 마감 없음 + RECORDING 상태 캐시 존재");
     }
 
     @Test
     @Order(4)
-    @DisplayName("B-2. Safety-Net: heartbeat 있는 RECORDING 세션은 무시")
-    void safetyNet_WithHeartbeat_SkippedByScheduler() {
-        // given: RECORDING 상태 + heartbeat 존재 (정상 세션)
+    @DisplayName("B-2. Safety-Net: 마감 있는 RECORDING 세션은 무시")
+    void safetyNet_WithDeadline_SkippedByScheduler() {
+        // given: RECORDING 상태 + 마감 존재 (정상 세션)
         Long sttId = 2001L;
         STTDto recordingDto = STTDto.builder()
                 .id(sttId)
@@ -181,19 +185,16 @@ class SttOrphanRecoveryMetricsTest {
                 .summary("")
                 .build();
         sttCacheService.cacheSttStatus(recordingDto);
+        sttRecordingDeadlineService.register(sttId);
 
-        // heartbeat 설정 (정상 세션)
-        String heartbeatKey = SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX + sttId;
-        redisTemplate.opsForValue().set(heartbeatKey, "", 30, TimeUnit.SECONDS);
-
-        // then: heartbeat 존재 → Safety-Net이 건너뜀 (isRedisAvailable+heartbeat 체크)
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isTrue();
+        // then: 마감 존재 → Safety-Net 대상 아님
+        assertThat(sttRecordingDeadlineService.findUntracked(List.of(sttId))).isEmpty();
 
         // 상태 변화 없음 확인 (RECORDING 유지)
         STTDto cached = sttCacheService.getCachedSttStatus(sttId);
         assertThat(cached.getStatus()).isEqualTo(STT.Status.RECORDING);
 
-        System.out.println("[B-2] 정상 세션(heartbeat 존재)은 Safety-Net이 무시 확인");
+        System.out.println("[B-2] 정상 세션(마감 존재)은 Safety-Net이 무시 확인");
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -217,7 +218,7 @@ class SttOrphanRecoveryMetricsTest {
 
         AtomicLong processingCallCount = new AtomicLong(0);
 
-        // when: 동시에 2개의 복구 요청 (KeyExpirationEvent + SafetyNet 배치 동시 실행 시뮬레이션)
+        // when: 동시에 2개의 복구 요청 (마감 스위퍼 + SafetyNet 배치 동시 실행 시뮬레이션)
         Thread thread1 = new Thread(() -> {
             // STTService.handleAbnormalTermination() 내부에서 putIfAbsent 사용
             // 첫 번째 호출 → 실제 복구 진행 (상태: RECORDING → ENCODING)
@@ -283,22 +284,21 @@ class SttOrphanRecoveryMetricsTest {
     void abnormalTermination_DetectionTime_Within30Seconds() {
         // given: heartbeat TTL 설정값 확인
         // application.properties: stt.recording.heartbeat-ttl-seconds=30
-        // 이 값이 30초이므로, heartbeat 갱신 없으면 30초 내 만료 → 감지
-
-        // heartbeat 키 직접 확인
+        // 이 값이 30초이므로, 청크가 없으면 30초 뒤 마감 경과 → 다음 스윕에서 감지
         Long sttId = 4000L;
-        String heartbeatKey = SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX + sttId;
+        long now = System.currentTimeMillis();
 
-        // 30초 TTL 설정
-        redisTemplate.opsForValue().set(heartbeatKey, "", 30, TimeUnit.SECONDS);
-        Long ttl = redisTemplate.getExpire(heartbeatKey, TimeUnit.SECONDS);
+        // when
+        sttRecordingDeadlineService.register(sttId);
+        Double deadline = deadlineOf(sttId);
 
-        // then: TTL이 30초 이하 (설정값 검증)
-        assertThat(ttl).isNotNull();
-        assertThat(ttl).isLessThanOrEqualTo(30L);
-        assertThat(ttl).isGreaterThan(0L);
+        // then: 마감이 30초 이내 (설정값 검증)
+        assertThat(deadline).isNotNull();
+        long remainingSeconds = TimeUnit.MILLISECONDS.toSeconds(deadline.longValue() - now);
+        assertThat(remainingSeconds).isLessThanOrEqualTo(30L);
+        assertThat(remainingSeconds).isGreaterThan(0L);
 
-        System.out.printf("[C-3] heartbeat TTL 설정: %d초 → 감지 시간 ≤ 30초 보장%n", ttl);
-        System.out.println("[C-3] KeyExpirationEvent 수신 즉시 handleAbnormalTermination() 호출");
+        System.out.printf("[C-3] 생존 마감: %d초 뒤 → 감지 시간 ≤ 30초 + 스윕 주기 보장%n", remainingSeconds);
+        System.out.println("[C-3] sweepExpiredRecordings()가 claim 즉시 handleAbnormalTermination() 호출");
     }
 }
@@ -34,7 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * 포트폴리오 수치 근거:
  * - Redis DB Fallback: isRedisAvailable() + getPollingTaskIds() 빈 결과 시 DB 조회
- * - Safety-Net 배치: 60초 주기, RECORDING DB 조회 후 heartbeat 없으면 복구 진행
+ * - Safety-Net 배치: 60초 주기, RECORDING DB 조회 후 생존 마감이 없으면 마감 재등록(스위퍼가 복구)
  * - ConcurrentHashMap 중복 복구 방지: putIfAbsent() 사용
  */
 @SpringBootTest
@@ -172,19 +172,18 @@ class SttRedisFailoverTest {
     @Order(5)
     @DisplayName("5. Safety-Net 배치: RECORDING 상태 DB 조회 기반 탐지")
     void safetyNet_DbBased_RecordingDetection() {
-        // given: Redis에 heartbeat 없는 RECORDING 캐시만 등록
+        // given: Redis에 생존 마감 없는 RECORDING 캐시만 등록
         Long sttId = 200L;
         STTDto recordingDto = buildRecordingDto(sttId);
         sttCacheService.cacheSttStatus(recordingDto);
 
-        // heartbeat 없음 (비정상 종료 시뮬레이션)
-        String heartbeatKey = SttRedisKeys.STT_RECORDING_HEARTBEAT_PREFIX + sttId;
-        assertThat(redisTemplate.hasKey(heartbeatKey)).isFalse();
+        // 마감 ZSet에 없음 (Redis 재시작 등으로 소실 시뮬레이션)
+        assertThat(redisTemplate.opsForZSet().score(SttRedisKeys.STT_RECORDING_DEADLINES, String.valueOf(sttId))).isNull();
 
         // when: Safety-Net 배치가 DB 조회로 탐지하는 조건 확인
         // scanOrphanedRecordingTasks(): sttRepository.findIdsByStatus(RECORDING) → DB 조회
         // DB에 RECORDING 상태 없음 (테스트용 H2, 저장 안 함)
-        // Redis 캐시에는 RECORDING 존재 → heartbeat 없으면 고아 확인
+        // Redis 캐시에는 RECORDING 존재 → 마감 없으면 마감 재등록 후 스위퍼가 처리
 
         // then: 캐시 기반 고아 탐지 조건 충족
         STTDto cached = sttCacheService.getCachedSttStatus(sttId);
@@ -193,8 +192,8 @@ class SttRedisFailoverTest {
 
         System.out.println("[5] Safety-Net DB 기반 탐지 시나리오:");
         System.out.println("    1. sttRepository.findIdsByStatus(RECORDING) → DB에서 RECORDING ID 목록");
-        System.out.println("    2. heartbeatKey 존재 여부 확인 → 없으면 고아 의심");
-        System.out.println("    3. 캐시에 RECORDING 상태 확인 → 있으면 handleAbnormalTermination() 호출");
+        System.out.println("    2. 마감 ZSet ZMSCORE 일괄 확인 → 없으면 고아 의심");
+        System.out.println("    3. 캐시에 RECORDING 상태 확인 → 있으면 마감 재등록, 만료 시 sweepExpiredRecordings()가 복구");
         System.out.println("    4. 캐시 없으면 handleAbnormalTerminationIfStuck() → DB 창작시각 기준 판단");
     }
 
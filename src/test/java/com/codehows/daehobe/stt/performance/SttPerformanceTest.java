@@ -671,11 +671,11 @@ class SttPerformanceTest {
 
                     // 청크 업로드 시뮬레이션
                     for (int c = 0; c < chunksPerSession; c++) {
-                        // Heartbeat 갱신 시뮬레이션
-                        redisTemplate.opsForValue().set(
-                                "stt:recording:heartbeat:" + sessionId,
-                                "",
-                                30, TimeUnit.SECONDS
+                        // Heartbeat(생존 마감) 갱신 시뮬레이션
+                        redisTemplate.opsForZSet().add(
+                                "stt:recording:deadlines",
+                                String.valueOf(sessionId),
+                                System.currentTimeMillis() + 30_000
                         );
                         Thread.sleep(50); // 청크 간 딜레이
                     }
@@ -11,6 +11,16 @@ import com.codehows.daehobe.meeting.repository.MeetingRepository;
 import com.codehows.daehobe.stt.repository.STTRepository;
 import com.codehows.daehobe.file.service.FileService;
 import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.cache.SttStatusNearCache;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
+import com.codehows.daehobe.stt.service.segment.SttLiveTranscriber;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.audio.SttAudioPreparer;
+import com.codehows.daehobe.stt.service.audio.TranscriptionAudio;
+import com.codehows.daehobe.stt.service.processing.SttEncodingQueue;
+import com.codehows.daehobe.stt.service.processing.SttSubmissionQueue;
 import com.codehows.daehobe.stt.service.provider.SttProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,16 +30,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -45,10 +61,18 @@ class STTServiceTest {
     @Mock private STTRepository sttRepository;
     @Mock private FileService fileService;
     @Mock private SttProvider sttProvider;
-    @Mock private org.springframework.data.redis.core.StringRedisTemplate hashRedisTemplate;
     @Mock private SttCacheService sttCacheService;
-    @Mock private org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
-    @Mock private org.springframework.data.redis.core.ValueOperations<String, String> valueOperations;
+    @Mock private com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher sttUpdatePublisher;
+    @Mock private SttJobLeaseService sttJobLeaseService;
+    @Mock private SttEncodingQueue sttEncodingQueue;
+    @Mock private SttSubmissionQueue sttSubmissionQueue;
+    @Mock private SttAudioPreparer sttAudioPreparer;
+    @Mock private SttSegmentedTranscriber sttSegmentedTranscriber;
+    @Mock private SttLiveTranscriber sttLiveTranscriber;
+    @Mock private SttDedupService sttDedupService;
+    @Mock private SttStatusNearCache sttStatusNearCache;
+    @Mock private SttRecordingDeadlineService sttRecordingDeadlineService;
+    @Mock private PlatformTransactionManager transactionManager;
 
     private STTService sttService;
 
@@ -58,14 +82,24 @@ class STTServiceTest {
 
     @BeforeEach
     void setUp() {
-        lenient().when(hashRedisTemplate.opsForValue()).thenReturn(valueOperations);
         sttService = new STTService(
             meetingRepository, sttRepository, fileService,
-            sttProvider, hashRedisTemplate, sttCacheService,
-            messagingTemplate
+            sttProvider, sttCacheService,
+            sttUpdatePublisher, sttJobLeaseService, sttEncodingQueue, sttSubmissionQueue, sttAudioPreparer, sttSegmentedTranscriber, sttLiveTranscriber,
+            sttDedupService,
+            sttStatusNearCache, sttRecordingDeadlineService, new TransactionTemplate(transactionManager)
         );
+        // near cache 미스 → 로더(Redis 조회) 그대로 실행
+        lenient().when(sttStatusNearCache.get(anyLong(), anyBoolean(), any()))
+                .thenAnswer(inv -> inv.<Supplier<STTDto>>getArgument(2).get());
+        // 프로파일 변환 없이 원본 그대로 전송
+        lenient().when(sttAudioPreparer.prepare(any(MultipartFile.class), any()))
+                .thenAnswer(inv -> TranscriptionAudio.passthrough(inv.<MultipartFile>getArgument(0).getResource()));
+        lenient().when(sttAudioPreparer.prepare(any(Path.class), any()))
+                .thenAnswer(inv -> TranscriptionAudio.passthrough(new FileSystemResource(inv.<Path>getArgument(0))));
+        // 기본: 중복 없음 → 직접 전사
+        lenient().when(sttDedupService.tryClaim(any())).thenReturn(true);
         ReflectionTestUtils.setField(sttService, "fileLocation", "/tmp/stt_test");
-        ReflectionTestUtils.setField(sttService, "heartbeatTtl", 30L);
 
         testMeeting = Meeting.builder().id(1L).title("테스트 회의").build();
         testAudioFile = File.builder()
@@ -107,22 +141,55 @@ class STTServiceTest {
     void getDynamicSttStatus_CacheHit_Success() {
         // given
         STTDto cachedDto = STTDto.fromEntity(testStt, FileDto.fromEntity(testAudioFile));
-        when(sttCacheService.getCachedSttStatus(testStt.getId())).thenReturn(cachedDto);
+        when(sttCacheService.getCachedSttStatus(testStt.getId(), true)).thenReturn(cachedDto);
 
         // when
         STTDto result = sttService.getDynamicSttStatus(testStt.getId());
 
         // then
         assertThat(result.getId()).isEqualTo(testStt.getId());
-        verify(sttCacheService).getCachedSttStatus(testStt.getId());
+        verify(sttCacheService).getCachedSttStatus(testStt.getId(), true);
         verify(sttRepository, never()).findById(anyLong()); // 캐시 히트 시 DB 조회 없음
     }
 
+    @Test
+    @DisplayName("성공: 상태만 조회 - 캐시의 전사/요약 본문은 읽지 않음")
+    void getDynamicSttStatus_WithoutContent_StatusHashOnly() {
+        // given
+        STTDto statusOnly = STTDto.builder().id(testStt.getId()).status(STT.Status.PROCESSING).progress(40).build();
+        when(sttCacheService.getCachedSttStatus(testStt.getId(), false)).thenReturn(statusOnly);
+
+        // when
+        STTDto result = sttService.getDynamicSttStatus(testStt.getId(), false);
+
+        // then
+        assertThat(result.getProgress()).isEqualTo(40);
+        assertThat(result.getContent()).isNull();
+        verify(sttCacheService, never()).getCachedSttStatus(testStt.getId(), true);
+        verify(sttRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("성공: near cache 히트 - Redis/DB 조회 없음")
+    void getDynamicSttStatus_NearCacheHit_NoRedisRead() {
+        // given
+        STTDto nearCached = STTDto.builder().id(testStt.getId()).status(STT.Status.PROCESSING).progress(70).build();
+        doReturn(nearCached).when(sttStatusNearCache).get(eq(testStt.getId()), eq(false), any());
+
+        // when
+        STTDto result = sttService.getDynamicSttStatus(testStt.getId(), false);
+
+        // then
+        assertThat(result).isSameAs(nearCached);
+        verifyNoInteractions(sttCacheService);
+        verify(sttRepository, never()).findById(anyLong());
+    }
+
     @Test
     @DisplayName("성공: 캐시에서 동적 STT 상태 조회 (캐시 미스 -> DB 조회)")
     void getDynamicSttStatus_CacheMiss_Success() {
         // given
-        when(sttCacheService.getCachedSttStatus(testStt.getId())).thenReturn(null);
+        when(sttCacheService.getCachedSttStatus(testStt.getId(), true)).thenReturn(null);
         when(sttRepository.findById(anyLong())).thenReturn(Optional.of(testStt));
         when(fileService.getSTTFile(anyLong())).thenReturn(testAudioFile);
 
@@ -131,7 +198,7 @@ class STTServiceTest {
 
         // then
         assertThat(result.getId()).isEqualTo(testStt.getId());
-        verify(sttCacheService).getCachedSttStatus(testStt.getId());
+        verify(sttCacheService).getCachedSttStatus(testStt.getId(), true);
         verify(sttRepository).findById(anyLong()); // 캐시 미스 시 DB 조회
     }
 
@@ -182,7 +249,24 @@ class STTServiceTest {
         // then
         assertThat(result.getId()).isEqualTo(testStt.getId());
         verify(sttCacheService).cacheSttStatus(any(STTDto.class));
-        verify(messagingTemplate).convertAndSend(anyString(), any(STTDto.class));
+        verify(sttUpdatePublisher).publishSnapshot(any(STTDto.class));
+        verify(sttRecordingDeadlineService).register(testStt.getId());
+        verify(sttLiveTranscriber, never()).start(anyLong());
+    }
+
+    @Test
+    @DisplayName("성공: 실시간 전사 녹음 시작")
+    void startRecording_Live_LiveTranscriptionStarted() {
+        // given
+        when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(testMeeting));
+        when(sttRepository.save(any(STT.class))).thenReturn(testStt);
+        when(fileService.createFile(anyString(), anyLong(), any(TargetType.class))).thenReturn(testAudioFile);
+
+        // when
+        sttService.startRecording(testMeeting.getId(), true);
+
+        // then
+        verify(sttLiveTranscriber).start(testStt.getId());
     }
 
     @Test
@@ -205,13 +289,117 @@ class STTServiceTest {
         // DB status is PROCESSING, scheduler will pick it up automatically (no Kafka)
     }
 
+    @Test
+    @DisplayName("중복 업로드: 완료된 동일 전사 재사용, 프로바이더 호출 없이 COMPLETED 저장")
+    void uploadAndTranslate_CompletedDuplicate_Reused() {
+        // given
+        MockMultipartFile mockFile = new MockMultipartFile("audio", "audio.wav", "audio/wav", "audio data".getBytes());
+        when(sttAudioPreparer.prepare(any(MultipartFile.class), any()))
+                .thenReturn(new TranscriptionAudio(mockFile.getResource(), null, "hash-1"));
+        when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(testMeeting));
+        when(sttDedupService.findCompleted("hash-1"))
+                .thenReturn(Optional.of(new SttDedupService.DedupEntry("rid-old", "원본 내용", "요약 내용")));
+        when(sttRepository.save(any(STT.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(fileService.uploadFiles(any(), anyList(), any(TargetType.class))).thenReturn(Collections.singletonList(testAudioFile));
+
+        // when
+        STTDto result = sttService.uploadAndTranslate(testMeeting.getId(), mockFile);
+
+        // then
+        verify(sttProvider, never()).requestTranscription(any());
+        assertThat(result.getStatus()).isEqualTo(STT.Status.COMPLETED);
+        assertThat(result.getContent()).isEqualTo("원본 내용");
+        verify(sttCacheService, never()).addToPollingSet(any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 중복 업로드: 진행 중인 동일 전사를 기다리는 대기 작업으로 등록 (rid 없음)")
+    void uploadAndTranslate_InFlightDuplicate_Coalesced() {
+        // given
+        MockMultipartFile mockFile = new MockMultipartFile("audio", "audio.wav", "audio/wav", "audio data".getBytes());
+        when(sttAudioPreparer.prepare(any(MultipartFile.class), any()))
+                .thenReturn(new TranscriptionAudio(mockFile.getResource(), null, "hash-1"));
+        when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(testMeeting));
+        when(sttDedupService.tryClaim("hash-1")).thenReturn(false);
+        when(sttRepository.save(any(STT.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(fileService.uploadFiles(any(), anyList(), any(TargetType.class))).thenReturn(Collections.singletonList(testAudioFile));
+
+        // when
+        STTDto result = sttService.uploadAndTranslate(testMeeting.getId(), mockFile);
+
+        // then
+        verify(sttProvider, never()).requestTranscription(any());
+        assertThat(result.getRid()).isNull();
+        assertThat(result.getContentHash()).isEqualTo("hash-1");
+        assertThat(result.getStatus()).isEqualTo(STT.Status.PROCESSING);
+        verify(sttCacheService).addToPollingSet(any(), eq(STT.Status.PROCESSING));
+    }
+
+    @Test
+    @DisplayName("전사 요청 실패: 선점 해제 후 예외 전파")
+    void uploadAndTranslate_ProviderFails_ClaimReleased() {
+        // given
+        MockMultipartFile mockFile = new MockMultipartFile("audio", "audio.wav", "audio/wav", "audio data".getBytes());
+        when(sttAudioPreparer.prepare(any(MultipartFile.class), any()))
+                .thenReturn(new TranscriptionAudio(mockFile.getResource(), null, "hash-1"));
+        when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(testMeeting));
+        when(sttProvider.requestTranscription(any(Resource.class))).thenThrow(new RuntimeException("rid 발급 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> sttService.uploadAndTranslate(testMeeting.getId(), mockFile))
+                .isInstanceOf(RuntimeException.class);
+        verify(sttDedupService).release("hash-1");
+        verify(sttRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("비동기 업로드: 파일/STT만 저장하고 프로바이더 호출 없이 제출 큐에 등록")
+    void submitUpload_PersistsAndEnqueues() {
+        // given
+        MockMultipartFile mockFile = new MockMultipartFile("audio", "audio.wav", "audio/wav", "audio data".getBytes());
+        when(meetingRepository.findById(anyLong())).thenReturn(Optional.of(testMeeting));
+        when(sttRepository.save(any(STT.class))).thenReturn(testStt);
+        when(fileService.uploadFiles(anyLong(), anyList(), any(TargetType.class)))
+                .thenReturn(Collections.singletonList(testAudioFile));
+
+        // when
+        STTDto result = sttService.submitUpload(testMeeting.getId(), mockFile);
+
+        // then
+        assertThat(result.getId()).isEqualTo(testStt.getId());
+        assertThat(result.getStatus()).isEqualTo(STT.Status.PROCESSING);
+        assertThat(result.getRid()).isNull();
+        verifyNoInteractions(sttProvider, sttAudioPreparer);
+        verify(sttCacheService).cacheSttStatus(result);
+        verify(sttUpdatePublisher).publishSnapshot(result);
+        verify(sttSubmissionQueue).submit(testStt.getId());
+        verify(sttCacheService, never()).addToPollingSet(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 녹음 완료: 프로바이더 호출 없이 제출 큐에 등록")
+    void submitRecorded_Enqueues() {
+        // given
+        STT encodedStt = STT.builder().id(2L).meeting(testMeeting).status(STT.Status.ENCODED).rid("old-rid").build();
+        when(sttRepository.findById(2L)).thenReturn(Optional.of(encodedStt));
+        when(fileService.getSTTFile(2L)).thenReturn(testAudioFile);
+
+        // when
+        STTDto result = sttService.submitRecorded(2L);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(STT.Status.PROCESSING);
+        assertThat(result.getRid()).isNull();
+        verifyNoInteractions(sttProvider);
+        verify(sttSubmissionQueue).submit(2L);
+    }
+
     @Test
     @DisplayName("성공: STT 삭제 - Redis 키 + 파일 + DB 삭제")
     void deleteSTT_Success() {
         // given
         when(sttRepository.findById(anyLong())).thenReturn(Optional.of(testStt));
         when(fileService.getSTTFile(anyLong())).thenReturn(testAudioFile);
-        when(hashRedisTemplate.delete(anyString())).thenReturn(true);
 
         // when
         sttService.deleteSTT(testStt.getId());
@@ -219,7 +407,8 @@ class STTServiceTest {
         // then
         verify(sttRepository).delete(testStt);
         verify(fileService).updateFiles(eq(testStt.getId()), eq(null), eq(List.of(testAudioFile.getFileId())), eq(TargetType.STT));
-        verify(hashRedisTemplate, times(2)).delete(anyString()); // status key + heartbeat key
+        verify(sttCacheService).evictSttStatus(testStt.getId()); // status hash + content/summary keys
+        verify(sttRecordingDeadlineService).remove(testStt.getId()); // 녹음 생존 마감
     }
 
     @Test
@@ -253,12 +442,7 @@ class STTServiceTest {
 
         // then
         assertThat(result.getId()).isEqualTo(recordingStt.getId());
-        verify(valueOperations).set(
-                eq("stt:recording:heartbeat:" + recordingStt.getId()),
-                eq(""),
-                eq(30L),
-                eq(TimeUnit.SECONDS)
-        );
+        verify(sttRecordingDeadlineService).touch(recordingStt.getId());
     }
 
     @Test
@@ -274,7 +458,6 @@ class STTServiceTest {
 
         when(sttRepository.findById(anyLong())).thenReturn(Optional.of(recordingStt));
         when(fileService.appendChunk(anyLong(), any(), any(TargetType.class))).thenReturn(testAudioFile);
-        when(hashRedisTemplate.delete(anyString())).thenReturn(true);
 
         // when
         STTDto result = sttService.appendChunk(recordingStt.getId(), chunk, true);
@@ -282,8 +465,40 @@ class STTServiceTest {
         // then
         verify(recordingStt).setStatus(STT.Status.ENCODING);
         verify(sttCacheService).cacheSttStatus(any(STTDto.class));
-        verify(messagingTemplate).convertAndSend(anyString(), any(STTDto.class));
-        verify(hashRedisTemplate).delete("stt:recording:heartbeat:" + recordingStt.getId());
+        verify(sttUpdatePublisher).publishSnapshot(any(STTDto.class));
+        verify(sttRecordingDeadlineService).remove(recordingStt.getId());
+        verify(sttEncodingQueue).submit(recordingStt.getId());
+        verify(fileService, never()).encodeAudioFile(any());
+        assertThat(result.getStatus()).isEqualTo(STT.Status.ENCODING);
+    }
+
+    @Test
+    @DisplayName("성공: 실시간 전사 녹음 종료 - 캐시의 부분 전사와 sequence를 이어받음")
+    void appendChunk_FinishedLive_KeepsPartialContent() {
+        // given
+        MockMultipartFile chunk = new MockMultipartFile("chunk", "chunk.wav", "audio/wav", "chunk data".getBytes());
+        STT recordingStt = STT.builder()
+                .id(1L)
+                .meeting(testMeeting)
+                .content("")
+                .status(STT.Status.RECORDING)
+                .build();
+        STTDto cached = STTDto.builder().id(1L).status(STT.Status.RECORDING).content("부분 전사").sequence(7L).build();
+
+        when(sttRepository.findById(anyLong())).thenReturn(Optional.of(recordingStt));
+        when(fileService.appendChunk(anyLong(), any(), any(TargetType.class))).thenReturn(testAudioFile);
+        when(sttLiveTranscriber.isLive(1L)).thenReturn(true);
+        when(sttCacheService.getCachedSttStatus(1L)).thenReturn(cached);
+
+        // when
+        STTDto result = sttService.appendChunk(1L, chunk, true);
+
+        // then
+        assertThat(result.getContent()).isEqualTo("부분 전사");
+        assertThat(result.getSequence()).isEqualTo(7L);
+        assertThat(result.getStatus()).isEqualTo(STT.Status.ENCODING);
+        verify(sttUpdatePublisher).publishSnapshot(result);
+        verify(sttCacheService).cacheSttStatus(result);
     }
 
     @Test
@@ -313,7 +528,7 @@ class STTServiceTest {
 
         when(sttRepository.findById(anyLong())).thenReturn(Optional.of(encodedStt));
         when(fileService.getSTTFile(anyLong())).thenReturn(testAudioFile);
-        when(sttProvider.requestTranscription(any(Resource.class))).thenReturn(expectedRid);
+        when(sttSegmentedTranscriber.requestTranscription(any(Path.class), anyString())).thenReturn(expectedRid);
 
         // when
         STTDto result = sttService.startTranslateForRecorded(encodedStt.getId());
@@ -323,6 +538,28 @@ class STTServiceTest {
         assertThat(result.getRid()).isEqualTo(expectedRid);
         verify(sttCacheService).cacheSttStatus(any(STTDto.class));
         verify(sttCacheService).addToPollingSet(encodedStt.getId(), STT.Status.PROCESSING);
-        verify(messagingTemplate).convertAndSend(anyString(), any(STTDto.class));
+        verify(sttUpdatePublisher).publishSnapshot(any(STTDto.class));
+    }
+
+    @Test
+    @DisplayName("성공: 실시간 전사 중이던 녹음은 남은 구간만 요청")
+    void startTranslateForRecorded_Live_FinishesLiveGroup() {
+        // given
+        STT encodedStt = STT.builder()
+                .id(1L)
+                .meeting(testMeeting)
+                .status(STT.Status.ENCODED)
+                .build();
+        when(sttRepository.findById(anyLong())).thenReturn(Optional.of(encodedStt));
+        when(fileService.getSTTFile(anyLong())).thenReturn(testAudioFile);
+        when(sttLiveTranscriber.finish(eq(1L), any(Path.class))).thenReturn(Optional.of("seg:live-group"));
+
+        // when
+        STTDto result = sttService.startTranslateForRecorded(encodedStt.getId());
+
+        // then
+        assertThat(result.getRid()).isEqualTo("seg:live-group");
+        verify(sttSegmentedTranscriber, never()).requestTranscription(any(), any());
+        verify(sttCacheService).addToPollingSet(encodedStt.getId(), STT.Status.PROCESSING);
     }
 }
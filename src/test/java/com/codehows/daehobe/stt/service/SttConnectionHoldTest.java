@@ -0,0 +1,168 @@
+package com.codehows.daehobe.stt.service;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.constant.Status;
+import com.codehows.daehobe.common.constant.TargetType;
+import com.codehows.daehobe.file.entity.File;
+import com.codehows.daehobe.file.service.FileService;
+import com.codehows.daehobe.meeting.entity.Meeting;
+import com.codehows.daehobe.meeting.repository.MeetingRepository;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttSummaryResult;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.audio.SttAudioPreparer;
+import com.codehows.daehobe.stt.service.audio.TranscriptionAudio;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.cache.SttStatusNearCache;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import com.codehows.daehobe.stt.service.processing.SttEncodingQueue;
+import com.codehows.daehobe.stt.service.processing.SttJobProcessor;
+import com.codehows.daehobe.stt.service.processing.SttPollingBackoff;
+import com.codehows.daehobe.stt.service.processing.SttSubmissionQueue;
+import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
+import com.codehows.daehobe.stt.service.segment.SttLiveTranscriber;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 빈(트랜잭션 프록시, JPA 리포지토리, Hikari 풀)으로 느린 프로바이더 호출 중 DB 커넥션 점유 여부 검증
+ * - 테스트 메서드 트랜잭션 없음 (NOT_SUPPORTED): 서비스가 여는 트랜잭션만 커넥션을 잡음
+ * - DB 외 협력 객체(Redis, 프로바이더 등)만 목으로 대체
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({STTService.class, SttJobProcessor.class})
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("STT DB 커넥션 점유 테스트")
+class SttConnectionHoldTest {
+
+    @Autowired private STTService sttService;
+    @Autowired private SttJobProcessor sttJobProcessor;
+    @Autowired private MeetingRepository meetingRepository;
+    @Autowired private STTRepository sttRepository;
+    @Autowired private DataSource dataSource;
+
+    @MockitoBean private FileService fileService;
+    @MockitoBean private SttProvider sttProvider;
+    @MockitoBean private SttCacheService sttCacheService;
+    @MockitoBean private SttUpdatePublisher sttUpdatePublisher;
+    @MockitoBean private SttJobLeaseService sttJobLeaseService;
+    @MockitoBean private SttEncodingQueue sttEncodingQueue;
+    @MockitoBean private SttSubmissionQueue sttSubmissionQueue;
+    @MockitoBean private SttAudioPreparer sttAudioPreparer;
+    @MockitoBean private SttSegmentedTranscriber sttSegmentedTranscriber;
+    @MockitoBean private SttLiveTranscriber sttLiveTranscriber;
+    @MockitoBean private SttDedupService sttDedupService;
+    @MockitoBean private SttStatusNearCache sttStatusNearCache;
+    @MockitoBean private SttRecordingDeadlineService sttRecordingDeadlineService;
+    @MockitoBean private SttPollingBackoff sttPollingBackoff;
+
+    private Meeting meeting;
+
+    @BeforeEach
+    void setUp() {
+        meeting = meetingRepository.save(Meeting.builder()
+                .title("주간 회의")
+                .content("")
+                .startDate(LocalDateTime.now())
+                .status(Status.IN_PROGRESS)
+                .build());
+    }
+
+    private int activeConnections() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+
+    @Test
+    @DisplayName("느린 전사 요청: 업로드 중에는 커넥션을 잡지 않고 저장 후 커넥션 반환")
+    void uploadAndTranslate_SlowProvider_NoConnectionHeld() throws Exception {
+        // given
+        MockMultipartFile upload = new MockMultipartFile("audio", "audio.wav", "audio/wav", "audio data".getBytes());
+        AtomicInteger activeDuringProviderCall = new AtomicInteger(-1);
+        when(sttAudioPreparer.prepare(any(org.springframework.web.multipart.MultipartFile.class), any()))
+                .thenReturn(new TranscriptionAudio(upload.getResource(), null, "hash-1"));
+        when(sttDedupService.tryClaim("hash-1")).thenReturn(true);
+        when(sttProvider.requestTranscription(any(Resource.class))).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            activeDuringProviderCall.set(activeConnections());
+            return "rid-1";
+        });
+        when(fileService.uploadFiles(anyLong(), anyList(), any(TargetType.class))).thenReturn(List.of(
+                File.builder().fileId(1L).savedName("audio.wav").path("/file/audio.wav")
+                        .originalName("audio.wav").size(10L).targetType(TargetType.STT).build()));
+
+        // when
+        STTDto result = sttService.uploadAndTranslate(meeting.getId(), upload);
+
+        // then
+        assertThat(AopUtils.isAopProxy(sttService)).isTrue();
+        assertThat(activeDuringProviderCall.get()).isZero();
+        assertThat(activeConnections()).isZero();
+        assertThat(sttRepository.findById(result.getId())).get()
+                .extracting(STT::getRid).isEqualTo("rid-1");
+    }
+
+    @Test
+    @DisplayName("느린 요약 조회: 프로바이더 호출 중에는 커넥션을 잡지 않고 최종 저장 후 커넥션 반환")
+    void processSingleSummaryJob_SlowProvider_NoConnectionHeld() throws Exception {
+        // given
+        STT stt = sttRepository.save(STT.builder()
+                .meeting(meeting).content("전사").summary("").status(STT.Status.ENCODED).build());
+        STTDto cached = STTDto.builder().id(stt.getId()).meetingId(meeting.getId())
+                .summaryRid("summary-rid-1").content("전사").status(STT.Status.SUMMARIZING).build();
+        AtomicInteger activeDuringProviderCall = new AtomicInteger(-1);
+        when(sttJobLeaseService.tryAcquire(anyString(), eq(stt.getId()), any())).thenReturn(true);
+        when(sttCacheService.isPollingDue(stt.getId(), STT.Status.SUMMARIZING)).thenReturn(true);
+        when(sttCacheService.getCachedSttStatus(stt.getId())).thenReturn(cached);
+        when(sttCacheService.transitionStatus(any(), eq(STT.Status.SUMMARIZING), anyLong())).thenReturn(true);
+        when(sttUpdatePublisher.publishTransition(any(), any()))
+                .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+        when(sttProvider.checkSummaryStatus("summary-rid-1")).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            activeDuringProviderCall.set(activeConnections());
+            return SttSummaryResult.builder().completed(true).summaryText("요약").progress(100).build();
+        });
+
+        // when
+        sttJobProcessor.processSingleSummaryJob(stt.getId());
+
+        // then
+        assertThat(activeDuringProviderCall.get()).isZero();
+        assertThat(activeConnections()).isZero();
+        assertThat(sttRepository.findById(stt.getId())).get()
+                .satisfies(saved -> {
+                    assertThat(saved.getStatus()).isEqualTo(STT.Status.COMPLETED);
+                    assertThat(saved.getSummary()).isEqualTo("요약");
+                });
+    }
+}
@@ -0,0 +1,140 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.utils.AudioProcessor;
+import com.codehows.daehobe.common.utils.AudioProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+class SttAudioPreparerTest {
+
+    @Mock
+    private AudioProcessor audioProcessor;
+
+    @TempDir
+    Path tempDir;
+
+    private SttAudioPreparer sttAudioPreparer;
+
+    @BeforeEach
+    void setUp() {
+        sttAudioPreparer = new SttAudioPreparer(audioProcessor);
+        ReflectionTestUtils.setField(sttAudioPreparer, "fileLocation", tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("PLAYBACK_WAV: 변환 없이 재생용 파일 그대로 전송")
+    void prepare_Playback_Passthrough() throws Exception {
+        // given
+        Path playback = Files.writeString(tempDir.resolve("encoded.wav"), "wav");
+
+        // when
+        try (TranscriptionAudio audio = sttAudioPreparer.prepare(playback, AudioProfile.PLAYBACK_WAV)) {
+            // then
+            assertThat(audio.resource().getFile().toPath()).isEqualTo(playback);
+            assertThat(audio.tempFile()).isNull();
+        }
+        verifyNoInteractions(audioProcessor);
+        assertThat(playback).exists();
+    }
+
+    @Test
+    @DisplayName("FLAC 프로파일: 임시 파일로 변환해 전송, close 시 삭제")
+    void prepare_Flac_TranscodedAndCleanedUp() throws Exception {
+        // given
+        Path playback = Files.writeString(tempDir.resolve("encoded.wav"), "wav");
+        doAnswer(inv -> Files.writeString(inv.getArgument(1), "flac"))
+                .when(audioProcessor).transcode(eq(playback), any(Path.class), eq(AudioProfile.FLAC_16K_MONO));
+
+        // when
+        Path temp;
+        try (TranscriptionAudio audio = sttAudioPreparer.prepare(playback, AudioProfile.FLAC_16K_MONO)) {
+            temp = audio.tempFile();
+
+            // then
+            assertThat(audio.resource().getFilename()).endsWith(".flac");
+            assertThat(temp).exists();
+        }
+        assertThat(temp).doesNotExist();
+        assertThat(playback).exists();
+    }
+
+    @Test
+    @DisplayName("업로드 파일: 스트림을 그대로 변환기에 전달")
+    void prepare_Upload_StreamTranscoded() {
+        // given
+        MockMultipartFile upload = new MockMultipartFile("file", "meeting.m4a", "audio/mp4", "m4a".getBytes());
+
+        // when
+        try (TranscriptionAudio audio = sttAudioPreparer.prepare(upload, AudioProfile.WAV_16K_MONO)) {
+            // then
+            assertThat(audio.resource().getFilename()).endsWith(".wav");
+        }
+        verify(audioProcessor).transcode(any(InputStream.class), any(Path.class), eq(AudioProfile.WAV_16K_MONO));
+    }
+
+    @Test
+    @DisplayName("업로드 파일 + PLAYBACK_WAV: 디스크 임시 파일로 옮겨 전송, close 시 삭제")
+    void prepare_UploadPassthrough_SpooledToDisk() throws Exception {
+        // given
+        MockMultipartFile upload = new MockMultipartFile("file", "meeting.m4a", "audio/mp4", "m4a".getBytes());
+
+        // when
+        Path temp;
+        try (TranscriptionAudio audio = sttAudioPreparer.prepare(upload, AudioProfile.PLAYBACK_WAV)) {
+            temp = audio.tempFile();
+
+            // then
+            assertThat(audio.resource().getFile().toPath()).isEqualTo(temp);
+            assertThat(temp.getFileName().toString()).endsWith(".m4a");
+            assertThat(Files.readString(temp)).isEqualTo("m4a");
+            // SHA-256("m4a")
+            assertThat(audio.contentHash()).isEqualTo(
+                    HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest("m4a".getBytes())));
+        }
+        assertThat(temp).doesNotExist();
+        verifyNoInteractions(audioProcessor);
+    }
+
+    @Test
+    @DisplayName("재생 파일이 이미 목표 PCM 형식이면 변환 없이 전송")
+    void prepare_AlreadyTargetPcm_Passthrough() throws Exception {
+        // given: 16kHz 모노 16비트 PCM 헤더
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes()).putInt(36).put("WAVE".getBytes());
+        header.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) 1).putShort((short) 1).putInt(16000).putInt(32000)
+                .putShort((short) 2).putShort((short) 16);
+        header.put("data".getBytes()).putInt(0);
+        Path playback = Files.write(tempDir.resolve("encoded.wav"), header.array());
+
+        // when
+        try (TranscriptionAudio audio = sttAudioPreparer.prepare(playback, AudioProfile.WAV_16K_MONO)) {
+            // then
+            assertThat(audio.resource().getFile().toPath()).isEqualTo(playback);
+            assertThat(audio.tempFile()).isNull();
+        }
+        verifyNoInteractions(audioProcessor);
+    }
+}
@@ -0,0 +1,101 @@
+package com.codehows.daehobe.stt.service.audio;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.common.utils.WavHeaderPatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+class SttSilenceTrimmerTest {
+
+    private static final int SAMPLE_RATE = 16000;
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SttSilenceTrimmer sttSilenceTrimmer;
+
+    @BeforeEach
+    void setUp() {
+        sttSilenceTrimmer = new SttSilenceTrimmer(meterRegistry);
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "fileLocation", tempDir.toString());
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "enabled", true);
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "frameMs", 20);
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "energyThreshold", 300);
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "zeroCrossingRate", 0.25);
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "minSilenceMs", 2000L);
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "keepSilenceMs", 500L);
+        ReflectionTestUtils.setField(sttSilenceTrimmer, "minTrimRatio", 0.05);
+    }
+
+    /**
+     * 16kHz 모노 16비트 PCM: ±8000 진폭, [silenceFrom, silenceTo)초만 0
+     */
+    private Path recording(int seconds, int silenceFrom, int silenceTo) throws IOException {
+        int frames = SAMPLE_RATE * seconds;
+        ByteBuffer buffer = ByteBuffer.allocate(44 + frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(36 + frames * 2).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2)
+                .putShort((short) 2).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(frames * 2);
+        for (int i = 0; i < frames; i++) {
+            boolean silent = i >= SAMPLE_RATE * silenceFrom && i < SAMPLE_RATE * silenceTo;
+            buffer.putShort(silent ? 0 : (short) (i % 2 == 0 ? 8000 : -8000));
+        }
+        return Files.write(tempDir.resolve("recording.wav"), buffer.array());
+    }
+
+    @Test
+    @DisplayName("긴 무음: 압축본 임시 파일 + 시각 변환표, 제거 비율 지표 기록")
+    void trim_LongSilence_TrimmedWithMetrics() throws Exception {
+        // given: 20초 중 5~15초 무음 → 0.5초만 남김
+        Path recording = recording(20, 5, 15);
+
+        // when
+        try (TrimmedAudio trimmed = sttSilenceTrimmer.trim(recording)) {
+            // then
+            assertThat(trimmed.isTrimmed()).isTrue();
+            assertThat(trimmed.file()).isNotEqualTo(recording).exists();
+            assertThat(WavHeaderPatcher.matches(trimmed.file(), AudioProfile.WAV_16K_MONO)).isTrue();
+            assertThat(trimmed.timeMap().toOriginal(6_000)).isEqualTo(15_500);
+            assertThat(meterRegistry.summary("stt.vad.trimmed.ratio").mean()).isCloseTo(0.475, within(0.01));
+            assertThat(meterRegistry.counter("stt.vad.trimmed.seconds").count()).isCloseTo(9.5, within(0.05));
+            trimmed.close();
+            assertThat(trimmed.file()).doesNotExist();
+        }
+    }
+
+    @Test
+    @DisplayName("제거 비율이 작으면 원본 그대로 (비율 0 기록)")
+    void trim_LittleSilence_Untouched() throws Exception {
+        // given: 무음 없음
+        Path recording = recording(5, 0, 0);
+
+        // when
+        try (TrimmedAudio trimmed = sttSilenceTrimmer.trim(recording)) {
+            // then
+            assertThat(trimmed.isTrimmed()).isFalse();
+            assertThat(trimmed.file()).isEqualTo(recording);
+            assertThat(meterRegistry.summary("stt.vad.trimmed.ratio").count()).isEqualTo(1);
+            assertThat(meterRegistry.summary("stt.vad.trimmed.ratio").max()).isZero();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.codehows.daehobe.stt.service.cache;
 
 import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.file.dto.FileDto;
 import com.codehows.daehobe.stt.dto.STTDto;
 import com.codehows.daehobe.stt.entity.STT;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -10,14 +11,23 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -26,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+@SuppressWarnings("unchecked")
 @ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
 class SttCacheServiceTest {
 
@@ -37,6 +48,10 @@ class SttCacheServiceTest {
     private ValueOperations<String, String> valueOperations;
     @Mock
     private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private SttStatusNearCache statusNearCache;
 
     private SttCacheService sttCacheService;
 
@@ -44,9 +59,11 @@ class SttCacheServiceTest {
     void setUp() {
         lenient().when(hashRedisTemplate.opsForValue()).thenReturn(valueOperations);
         lenient().when(hashRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(hashRedisTemplate.opsForHash()).thenReturn(hashOperations);
 
-        sttCacheService = new SttCacheService(hashRedisTemplate, objectMapper);
+        sttCacheService = new SttCacheService(hashRedisTemplate, objectMapper, statusNearCache);
         ReflectionTestUtils.setField(sttCacheService, "staleThresholdMinutes", 60L);
+        ReflectionTestUtils.setField(sttCacheService, "compressThresholdBytes", 16384);
     }
 
     @Nested
@@ -55,173 +72,269 @@ class SttCacheServiceTest {
 
         @Test
         @DisplayName("성공: RECORDING 상태 캐싱 - TTL 60분")
-        void cacheSttStatus_Recording_Ttl60Minutes() throws Exception {
+        void cacheSttStatus_Recording_Ttl60Minutes() {
             // given
             STTDto sttDto = STTDto.builder()
                     .id(1L)
                     .status(STT.Status.RECORDING)
                     .build();
-            when(objectMapper.writeValueAsString(any())).thenReturn("{\"id\":1}");
 
             // when
             sttCacheService.cacheSttStatus(sttDto);
 
             // then
-            verify(valueOperations).set(
-                    eq("stt:status:1"),
-                    anyString(),
-                    eq(60L),
-                    eq(TimeUnit.MINUTES)
-            );
+            verify(hashOperations).putAll(eq("stt:status:1"), anyMap());
+            verify(hashRedisTemplate).expire("stt:status:1", 60L, TimeUnit.MINUTES);
+            verify(statusNearCache).invalidate(1L);
         }
 
         @Test
         @DisplayName("성공: ENCODING 상태 캐싱 - TTL 60분")
-        void cacheSttStatus_Encoding_Ttl60Minutes() throws Exception {
+        void cacheSttStatus_Encoding_Ttl60Minutes() {
             // given
             STTDto sttDto = STTDto.builder()
                     .id(1L)
                     .status(STT.Status.ENCODING)
                     .build();
-            when(objectMapper.writeValueAsString(any())).thenReturn("{\"id\":1}");
 
             // when
             sttCacheService.cacheSttStatus(sttDto);
 
             // then
-            verify(valueOperations).set(
-                    eq("stt:status:1"),
-                    anyString(),
-                    eq(60L),
-                    eq(TimeUnit.MINUTES)
-            );
+            verify(hashOperations).putAll(eq("stt:status:1"), anyMap());
+            verify(hashRedisTemplate).expire("stt:status:1", 60L, TimeUnit.MINUTES);
         }
 
         @Test
         @DisplayName("성공: ENCODED 상태 캐싱 - TTL 1440분 (24시간)")
-        void cacheSttStatus_Encoded_Ttl1440Minutes() throws Exception {
+        void cacheSttStatus_Encoded_Ttl1440Minutes() {
             // given
             STTDto sttDto = STTDto.builder()
                     .id(1L)
                     .status(STT.Status.ENCODED)
                     .build();
-            when(objectMapper.writeValueAsString(any())).thenReturn("{\"id\":1}");
 
             // when
             sttCacheService.cacheSttStatus(sttDto);
 
             // then
-            verify(valueOperations).set(
-                    eq("stt:status:1"),
-                    anyString(),
-                    eq(1440L),
-                    eq(TimeUnit.MINUTES)
-            );
+            verify(hashOperations).putAll(eq("stt:status:1"), anyMap());
+            verify(hashRedisTemplate).expire("stt:status:1", 1440L, TimeUnit.MINUTES);
         }
 
         @Test
         @DisplayName("성공: PROCESSING 상태 캐싱 - TTL 30분")
-        void cacheSttStatus_Processing_Ttl30Minutes() throws Exception {
+        void cacheSttStatus_Processing_Ttl30Minutes() {
             // given
             STTDto sttDto = STTDto.builder()
                     .id(1L)
                     .status(STT.Status.PROCESSING)
                     .build();
-            when(objectMapper.writeValueAsString(any())).thenReturn("{\"id\":1}");
 
             // when
             sttCacheService.cacheSttStatus(sttDto);
 
             // then
-            verify(valueOperations).set(
-                    eq("stt:status:1"),
-                    anyString(),
-                    eq(30L),
-                    eq(TimeUnit.MINUTES)
-            );
+            verify(hashOperations).putAll(eq("stt:status:1"), anyMap());
+            verify(hashRedisTemplate).expire("stt:status:1", 30L, TimeUnit.MINUTES);
         }
 
         @Test
         @DisplayName("성공: SUMMARIZING 상태 캐싱 - TTL 30분")
-        void cacheSttStatus_Summarizing_Ttl30Minutes() throws Exception {
+        void cacheSttStatus_Summarizing_Ttl30Minutes() {
             // given
             STTDto sttDto = STTDto.builder()
                     .id(1L)
                     .status(STT.Status.SUMMARIZING)
                     .build();
-            when(objectMapper.writeValueAsString(any())).thenReturn("{\"id\":1}");
 
             // when
             sttCacheService.cacheSttStatus(sttDto);
 
             // then
-            verify(valueOperations).set(
-                    eq("stt:status:1"),
-                    anyString(),
-                    eq(30L),
-                    eq(TimeUnit.MINUTES)
-            );
+            verify(hashOperations).putAll(eq("stt:status:1"), anyMap());
+            verify(hashRedisTemplate).expire("stt:status:1", 30L, TimeUnit.MINUTES);
         }
 
         @Test
         @DisplayName("성공: COMPLETED 상태 캐싱 - TTL 10분")
-        void cacheSttStatus_Completed_Ttl10Minutes() throws Exception {
+        void cacheSttStatus_Completed_Ttl10Minutes() {
             // given
             STTDto sttDto = STTDto.builder()
                     .id(1L)
                     .status(STT.Status.COMPLETED)
                     .build();
-            when(objectMapper.writeValueAsString(any())).thenReturn("{\"id\":1}");
 
             // when
             sttCacheService.cacheSttStatus(sttDto);
 
             // then
-            verify(valueOperations).set(
-                    eq("stt:status:1"),
-                    anyString(),
-                    eq(10L),
-                    eq(TimeUnit.MINUTES)
-            );
+            verify(hashOperations).putAll(eq("stt:status:1"), anyMap());
+            verify(hashRedisTemplate).expire("stt:status:1", 10L, TimeUnit.MINUTES);
         }
 
         @Test
         @DisplayName("실패: 직렬화 오류 시 로깅만 수행")
         void cacheSttStatus_SerializationError_LogsOnly() throws Exception {
             // given
-            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.RECORDING).build();
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.RECORDING).file(FileDto.builder().build()).build();
             when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("Error") {});
 
             // when
             sttCacheService.cacheSttStatus(sttDto);
 
             // then
+            verify(hashOperations, never()).putAll(anyString(), anyMap());
+        }
+
+        @Test
+        @DisplayName("상태 필드: 작은 필드만 해시에 기록, null은 빈 문자열")
+        void cacheSttStatus_StatusFieldsOnly() {
+            // given
+            STTDto sttDto = STTDto.builder().id(1L).rid("rid-1").status(STT.Status.PROCESSING).progress(40).build();
+
+            // when
+            sttCacheService.cacheSttStatus(sttDto);
+
+            // then
+            ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+            verify(hashOperations).putAll(eq("stt:status:1"), fields.capture());
+            assertThat(fields.getValue())
+                    .containsEntry("rid", "rid-1")
+                    .containsEntry("status", "PROCESSING")
+                    .containsEntry("progress", "40")
+                    .containsEntry("summaryRid", "")
+                    .doesNotContainKeys("content", "summary");
             verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
         }
+
+        @Test
+        @DisplayName("hashCode가 같은 다른 본문: 서명이 달라 새 본문으로 다시 기록")
+        void cacheSttStatus_HashCodeCollision_Rewritten() {
+            // given: "Aa"와 "BB"는 길이와 String.hashCode가 같음
+            assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+            when(hashOperations.multiGet(eq("stt:status:1"), anyCollection()))
+                    .thenReturn(Arrays.asList(SttCacheService.signature("Aa"), null));
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.PROCESSING).content("BB").progress(60).build();
+
+            // when
+            sttCacheService.cacheSttStatus(sttDto);
+
+            // then
+            verify(valueOperations).set(STT_CONTENT_PREFIX + 1, "BB", 30L, TimeUnit.MINUTES);
+        }
+
+        @Test
+        @DisplayName("본문 변경 없음: 진행률만 기록하고 전사 본문은 다시 쓰지 않음")
+        void cacheSttStatus_ContentUnchanged_NotRewritten() {
+            // given
+            String content = "회의 전사 내용";
+            String sig = SttCacheService.signature(content);
+            when(hashOperations.multiGet(eq("stt:status:1"), anyCollection())).thenReturn(Arrays.asList(sig, null));
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.PROCESSING).content(content).progress(60).build();
+
+            // when
+            sttCacheService.cacheSttStatus(sttDto);
+
+            // then
+            verify(valueOperations, never()).set(eq(STT_CONTENT_PREFIX + 1), anyString(), anyLong(), any(TimeUnit.class));
+            verify(hashRedisTemplate).expire(STT_CONTENT_PREFIX + 1, 30L, TimeUnit.MINUTES);
+            verify(hashOperations).putAll(eq("stt:status:1"), anyMap());
+        }
+
+        @Test
+        @DisplayName("본문 변경: 임계치 이상이면 gzip으로 압축해 별도 키에 기록")
+        void cacheSttStatus_LargeContentChanged_Compressed() {
+            // given
+            ReflectionTestUtils.setField(sttCacheService, "compressThresholdBytes", 1024);
+            String content = "안녕하세요 회의를 시작하겠습니다. ".repeat(200);
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.PROCESSING).content(content).build();
+
+            // when
+            sttCacheService.cacheSttStatus(sttDto);
+
+            // then
+            ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+            verify(valueOperations).set(eq(STT_CONTENT_PREFIX + 1), stored.capture(), eq(30L), eq(TimeUnit.MINUTES));
+            assertThat(stored.getValue().length()).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 4);
+            ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+            verify(hashOperations).putAll(eq("stt:status:1"), fields.capture());
+            assertThat(fields.getValue()).containsEntry("contentEncoding", "gzip").containsKey("contentSig");
+        }
     }
 
     @Nested
     @DisplayName("getCachedSttStatus 테스트")
     class GetCachedSttStatusTest {
 
+        private Map<Object, Object> statusFields(String contentEncoding) {
+            Map<Object, Object> fields = new HashMap<>();
+            fields.put("id", "1");
+            fields.put("rid", "rid-1");
+            fields.put("summaryRid", "");
+            fields.put("meetingId", "10");
+            fields.put("status", "PROCESSING");
+            fields.put("progress", "40");
+            fields.put("sequence", "7");
+            fields.put("contentEncoding", contentEncoding);
+            return fields;
+        }
+
         @Test
-        @DisplayName("성공: 캐시 히트")
-        void getCachedSttStatus_CacheHit() throws Exception {
+        @DisplayName("성공: 캐시 히트 - 상태 해시 + 본문 키")
+        void getCachedSttStatus_CacheHit() {
             // given
             Long sttId = 1L;
-            String jsonValue = "{\"id\":1,\"status\":\"PROCESSING\"}";
-            STTDto expectedDto = STTDto.builder().id(sttId).status(STT.Status.PROCESSING).build();
-
-            when(valueOperations.get("stt:status:" + sttId)).thenReturn(jsonValue);
-            when(objectMapper.readValue(jsonValue, STTDto.class)).thenReturn(expectedDto);
+            when(hashOperations.entries("stt:status:" + sttId)).thenReturn(statusFields("plain"));
+            when(valueOperations.multiGet(List.of(STT_CONTENT_PREFIX + sttId, STT_SUMMARY_PREFIX + sttId)))
+                    .thenReturn(Arrays.asList("전사 내용", null));
 
             // when
             STTDto result = sttCacheService.getCachedSttStatus(sttId);
 
             // then
-            assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(sttId);
             assertThat(result.getStatus()).isEqualTo(STT.Status.PROCESSING);
+            assertThat(result.getMeetingId()).isEqualTo(10L);
+            assertThat(result.getSummaryRid()).isNull();
+            assertThat(result.getSequence()).isEqualTo(7L);
+            assertThat(result.getContent()).isEqualTo("전사 내용");
+        }
+
+        @Test
+        @DisplayName("상태만 조회: 본문 키를 읽지 않음")
+        void getCachedSttStatus_WithoutText_StatusHashOnly() {
+            // given
+            when(hashOperations.entries("stt:status:1")).thenReturn(statusFields(null));
+
+            // when
+            STTDto result = sttCacheService.getCachedSttStatus(1L, false);
+
+            // then
+            assertThat(result.getProgress()).isEqualTo(40);
+            assertThat(result.getContent()).isNull();
+            verify(valueOperations, never()).multiGet(anyCollection());
+        }
+
+        @Test
+        @DisplayName("왕복: gzip으로 저장한 본문을 그대로 복원")
+        void getCachedSttStatus_CompressedContent_RoundTrip() {
+            // given
+            ReflectionTestUtils.setField(sttCacheService, "compressThresholdBytes", 1024);
+            String content = "안녕하세요 회의를 시작하겠습니다. ".repeat(200);
+            sttCacheService.cacheSttStatus(
+                    STTDto.builder().id(1L).status(STT.Status.PROCESSING).content(content).build());
+            ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+            verify(valueOperations).set(eq(STT_CONTENT_PREFIX + 1), stored.capture(), anyLong(), any(TimeUnit.class));
+
+            when(hashOperations.entries("stt:status:1")).thenReturn(statusFields("gzip"));
+            when(valueOperations.multiGet(anyCollection())).thenReturn(Arrays.asList(stored.getValue(), null));
+
+            // when
+            STTDto result = sttCacheService.getCachedSttStatus(1L);
+
+            // then
+            assertThat(result.getContent()).isEqualTo(content);
         }
 
         @Test
@@ -229,7 +342,7 @@ class SttCacheServiceTest {
         void getCachedSttStatus_CacheMiss() {
             // given
             Long sttId = 1L;
-            when(valueOperations.get("stt:status:" + sttId)).thenReturn(null);
+            when(hashOperations.entries("stt:status:" + sttId)).thenReturn(Collections.emptyMap());
 
             // when
             STTDto result = sttCacheService.getCachedSttStatus(sttId);
@@ -239,11 +352,34 @@ class SttCacheServiceTest {
         }
 
         @Test
-        @DisplayName("실패: 역직렬화 오류 시 null 반환")
+        @DisplayName("이전 형식: JSON 문자열 키는 읽은 뒤 해시로 옮김")
+        void getCachedSttStatus_LegacyJson_Migrated() throws Exception {
+            // given
+            Long sttId = 1L;
+            String jsonValue = "{\"id\":1,\"status\":\"PROCESSING\"}";
+            STTDto legacyDto = STTDto.builder().id(sttId).status(STT.Status.PROCESSING).build();
+            when(hashOperations.entries("stt:status:" + sttId))
+                    .thenThrow(new InvalidDataAccessApiUsageException("WRONGTYPE"));
+            when(valueOperations.get("stt:status:" + sttId)).thenReturn(jsonValue);
+            when(objectMapper.readValue(jsonValue, STTDto.class)).thenReturn(legacyDto);
+
+            // when
+            STTDto result = sttCacheService.getCachedSttStatus(sttId);
+
+            // then
+            assertThat(result).isSameAs(legacyDto);
+            verify(hashRedisTemplate).delete("stt:status:" + sttId);
+            verify(hashOperations).putAll(eq("stt:status:" + sttId), anyMap());
+        }
+
+        @Test
+        @DisplayName("실패: 이전 형식 역직렬화 오류 시 null 반환")
         void getCachedSttStatus_DeserializationError() throws Exception {
             // given
             Long sttId = 1L;
             String invalidJson = "invalid json";
+            when(hashOperations.entries("stt:status:" + sttId))
+                    .thenThrow(new InvalidDataAccessApiUsageException("WRONGTYPE"));
             when(valueOperations.get("stt:status:" + sttId)).thenReturn(invalidJson);
             when(objectMapper.readValue(invalidJson, STTDto.class)).thenThrow(new JsonProcessingException("Error") {});
 
@@ -255,6 +391,120 @@ class SttCacheServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("transitionStatus 테스트")
+    class TransitionStatusTest {
+
+        @Test
+        @DisplayName("성공: 상태 해시/폴링 셋/retry 키를 한 번의 스크립트로 전이")
+        void transitionStatus_SingleScript() {
+            // given
+            STTDto sttDto = STTDto.builder().id(1L).rid("rid-1").summaryRid("summary-rid-1")
+                    .status(STT.Status.SUMMARIZING).content("전사").build();
+            when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+            // when
+            boolean moved = sttCacheService.transitionStatus(sttDto, STT.Status.PROCESSING, 2000L);
+
+            // then
+            assertThat(moved).isTrue();
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+            verify(hashRedisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+            assertThat(keys.getValue()).containsExactly("stt:status:1", STT_POLLING_PROCESSING_SET,
+                    STT_POLLING_SUMMARIZING_SET, "stt:retry:1", STT_CONTENT_PREFIX + 1, STT_SUMMARY_PREFIX + 1);
+            List<Object> argv = Arrays.asList(args.getValue());
+            assertThat(argv.subList(0, 2)).containsExactly("PROCESSING", "1");
+            assertThat(argv.get(3)).isEqualTo("1800");
+            assertThat(argv.subList(4, 10)).containsExactly(
+                    SttCacheService.signature("전사"), "전사", "plain", "", "", "");
+            assertThat(argv.subList(10, argv.size())).containsSequence("status", "SUMMARIZING");
+            verifyNoInteractions(valueOperations, zSetOperations, hashOperations);
+            verify(statusNearCache).invalidate(1L);
+        }
+
+        @Test
+        @DisplayName("최종 상태: 다음 폴링 셋 없이 이전 셋에서만 제거")
+        void transitionStatus_Completed_NoNextSet() {
+            // given
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.COMPLETED).build();
+            when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+            // when
+            sttCacheService.transitionStatus(sttDto, STT.Status.SUMMARIZING, 0);
+
+            // then
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            verify(hashRedisTemplate).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+            assertThat(keys.getValue().subList(1, 3)).containsExactly(STT_POLLING_SUMMARIZING_SET, "");
+        }
+
+        @Test
+        @DisplayName("기대 상태 불일치: 스크립트가 0 반환 → false")
+        void transitionStatus_UnexpectedState_False() {
+            // given
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.COMPLETED).build();
+            when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+            // when & then
+            assertThat(sttCacheService.transitionStatus(sttDto, STT.Status.SUMMARIZING, 0)).isFalse();
+            verifyNoInteractions(statusNearCache);
+        }
+
+        @Test
+        @DisplayName("Redis 오류: 예외 대신 false")
+        void transitionStatus_RedisError_False() {
+            // given
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.ENCODED).build();
+            when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenThrow(new RuntimeException("Redis down"));
+
+            // when & then
+            assertThat(sttCacheService.transitionStatus(sttDto, STT.Status.PROCESSING, 0)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("cacheContentIfStatus 테스트")
+    class CacheContentIfStatusTest {
+
+        @Test
+        @DisplayName("기대 상태 조건 스크립트로 본문과 sequence만 기록")
+        void cacheContentIfStatus_ContentAndSequenceOnly() {
+            // given
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.RECORDING).content("부분 전사").build();
+            sttDto.advanceSequence();
+            when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+            // when
+            boolean written = sttCacheService.cacheContentIfStatus(sttDto, STT.Status.RECORDING);
+
+            // then
+            assertThat(written).isTrue();
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+            verify(hashRedisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+            assertThat(keys.getValue()).containsExactly("stt:status:1", STT_CONTENT_PREFIX + 1);
+            List<Object> argv = Arrays.asList(args.getValue());
+            assertThat(argv.get(0)).isEqualTo("RECORDING");
+            assertThat(argv.subList(2, 6)).containsExactly("부분 전사", "plain", "3600", "1");
+            verifyNoInteractions(hashOperations);
+            verify(statusNearCache).invalidate(1L);
+        }
+
+        @Test
+        @DisplayName("상태가 바뀌었으면(녹음 종료) 기록하지 않고 false")
+        void cacheContentIfStatus_StatusChanged_False() {
+            // given
+            STTDto sttDto = STTDto.builder().id(1L).status(STT.Status.RECORDING).content("부분 전사").build();
+            when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+            // when & then
+            assertThat(sttCacheService.cacheContentIfStatus(sttDto, STT.Status.RECORDING)).isFalse();
+            verifyNoInteractions(statusNearCache);
+        }
+    }
+
     @Nested
     @DisplayName("Polling Set 테스트")
     class PollingSetTest {
@@ -298,6 +548,49 @@ class SttCacheServiceTest {
             verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
         }
 
+        @Test
+        @DisplayName("성공: 지연 시간만큼 뒤의 예정 시각으로 재예약")
+        void schedulePolling_ScoreIsDueTime() {
+            // given
+            Long sttId = 1L;
+            long before = System.currentTimeMillis();
+
+            // when
+            sttCacheService.schedulePolling(sttId, STT.Status.PROCESSING, 10_000L);
+
+            // then
+            verify(zSetOperations).add(eq(STT_POLLING_PROCESSING_SET), eq("1"),
+                    doubleThat(score -> score >= before + 10_000L && score <= System.currentTimeMillis() + 10_000L));
+        }
+
+        @Test
+        @DisplayName("성공: 예정 시각이 지난 작업만 limit 만큼 조회")
+        void getDuePollingTaskIds_Success() {
+            // given
+            when(zSetOperations.rangeByScore(eq(STT_POLLING_PROCESSING_SET), eq(0D), anyDouble(), eq(0L), eq(20L)))
+                    .thenReturn(Set.of("1", "2"));
+
+            // when
+            Set<Long> result = sttCacheService.getDuePollingTaskIds(STT.Status.PROCESSING, 20);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("실패: 예정 작업 조회 중 Redis 오류 시 빈 집합 반환")
+        void getDuePollingTaskIds_RedisError() {
+            // given
+            when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                    .thenThrow(new RuntimeException("Redis error"));
+
+            // when
+            Set<Long> result = sttCacheService.getDuePollingTaskIds(STT.Status.PROCESSING, 20);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
         @Test
         @DisplayName("성공: 폴링 셋에서 제거")
         void removeFromPollingSet_Processing() {
@@ -459,6 +752,7 @@ class SttCacheServiceTest {
             // then
             verify(zSetOperations).removeRangeByScore(eq(STT_POLLING_PROCESSING_SET), eq(0D), anyDouble());
             verify(zSetOperations).removeRangeByScore(eq(STT_POLLING_SUMMARIZING_SET), eq(0D), anyDouble());
+            verify(zSetOperations).removeRangeByScore(eq(STT_POLLING_ENCODING_SET), eq(0D), anyDouble());
         }
     }
 }
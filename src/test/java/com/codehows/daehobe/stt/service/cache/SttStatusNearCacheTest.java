@@ -0,0 +1,221 @@
+package com.codehows.daehobe.stt.service.cache;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.entity.STT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_STATUS_INVALIDATION_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+class SttStatusNearCacheTest {
+
+    @Mock
+    private StringRedisTemplate hashRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SttStatusNearCache nearCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new SttStatusNearCache(hashRedisTemplate, listenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(nearCache, "maxSize", 2);
+        ReflectionTestUtils.setField(nearCache, "ttlMs", 60_000L);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<STTDto> loader(Long sttId) {
+        return () -> {
+            loads.incrementAndGet();
+            return STTDto.builder().id(sttId).status(STT.Status.PROCESSING).progress(loads.get()).build();
+        };
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("stt.cache.near.requests", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("생성 시 무효화 채널 구독 등록")
+    void constructor_SubscribesInvalidationChannel() {
+        verify(listenerContainer).addMessageListener(any(), eq(new ChannelTopic(STT_STATUS_INVALIDATION_CHANNEL)));
+    }
+
+    @Test
+    @DisplayName("히트: TTL 안에서는 로더를 다시 호출하지 않음")
+    void get_WithinTtl_ServedFromMemory() {
+        // when
+        STTDto first = nearCache.get(1L, false, loader(1L));
+        STTDto second = nearCache.get(1L, false, loader(1L));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본문 포함 여부가 다르면 별도 항목")
+    void get_IncludeTextSeparateEntries() {
+        // when
+        nearCache.get(1L, false, loader(1L));
+        nearCache.get(1L, true, loader(1L));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL 만료 후에는 다시 로드")
+    void get_Expired_Reloads() {
+        // given
+        ReflectionTestUtils.setField(nearCache, "ttlMs", 1L);
+        nearCache.get(1L, false, loader(1L));
+
+        // when
+        await(5);
+        nearCache.get(1L, false, loader(1L));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과: 가장 오래 조회되지 않은 항목부터 제거")
+    void get_OverMaxSize_EvictsLeastRecentlyUsed() {
+        // given
+        nearCache.get(1L, false, loader(1L));
+        nearCache.get(2L, false, loader(2L));
+        nearCache.get(1L, false, loader(1L));
+
+        // when
+        nearCache.get(3L, false, loader(3L));
+        nearCache.get(1L, false, loader(1L));
+        nearCache.get(2L, false, loader(2L));
+
+        // then: 2번만 제거되어 다시 로드
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(nearCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis에도 없으면(null) 캐시하지 않음")
+    void get_NullNotCached() {
+        // when
+        nearCache.get(1L, false, () -> null);
+        nearCache.get(1L, false, loader(1L));
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화: 로컬 항목 제거 후 다른 노드에 sttId 발행")
+    void invalidate_EvictsAndPublishes() {
+        // given
+        nearCache.get(1L, true, loader(1L));
+        nearCache.get(1L, false, loader(1L));
+
+        // when
+        nearCache.invalidate(1L);
+        nearCache.get(1L, false, loader(1L));
+
+        // then
+        verify(hashRedisTemplate).convertAndSend(STT_STATUS_INVALIDATION_CHANNEL, "1");
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(nearCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지 수신 시 로컬 항목 제거")
+    void onInvalidation_RemoteMessage_Evicts() {
+        // given
+        nearCache.get(7L, false, loader(7L));
+
+        // when
+        nearCache.onInvalidation(new DefaultMessage(
+                STT_STATUS_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "7".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(nearCache.size()).isZero();
+        assertThat(meterRegistry.counter("stt.cache.near.invalidations", "source", "pubsub").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로드 도중 무효화되면 읽은 (이전) 값을 캐시하지 않음")
+    void get_InvalidatedDuringLoad_NotCached() {
+        // when
+        STTDto stale = nearCache.get(1L, false, () -> {
+            nearCache.invalidate(1L);
+            return STTDto.builder().id(1L).status(STT.Status.PROCESSING).build();
+        });
+        nearCache.get(1L, false, loader(1L));
+
+        // then
+        assertThat(stale).isNotNull();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발행 실패: 예외를 전파하지 않고 로컬 무효화는 유지")
+    void invalidate_PublishFailure_Swallowed() {
+        // given
+        nearCache.get(1L, false, loader(1L));
+        doThrow(new RuntimeException("Redis down"))
+                .when(hashRedisTemplate).convertAndSend(any(), any());
+
+        // when
+        nearCache.invalidate(1L);
+
+        // then
+        assertThat(nearCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("크기 0: 캐시 없이 매번 로드")
+    void get_Disabled_AlwaysLoads() {
+        // given
+        ReflectionTestUtils.setField(nearCache, "maxSize", 0);
+
+        // when
+        nearCache.get(1L, false, loader(1L));
+        nearCache.get(1L, false, loader(1L));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(nearCache.size()).isZero();
+    }
+
+    private void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
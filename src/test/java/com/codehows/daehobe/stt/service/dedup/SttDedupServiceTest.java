@@ -0,0 +1,129 @@
+package com.codehows.daehobe.stt.service.dedup;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_DEDUP_INFLIGHT_PREFIX;
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_DEDUP_RESULT_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+class SttDedupServiceTest {
+
+    @Mock
+    private StringRedisTemplate hashRedisTemplate;
+    @Mock
+    private STTRepository sttRepository;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private SttDedupService sttDedupService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(hashRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(hashRedisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        sttDedupService = new SttDedupService(hashRedisTemplate, sttRepository);
+        ReflectionTestUtils.setField(sttDedupService, "claimTtlSeconds", 600L);
+        ReflectionTestUtils.setField(sttDedupService, "inFlightTtlSeconds", 21600L);
+        ReflectionTestUtils.setField(sttDedupService, "resultTtlHours", 168L);
+    }
+
+    @Test
+    @DisplayName("완료 인덱스 히트: Redis에서 바로 반환, DB 조회 없음")
+    void findCompleted_RedisHit() {
+        // given
+        when(hashOperations.entries(STT_DEDUP_RESULT_PREFIX + "hash-1"))
+                .thenReturn(Map.of("rid", "rid-1", "content", "전사", "summary", "요약"));
+
+        // when
+        Optional<SttDedupService.DedupEntry> result = sttDedupService.findCompleted("hash-1");
+
+        // then
+        assertThat(result).contains(new SttDedupService.DedupEntry("rid-1", "전사", "요약"));
+        verifyNoInteractions(sttRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 인덱스 만료: DB의 COMPLETED STT로 재구성")
+    void findCompleted_RedisMiss_FallsBackToDb() {
+        // given
+        when(hashOperations.entries(anyString())).thenReturn(Collections.emptyMap());
+        when(sttRepository.findFirstByContentHashAndStatusOrderByIdDesc("hash-1", STT.Status.COMPLETED))
+                .thenReturn(Optional.of(STT.builder().rid("rid-1").content("전사").summary("요약").build()));
+
+        // when
+        Optional<SttDedupService.DedupEntry> result = sttDedupService.findCompleted("hash-1");
+
+        // then
+        assertThat(result).contains(new SttDedupService.DedupEntry("rid-1", "전사", "요약"));
+        verify(hashOperations).putAll(eq(STT_DEDUP_RESULT_PREFIX + "hash-1"), anyMap());
+        verify(hashRedisTemplate).expire(STT_DEDUP_RESULT_PREFIX + "hash-1", Duration.ofHours(168));
+    }
+
+    @Test
+    @DisplayName("선점: 처음 요청만 성공, 이후 동일 요청은 진행 중으로 판단")
+    void tryClaim_SecondRequestCoalesced() {
+        // given
+        when(valueOperations.setIfAbsent(STT_DEDUP_INFLIGHT_PREFIX + "hash-1", "pending", Duration.ofSeconds(600)))
+                .thenReturn(true, false);
+
+        // when & then
+        assertThat(sttDedupService.tryClaim("hash-1")).isTrue();
+        assertThat(sttDedupService.tryClaim("hash-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애: 중복 제거 없이 직접 전사하도록 선점 성공으로 처리")
+    void tryClaim_RedisDown_ProceedsWithoutDedup() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RuntimeException("Redis down"));
+
+        // when & then
+        assertThat(sttDedupService.tryClaim("hash-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("완료 기록: 인덱스 저장 후 선점 해제")
+    void recordCompleted_WritesIndexAndReleasesClaim() {
+        // when
+        sttDedupService.recordCompleted("hash-1", "rid-1", "전사", "요약");
+
+        // then
+        verify(hashOperations).putAll(STT_DEDUP_RESULT_PREFIX + "hash-1",
+                Map.of("rid", "rid-1", "content", "전사", "summary", "요약"));
+        verify(hashRedisTemplate).delete(STT_DEDUP_INFLIGHT_PREFIX + "hash-1");
+    }
+
+    @Test
+    @DisplayName("해시 없음: 중복 제거 대상 아님")
+    void nullHash_Ignored() {
+        // when & then
+        assertThat(sttDedupService.findCompleted(null)).isEmpty();
+        assertThat(sttDedupService.tryClaim(null)).isTrue();
+        sttDedupService.recordCompleted(null, "rid", "c", "s");
+        verifyNoInteractions(hashRedisTemplate, sttRepository);
+    }
+}
@@ -0,0 +1,72 @@
+package com.codehows.daehobe.stt.service.messaging;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+class SttTopicSubscriptionTrackerTest {
+
+    private static final String TOPIC = "/topic/stt/updates/10";
+
+    private final SttTopicSubscriptionTracker tracker = new SttTopicSubscriptionTracker();
+
+    private Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("구독 해제: 같은 토픽의 다른 구독이 남아 있으면 구독자 있음 유지")
+    void unsubscribe_OtherSessionRemains() {
+        // given
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", TOPIC)));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-1", TOPIC)));
+
+        // when
+        tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-1", null)));
+
+        // then
+        assertThat(tracker.hasSubscribers(TOPIC)).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결 종료: 세션의 모든 구독 제거")
+    void disconnect_RemovesSessionSubscriptions() {
+        // given
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", TOPIC)));
+
+        // when
+        tracker.onDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL));
+
+        // then
+        assertThat(tracker.hasSubscribers(TOPIC)).isFalse();
+    }
+
+    @Test
+    @DisplayName("STT 토픽이 아닌 구독은 집계하지 않음")
+    void subscribe_OtherTopic_Ignored() {
+        // when
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/topic/notice")));
+
+        // then
+        assertThat(tracker.hasSubscribers("/topic/notice")).isFalse();
+    }
+}
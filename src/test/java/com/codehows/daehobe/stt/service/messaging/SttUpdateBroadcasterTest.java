@@ -0,0 +1,184 @@
+package com.codehows.daehobe.stt.service.messaging;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttProgressDelta;
+import com.codehows.daehobe.stt.entity.STT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+class SttUpdateBroadcasterTest {
+
+    private static final String TOPIC = "/topic/stt/updates/10";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SttTopicSubscriptionTracker subscriptionTracker;
+    private SimpleMeterRegistry meterRegistry;
+    private SttUpdateBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionTracker = new SttTopicSubscriptionTracker();
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new SttUpdateBroadcaster(messagingTemplate, subscriptionTracker, meterRegistry);
+        ReflectionTestUtils.setField(broadcaster, "coalesceWindowMs", 60_000L);
+    }
+
+    private void subscribe() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination(TOPIC);
+        subscriptionTracker.onSubscribe(new SessionSubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private STTDto state(long sequence) {
+        STTDto dto = STTDto.builder().id(1L).meetingId(10L).status(STT.Status.PROCESSING).build();
+        for (int i = 0; i < sequence; i++) {
+            dto.advanceSequence();
+        }
+        return dto;
+    }
+
+    private SttProgressDelta delta(long sequence, int offset, String appended) {
+        return SttProgressDelta.builder()
+                .id(1L).meetingId(10L)
+                .baseSequence(sequence - 1).sequence(sequence)
+                .status(STT.Status.PROCESSING).progress((int) sequence * 10)
+                .contentOffset(offset).appendedContent(appended)
+                .build();
+    }
+
+    private double suppressed(String reason) {
+        return meterRegistry.counter("stt.broadcast.suppressed", "reason", reason).count();
+    }
+
+    private double sent() {
+        return meterRegistry.counter("stt.broadcast.sent").count();
+    }
+
+    @Test
+    @DisplayName("구독자 없음: 직렬화/전송 없이 suppressed(no_subscribers) 집계")
+    void broadcast_NoSubscribers_Suppressed() {
+        // when
+        broadcaster.broadcast(state(1), null);
+        broadcaster.broadcast(state(2), delta(2, 0, "안녕"));
+
+        // then
+        verifyNoInteractions(messagingTemplate);
+        assertThat(suppressed("no_subscribers")).isEqualTo(2);
+        assertThat(sent()).isZero();
+    }
+
+    @Nested
+    @DisplayName("토픽 단위 병합 테스트")
+    class CoalesceTest {
+
+        @BeforeEach
+        void setUp() {
+            subscribe();
+        }
+
+        @Test
+        @DisplayName("창 안의 연속 delta: 첫 메시지는 즉시, 나머지는 하나로 합쳐 창 종료 후 전송")
+        void consecutiveDeltas_MergedIntoOne() {
+            // when
+            broadcaster.broadcast(state(1), delta(1, 0, "안녕"));
+            broadcaster.broadcast(state(2), delta(2, 2, "하세요"));
+            broadcaster.broadcast(state(3), delta(3, 5, " 반갑습니다"));
+            broadcaster.flushDue(System.currentTimeMillis() + 60_000L);
+
+            // then
+            ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+            verify(messagingTemplate, times(2)).convertAndSend(eq(TOPIC), payloads.capture());
+            SttProgressDelta merged = (SttProgressDelta) payloads.getAllValues().get(1);
+            assertThat(merged.getBaseSequence()).isEqualTo(1L);
+            assertThat(merged.getSequence()).isEqualTo(3L);
+            assertThat(merged.getContentOffset()).isEqualTo(2);
+            assertThat(merged.getAppendedContent()).isEqualTo("하세요 반갑습니다");
+            assertThat(merged.getProgress()).isEqualTo(30);
+            assertThat(sent()).isEqualTo(2);
+            assertThat(suppressed("coalesced")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("창 안에 상태 전이 스냅샷이 섞이면 최신 스냅샷 하나로 대체")
+        void snapshotInWindow_ReplacesPendingDeltas() {
+            // given
+            STTDto completed = state(3);
+            completed.updateStatus(STT.Status.COMPLETED);
+
+            // when
+            broadcaster.broadcast(state(1), null);
+            broadcaster.broadcast(state(2), delta(2, 0, "안녕"));
+            broadcaster.broadcast(completed, null);
+            broadcaster.flushDue(System.currentTimeMillis() + 60_000L);
+
+            // then
+            verify(messagingTemplate).convertAndSend(TOPIC, (Object) completed);
+            verify(messagingTemplate, times(2)).convertAndSend(eq(TOPIC), any(Object.class));
+        }
+
+        @Test
+        @DisplayName("창이 끝나기 전에는 flush하지 않음")
+        void flushBeforeWindowEnds_Held() {
+            // when
+            broadcaster.broadcast(state(1), null);
+            broadcaster.broadcast(state(2), delta(2, 0, "안녕"));
+            broadcaster.flushDue(System.currentTimeMillis());
+
+            // then
+            verify(messagingTemplate, times(1)).convertAndSend(eq(TOPIC), any(Object.class));
+        }
+
+        @Test
+        @DisplayName("창 0ms: 병합 없이 매번 즉시 전송")
+        void zeroWindow_SentImmediately() {
+            // given
+            ReflectionTestUtils.setField(broadcaster, "coalesceWindowMs", 0L);
+
+            // when
+            broadcaster.broadcast(state(1), null);
+            broadcaster.broadcast(state(2), delta(2, 0, "안녕"));
+
+            // then
+            verify(messagingTemplate, times(2)).convertAndSend(eq(TOPIC), any(Object.class));
+            assertThat(sent()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("전송 실패: 예외를 전파하지 않음")
+        void sendFailure_Swallowed() {
+            // given
+            doThrow(new MessagingException("broker down"))
+                    .when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+            // when & then
+            assertThatCode(() -> broadcaster.broadcast(state(1), null)).doesNotThrowAnyException();
+            assertThat(sent()).isZero();
+        }
+    }
+}
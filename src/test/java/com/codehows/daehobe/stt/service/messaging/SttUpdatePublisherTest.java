@@ -0,0 +1,122 @@
+package com.codehows.daehobe.stt.service.messaging;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttProgressDelta;
+import com.codehows.daehobe.stt.entity.STT;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+class SttUpdatePublisherTest {
+
+    @Mock
+    private SttUpdateBroadcaster sttUpdateBroadcaster;
+
+    @InjectMocks
+    private SttUpdatePublisher sttUpdatePublisher;
+
+    private STTDto processingDto(String content) {
+        return STTDto.builder()
+                .id(1L)
+                .meetingId(10L)
+                .status(STT.Status.PROCESSING)
+                .content(content)
+                .progress(30)
+                .build();
+    }
+
+    @Test
+    @DisplayName("스냅샷: 시퀀스 증가 후 전체 DTO 전송")
+    void publishSnapshot_SendsFullDtoWithSequence() {
+        // given
+        STTDto dto = processingDto("안녕하세요");
+
+        // when
+        sttUpdatePublisher.publishSnapshot(dto);
+        sttUpdatePublisher.publishSnapshot(dto);
+
+        // then
+        assertThat(dto.getSequence()).isEqualTo(2L);
+        verify(sttUpdateBroadcaster, times(2)).broadcast(dto, null);
+    }
+
+    @Test
+    @DisplayName("상태 전이: sequence를 올린 뒤 전이에 성공한 경우에만 스냅샷 전송")
+    void publishTransition_OnlyBroadcastsCommittedTransition() {
+        // given
+        STTDto committed = processingDto("안녕하세요");
+        STTDto lost = processingDto("안녕하세요");
+
+        // when
+        boolean committedResult = sttUpdatePublisher.publishTransition(committed, () -> committed.getSequence() == 1L);
+        boolean lostResult = sttUpdatePublisher.publishTransition(lost, () -> false);
+
+        // then
+        assertThat(committedResult).isTrue();
+        assertThat(lostResult).isFalse();
+        verify(sttUpdateBroadcaster).broadcast(committed, null);
+        verify(sttUpdateBroadcaster, never()).broadcast(eq(lost), any());
+    }
+
+    @Test
+    @DisplayName("진행: 추가된 전사 텍스트와 offset만 담은 delta 전송")
+    void publishProgress_AppendedContent_SendsDelta() {
+        // given
+        STTDto dto = processingDto("안녕하세요 반갑습니다");
+        dto.advanceSequence();
+        dto.updateProgress(60);
+
+        // when
+        sttUpdatePublisher.publishProgress(dto, "안녕하세요");
+
+        // then
+        ArgumentCaptor<SttProgressDelta> captor = ArgumentCaptor.forClass(SttProgressDelta.class);
+        verify(sttUpdateBroadcaster).broadcast(eq(dto), captor.capture());
+        SttProgressDelta delta = captor.getValue();
+        assertThat(delta.getType()).isEqualTo(SttProgressDelta.TYPE);
+        assertThat(delta.getBaseSequence()).isEqualTo(1L);
+        assertThat(delta.getSequence()).isEqualTo(2L);
+        assertThat(delta.getProgress()).isEqualTo(60);
+        assertThat(delta.getContentOffset()).isEqualTo("안녕하세요".length());
+        assertThat(delta.getAppendedContent()).isEqualTo(" 반갑습니다");
+        assertThat(dto.getSequence()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("진행: 앞부분 전사가 바뀌면 delta 대신 전체 스냅샷 전송")
+    void publishProgress_RewrittenContent_FallsBackToSnapshot() {
+        // given
+        STTDto dto = processingDto("안녕하십니까 반갑습니다");
+
+        // when
+        sttUpdatePublisher.publishProgress(dto, "안녕하세요");
+
+        // then
+        verify(sttUpdateBroadcaster).broadcast(dto, null);
+        assertThat(dto.getSequence()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조건부 진행: 캐시 기록에 실패하면(상태 변경) delta를 보내지 않음")
+    void publishProgress_WriteRejected_NotBroadcast() {
+        // given
+        STTDto dto = processingDto("안녕하세요 반갑습니다");
+
+        // when
+        boolean written = sttUpdatePublisher.publishProgress(dto, "안녕하세요", () -> false);
+
+        // then
+        assertThat(written).isFalse();
+        verifyNoInteractions(sttUpdateBroadcaster);
+    }
+}
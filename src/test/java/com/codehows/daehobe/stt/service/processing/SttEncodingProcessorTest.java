@@ -0,0 +1,204 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.constant.TargetType;
+import com.codehows.daehobe.file.entity.File;
+import com.codehows.daehobe.file.service.FileService;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SttEncodingProcessorTest {
+
+    @Mock
+    private STTRepository sttRepository;
+    @Mock
+    private FileService fileService;
+    @Mock
+    private SttCacheService sttCacheService;
+    @Mock
+    private SttUpdatePublisher sttUpdatePublisher;
+    @Mock
+    private SttJobLeaseService sttJobLeaseService;
+
+    private SttEncodingProcessor sttEncodingProcessor;
+
+    private final File recordingFile = File.builder()
+            .fileId(10L).savedName("stt-recording.wav").path("/file/stt-recording.wav")
+            .originalName("stt-recording.wav").size(0L).targetId(1L).targetType(TargetType.STT).build();
+    private final File encodedFile = File.builder()
+            .fileId(11L).savedName("encoded.wav").path("/file/encoded.wav")
+            .originalName("stt-recording.wav").size(1024L).targetId(1L).targetType(TargetType.STT).build();
+
+    @BeforeEach
+    void setUp() {
+        sttEncodingProcessor = new SttEncodingProcessor(sttRepository, fileService, sttCacheService,
+                sttUpdatePublisher, sttJobLeaseService);
+        ReflectionTestUtils.setField(sttEncodingProcessor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(sttEncodingProcessor, "retryDelayMs", 60000L);
+        ReflectionTestUtils.setField(sttEncodingProcessor, "encodingLeaseTtlMs", 600000L);
+
+        when(sttJobLeaseService.tryAcquire(anyString(), anyLong(), any())).thenReturn(true);
+        lenient().when(sttCacheService.transitionStatus(any(), any(), anyLong())).thenReturn(true);
+        lenient().when(sttUpdatePublisher.publishTransition(any(), any()))
+                .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+    }
+
+    private STTDto encodingDto() {
+        return STTDto.builder().id(1L).meetingId(1L).status(STT.Status.ENCODING).build();
+    }
+
+    @Test
+    @DisplayName("성공: 인코딩 후 ENCODED 발행, DB 저장, 인코딩 셋에서 제거")
+    void encode_Success_PublishesEncoded() {
+        // given
+        STT stt = STT.builder().id(1L).status(STT.Status.ENCODING).build();
+        when(sttCacheService.getCachedSttStatus(1L)).thenReturn(encodingDto());
+        when(fileService.getSTTFile(1L)).thenReturn(recordingFile);
+        when(fileService.encodeAudioFile(recordingFile)).thenReturn(encodedFile);
+        when(sttRepository.findById(1L)).thenReturn(Optional.of(stt));
+
+        // when
+        sttEncodingProcessor.encode(1L);
+
+        // then
+        ArgumentCaptor<STTDto> published = ArgumentCaptor.forClass(STTDto.class);
+        verify(sttUpdatePublisher).publishTransition(published.capture(), any());
+        assertThat(published.getValue().getStatus()).isEqualTo(STT.Status.ENCODED);
+        assertThat(stt.getStatus()).isEqualTo(STT.Status.ENCODED);
+        verify(sttCacheService).transitionStatus(published.getValue(), STT.Status.ENCODING, 0L);
+        verify(sttJobLeaseService).release(anyString(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("전이 실패: 이미 다른 상태로 바뀌었으면 DB에 ENCODED를 저장하지 않음")
+    void encode_TransitionLost_NotPersisted() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L)).thenReturn(encodingDto());
+        when(fileService.getSTTFile(1L)).thenReturn(recordingFile);
+        when(fileService.encodeAudioFile(recordingFile)).thenReturn(encodedFile);
+        when(sttCacheService.transitionStatus(any(), eq(STT.Status.ENCODING), anyLong())).thenReturn(false);
+
+        // when
+        sttEncodingProcessor.encode(1L);
+
+        // then
+        verify(sttRepository, never()).save(any());
+        verify(sttJobLeaseService).release(anyString(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("캐시 없음: 인코딩하지 않고 셋에서 제거")
+    void encode_NoCachedStatus_Removed() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L)).thenReturn(null);
+
+        // when
+        sttEncodingProcessor.encode(1L);
+
+        // then
+        verify(fileService, never()).encodeAudioFile(any());
+        verify(sttCacheService).removeFromPollingSet(1L, STT.Status.ENCODING);
+    }
+
+    @Test
+    @DisplayName("실패: 재시도 한도 전에는 지연 후 재예약")
+    void encode_Failure_Rescheduled() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L)).thenReturn(encodingDto());
+        when(fileService.getSTTFile(1L)).thenReturn(recordingFile);
+        when(fileService.encodeAudioFile(recordingFile)).thenThrow(new RuntimeException("인코딩 실패"));
+        when(sttCacheService.incrementRetryCount(1L)).thenReturn(1);
+
+        // when
+        sttEncodingProcessor.encode(1L);
+
+        // then
+        verify(sttCacheService).schedulePolling(1L, STT.Status.ENCODING, 60000L);
+        verify(sttCacheService, never()).removeFromPollingSet(anyLong(), any());
+        verify(sttJobLeaseService).release(anyString(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("실패: 재시도 한도 도달 시 ENCODED로 롤백 발행 + DB 저장 (사용자 재시도 가능)")
+    void encode_MaxAttempts_RolledBackToEncoded() {
+        // given
+        STT stt = STT.builder().id(1L).status(STT.Status.ENCODING).build();
+        when(sttCacheService.getCachedSttStatus(1L)).thenReturn(encodingDto());
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(encodingDto());
+        when(fileService.getSTTFile(1L)).thenReturn(recordingFile);
+        when(fileService.encodeAudioFile(recordingFile)).thenThrow(new RuntimeException("인코딩 실패"));
+        when(sttCacheService.incrementRetryCount(1L)).thenReturn(3);
+        when(sttRepository.findById(1L)).thenReturn(Optional.of(stt));
+
+        // when
+        sttEncodingProcessor.encode(1L);
+
+        // then
+        ArgumentCaptor<STTDto> published = ArgumentCaptor.forClass(STTDto.class);
+        verify(sttUpdatePublisher).publishTransition(published.capture(), any());
+        assertThat(published.getValue().getStatus()).isEqualTo(STT.Status.ENCODED);
+        verify(sttCacheService).transitionStatus(published.getValue(), STT.Status.ENCODING, 0L);
+        assertThat(stt.getStatus()).isEqualTo(STT.Status.ENCODED);
+        verify(sttRepository).save(stt);
+        verify(sttCacheService, never()).schedulePolling(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("실패: 재시도 한도 도달 시 이미 다른 상태면 셋에서만 제거")
+    void encode_MaxAttempts_StatusChanged_OnlyRemoved() {
+        // given
+        STTDto deleted = encodingDto();
+        deleted.updateStatus(STT.Status.COMPLETED);
+        when(sttCacheService.getCachedSttStatus(1L)).thenReturn(encodingDto());
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(deleted);
+        when(fileService.getSTTFile(1L)).thenReturn(recordingFile);
+        when(fileService.encodeAudioFile(recordingFile)).thenThrow(new RuntimeException("인코딩 실패"));
+        when(sttCacheService.incrementRetryCount(1L)).thenReturn(3);
+
+        // when
+        sttEncodingProcessor.encode(1L);
+
+        // then
+        verify(sttUpdatePublisher, never()).publishTransition(any(), any());
+        verify(sttCacheService).removeFromPollingSet(1L, STT.Status.ENCODING);
+        verify(sttCacheService).resetRetryCount(1L);
+        verify(sttRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 워커가 lease 보유 시 건너뜀")
+    void encode_LeaseHeldElsewhere_Skipped() {
+        // given
+        when(sttJobLeaseService.tryAcquire(anyString(), eq(1L), any())).thenReturn(false);
+
+        // when
+        sttEncodingProcessor.encode(1L);
+
+        // then
+        verify(sttCacheService, never()).getCachedSttStatus(anyLong());
+        verify(sttJobLeaseService, never()).release(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,113 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("STT 작업 디스패처 테스트")
+class SttJobDispatcherTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private SttJobDispatcher dispatcher;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개 + 큐 1칸: 두 작업까지만 수용
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new SttJobDispatcher(executor, meterRegistry);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private Runnable blockingJob() {
+        return () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("in-flight 작업은 다시 제출하지 않음")
+    void dispatch_AlreadyInFlight_Skipped() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        dispatcher.dispatch(1L, blockingJob());
+
+        // when
+        boolean submitted = dispatcher.dispatch(1L, runs::incrementAndGet);
+
+        // then
+        assertThat(submitted).isFalse();
+        assertThat(dispatcher.getInFlightCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("stt.executor.in-flight").gauge().value()).isEqualTo(1.0);
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.getInFlightCount() == 0);
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("포화 시 거절: rejected 카운터 증가, in-flight에서 제거")
+    void dispatch_Saturated_RejectedAndCounted() {
+        // given: 실행 1 + 대기 1
+        assertThat(dispatcher.dispatch(1L, blockingJob())).isTrue();
+        assertThat(dispatcher.dispatch(2L, blockingJob())).isTrue();
+
+        // when
+        boolean submitted = dispatcher.dispatch(3L, blockingJob());
+
+        // then
+        assertThat(submitted).isFalse();
+        assertThat(meterRegistry.get("stt.executor.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("stt.executor.queued").gauge().value()).isEqualTo(1.0);
+        assertThat(dispatcher.getInFlightCount()).isEqualTo(2);
+
+        // 여유가 생기면 다음 주기에 같은 작업 재제출 가능
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.getInFlightCount() == 0);
+        assertThat(dispatcher.dispatch(3L, () -> { })).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업 예외가 나도 in-flight에서 제거")
+    void dispatch_JobThrows_InFlightCleared() {
+        // when
+        dispatcher.dispatch(1L, () -> {
+            throw new IllegalStateException("Daglo error");
+        });
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.getInFlightCount() == 0);
+        assertThat(dispatcher.dispatch(1L, () -> { })).isTrue();
+    }
+}
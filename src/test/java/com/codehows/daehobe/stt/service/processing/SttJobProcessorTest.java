@@ -0,0 +1,493 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttSummaryResult;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.provider.SttStatusCallBudget;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SttJobProcessorTest {
+
+    @Mock
+    private STTRepository sttRepository;
+    @Mock
+    private SttProvider sttProvider;
+    @Mock
+    private SttCacheService sttCacheService;
+    @Mock
+    private SttUpdatePublisher sttUpdatePublisher;
+    @Mock
+    private SttJobLeaseService sttJobLeaseService;
+    @Mock
+    private SttDedupService sttDedupService;
+    @Mock
+    private SttSegmentedTranscriber sttSegmentedTranscriber;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SttPollingBackoff pollingBackoff;
+    private SttJobProcessor sttJobProcessor;
+
+    @BeforeEach
+    void setUp() {
+        pollingBackoff = new SttPollingBackoff();
+        ReflectionTestUtils.setField(pollingBackoff, "baseDelayMs", 2000L);
+        ReflectionTestUtils.setField(pollingBackoff, "maxDelayMs", 30000L);
+
+        sttJobProcessor = new SttJobProcessor(sttRepository, sttProvider, sttCacheService, sttUpdatePublisher,
+                pollingBackoff, sttJobLeaseService, sttDedupService, sttSegmentedTranscriber,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(sttJobProcessor, "maxAttempts", 150);
+        ReflectionTestUtils.setField(sttJobProcessor, "pollingLeaseTtlMs", 60000L);
+
+        when(sttJobLeaseService.tryAcquire(anyString(), anyLong(), any())).thenReturn(true);
+        when(sttCacheService.isPollingDue(anyLong(), any())).thenReturn(true);
+        lenient().when(sttCacheService.transitionStatus(any(), any(), anyLong())).thenReturn(true);
+        lenient().when(sttUpdatePublisher.publishTransition(any(), any()))
+                .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+    }
+
+    private STTDto processingDto(Long sttId) {
+        return STTDto.builder()
+                .id(sttId)
+                .rid("rid-" + sttId)
+                .meetingId(1L)
+                .status(STT.Status.PROCESSING)
+                .build();
+    }
+
+    private STTDto summarizingDto(Long sttId) {
+        return STTDto.builder()
+                .id(sttId)
+                .summaryRid("summary-rid-" + sttId)
+                .meetingId(1L)
+                .status(STT.Status.SUMMARIZING)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("processSingleSttJob 테스트")
+    class ProcessSingleSttJobTest {
+
+        @Test
+        @DisplayName("진행 중: retry count 증가 후 진행률 기반 backoff로 재예약")
+        void processSingleSttJob_InProgress_RescheduledWithBackoff() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(processingDto(sttId));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(
+                    SttTranscriptionResult.builder().completed(false).content("").progress(50).build());
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(3);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then: 2000 << 3 = 16000, 남은 진행률 50% → 8000ms
+            verify(sttCacheService).schedulePolling(sttId, STT.Status.PROCESSING, 8000L);
+            verify(sttCacheService, never()).removeFromPollingSet(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("진행 중: 직전 전사 텍스트 기준 delta 전송, 전체 스냅샷 없음")
+        void processSingleSttJob_InProgress_PublishesDelta() {
+            // given
+            Long sttId = 1L;
+            STTDto cached = processingDto(sttId);
+            cached.updateContent("안녕하세요");
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(cached);
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(
+                    SttTranscriptionResult.builder().completed(false).content("안녕하세요 반갑습니다").progress(40).build());
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(1);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttUpdatePublisher).publishProgress(cached, "안녕하세요");
+            verify(sttUpdatePublisher, never()).publishSnapshot(any());
+            verify(sttCacheService).cacheSttStatus(cached);
+        }
+
+        @Test
+        @DisplayName("구간 전사(seg: rid): 구간별 조회 결과를 합친 진행률로 갱신")
+        void processSingleSttJob_SegmentedRid_RoutedToSegmentedTranscriber() {
+            // given
+            Long sttId = 1L;
+            STTDto cached = processingDto(sttId);
+            cached.updateRid("seg:group-1");
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(cached);
+            SttStatusCallBudget extraStatusCalls = SttStatusCallBudget.of(3);
+            when(sttSegmentedTranscriber.checkTranscriptionStatus("seg:group-1", extraStatusCalls)).thenReturn(
+                    SttTranscriptionResult.builder().completed(false).content("앞 구간").progress(60).build());
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(1);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId, extraStatusCalls);
+
+            // then
+            verify(sttProvider, never()).checkTranscriptionStatus(anyString());
+            assertThat(cached.getProgress()).isEqualTo(60);
+            assertThat(cached.getContent()).isEqualTo("앞 구간");
+        }
+
+        @Test
+        @DisplayName("완료: SUMMARIZING 셋으로 base 간격 뒤 예약")
+        void processSingleSttJob_Completed_ScheduledForSummary() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(processingDto(sttId));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(
+                    SttTranscriptionResult.builder().completed(true).content("내용").progress(100).build());
+            when(sttProvider.requestSummary("내용")).thenReturn("summary-rid-1");
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then: 상태 기록/셋 이동/retry 초기화는 한 번의 원자적 전이로
+            verify(sttCacheService).transitionStatus(argThat(dto -> dto.getStatus() == STT.Status.SUMMARIZING
+                    && "summary-rid-1".equals(dto.getSummaryRid()) && "내용".equals(dto.getContent())),
+                    eq(STT.Status.PROCESSING), eq(2000L));
+            verify(sttCacheService, never()).removeFromPollingSet(anyLong(), any());
+            verify(sttCacheService, never()).schedulePolling(anyLong(), any(), anyLong());
+            verify(sttCacheService, never()).cacheSttStatus(any());
+        }
+
+        @Test
+        @DisplayName("완료: 다른 워커가 이미 전이했으면 캐시를 덮어쓰지 않음")
+        void processSingleSttJob_Completed_TransitionLost_CacheUntouched() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(processingDto(sttId));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(
+                    SttTranscriptionResult.builder().completed(true).content("내용").progress(100).build());
+            when(sttProvider.requestSummary("내용")).thenReturn("summary-rid-1");
+            when(sttCacheService.transitionStatus(any(), eq(STT.Status.PROCESSING), anyLong())).thenReturn(false);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttUpdatePublisher).publishTransition(any(), any());
+            verify(sttCacheService, never()).cacheSttStatus(any());
+            verify(sttCacheService, never()).schedulePolling(anyLong(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("최대 재시도 초과: ENCODED 상태로 롤백, 재예약 없음")
+        void processSingleSttJob_MaxRetryExceeded_RollbackToEncoded() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(processingDto(sttId));
+            when(sttCacheService.getCachedSttStatus(sttId, false)).thenReturn(processingDto(sttId));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(SttTranscriptionResult.stillProcessing());
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(150);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttCacheService).transitionStatus(argThat(dto -> dto.getStatus() == STT.Status.ENCODED),
+                    eq(STT.Status.PROCESSING), eq(0L));
+            verify(sttCacheService, never()).schedulePolling(anyLong(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("상태 불일치: 폴링 셋에서 제거")
+        void processSingleSttJob_NotProcessing_RemovedFromPollingSet() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(summarizingDto(sttId));
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttCacheService).removeFromPollingSet(sttId, STT.Status.PROCESSING);
+            verify(sttProvider, never()).checkTranscriptionStatus(anyString());
+        }
+
+        @Test
+        @DisplayName("일시적 오류: base 간격 뒤 재예약")
+        void processSingleSttJob_TransientError_RescheduledAfterBaseDelay() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(processingDto(sttId));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenThrow(new RuntimeException("timeout"));
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttCacheService).schedulePolling(sttId, STT.Status.PROCESSING, 2000L);
+        }
+
+        @Test
+        @DisplayName("호출 한도 초과: retry count 증가 없이 Retry-After 뒤 재예약")
+        void processSingleSttJob_RateLimited_RescheduledAfterRetryAfter() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(processingDto(sttId));
+            when(sttProvider.checkTranscriptionStatus("rid-1"))
+                    .thenThrow(new SttRateLimitedException("요청이 너무 많습니다.", Duration.ofSeconds(7)));
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttCacheService).schedulePolling(sttId, STT.Status.PROCESSING, 7000L);
+            verify(sttCacheService, never()).incrementRetryCount(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("lease 테스트")
+    class LeaseTest {
+
+        @Test
+        @DisplayName("다른 워커가 lease 보유 시 처리하지 않음")
+        void processSingleSttJob_LeaseHeldElsewhere_Skipped() {
+            // given
+            Long sttId = 1L;
+            when(sttJobLeaseService.tryAcquire(anyString(), eq(sttId), any())).thenReturn(false);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttCacheService, never()).getCachedSttStatus(anyLong());
+            verify(sttJobLeaseService, never()).release(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("이번 주기에 이미 재예약된 작업은 건너뛰고 lease 해제")
+        void processSingleSttJob_AlreadyPolled_SkippedAndReleased() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.isPollingDue(sttId, STT.Status.PROCESSING)).thenReturn(false);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttProvider, never()).checkTranscriptionStatus(anyString());
+            verify(sttJobLeaseService).release(anyString(), eq(sttId));
+        }
+
+        @Test
+        @DisplayName("처리 중 예외가 나도 lease 해제")
+        void processSingleSttJob_Exception_LeaseReleased() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenThrow(new RuntimeException("Redis error"));
+
+            // when & then
+            assertThatThrownBy(() -> sttJobProcessor.processSingleSttJob(sttId))
+                    .isInstanceOf(RuntimeException.class);
+            verify(sttJobLeaseService).release(anyString(), eq(sttId));
+        }
+    }
+
+    @Nested
+    @DisplayName("processSingleSummaryJob 테스트")
+    class ProcessSingleSummaryJobTest {
+
+        @Test
+        @DisplayName("진행 중: retry count 증가 후 backoff로 재예약")
+        void processSingleSummaryJob_InProgress_RescheduledWithBackoff() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(summarizingDto(sttId));
+            when(sttProvider.checkSummaryStatus("summary-rid-1")).thenReturn(
+                    SttSummaryResult.builder().completed(false).summaryText("").progress(0).build());
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(10);
+
+            // when
+            sttJobProcessor.processSingleSummaryJob(sttId);
+
+            // then: 상한 30000ms 적용
+            verify(sttCacheService).schedulePolling(sttId, STT.Status.SUMMARIZING, 30000L);
+        }
+
+        @Test
+        @DisplayName("최대 재시도 초과: ENCODED 상태로 롤백")
+        void processSingleSummaryJob_MaxRetryExceeded_RollbackToEncoded() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(summarizingDto(sttId));
+            when(sttCacheService.getCachedSttStatus(sttId, false)).thenReturn(summarizingDto(sttId));
+            when(sttProvider.checkSummaryStatus("summary-rid-1")).thenReturn(SttSummaryResult.stillProcessing());
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(150);
+
+            // when
+            sttJobProcessor.processSingleSummaryJob(sttId);
+
+            // then
+            verify(sttCacheService).transitionStatus(argThat(dto -> dto.getStatus() == STT.Status.ENCODED),
+                    eq(STT.Status.SUMMARIZING), eq(0L));
+        }
+
+        @Test
+        @DisplayName("최대 재시도 초과: 캐시가 이미 다른 상태면 셋 정리만")
+        void processSingleSummaryJob_MaxRetryExceeded_StatusMoved_SetCleanedOnly() {
+            // given
+            Long sttId = 1L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(summarizingDto(sttId));
+            when(sttCacheService.getCachedSttStatus(sttId, false)).thenReturn(processingDto(sttId));
+            when(sttProvider.checkSummaryStatus("summary-rid-1")).thenReturn(SttSummaryResult.stillProcessing());
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(150);
+
+            // when
+            sttJobProcessor.processSingleSummaryJob(sttId);
+
+            // then
+            verify(sttCacheService).removeFromPollingSet(sttId, STT.Status.SUMMARIZING);
+            verify(sttCacheService).resetRetryCount(sttId);
+            verify(sttCacheService, never()).transitionStatus(any(), any(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("내용 해시 중복 제거 테스트")
+    class DedupTest {
+
+        private STTDto waitingDto(Long sttId) {
+            return STTDto.builder()
+                    .id(sttId)
+                    .meetingId(1L)
+                    .contentHash("hash-1")
+                    .status(STT.Status.PROCESSING)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("대기 작업: 동일 전사가 완료되면 결과 복사 후 COMPLETED 저장, 프로바이더 호출 없음")
+        void waiting_ResultReady_CompletedFromIndex() {
+            // given
+            Long sttId = 2L;
+            STT stt = STT.builder().id(sttId).status(STT.Status.ENCODED).build();
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(waitingDto(sttId));
+            when(sttDedupService.findCompleted("hash-1"))
+                    .thenReturn(Optional.of(new SttDedupService.DedupEntry("rid-1", "전사", "요약")));
+            when(sttRepository.findById(sttId)).thenReturn(Optional.of(stt));
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verifyNoInteractions(sttProvider);
+            verify(sttCacheService).transitionStatus(argThat(dto -> dto.getStatus() == STT.Status.COMPLETED),
+                    eq(STT.Status.PROCESSING), eq(0L));
+            verify(sttRepository).save(argThat(saved -> saved.getStatus() == STT.Status.COMPLETED
+                    && "전사".equals(saved.getContent()) && "요약".equals(saved.getSummary())
+                    && saved.getRid() == null));
+        }
+
+        @Test
+        @DisplayName("대기 작업: 동일 전사가 진행 중이면 base 간격 뒤 재확인")
+        void waiting_StillInFlight_Rescheduled() {
+            // given
+            Long sttId = 2L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(waitingDto(sttId));
+            when(sttDedupService.findCompleted("hash-1")).thenReturn(Optional.empty());
+            when(sttDedupService.isInFlight("hash-1")).thenReturn(true);
+            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(1);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttCacheService).schedulePolling(sttId, STT.Status.PROCESSING, 2000L);
+            verifyNoInteractions(sttProvider);
+        }
+
+        @Test
+        @DisplayName("대기 작업: 선행 전사가 사라지면 ENCODED로 롤백")
+        void waiting_LeaderGone_RollbackToEncoded() {
+            // given
+            Long sttId = 2L;
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(waitingDto(sttId));
+            when(sttCacheService.getCachedSttStatus(sttId, false)).thenReturn(waitingDto(sttId));
+            when(sttDedupService.findCompleted("hash-1")).thenReturn(Optional.empty());
+            when(sttDedupService.isInFlight("hash-1")).thenReturn(false);
+
+            // when
+            sttJobProcessor.processSingleSttJob(sttId);
+
+            // then
+            verify(sttCacheService).transitionStatus(argThat(dto -> dto.getStatus() == STT.Status.ENCODED),
+                    eq(STT.Status.PROCESSING), eq(0L));
+            verify(sttDedupService, never()).release(anyString());
+        }
+
+        @Test
+        @DisplayName("요약 완료: 완료 인덱스에 rid/전사/요약 기록")
+        void summaryCompleted_RecordedInIndex() {
+            // given
+            Long sttId = 1L;
+            STTDto dto = STTDto.builder().id(sttId).rid("rid-1").summaryRid("summary-rid-1")
+                    .content("전사").contentHash("hash-1").meetingId(1L).status(STT.Status.SUMMARIZING).build();
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(dto);
+            when(sttProvider.checkSummaryStatus("summary-rid-1")).thenReturn(
+                    SttSummaryResult.builder().completed(true).summaryText("요약").progress(100).build());
+            when(sttRepository.findById(sttId)).thenReturn(Optional.of(STT.builder().id(sttId).build()));
+
+            // when
+            sttJobProcessor.processSingleSummaryJob(sttId);
+
+            // then
+            verify(sttDedupService).recordCompleted("hash-1", "rid-1", "전사", "요약");
+        }
+
+        @Test
+        @DisplayName("요약 완료: COMPLETED 전이에 실패하면 DB 저장/인덱스 기록 없음")
+        void summaryCompleted_TransitionLost_NotPersisted() {
+            // given
+            Long sttId = 1L;
+            STTDto dto = STTDto.builder().id(sttId).rid("rid-1").summaryRid("summary-rid-1")
+                    .content("전사").contentHash("hash-1").meetingId(1L).status(STT.Status.SUMMARIZING).build();
+            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(dto);
+            when(sttProvider.checkSummaryStatus("summary-rid-1")).thenReturn(
+                    SttSummaryResult.builder().completed(true).summaryText("요약").progress(100).build());
+            when(sttCacheService.transitionStatus(any(), eq(STT.Status.SUMMARIZING), anyLong())).thenReturn(false);
+
+            // when
+            sttJobProcessor.processSingleSummaryJob(sttId);
+
+            // then
+            verify(sttRepository, never()).save(any());
+            verify(sttDedupService, never()).recordCompleted(any(), any(), any(), any());
+        }
+    }
+}
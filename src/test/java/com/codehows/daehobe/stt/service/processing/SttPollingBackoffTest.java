@@ -0,0 +1,45 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+class SttPollingBackoffTest {
+
+    private SttPollingBackoff backoff;
+
+    @BeforeEach
+    void setUp() {
+        backoff = new SttPollingBackoff();
+        ReflectionTestUtils.setField(backoff, "baseDelayMs", 2000L);
+        ReflectionTestUtils.setField(backoff, "maxDelayMs", 30000L);
+    }
+
+    @Test
+    @DisplayName("첫 폴링은 base 간격")
+    void nextDelayMs_FirstPoll_BaseDelay() {
+        assertThat(backoff.nextDelayMs(0, 0)).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수에 따라 지수 증가, 상한 적용")
+    void nextDelayMs_GrowsWithRetryCount_CappedAtMax() {
+        assertThat(backoff.nextDelayMs(0, 1)).isEqualTo(4000L);
+        assertThat(backoff.nextDelayMs(0, 3)).isEqualTo(16000L);
+        assertThat(backoff.nextDelayMs(0, 20)).isEqualTo(30000L);
+    }
+
+    @Test
+    @DisplayName("진행률이 높을수록 간격 축소, 하한은 base")
+    void nextDelayMs_ShrinksWithProgress_FloorAtBase() {
+        assertThat(backoff.nextDelayMs(75, 3)).isEqualTo(4000L);
+        assertThat(backoff.nextDelayMs(99, 20)).isEqualTo(2000L);
+        assertThat(backoff.nextDelayMs(null, 0)).isEqualTo(2000L);
+    }
+}
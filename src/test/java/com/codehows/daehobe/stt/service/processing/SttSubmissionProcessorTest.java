@@ -0,0 +1,227 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.constant.TargetType;
+import com.codehows.daehobe.file.entity.File;
+import com.codehows.daehobe.file.service.FileService;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.audio.SttAudioPreparer;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import com.codehows.daehobe.stt.service.segment.SttLiveTranscriber;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SttSubmissionProcessorTest {
+
+    @Mock
+    private STTRepository sttRepository;
+    @Mock
+    private FileService fileService;
+    @Mock
+    private SttCacheService sttCacheService;
+    @Mock
+    private SttUpdatePublisher sttUpdatePublisher;
+    @Mock
+    private SttJobLeaseService sttJobLeaseService;
+    @Mock
+    private SttAudioPreparer sttAudioPreparer;
+    @Mock
+    private SttSegmentedTranscriber sttSegmentedTranscriber;
+    @Mock
+    private SttLiveTranscriber sttLiveTranscriber;
+    @Mock
+    private SttDedupService sttDedupService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SttSubmissionProcessor sttSubmissionProcessor;
+
+    private final File savedFile = File.builder()
+            .fileId(10L).savedName("audio.wav").path("/file/audio.wav")
+            .originalName("audio.wav").size(1024L).targetId(1L).targetType(TargetType.STT).build();
+
+    @BeforeEach
+    void setUp() {
+        sttSubmissionProcessor = new SttSubmissionProcessor(sttRepository, fileService, sttCacheService,
+                sttUpdatePublisher, sttJobLeaseService, sttAudioPreparer, sttSegmentedTranscriber, sttLiveTranscriber, sttDedupService,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(sttSubmissionProcessor, "fileLocation", "/tmp/stt_test");
+        ReflectionTestUtils.setField(sttSubmissionProcessor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(sttSubmissionProcessor, "retryDelayMs", 5000L);
+        ReflectionTestUtils.setField(sttSubmissionProcessor, "maxRetryDelayMs", 120000L);
+        ReflectionTestUtils.setField(sttSubmissionProcessor, "submitLeaseTtlMs", 600000L);
+
+        when(sttJobLeaseService.tryAcquire(anyString(), anyLong(), any())).thenReturn(true);
+        when(fileService.getSTTFile(1L)).thenReturn(savedFile);
+        when(sttAudioPreparer.contentHash(any(Path.class))).thenReturn("hash-1");
+        when(sttDedupService.findCompleted("hash-1")).thenReturn(Optional.empty());
+        when(sttDedupService.tryClaim("hash-1")).thenReturn(true);
+        lenient().when(sttCacheService.transitionStatus(any(), any(), anyLong())).thenReturn(true);
+        lenient().when(sttUpdatePublisher.publishTransition(any(), any()))
+                .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+    }
+
+    private STTDto pendingDto() {
+        return STTDto.builder().id(1L).meetingId(1L).status(STT.Status.PROCESSING).build();
+    }
+
+    @Test
+    @DisplayName("성공: rid 발급 후 PROCESSING 폴링으로 전이, 제출 대기에서 제거")
+    void submit_Success_TransitionsToPolling() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(pendingDto());
+        when(sttSegmentedTranscriber.requestTranscription(any(Path.class), anyString())).thenReturn("rid-1");
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then
+        verify(sttCacheService).transitionStatus(argThat(dto -> "rid-1".equals(dto.getRid())
+                && "hash-1".equals(dto.getContentHash())), eq(STT.Status.PROCESSING), eq(0L));
+        verify(sttCacheService).removeSubmission(1L);
+        verify(sttDedupService).markInFlight("hash-1", 1L);
+        verify(sttJobLeaseService).release(anyString(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("동일 내용 완료: 프로바이더 호출 없이 COMPLETED 저장")
+    void submit_CompletedDuplicate_Reused() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(pendingDto());
+        when(sttDedupService.findCompleted("hash-1"))
+                .thenReturn(Optional.of(new SttDedupService.DedupEntry("rid-0", "전사", "요약")));
+        when(sttRepository.findById(1L)).thenReturn(Optional.of(STT.builder().id(1L).status(STT.Status.ENCODED).build()));
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then
+        verify(sttSegmentedTranscriber, never()).requestTranscription(any(), any());
+        verify(sttRepository).save(argThat(saved -> saved.getStatus() == STT.Status.COMPLETED
+                && "전사".equals(saved.getContent())));
+        verify(sttCacheService).removeSubmission(1L);
+    }
+
+    @Test
+    @DisplayName("동일 내용 전사 중: rid 없는 대기 작업으로 폴링 전환")
+    void submit_InFlightDuplicate_WaitsForResult() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(pendingDto());
+        when(sttDedupService.tryClaim("hash-1")).thenReturn(false);
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then
+        verify(sttSegmentedTranscriber, never()).requestTranscription(any(), any());
+        verify(sttCacheService).transitionStatus(argThat(dto -> dto.getRid() == null
+                && "hash-1".equals(dto.getContentHash())), eq(STT.Status.PROCESSING), eq(0L));
+    }
+
+    @Test
+    @DisplayName("전사 요청 실패: 선점 해제 후 지수 backoff로 재예약")
+    void submit_ProviderFails_RescheduledWithBackoff() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(pendingDto());
+        when(sttSegmentedTranscriber.requestTranscription(any(Path.class), anyString())).thenThrow(new RuntimeException("업로드 실패"));
+        when(sttCacheService.incrementRetryCount(1L)).thenReturn(2);
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then: 5000 * 2^(2-1)
+        verify(sttDedupService).release("hash-1");
+        verify(sttCacheService).scheduleSubmission(1L, 10000L);
+        verify(sttCacheService, never()).transitionStatus(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("호출 한도 초과: 재시도 횟수 증가 없이 Retry-After 이후로 재예약")
+    void submit_RateLimited_RescheduledAfterRetryAfter() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(pendingDto());
+        when(sttSegmentedTranscriber.requestTranscription(any(Path.class), anyString()))
+                .thenThrow(new SttRateLimitedException("429", Duration.ofSeconds(30)));
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then
+        verify(sttCacheService).scheduleSubmission(1L, 30000L);
+        verify(sttCacheService, never()).incrementRetryCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("최대 시도 초과: ENCODED로 롤백, 제출 대기에서 제거")
+    void submit_MaxAttemptsExceeded_RollbackToEncoded() {
+        // given
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(pendingDto(), pendingDto());
+        when(sttSegmentedTranscriber.requestTranscription(any(Path.class), anyString())).thenThrow(new RuntimeException("업로드 실패"));
+        when(sttCacheService.incrementRetryCount(1L)).thenReturn(3);
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then
+        verify(sttCacheService).removeSubmission(1L);
+        verify(sttCacheService).transitionStatus(argThat(dto -> dto.getStatus() == STT.Status.ENCODED),
+                eq(STT.Status.PROCESSING), eq(0L));
+        verify(sttCacheService, never()).scheduleSubmission(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 제출된 작업(rid 보유): 제출 대기에서 제거만")
+    void submit_AlreadySubmitted_Skipped() {
+        // given
+        STTDto submitted = pendingDto();
+        submitted.updateRid("rid-1");
+        when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(submitted);
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then
+        verify(sttCacheService).removeSubmission(1L);
+        verifyNoInteractions(sttSegmentedTranscriber, sttAudioPreparer);
+    }
+
+    @Test
+    @DisplayName("lease 선점 실패: 다른 워커가 제출 중이면 건너뜀")
+    void submit_LeaseHeld_Skipped() {
+        // given
+        when(sttJobLeaseService.tryAcquire(anyString(), anyLong(), any())).thenReturn(false);
+
+        // when
+        sttSubmissionProcessor.submit(1L);
+
+        // then
+        verifyNoInteractions(sttCacheService, sttSegmentedTranscriber);
+        verify(sttJobLeaseService, never()).release(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,115 @@
+package com.codehows.daehobe.stt.service.processing;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("STT 비동기 제출 큐 테스트")
+class SttSubmissionQueueTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SttSubmissionProcessor processor;
+    private SttCacheService cacheService;
+    private SimpleMeterRegistry meterRegistry;
+    private SttSubmissionQueue queue;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        // 워커 1개 + 대기 1칸
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        processor = mock(SttSubmissionProcessor.class);
+        cacheService = mock(SttCacheService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new SttSubmissionQueue(executor, processor, cacheService, meterRegistry);
+        ReflectionTestUtils.setField(queue, "redispatchDelayMs", 120000L);
+        ReflectionTestUtils.setField(queue, "batchSize", 50);
+
+        release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(processor).submit(anyLong());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("제출: 호출 스레드를 막지 않고 제출 대기 등록 후 워커에서 업로드")
+    void submit_RunsOnWorkerWithoutBlockingCaller() {
+        // when
+        long start = System.nanoTime();
+        queue.submit(1L);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(elapsedMs).isLessThan(1000);
+        verify(cacheService).scheduleSubmission(1L, 120000L);
+        verify(processor, timeout(2000)).submit(1L);
+        assertThat(queue.getInFlightCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("포화: 거절 카운트 증가, 이후 재제출로 처리")
+    void submit_Saturated_RejectedThenResubmitted() {
+        // given: 실행 1 + 대기 1
+        queue.submit(1L);
+        queue.submit(2L);
+
+        // when
+        queue.submit(3L);
+
+        // then
+        assertThat(meterRegistry.get("stt.submit.rejected").counter().count()).isEqualTo(1.0);
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> queue.getInFlightCount() == 0);
+
+        when(cacheService.getDueSubmissionIds(anyInt())).thenReturn(new LinkedHashSet<>(List.of(3L)));
+        queue.resubmitPending();
+        verify(processor, timeout(2000)).submit(3L);
+        // 재제출 시 예정 시각을 미뤄 다음 주기에 다시 꺼내지 않음
+        verify(cacheService, times(2)).scheduleSubmission(3L, 120000L);
+    }
+
+    @Test
+    @DisplayName("재제출: 이미 처리 중인 작업은 다시 넣지 않음")
+    void resubmitPending_InFlight_Skipped() {
+        // given
+        queue.submit(1L);
+        when(cacheService.getDueSubmissionIds(anyInt())).thenReturn(new LinkedHashSet<>(List.of(1L)));
+
+        // when
+        queue.resubmitPending();
+
+        // then
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> queue.getInFlightCount() == 0);
+        verify(processor, times(1)).submit(1L);
+    }
+}
@@ -0,0 +1,135 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.config.Daglo.DagloProperties;
+import com.codehows.daehobe.config.Resilience4jConfig;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+class DagloOperationGuardTest {
+
+    private final Resilience4jConfig resilience4jConfig = new Resilience4jConfig();
+    private SimpleMeterRegistry meterRegistry;
+    private DagloOperationGuard operationGuard;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        DagloProperties properties = new DagloProperties();
+        properties.setTimeout(10);
+        properties.setSummarize(new DagloProperties.Isolation(1, Duration.ofSeconds(30)));
+
+        CircuitBreakerRegistry circuitBreakerRegistry = resilience4jConfig.circuitBreakerRegistry();
+        BulkheadRegistry bulkheadRegistry = resilience4jConfig.bulkheadRegistry();
+        meterRegistry = new SimpleMeterRegistry();
+        resilience4jConfig.circuitBreakerMetrics(circuitBreakerRegistry).bindTo(meterRegistry);
+        resilience4jConfig.bulkheadMetrics(bulkheadRegistry).bindTo(meterRegistry);
+
+        operationGuard = new DagloOperationGuard(RestClient.create("http://127.0.0.1"), HttpClient.newHttpClient(),
+                properties, circuitBreakerRegistry, bulkheadRegistry);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도 초과: 기다리지 않고 SttRateLimitedException, 다른 종류는 영향 없음")
+    void execute_BulkheadFull_RejectedWithoutAffectingOthers() throws Exception {
+        // given: 요약 호출 하나가 느리게 진행 중
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> operationGuard.execute(DagloOperation.SUMMARIZE, restClient -> {
+            started.countDown();
+            await(release);
+            return "summary-rid";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> operationGuard.execute(DagloOperation.SUMMARIZE, restClient -> "rid"))
+                    .isInstanceOf(SttRateLimitedException.class);
+            assertThat(operationGuard.<String>execute(DagloOperation.TRANSCRIPTION_STATUS, restClient -> "status"))
+                    .isEqualTo("status");
+        } finally {
+            release.countDown();
+        }
+        // 동시 호출 초과 거절은 브레이커 실패로 집계하지 않음
+        assertThat(operationGuard.circuitBreaker(DagloOperation.SUMMARIZE).getMetrics().getNumberOfFailedCalls())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 분리: 요약 브레이커가 열려도 전사 상태 조회는 실행")
+    void execute_SeparateCircuitBreakers() {
+        // given
+        operationGuard.circuitBreaker(DagloOperation.SUMMARY_STATUS).transitionToOpenState();
+
+        // when & then
+        assertThatThrownBy(() -> operationGuard.execute(DagloOperation.SUMMARY_STATUS, restClient -> "x"))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(operationGuard.<String>execute(DagloOperation.TRANSCRIPTION_STATUS, restClient -> "status"))
+                .isEqualTo("status");
+        assertThat(operationGuard.circuitBreaker(DagloOperation.TRANSCRIPTION_STATUS).getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("429(SttRateLimitedException)는 브레이커 실패로 집계하지 않음")
+    void execute_RateLimited_IgnoredByBreaker() {
+        // when
+        assertThatThrownBy(() -> operationGuard.execute(DagloOperation.TRANSCRIBE, restClient -> {
+            throw new SttRateLimitedException("요청이 너무 많습니다.", Duration.ofSeconds(1));
+        })).isInstanceOf(SttRateLimitedException.class);
+
+        // then
+        assertThat(operationGuard.circuitBreaker(DagloOperation.TRANSCRIBE).getMetrics().getNumberOfFailedCalls())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("메트릭: 종류별 bulkhead/브레이커가 name 태그로 구분되어 등록")
+    void metrics_TaggedPerOperation() {
+        // then
+        for (DagloOperation operation : DagloOperation.values()) {
+            assertThat(meterRegistry.find("resilience4j.bulkhead.max.allowed.concurrent.calls")
+                    .tag("name", operation.instanceName()).gauge()).isNotNull();
+            assertThat(meterRegistry.find("resilience4j.circuitbreaker.state")
+                    .tag("name", operation.instanceName()).gauges()).isNotEmpty();
+        }
+        assertThat(meterRegistry.get("resilience4j.bulkhead.max.allowed.concurrent.calls")
+                .tag("name", DagloOperation.SUMMARIZE.instanceName()).gauge().value()).isEqualTo(1);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
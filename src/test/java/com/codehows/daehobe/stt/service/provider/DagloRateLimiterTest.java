@@ -0,0 +1,159 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.service.provider.DagloRateLimiter.Budget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+class DagloRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DagloRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new DagloRateLimiter(meterRegistry);
+        ReflectionTestUtils.setField(rateLimiter, "submitPerSecond", 1d);
+        ReflectionTestUtils.setField(rateLimiter, "submitBurst", 2);
+        ReflectionTestUtils.setField(rateLimiter, "statusPerSecond", 1000d);
+        ReflectionTestUtils.setField(rateLimiter, "statusBurst", 5);
+        ReflectionTestUtils.setField(rateLimiter, "defaultRetryAfterMs", 5000L);
+    }
+
+    @Nested
+    @DisplayName("토큰 버킷 테스트")
+    class TokenBucketTest {
+
+        @Test
+        @DisplayName("burst까지 허용 후 거절, 거절은 예산별 메트릭에 집계")
+        void tryAcquire_BeyondBurst_Rejected() {
+            // when & then
+            assertThat(rateLimiter.tryAcquire(Budget.SUBMIT)).isTrue();
+            assertThat(rateLimiter.tryAcquire(Budget.SUBMIT)).isTrue();
+            assertThat(rateLimiter.tryAcquire(Budget.SUBMIT)).isFalse();
+            assertThat(rateLimiter.waitTime(Budget.SUBMIT)).isPositive();
+            assertThat(meterRegistry.counter("stt.provider.rate-limit.rejected", "budget", "submit").count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("예산 분리: 요청 예산을 다 써도 상태 조회는 허용")
+        void budgets_AreIndependent() {
+            // given
+            rateLimiter.tryAcquire(Budget.SUBMIT);
+            rateLimiter.tryAcquire(Budget.SUBMIT);
+
+            // when & then
+            assertThat(rateLimiter.tryAcquire(Budget.SUBMIT)).isFalse();
+            assertThat(rateLimiter.tryAcquire(Budget.STATUS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("시간이 지나면 초당 허용량만큼 다시 채워짐 (burst 초과 없음)")
+        void availablePermits_RefillsUpToBurst() throws InterruptedException {
+            // given
+            for (int i = 0; i < 5; i++) {
+                rateLimiter.tryAcquire(Budget.STATUS);
+            }
+            assertThat(rateLimiter.availablePermits(Budget.STATUS)).isZero();
+
+            // when
+            Thread.sleep(20);
+
+            // then
+            assertThat(rateLimiter.availablePermits(Budget.STATUS)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("availablePermits는 토큰을 소비하지 않음")
+        void availablePermits_DoesNotConsume() {
+            // when
+            rateLimiter.availablePermits(Budget.SUBMIT);
+            rateLimiter.availablePermits(Budget.SUBMIT);
+
+            // then
+            assertThat(rateLimiter.availablePermits(Budget.SUBMIT)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("초당 허용량 0: 제한 없음")
+        void disabledBudget_Unlimited() {
+            // given
+            ReflectionTestUtils.setField(rateLimiter, "submitPerSecond", 0d);
+
+            // when & then
+            for (int i = 0; i < 100; i++) {
+                assertThat(rateLimiter.tryAcquire(Budget.SUBMIT)).isTrue();
+            }
+            assertThat(rateLimiter.availablePermits(Budget.SUBMIT)).isEqualTo(Integer.MAX_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry-After 테스트")
+    class RetryAfterTest {
+
+        @Test
+        @DisplayName("429: Retry-After 동안 모든 예산 보류")
+        void onThrottled_BlocksAllBudgets() {
+            // when
+            Duration retryAfter = rateLimiter.onThrottled("3");
+
+            // then
+            assertThat(retryAfter).isEqualTo(Duration.ofSeconds(3));
+            assertThat(rateLimiter.tryAcquire(Budget.SUBMIT)).isFalse();
+            assertThat(rateLimiter.tryAcquire(Budget.STATUS)).isFalse();
+            assertThat(rateLimiter.availablePermits(Budget.STATUS)).isZero();
+            assertThat(rateLimiter.waitTime(Budget.STATUS)).isGreaterThan(Duration.ofSeconds(2));
+            assertThat(meterRegistry.counter("stt.provider.rate-limit.throttled").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("보류가 풀리면 burst가 아니라 빈 버킷에서 다시 채움")
+        void onThrottled_DrainsBuckets() {
+            // given
+            ReflectionTestUtils.setField(rateLimiter, "statusPerSecond", 1d);
+
+            // when
+            rateLimiter.onThrottled("0");
+
+            // then: 보류는 끝났지만 토큰은 초당 1개씩만 다시 채워짐
+            assertThat(rateLimiter.availablePermits(Budget.STATUS)).isZero();
+            assertThat(rateLimiter.waitTime(Budget.STATUS)).isPositive();
+        }
+
+        @Test
+        @DisplayName("HTTP-date 형식 해석")
+        void parseRetryAfter_HttpDate() {
+            // given
+            String header = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusSeconds(30));
+
+            // when
+            Duration retryAfter = rateLimiter.parseRetryAfter(header);
+
+            // then
+            assertThat(retryAfter).isBetween(Duration.ofSeconds(28), Duration.ofSeconds(30));
+        }
+
+        @Test
+        @DisplayName("헤더 없음/해석 불가: 기본 보류 시간")
+        void parseRetryAfter_MissingOrInvalid_Default() {
+            // when & then
+            assertThat(rateLimiter.parseRetryAfter(null)).isEqualTo(Duration.ofMillis(5000));
+            assertThat(rateLimiter.parseRetryAfter("soon")).isEqualTo(Duration.ofMillis(5000));
+        }
+    }
+}
@@ -1,32 +1,44 @@
 package com.codehows.daehobe.stt.service.provider;
 
 import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.config.Daglo.DagloProperties;
 import com.codehows.daehobe.stt.dto.STTResponseDto;
 import com.codehows.daehobe.stt.dto.SttSummaryResult;
 import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
 import com.codehows.daehobe.stt.dto.SummaryResponseDto;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.service.provider.DagloRateLimiter.Budget;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClient;
 
-import java.util.function.Supplier;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
@@ -38,7 +50,7 @@ class DagloSttProviderTest {
     @Mock
     private ObjectMapper objectMapper;
     @Mock
-    private CircuitBreaker circuitBreaker;
+    private DagloOperationGuard operationGuard;
     @Mock
     private RestClient.RequestBodyUriSpec requestBodyUriSpec;
     @Mock
@@ -50,11 +62,16 @@ class DagloSttProviderTest {
     @Mock
     private RestClient.ResponseSpec responseSpec;
 
+    private DagloRateLimiter rateLimiter;
     private DagloSttProvider dagloSttProvider;
 
     @BeforeEach
     void setUp() {
-        dagloSttProvider = new DagloSttProvider(restClient, objectMapper, circuitBreaker);
+        // 초당 허용량 0 → 제한 없음 (한도 테스트에서만 설정)
+        rateLimiter = new DagloRateLimiter(new SimpleMeterRegistry());
+        dagloSttProvider = new DagloSttProvider(objectMapper, new DagloProperties(), rateLimiter, operationGuard);
+        when(responseSpec.onStatus(any(Predicate.class), any(RestClient.ResponseSpec.ErrorHandler.class)))
+                .thenReturn(responseSpec);
     }
 
     @Nested
@@ -76,8 +93,8 @@ class DagloSttProviderTest {
             STTResponseDto responseDto = new STTResponseDto();
             responseDto.setRid(expectedRid);
 
-            // CircuitBreaker가 supplier 실행 없이 직접 결과 반환
-            when(circuitBreaker.executeSupplier(any(Supplier.class))).thenReturn(expectedRid);
+            // 가드가 호출 실행 없이 직접 결과 반환
+            when(operationGuard.execute(any(), any())).thenReturn(expectedRid);
 
             // when
             String result = dagloSttProvider.requestTranscription(audioFile);
@@ -97,7 +114,7 @@ class DagloSttProviderTest {
                 }
             };
 
-            when(circuitBreaker.executeSupplier(any(Supplier.class)))
+            when(operationGuard.execute(any(), any()))
                     .thenThrow(mock(CallNotPermittedException.class));
 
             // when & then
@@ -117,8 +134,8 @@ class DagloSttProviderTest {
                 }
             };
 
-            // CircuitBreaker가 supplier 실행 시 "rid 발급 실패" 예외 발생
-            when(circuitBreaker.executeSupplier(any(Supplier.class)))
+            // 가드 안에서 호출 실행 시 "rid 발급 실패" 예외 발생
+            when(operationGuard.execute(any(), any()))
                     .thenThrow(new RuntimeException("rid 발급 실패"));
 
             // when & then
@@ -142,9 +159,9 @@ class DagloSttProviderTest {
             responseDto.setStatus("transcribed");
             responseDto.setProgress(100);
 
-            when(circuitBreaker.executeSupplier(any(Supplier.class))).thenAnswer(invocation -> {
-                Supplier<?> supplier = invocation.getArgument(0);
-                return supplier.get();
+            when(operationGuard.execute(any(), any())).thenAnswer(invocation -> {
+                Function<RestClient, ?> call = invocation.getArgument(1);
+                return call.apply(restClient);
             });
             when(restClient.get()).thenReturn(requestHeadersUriSpec);
             when(requestHeadersUriSpec.uri(anyString(), anyString())).thenReturn(requestHeadersSpec);
@@ -163,7 +180,7 @@ class DagloSttProviderTest {
         void checkTranscriptionStatus_CircuitBreakerOpen_ReturnsStillProcessing() {
             // given
             String jobId = "test-rid";
-            when(circuitBreaker.executeSupplier(any(Supplier.class)))
+            when(operationGuard.execute(any(), any()))
                     .thenThrow(mock(CallNotPermittedException.class));
 
             // when
@@ -179,7 +196,7 @@ class DagloSttProviderTest {
         void checkTranscriptionStatus_Exception_ReturnsStillProcessing() {
             // given
             String jobId = "test-rid";
-            when(circuitBreaker.executeSupplier(any(Supplier.class)))
+            when(operationGuard.execute(any(), any()))
                     .thenThrow(new RuntimeException("Unknown error"));
 
             // when
@@ -205,9 +222,9 @@ class DagloSttProviderTest {
             SummaryResponseDto responseDto = new SummaryResponseDto();
             responseDto.setRid(expectedRid);
 
-            when(circuitBreaker.executeSupplier(any(Supplier.class))).thenAnswer(invocation -> {
-                Supplier<?> supplier = invocation.getArgument(0);
-                return supplier.get();
+            when(operationGuard.execute(any(), any())).thenAnswer(invocation -> {
+                Function<RestClient, ?> call = invocation.getArgument(1);
+                return call.apply(restClient);
             });
             when(restClient.post()).thenReturn(requestBodyUriSpec);
             when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
@@ -228,7 +245,7 @@ class DagloSttProviderTest {
         void requestSummary_CircuitBreakerOpen() {
             // given
             String text = "테스트 텍스트";
-            when(circuitBreaker.executeSupplier(any(Supplier.class)))
+            when(operationGuard.execute(any(), any()))
                     .thenThrow(mock(CallNotPermittedException.class));
 
             // when & then
@@ -252,9 +269,9 @@ class DagloSttProviderTest {
             responseDto.setStatus("processed");
             responseDto.setProgress(100);
 
-            when(circuitBreaker.executeSupplier(any(Supplier.class))).thenAnswer(invocation -> {
-                Supplier<?> supplier = invocation.getArgument(0);
-                return supplier.get();
+            when(operationGuard.execute(any(), any())).thenAnswer(invocation -> {
+                Function<RestClient, ?> call = invocation.getArgument(1);
+                return call.apply(restClient);
             });
             when(restClient.get()).thenReturn(requestHeadersUriSpec);
             when(requestHeadersUriSpec.uri(anyString(), anyString())).thenReturn(requestHeadersSpec);
@@ -273,7 +290,7 @@ class DagloSttProviderTest {
         void checkSummaryStatus_CircuitBreakerOpen_ReturnsStillProcessing() {
             // given
             String jobId = "summary-rid";
-            when(circuitBreaker.executeSupplier(any(Supplier.class)))
+            when(operationGuard.execute(any(), any()))
                     .thenThrow(mock(CallNotPermittedException.class));
 
             // when
@@ -289,7 +306,7 @@ class DagloSttProviderTest {
         void checkSummaryStatus_Exception_ReturnsStillProcessing() {
             // given
             String jobId = "summary-rid";
-            when(circuitBreaker.executeSupplier(any(Supplier.class)))
+            when(operationGuard.execute(any(), any()))
                     .thenThrow(new RuntimeException("Unknown error"));
 
             // when
@@ -300,4 +317,96 @@ class DagloSttProviderTest {
             assertThat(result.isCompleted()).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("호출 한도 테스트")
+    class RateLimitTest {
+
+        @BeforeEach
+        void setUp() {
+            when(operationGuard.execute(any(), any())).thenAnswer(invocation -> {
+                Function<RestClient, ?> call = invocation.getArgument(1);
+                return call.apply(restClient);
+            });
+            when(restClient.get()).thenReturn(requestHeadersUriSpec);
+            when(requestHeadersUriSpec.uri(anyString(), anyString())).thenReturn(requestHeadersSpec);
+            when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+            when(responseSpec.body(SummaryResponseDto.class)).thenReturn(new SummaryResponseDto());
+        }
+
+        @Test
+        @DisplayName("상태 조회 예산 소진: HTTP 호출 없이 SttRateLimitedException 전파")
+        void checkSummaryStatus_BudgetExhausted_ThrowsWithoutCall() {
+            // given
+            ReflectionTestUtils.setField(rateLimiter, "statusPerSecond", 1d);
+            ReflectionTestUtils.setField(rateLimiter, "statusBurst", 1);
+            dagloSttProvider.checkSummaryStatus("summary-rid");
+
+            // when & then
+            assertThatThrownBy(() -> dagloSttProvider.checkSummaryStatus("summary-rid"))
+                    .isInstanceOf(SttRateLimitedException.class);
+            verify(operationGuard, times(1)).execute(any(), any());
+        }
+
+        @Test
+        @DisplayName("429 응답: Retry-After만큼 모든 예산 보류 후 SttRateLimitedException 전파")
+        void checkSummaryStatus_TooManyRequests_HonorsRetryAfter() throws Exception {
+            // given
+            dagloSttProvider.checkSummaryStatus("summary-rid");
+            ArgumentCaptor<Predicate<HttpStatusCode>> predicate = ArgumentCaptor.forClass(Predicate.class);
+            ArgumentCaptor<RestClient.ResponseSpec.ErrorHandler> handler =
+                    ArgumentCaptor.forClass(RestClient.ResponseSpec.ErrorHandler.class);
+            verify(responseSpec).onStatus(predicate.capture(), handler.capture());
+
+            ClientHttpResponse response = mock(ClientHttpResponse.class);
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "7");
+            when(response.getHeaders()).thenReturn(headers);
+
+            // when & then
+            assertThat(predicate.getValue().test(HttpStatusCode.valueOf(429))).isTrue();
+            assertThat(predicate.getValue().test(HttpStatusCode.valueOf(500))).isFalse();
+            assertThatThrownBy(() -> handler.getValue().handle(mock(HttpRequest.class), response))
+                    .isInstanceOf(SttRateLimitedException.class)
+                    .satisfies(e -> assertThat(((SttRateLimitedException) e).getRetryAfter())
+                            .isEqualTo(Duration.ofSeconds(7)));
+            assertThat(rateLimiter.availablePermits(Budget.SUBMIT)).isZero();
+            assertThat(dagloSttProvider.availableStatusCalls()).isZero();
+        }
+
+        @Test
+        @DisplayName("한도 초과는 stillProcessing으로 숨기지 않음 (호출 측이 재시도 횟수 없이 재예약)")
+        void checkTranscriptionStatus_RateLimited_Propagates() {
+            // given
+            doThrow(new SttRateLimitedException("요청이 너무 많습니다.", Duration.ofSeconds(3)))
+                    .when(operationGuard).execute(any(), any());
+
+            // when & then
+            assertThatThrownBy(() -> dagloSttProvider.checkTranscriptionStatus("test-rid"))
+                    .isInstanceOf(SttRateLimitedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("작업 종류별 격리 테스트")
+    class OperationIsolationTest {
+
+        @Test
+        @DisplayName("네 호출이 각자의 가드(bulkhead/timeout/브레이커)로 실행")
+        void eachCall_UsesOwnOperationGuard() {
+            // given
+            when(operationGuard.execute(any(), any())).thenReturn(null);
+
+            // when
+            catchThrowable(() -> dagloSttProvider.requestTranscription(new ByteArrayResource(new byte[0])));
+            dagloSttProvider.checkTranscriptionStatus("rid");
+            catchThrowable(() -> dagloSttProvider.requestSummary("텍스트"));
+            dagloSttProvider.checkSummaryStatus("summary-rid");
+
+            // then
+            for (DagloOperation operation : DagloOperation.values()) {
+                verify(operationGuard).execute(eq(operation), any());
+            }
+        }
+    }
 }
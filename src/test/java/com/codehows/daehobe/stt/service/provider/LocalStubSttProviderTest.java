@@ -0,0 +1,64 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+class LocalStubSttProviderTest {
+
+    private LocalStubSttProvider stubProvider;
+
+    @BeforeEach
+    void setUp() {
+        stubProvider = new LocalStubSttProvider();
+        ReflectionTestUtils.setField(stubProvider, "latencyMs", 0L);
+        ReflectionTestUtils.setField(stubProvider, "latencyJitterMs", 0L);
+        ReflectionTestUtils.setField(stubProvider, "errorRate", 0d);
+        ReflectionTestUtils.setField(stubProvider, "processingMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("발급 직후에는 진행 중, processing-ms가 지나면 완료")
+    void checkTranscriptionStatus_ProgressFromIssuedAt() {
+        // given
+        String rid = stubProvider.requestTranscription(new ByteArrayResource(new byte[0]));
+        String finishedRid = (System.currentTimeMillis() - 60_000) + "-done";
+
+        // when
+        SttTranscriptionResult inProgress = stubProvider.checkTranscriptionStatus(rid);
+        SttTranscriptionResult finished = stubProvider.checkTranscriptionStatus(finishedRid);
+
+        // then
+        assertThat(inProgress.isCompleted()).isFalse();
+        assertThat(inProgress.getProgress()).isLessThan(100);
+        assertThat(finished.isCompleted()).isTrue();
+        assertThat(finished.getContent()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("error-rate 1: 모든 호출 실패")
+    void requestSummary_ErrorRate_Fails() {
+        // given
+        ReflectionTestUtils.setField(stubProvider, "errorRate", 1d);
+
+        // when & then
+        assertThatThrownBy(() -> stubProvider.requestSummary("텍스트")).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("stub이 발급하지 않은 rid: 복구 불가 오류")
+    void checkSummaryStatus_UnknownRid_IllegalArgument() {
+        // when & then
+        assertThatThrownBy(() -> stubProvider.checkSummaryStatus("not-a-stub-rid"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
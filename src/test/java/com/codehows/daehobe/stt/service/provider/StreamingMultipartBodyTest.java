@@ -0,0 +1,199 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.config.Daglo.DagloProperties;
+import com.codehows.daehobe.config.Daglo.RestClientConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("스트리밍 multipart 본문 테스트")
+class StreamingMultipartBodyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("본문 형식: 파일/텍스트 파트와 종료 경계, Content-Length가 실제 크기와 일치")
+    void writeTo_FormatAndContentLength() throws Exception {
+        // given
+        Path audio = Files.writeString(tempDir.resolve("meeting.wav"), "audio-bytes");
+        StreamingMultipartBody body = StreamingMultipartBody.builder()
+                .file("file", new FileSystemResource(audio))
+                .text("sttConfig", "{\"speakerDiarization\":{\"enable\":true}}")
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        body.writeTo(out);
+
+        // then
+        String boundary = body.getContentType().getParameter("boundary");
+        String written = out.toString(StandardCharsets.UTF_8);
+        assertThat(body.getContentLength()).isEqualTo(out.size());
+        assertThat(written)
+                .startsWith("--" + boundary + "\r\n")
+                .contains("Content-Disposition: form-data; name=\"file\"; filename=\"meeting.wav\"\r\n"
+                        + "Content-Type: audio/x-wav\r\n\r\naudio-bytes\r\n")
+                .contains("name=\"sttConfig\"")
+                .endsWith("--" + boundary + "--\r\n");
+        assertThat(body.repeatable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("applyTo: boundary 포함 Content-Type/Content-Length 설정, 본문은 버퍼 대신 스트리밍으로 연결")
+    void applyTo_StreamingRequest_BodyAttached() throws Exception {
+        // given
+        Path audio = Files.writeString(tempDir.resolve("meeting.wav"), "audio-bytes");
+        StreamingMultipartBody body = StreamingMultipartBody.builder()
+                .file("file", new FileSystemResource(audio))
+                .build();
+        ClientHttpRequest request = mock(ClientHttpRequest.class,
+                withSettings().extraInterfaces(StreamingHttpOutputMessage.class));
+        HttpHeaders headers = new HttpHeaders();
+        when(request.getHeaders()).thenReturn(headers);
+
+        // when
+        body.applyTo(request);
+
+        // then
+        verify((StreamingHttpOutputMessage) request).setBody(body);
+        verify(request, never()).getBody();
+        assertThat(headers.getContentType().isCompatibleWith(body.getContentType())).isTrue();
+        assertThat(headers.getContentType().getParameter("boundary")).isNotBlank();
+        assertThat(headers.getContentLength()).isEqualTo(body.getContentLength());
+    }
+
+    /**
+     * 로컬 스텁 Daglo 서버로 수백 MB 파일 업로드
+     * 파일 전체를 버퍼링하면 old gen(대형 배열) 사용량이 파일 크기만큼 증가하므로 그 증가폭을 측정
+     */
+    @Nested
+    @DisplayName("스텁 Daglo 서버 업로드")
+    class StubServerUploadTest {
+
+        private static final long FILE_SIZE = 384L * 1024 * 1024;
+
+        private HttpServer server;
+        private final AtomicLong receivedBytes = new AtomicLong();
+        private final AtomicReference<String> receivedContentLength = new AtomicReference<>();
+
+        @BeforeEach
+        void startServer() throws Exception {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/stt/v1/async/transcripts", exchange -> {
+                receivedContentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+                byte[] buffer = new byte[64 * 1024];
+                try (InputStream in = exchange.getRequestBody()) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        receivedBytes.addAndGet(read);
+                    }
+                }
+                byte[] response = "{\"rid\":\"rid-stub\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                exchange.getResponseBody().write(response);
+                exchange.close();
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void stopServer() {
+            server.stop(0);
+        }
+
+        @Test
+        @DisplayName("384MB 파일: 힙(old gen) 증가 없이 고정 길이로 전송")
+        void requestTranscription_LargeFile_HeapStaysFlat() throws Exception {
+            // given: 희소 파일로 디스크 기록 비용 없이 큰 파일 생성
+            Path audio = tempDir.resolve("long-meeting.wav");
+            try (FileChannel channel = FileChannel.open(audio, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{1}), FILE_SIZE - 1);
+            }
+
+            DagloProperties properties = new DagloProperties();
+            properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+            properties.setToken("test-token");
+            properties.setTimeout(60);
+            RestClientConfig restClientConfig = new RestClientConfig();
+            HttpClient httpClient = restClientConfig.dagloHttpClient();
+            DagloOperationGuard operationGuard = new DagloOperationGuard(
+                    restClientConfig.dagloRestClient(properties, httpClient), httpClient, properties,
+                    CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+            DagloSttProvider provider = new DagloSttProvider(
+                    new ObjectMapper(),
+                    properties,
+                    new DagloRateLimiter(new SimpleMeterRegistry()),
+                    operationGuard);
+
+            List<MemoryPoolMXBean> tenuredPools = tenuredHeapPools();
+            System.gc();
+            long baseline = usedBytes(tenuredPools);
+            tenuredPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            // when
+            String rid = provider.requestTranscription(new FileSystemResource(audio));
+
+            // then
+            long peakGrowth = peakBytes(tenuredPools) - baseline;
+            System.out.printf("[Upload] %d MB 전송, old gen 최대 증가: %d MB%n",
+                    FILE_SIZE >> 20, Math.max(0, peakGrowth) >> 20);
+            assertThat(rid).isEqualTo("rid-stub");
+            assertThat(receivedBytes.get()).isGreaterThan(FILE_SIZE);
+            assertThat(receivedContentLength.get()).isEqualTo(String.valueOf(receivedBytes.get()));
+            assertThat(peakGrowth).isLessThan(64L * 1024 * 1024);
+        }
+
+        // young 영역(eden/survivor)을 제외한 힙 풀 - 대형 배열이 직접 할당되는 곳
+        private List<MemoryPoolMXBean> tenuredHeapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .filter(pool -> !pool.getName().contains("Eden") && !pool.getName().contains("Survivor"))
+                    .toList();
+        }
+
+        private long usedBytes(List<MemoryPoolMXBean> pools) {
+            return pools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        }
+
+        private long peakBytes(List<MemoryPoolMXBean> pools) {
+            return pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.codehows.daehobe.stt.service.provider;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(PerformanceLoggingExtension.class)
+class SttProviderRouterTest {
+
+    private final Resource audio = new ByteArrayResource(new byte[0]);
+    private SttProvider daglo;
+    private SttProvider stub;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService hedgeExecutor;
+    private SttProviderRouter router;
+
+    @BeforeEach
+    void setUp() {
+        daglo = provider("daglo");
+        stub = provider("stub");
+        meterRegistry = new SimpleMeterRegistry();
+        hedgeExecutor = Executors.newCachedThreadPool();
+        router = new SttProviderRouter(List.of(daglo, stub), hedgeExecutor, meterRegistry);
+        ReflectionTestUtils.setField(router, "defaultProvider", "daglo");
+        ReflectionTestUtils.setField(router, "errorWeight", 10d);
+        ReflectionTestUtils.setField(router, "hedgeEnabled", true);
+        ReflectionTestUtils.setField(router, "hedgePercentile", 0.95);
+        ReflectionTestUtils.setField(router, "hedgeMinSamples", 20);
+        ReflectionTestUtils.setField(router, "hedgeMinDelayMs", 20L);
+        ReflectionTestUtils.setField(router, "hedgeMaxRatio", 1d);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    private SttProvider provider(String name) {
+        SttProvider provider = mock(SttProvider.class);
+        when(provider.getName()).thenReturn(name);
+        when(provider.getAudioProfile()).thenReturn(AudioProfile.WAV_16K_MONO);
+        when(provider.requestTranscription(any())).thenReturn(name + "-rid");
+        when(provider.requestSummary(anyString())).thenReturn(name + "-summary-rid");
+        when(provider.checkTranscriptionStatus(anyString())).thenReturn(SttTranscriptionResult.stillProcessing());
+        return provider;
+    }
+
+    private static SttTranscriptionResult completed() {
+        return SttTranscriptionResult.builder().completed(true).content("done").progress(100).build();
+    }
+
+    @Nested
+    @DisplayName("rid 고정 테스트")
+    class PinningTest {
+
+        @Test
+        @DisplayName("발급한 프로바이더 이름을 rid 앞에 붙이고, 상태 조회는 그 프로바이더에 원래 rid로")
+        void requestTranscription_PinsRidToIssuingProvider() {
+            // given
+            String jobId = router.requestTranscription(audio);
+
+            // when
+            router.checkTranscriptionStatus(jobId);
+
+            // then
+            assertThat(jobId).isEqualTo("daglo:daglo-rid");
+            verify(daglo).checkTranscriptionStatus("daglo-rid");
+            verify(stub, never()).checkTranscriptionStatus(anyString());
+        }
+
+        @Test
+        @DisplayName("요약 rid도 발급한 프로바이더에 고정")
+        void checkSummaryStatus_RoutedByPrefix() {
+            // when
+            router.checkSummaryStatus("stub:summary-1");
+
+            // then
+            verify(stub).checkSummaryStatus("summary-1");
+            verify(daglo, never()).checkSummaryStatus(anyString());
+        }
+
+        @Test
+        @DisplayName("접두사 없는 rid(라우터 도입 전 작업): 기본 프로바이더에 그대로")
+        void checkTranscriptionStatus_LegacyRid_DefaultProvider() {
+            // when
+            router.checkTranscriptionStatus("legacy-rid");
+            router.checkTranscriptionStatus("unknown:rid");
+
+            // then
+            verify(daglo).checkTranscriptionStatus("legacy-rid");
+            verify(daglo).checkTranscriptionStatus("unknown:rid");
+        }
+    }
+
+    @Nested
+    @DisplayName("라우팅 테스트")
+    class RoutingTest {
+
+        @Test
+        @DisplayName("관측 지연이 낮은 프로바이더로 새 작업을 보냄")
+        void requestTranscription_PrefersLowerLatency() {
+            // given: daglo는 느림
+            when(daglo.requestTranscription(any())).thenAnswer(invocation -> {
+                Thread.sleep(30);
+                return "daglo-rid";
+            });
+
+            // when: 각자 한 번씩 관측된 뒤에는 빠른 쪽
+            router.requestTranscription(audio);
+            router.requestTranscription(audio);
+            String third = router.requestTranscription(audio);
+
+            // then
+            assertThat(third).startsWith("stub:");
+            assertThat(meterRegistry.counter("stt.provider.router.routed", "provider", "stub").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("선택한 프로바이더가 실패하면 다른 프로바이더로 넘기고 실패율에 반영")
+        void requestTranscription_FailsOver() {
+            // given
+            when(daglo.requestTranscription(any())).thenThrow(new RuntimeException("Daglo down"));
+
+            // when
+            String jobId = router.requestTranscription(audio);
+
+            // then
+            assertThat(jobId).isEqualTo("stub:stub-rid");
+            assertThat(meterRegistry.get("stt.provider.router.error-rate").tag("provider", "daglo").gauge().value())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("업로드 오디오 형식이 기본 프로바이더와 다르면 전사 대상에서 제외")
+        void requestTranscription_OnlyMatchingAudioProfile() {
+            // given
+            when(stub.getAudioProfile()).thenReturn(AudioProfile.OPUS_16K_MONO);
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                router.requestTranscription(audio);
+            }
+
+            // then
+            verify(stub, never()).requestTranscription(any());
+            assertThat(router.getAudioProfile()).isEqualTo(AudioProfile.WAV_16K_MONO);
+        }
+
+        @Test
+        @DisplayName("상태 조회 허용량은 프로바이더 합계")
+        void availableStatusCalls_Sum() {
+            // given
+            when(daglo.availableStatusCalls()).thenReturn(3);
+            when(stub.availableStatusCalls()).thenReturn(Integer.MAX_VALUE);
+
+            // when & then
+            assertThat(router.availableStatusCalls()).isEqualTo(Integer.MAX_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("hedge 테스트")
+    class HedgeTest {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(router, "hedgeMinSamples", 2);
+        }
+
+        // 표본 2개 (빠른 응답)
+        private void warmUp() {
+            router.checkTranscriptionStatus("daglo:rid");
+            router.checkTranscriptionStatus("daglo:rid");
+        }
+
+        @Test
+        @DisplayName("percentile보다 느리면 한 번 더 조회해 먼저 온 응답 사용")
+        void checkTranscriptionStatus_Slow_Hedged() {
+            // given: 세 번째 호출만 느림, 네 번째(hedge)는 바로 완료
+            warmUp();
+            AtomicInteger calls = new AtomicInteger(2);
+            when(daglo.checkTranscriptionStatus("rid")).thenAnswer(invocation -> {
+                if (calls.incrementAndGet() == 3) {
+                    Thread.sleep(2_000);
+                    return SttTranscriptionResult.stillProcessing();
+                }
+                return completed();
+            });
+
+            // when
+            long start = System.currentTimeMillis();
+            SttTranscriptionResult result = router.checkTranscriptionStatus("daglo:rid");
+
+            // then
+            assertThat(result.isCompleted()).isTrue();
+            assertThat(System.currentTimeMillis() - start).isLessThan(1_500);
+            assertThat(meterRegistry.counter("stt.provider.router.hedged", "provider", "daglo").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("hedge 비율 한도 소진: 원 호출만 기다림")
+        void checkTranscriptionStatus_NoHedgeCredit_WaitsPrimary() {
+            // given
+            ReflectionTestUtils.setField(router, "hedgeMaxRatio", 0d);
+            ReflectionTestUtils.setField(router, "hedgeMinDelayMs", 1L);
+            warmUp();
+            when(daglo.checkTranscriptionStatus("rid")).thenAnswer(invocation -> {
+                Thread.sleep(50);
+                return completed();
+            });
+
+            // when
+            SttTranscriptionResult result = router.checkTranscriptionStatus("daglo:rid");
+
+            // then
+            assertThat(result.isCompleted()).isTrue();
+            verify(daglo, times(3)).checkTranscriptionStatus("rid");
+            assertThat(meterRegistry.counter("stt.provider.router.hedged", "provider", "daglo").count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.codehows.daehobe.stt.service.recording;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_RECORDING_DEADLINES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+class SttRecordingDeadlineServiceTest {
+
+    @Mock
+    private StringRedisTemplate hashRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private SttRecordingDeadlineService deadlineService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(hashRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        deadlineService = new SttRecordingDeadlineService(hashRedisTemplate);
+        ReflectionTestUtils.setField(deadlineService, "heartbeatTtlSeconds", 30L);
+    }
+
+    @Test
+    @DisplayName("register: 마감 = 현재 + heartbeat TTL, 바로 기록")
+    void register_DeadlineIsNowPlusTtl() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        deadlineService.register(1L);
+
+        // then
+        ArgumentCaptor<Double> score = ArgumentCaptor.forClass(Double.class);
+        verify(zSetOperations).add(eq(STT_RECORDING_DEADLINES), eq("1"), score.capture());
+        assertThat(score.getValue()).isBetween(before + 30_000d, System.currentTimeMillis() + 30_000d);
+    }
+
+    @Nested
+    @DisplayName("청크 heartbeat 일괄 반영 테스트")
+    class FlushPendingTest {
+
+        @Mock
+        private RedisConnection connection;
+        @Mock
+        private RedisZSetCommands zSetCommands;
+
+        @BeforeEach
+        void setUp() {
+            lenient().when(connection.zSetCommands()).thenReturn(zSetCommands);
+            lenient().when(hashRedisTemplate.execute(any(RedisCallback.class)))
+                    .thenAnswer(inv -> inv.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        }
+
+        @Test
+        @DisplayName("touch: 청크마다 Redis를 호출하지 않음")
+        void touch_NoRedisCall() {
+            // when
+            for (int i = 0; i < 10; i++) {
+                deadlineService.touch(1L);
+                deadlineService.touch(2L);
+            }
+
+            // then
+            verifyNoInteractions(hashRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("flush: 세션별 최신 마감을 ZADD XX GT 한 번으로 반영")
+        void flush_SingleZaddXxGt() {
+            // given
+            deadlineService.touch(1L);
+            deadlineService.touch(1L);
+            deadlineService.touch(2L);
+
+            // when
+            deadlineService.flushPending();
+
+            // then
+            ArgumentCaptor<Set<Tuple>> tuples = ArgumentCaptor.forClass(Set.class);
+            verify(zSetCommands, times(1)).zAdd(eq(STT_RECORDING_DEADLINES.getBytes(StandardCharsets.UTF_8)),
+                    tuples.capture(), eq(ZAddArgs.ifExists().gt()));
+            assertThat(tuples.getValue())
+                    .extracting(tuple -> new String(tuple.getValue(), StandardCharsets.UTF_8))
+                    .containsExactlyInAnyOrder("1", "2");
+        }
+
+        @Test
+        @DisplayName("flush: 반영 후에는 다음 touch 전까지 호출 없음")
+        void flush_NothingPending_NoRedisCall() {
+            // given
+            deadlineService.touch(1L);
+            deadlineService.flushPending();
+
+            // when
+            deadlineService.flushPending();
+
+            // then
+            verify(zSetCommands, times(1)).zAdd(any(byte[].class), anySet(), any(ZAddArgs.class));
+        }
+
+        @Test
+        @DisplayName("remove: 반영 대기 중인 마감도 버림")
+        void remove_DropsPending() {
+            // given
+            deadlineService.touch(1L);
+
+            // when
+            deadlineService.remove(1L);
+            deadlineService.flushPending();
+
+            // then
+            verify(zSetOperations).remove(STT_RECORDING_DEADLINES, "1");
+            verifyNoInteractions(zSetCommands);
+        }
+
+        @Test
+        @DisplayName("flush 실패: 다음 주기에 다시 반영")
+        void flush_Failure_Retried() {
+            // given
+            deadlineService.touch(1L);
+            when(zSetCommands.zAdd(any(byte[].class), anySet(), any(ZAddArgs.class)))
+                    .thenThrow(new RuntimeException("Redis down"))
+                    .thenReturn(0L);
+
+            // when
+            deadlineService.flushPending();
+            deadlineService.flushPending();
+
+            // then
+            verify(zSetCommands, times(2)).zAdd(any(byte[].class), anySet(), any(ZAddArgs.class));
+        }
+    }
+
+    @Test
+    @DisplayName("claimExpired: 스크립트가 제거하며 돌려준 sttId 반환")
+    void claimExpired_ReturnsClaimedIds() {
+        // given
+        when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenReturn(List.of("3", "7"));
+
+        // when
+        List<Long> claimed = deadlineService.claimExpired(100);
+
+        // then
+        assertThat(claimed).containsExactly(3L, 7L);
+        verify(hashRedisTemplate).execute(any(RedisScript.class), eq(List.of(STT_RECORDING_DEADLINES)),
+                anyString(), eq("100"));
+    }
+
+    @Test
+    @DisplayName("claimExpired: 만료 없음 → 빈 목록")
+    void claimExpired_NothingExpired_Empty() {
+        // given
+        when(hashRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(List.of());
+
+        // when & then
+        assertThat(deadlineService.claimExpired(100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findUntracked: ZMSCORE 한 번으로 score 없는 sttId만 반환")
+    void findUntracked_SingleRoundTrip() {
+        // given
+        when(zSetOperations.score(eq(STT_RECORDING_DEADLINES), any(Object[].class)))
+                .thenReturn(Arrays.asList(1_000d, null));
+
+        // when
+        List<Long> untracked = deadlineService.findUntracked(List.of(1L, 2L));
+
+        // then
+        assertThat(untracked).containsExactly(2L);
+        verify(zSetOperations, times(1)).score(eq(STT_RECORDING_DEADLINES), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("findUntracked: 녹음 없음 → Redis 호출 없음")
+    void findUntracked_Empty_NoRedisCall() {
+        // when
+        List<Long> untracked = deadlineService.findUntracked(Set.of());
+
+        // then
+        assertThat(untracked).isEmpty();
+        verifyNoInteractions(zSetOperations);
+    }
+}
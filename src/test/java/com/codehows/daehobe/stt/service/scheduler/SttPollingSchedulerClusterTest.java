@@ -0,0 +1,273 @@
+package com.codehows.daehobe.stt.service.scheduler;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.repository.STTRepository;
+import com.codehows.daehobe.stt.service.STTService;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.cache.SttStatusNearCache;
+import com.codehows.daehobe.stt.service.dedup.SttDedupService;
+import com.codehows.daehobe.stt.service.lease.SttJobLeaseService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import com.codehows.daehobe.stt.service.processing.SttJobDispatcher;
+import com.codehows.daehobe.stt.service.processing.SttJobProcessor;
+import com.codehows.daehobe.stt.service.processing.SttPollingBackoff;
+import com.codehows.daehobe.stt.service.processing.SttPollingScheduler;
+import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.segment.SttSegmentedTranscriber;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_POLLING_PROCESSING_SET;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 두 스케줄러 인스턴스(레플리카)가 하나의 Redis를 공유할 때
+ * 한 주기(tick) 동안 각 작업이 정확히 한 번만 처리되는지 검증
+ */
+@ExtendWith(PerformanceLoggingExtension.class)
+@DisplayName("STT 폴링 다중 인스턴스 lease 테스트")
+class SttPollingSchedulerClusterTest {
+
+    private static final List<Long> STT_IDS = List.of(1L, 2L, 3L, 4L, 5L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisStandIn redis;
+    private SttProvider sttProvider;
+    private SttPollingScheduler instanceA;
+    private SttPollingScheduler instanceB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new RedisStandIn();
+        sttProvider = mock(SttProvider.class);
+        instanceA = newInstance();
+        instanceB = newInstance();
+
+        // 모든 작업을 PROCESSING 상태로 캐싱하고 즉시 폴링 대상으로 등록
+        SttCacheService seeder = new SttCacheService(redis.template, objectMapper, mock(SttStatusNearCache.class));
+        for (Long sttId : STT_IDS) {
+            STTDto dto = STTDto.builder()
+                    .id(sttId)
+                    .rid("rid-" + sttId)
+                    .meetingId(1L)
+                    .status(STT.Status.PROCESSING)
+                    .build();
+            seeder.cacheSttStatus(dto);
+            redis.zAdd(STT_POLLING_PROCESSING_SET, String.valueOf(sttId), System.currentTimeMillis() - 1);
+        }
+    }
+
+    private SttPollingScheduler newInstance() {
+        SttCacheService cacheService = new SttCacheService(redis.template, objectMapper, mock(SttStatusNearCache.class));
+        ReflectionTestUtils.setField(cacheService, "staleThresholdMinutes", 60L);
+
+        SttPollingBackoff backoff = new SttPollingBackoff();
+        ReflectionTestUtils.setField(backoff, "baseDelayMs", 2000L);
+        ReflectionTestUtils.setField(backoff, "maxDelayMs", 30000L);
+
+        SttJobProcessor processor = new SttJobProcessor(mock(STTRepository.class), sttProvider, cacheService,
+                mock(SttUpdatePublisher.class), backoff, new SttJobLeaseService(redis.template),
+                mock(SttDedupService.class), mock(SttSegmentedTranscriber.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(processor, "maxAttempts", 150);
+        ReflectionTestUtils.setField(processor, "pollingLeaseTtlMs", 60000L);
+
+        // 디스패처는 호출 스레드에서 바로 실행
+        SttJobDispatcher dispatcher = mock(SttJobDispatcher.class);
+        when(dispatcher.dispatch(anyLong(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        SttPollingScheduler scheduler = new SttPollingScheduler(mock(STTRepository.class), processor, dispatcher,
+                cacheService, mock(STTService.class), mock(SttRecordingDeadlineService.class), sttProvider);
+        lenient().when(sttProvider.availableStatusCalls()).thenReturn(Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 50);
+        return scheduler;
+    }
+
+    @Test
+    @DisplayName("순차 실행: 먼저 처리한 인스턴스가 재예약하므로 다른 인스턴스는 건너뜀")
+    void twoInstances_Sequential_EachJobProcessedOnce() {
+        // given
+        when(sttProvider.checkTranscriptionStatus(anyString())).thenReturn(
+                SttTranscriptionResult.builder().completed(false).content("").progress(10).build());
+
+        // when
+        instanceA.pollProcessingTasks();
+        instanceB.pollProcessingTasks();
+
+        // then
+        assertEachJobProcessedOnce();
+    }
+
+    @Test
+    @DisplayName("동시 실행: lease를 선점하지 못한 인스턴스는 건너뜀")
+    void twoInstances_Concurrent_EachJobProcessedOnce() throws Exception {
+        // given: 상태 조회가 느려 두 인스턴스의 처리 구간이 겹치도록
+        when(sttProvider.checkTranscriptionStatus(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return SttTranscriptionResult.builder().completed(false).content("").progress(10).build();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            Future<?> a = executor.submit(() -> awaitThen(startGate, instanceA::pollProcessingTasks));
+            Future<?> b = executor.submit(() -> awaitThen(startGate, instanceB::pollProcessingTasks));
+
+            // when
+            startGate.countDown();
+            a.get(10, TimeUnit.SECONDS);
+            b.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEachJobProcessedOnce();
+    }
+
+    private void assertEachJobProcessedOnce() {
+        for (Long sttId : STT_IDS) {
+            verify(sttProvider, times(1)).checkTranscriptionStatus("rid-" + sttId);
+            assertThat(redis.values.get("stt:retry:" + sttId)).isEqualTo("1");
+            assertThat(redis.zScore(STT_POLLING_PROCESSING_SET, String.valueOf(sttId)))
+                    .isGreaterThan((double) System.currentTimeMillis());
+        }
+        // 처리 후 모든 lease 반환
+        assertThat(redis.values.keySet()).noneMatch(key -> key.startsWith("stt:lease:"));
+    }
+
+    private static void awaitThen(CountDownLatch gate, Runnable task) {
+        try {
+            gate.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        task.run();
+    }
+
+    /**
+     * 테스트용 Redis 대체물: 사용되는 명령만 in-memory Map으로 구현
+     * (SET NX, GET/SET/MGET, INCR, DEL, HSET/HGETALL/HMGET, ZADD/ZREM/ZSCORE/ZRANGEBYSCORE, lease Lua 스크립트)
+     */
+    @SuppressWarnings("unchecked")
+    static class RedisStandIn {
+        final Map<String, String> values = new ConcurrentHashMap<>();
+        final Map<String, Map<String, Double>> zsets = new ConcurrentHashMap<>();
+        final Map<String, Map<Object, Object>> hashes = new ConcurrentHashMap<>();
+        final StringRedisTemplate template = mock(StringRedisTemplate.class);
+
+        RedisStandIn() {
+            ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+            ZSetOperations<String, String> zSetOps = mock(ZSetOperations.class);
+            HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+            when(template.opsForValue()).thenReturn(valueOps);
+            when(template.opsForZSet()).thenReturn(zSetOps);
+            when(template.opsForHash()).thenReturn(hashOps);
+
+            when(valueOps.get(anyString())).thenAnswer(inv -> values.get(inv.<String>getArgument(0)));
+            when(valueOps.multiGet(anyCollection())).thenAnswer(inv ->
+                    inv.<Collection<String>>getArgument(0).stream().map(values::get).toList());
+            doAnswer(inv -> values.put(inv.getArgument(0), inv.getArgument(1)))
+                    .when(valueOps).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+            when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                    .thenAnswer(inv -> values.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+            when(valueOps.increment(anyString())).thenAnswer(inv -> Long.valueOf(values.merge(
+                    inv.getArgument(0), "1", (oldValue, one) -> String.valueOf(Long.parseLong(oldValue) + 1))));
+            when(template.expire(anyString(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+            when(template.delete(anyString())).thenAnswer(inv -> values.remove(inv.<String>getArgument(0)) != null);
+            when(template.hasKey(anyString())).thenAnswer(inv -> values.containsKey(inv.<String>getArgument(0)));
+
+            doAnswer(inv -> {
+                hashes.computeIfAbsent(inv.getArgument(0), k -> new ConcurrentHashMap<>()).putAll(inv.getArgument(1));
+                return null;
+            }).when(hashOps).putAll(anyString(), anyMap());
+            when(hashOps.entries(anyString())).thenAnswer(inv -> Map.copyOf(
+                    hashes.getOrDefault(inv.<String>getArgument(0), Map.of())));
+            when(hashOps.multiGet(anyString(), anyCollection())).thenAnswer(inv -> {
+                Map<Object, Object> hash = hashes.getOrDefault(inv.<String>getArgument(0), Map.of());
+                return inv.<Collection<Object>>getArgument(1).stream().map(hash::get).collect(Collectors.toList());
+            });
+
+            when(zSetOps.add(anyString(), anyString(), anyDouble())).thenAnswer(inv ->
+                    zAdd(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)));
+            when(zSetOps.score(anyString(), (Object) anyString())).thenAnswer(inv ->
+                    zScore(inv.getArgument(0), inv.getArgument(1)));
+            when(zSetOps.remove(anyString(), any(Object[].class))).thenAnswer(inv -> {
+                Object[] args = inv.getArguments();
+                Map<String, Double> zset = zsets.getOrDefault((String) args[0], Map.of());
+                return Arrays.stream(args, 1, args.length).filter(m -> zset.remove(String.valueOf(m)) != null).count();
+            });
+            when(zSetOps.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong())).thenAnswer(inv -> {
+                double min = inv.getArgument(1);
+                double max = inv.getArgument(2);
+                long offset = inv.getArgument(3);
+                long count = inv.getArgument(4);
+                return zsets.getOrDefault(inv.<String>getArgument(0), Map.of()).entrySet().stream()
+                        .filter(e -> e.getValue() >= min && e.getValue() <= max)
+                        .sorted(Map.Entry.comparingByValue())
+                        .skip(offset)
+                        .limit(count)
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+            });
+
+            // lease 갱신/해제 Lua 스크립트: 토큰 비교 후 del / pexpire
+            when(template.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+                Object[] args = inv.getArguments();
+                RedisScript<Long> script = (RedisScript<Long>) args[0];
+                String key = ((List<String>) args[1]).getFirst();
+                String token = (String) args[2];
+                if (!token.equals(values.get(key))) {
+                    return 0L;
+                }
+                if (script.getScriptAsString().contains("'del'")) {
+                    values.remove(key, token);
+                }
+                return 1L;
+            });
+        }
+
+        synchronized boolean zAdd(String key, String member, double score) {
+            return zsets.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(member, score) == null;
+        }
+
+        Double zScore(String key, String member) {
+            return zsets.getOrDefault(key, Map.of()).get(member);
+        }
+    }
+}
@@ -7,14 +7,18 @@ import com.codehows.daehobe.stt.exception.SttNotCompletedException;
 import com.codehows.daehobe.stt.repository.STTRepository;
 import com.codehows.daehobe.stt.service.STTService;
 import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.processing.SttJobDispatcher;
 import com.codehows.daehobe.stt.service.processing.SttJobProcessor;
 import com.codehows.daehobe.stt.service.processing.SttPollingScheduler;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.provider.SttStatusCallBudget;
+import com.codehows.daehobe.stt.service.recording.SttRecordingDeadlineService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -22,8 +26,10 @@ import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -36,18 +42,31 @@ class SttPollingSchedulerTest {
     @Mock
     private SttJobProcessor sttJobProcessor;
     @Mock
+    private SttJobDispatcher sttJobDispatcher;
+    @Mock
     private SttCacheService sttCacheService;
     @Mock
     private STTService sttService;
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private SttRecordingDeadlineService sttRecordingDeadlineService;
+    @Mock
+    private SttProvider sttProvider;
 
     private SttPollingScheduler sttPollingScheduler;
 
     @BeforeEach
     void setUp() {
-        sttPollingScheduler = new SttPollingScheduler(sttRepository, sttJobProcessor, sttCacheService, sttService, redisTemplate);
-        ReflectionTestUtils.setField(sttPollingScheduler, "maxAttempts", 150);
+        sttPollingScheduler = new SttPollingScheduler(sttRepository, sttJobProcessor, sttJobDispatcher,
+                sttCacheService, sttService, sttRecordingDeadlineService, sttProvider);
+        lenient().when(sttProvider.availableStatusCalls()).thenReturn(Integer.MAX_VALUE);
+        // 디스패처는 호출 스레드에서 바로 실행
+        when(sttJobDispatcher.dispatch(anyLong(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        ReflectionTestUtils.setField(sttPollingScheduler, "batchSize", 50);
+        ReflectionTestUtils.setField(sttPollingScheduler, "sweepBatchSize", 100);
+        ReflectionTestUtils.setField(sttPollingScheduler, "orphanThresholdHours", 3L);
     }
 
     @Nested
@@ -59,162 +78,112 @@ class SttPollingSchedulerTest {
         void pollProcessingTasks_Success() {
             // given
             Set<Long> taskIds = Set.of(1L, 2L, 3L);
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(taskIds);
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(taskIds);
             when(sttCacheService.isRedisAvailable()).thenReturn(true);
 
             // when
             sttPollingScheduler.pollProcessingTasks();
 
             // then
-            verify(sttJobProcessor, times(3)).processSingleSttJob(anyLong());
+            verify(sttJobProcessor, times(3)).processSingleSttJob(anyLong(), any());
         }
 
         @Test
-        @DisplayName("재시도: SttNotCompletedException 시 retry count 증가")
-        void pollProcessingTasks_NotCompleted_RetryIncremented() {
+        @DisplayName("예외 처리: 일반 예외 시 로깅만 수행")
+        void pollProcessingTasks_GeneralException_LogOnly() {
             // given
             Long sttId = 1L;
             Set<Long> taskIds = Set.of(sttId);
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(taskIds);
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(taskIds);
             when(sttCacheService.isRedisAvailable()).thenReturn(true);
-            doThrow(new SttNotCompletedException("Not completed"))
-                    .when(sttJobProcessor).processSingleSttJob(sttId);
-            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(5);
+            doThrow(new RuntimeException("Unknown error"))
+                    .when(sttJobProcessor).processSingleSttJob(eq(sttId), any());
 
             // when
             sttPollingScheduler.pollProcessingTasks();
 
             // then
-            verify(sttCacheService).incrementRetryCount(sttId);
+            verify(sttCacheService, never()).incrementRetryCount(anyLong());
         }
 
         @Test
-        @DisplayName("최대 재시도 초과: ENCODED 상태로 롤백")
-        void pollProcessingTasks_MaxRetryExceeded_RollbackToEncoded() {
+        @DisplayName("빈 태스크: 폴링 셋이 비어있으면 처리 없음")
+        void pollProcessingTasks_EmptyTasks_NoProcessing() {
             // given
-            Long sttId = 1L;
-            Set<Long> taskIds = Set.of(sttId);
-            STTDto cachedDto = STTDto.builder()
-                    .id(sttId)
-                    .status(STT.Status.PROCESSING)
-                    .build();
-
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(taskIds);
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(Collections.emptySet());
             when(sttCacheService.isRedisAvailable()).thenReturn(true);
-            doThrow(new SttNotCompletedException("Not completed"))
-                    .when(sttJobProcessor).processSingleSttJob(sttId);
-            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(150); // maxAttempts 도달
-            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(cachedDto);
 
             // when
             sttPollingScheduler.pollProcessingTasks();
 
             // then
-            verify(sttCacheService).removeFromPollingSet(sttId, STT.Status.PROCESSING);
-            verify(sttCacheService).resetRetryCount(sttId);
-            verify(sttCacheService).cacheSttStatus(argThat(dto ->
-                    dto.getStatus() == STT.Status.ENCODED
-            ));
+            verify(sttJobProcessor, never()).processSingleSttJob(anyLong(), any());
         }
 
         @Test
-        @DisplayName("예외 처리: 일반 예외 시 로깅만 수행")
-        void pollProcessingTasks_GeneralException_LogOnly() {
+        @DisplayName("호출 한도: 남은 상태 조회 호출 수만큼만 꺼냄")
+        void pollProcessingTasks_LimitedByStatusBudget() {
             // given
-            Long sttId = 1L;
-            Set<Long> taskIds = Set.of(sttId);
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(taskIds);
+            when(sttProvider.availableStatusCalls()).thenReturn(3);
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(Set.of(1L, 2L, 3L));
             when(sttCacheService.isRedisAvailable()).thenReturn(true);
-            doThrow(new RuntimeException("Unknown error"))
-                    .when(sttJobProcessor).processSingleSttJob(sttId);
 
             // when
             sttPollingScheduler.pollProcessingTasks();
 
             // then
-            verify(sttCacheService, never()).incrementRetryCount(anyLong());
+            verify(sttCacheService).getDuePollingTaskIds(STT.Status.PROCESSING, 3);
         }
 
         @Test
-        @DisplayName("빈 태스크: 폴링 셋이 비어있으면 처리 없음")
-        void pollProcessingTasks_EmptyTasks_NoProcessing() {
+        @DisplayName("호출 한도: 꺼낸 작업 수를 뺀 나머지를 구간 조회용 공용 예산으로 나눠 줌")
+        void pollProcessingTasks_LeftoverBudgetSharedAcrossJobs() {
             // given
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(Collections.emptySet());
-            when(sttCacheService.isRedisAvailable()).thenReturn(true);
+            when(sttProvider.availableStatusCalls()).thenReturn(10);
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(Set.of(1L, 2L, 3L));
+            ArgumentCaptor<SttStatusCallBudget> budgetCaptor = ArgumentCaptor.forClass(SttStatusCallBudget.class);
 
             // when
             sttPollingScheduler.pollProcessingTasks();
 
             // then
-            verify(sttJobProcessor, never()).processSingleSttJob(anyLong());
+            verify(sttJobProcessor, times(3)).processSingleSttJob(anyLong(), budgetCaptor.capture());
+            assertThat(budgetCaptor.getAllValues()).allMatch(budget -> budget == budgetCaptor.getValue());
+            assertThat(budgetCaptor.getValue().remaining()).isEqualTo(7);
         }
-    }
-
-    @Nested
-    @DisplayName("pollSummarizingTasks 테스트")
-    class PollSummarizingTasksTest {
 
         @Test
-        @DisplayName("성공: 정상 폴링")
-        void pollSummarizingTasks_Success() {
+        @DisplayName("호출 한도 소진: 이번 주기는 작업을 꺼내지 않음")
+        void pollProcessingTasks_NoBudget_Skipped() {
             // given
-            Set<Long> taskIds = Set.of(1L, 2L);
-            when(sttCacheService.getPollingTaskIds(STT.Status.SUMMARIZING)).thenReturn(taskIds);
-            when(sttCacheService.isRedisAvailable()).thenReturn(true);
+            when(sttProvider.availableStatusCalls()).thenReturn(0);
 
             // when
-            sttPollingScheduler.pollSummarizingTasks();
+            sttPollingScheduler.pollProcessingTasks();
 
             // then
-            verify(sttJobProcessor, times(2)).processSingleSummaryJob(anyLong());
+            verify(sttCacheService, never()).getDuePollingTaskIds(any(), anyInt());
+            verify(sttJobProcessor, never()).processSingleSttJob(anyLong(), any());
         }
+    }
 
-        @Test
-        @DisplayName("재시도: SttNotCompletedException 시 retry count 증가")
-        void pollSummarizingTasks_NotCompleted_RetryIncremented() {
-            // given
-            Long sttId = 1L;
-            Set<Long> taskIds = Set.of(sttId);
-            when(sttCacheService.getPollingTaskIds(STT.Status.SUMMARIZING)).thenReturn(taskIds);
-            when(sttCacheService.isRedisAvailable()).thenReturn(true);
-            doThrow(new SttNotCompletedException("Not completed"))
-                    .when(sttJobProcessor).processSingleSummaryJob(sttId);
-            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(10);
-
-            // when
-            sttPollingScheduler.pollSummarizingTasks();
-
-            // then
-            verify(sttCacheService).incrementRetryCount(sttId);
-        }
+    @Nested
+    @DisplayName("pollSummarizingTasks 테스트")
+    class PollSummarizingTasksTest {
 
         @Test
-        @DisplayName("최대 재시도 초과: ENCODED 상태로 롤백")
-        void pollSummarizingTasks_MaxRetryExceeded_RollbackToEncoded() {
+        @DisplayName("성공: 정상 폴링")
+        void pollSummarizingTasks_Success() {
             // given
-            Long sttId = 1L;
-            Set<Long> taskIds = Set.of(sttId);
-            STTDto cachedDto = STTDto.builder()
-                    .id(sttId)
-                    .status(STT.Status.SUMMARIZING)
-                    .build();
-
-            when(sttCacheService.getPollingTaskIds(STT.Status.SUMMARIZING)).thenReturn(taskIds);
+            Set<Long> taskIds = Set.of(1L, 2L);
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.SUMMARIZING), anyInt())).thenReturn(taskIds);
             when(sttCacheService.isRedisAvailable()).thenReturn(true);
-            doThrow(new SttNotCompletedException("Not completed"))
-                    .when(sttJobProcessor).processSingleSummaryJob(sttId);
-            when(sttCacheService.incrementRetryCount(sttId)).thenReturn(150);
-            when(sttCacheService.getCachedSttStatus(sttId)).thenReturn(cachedDto);
 
             // when
             sttPollingScheduler.pollSummarizingTasks();
 
             // then
-            verify(sttCacheService).removeFromPollingSet(sttId, STT.Status.SUMMARIZING);
-            verify(sttCacheService).resetRetryCount(sttId);
-            verify(sttCacheService).cacheSttStatus(argThat(dto ->
-                    dto.getStatus() == STT.Status.ENCODED
-            ));
+            verify(sttJobProcessor, times(2)).processSingleSummaryJob(anyLong());
         }
     }
 
@@ -227,7 +196,7 @@ class SttPollingSchedulerTest {
         void getTaskIdsWithFallback_RedisUnavailable_DbFallback() {
             // given
             Set<Long> dbTaskIds = Set.of(1L, 2L);
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(Collections.emptySet());
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(Collections.emptySet());
             when(sttCacheService.isRedisAvailable()).thenReturn(false);
             when(sttRepository.findIdsByStatus(STT.Status.PROCESSING)).thenReturn(dbTaskIds);
 
@@ -236,14 +205,14 @@ class SttPollingSchedulerTest {
 
             // then
             verify(sttRepository).findIdsByStatus(STT.Status.PROCESSING);
-            verify(sttJobProcessor, times(2)).processSingleSttJob(anyLong());
+            verify(sttJobProcessor, times(2)).processSingleSttJob(anyLong(), any());
         }
 
         @Test
         @DisplayName("Redis 가용하면 DB fallback 안함")
         void getTaskIdsWithFallback_RedisAvailable_NoDbFallback() {
             // given
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(Collections.emptySet());
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(Collections.emptySet());
             when(sttCacheService.isRedisAvailable()).thenReturn(true);
 
             // when
@@ -257,7 +226,7 @@ class SttPollingSchedulerTest {
         @DisplayName("DB도 불가용 시 조용히 실패")
         void getTaskIdsWithFallback_BothUnavailable_SilentFailure() {
             // given
-            when(sttCacheService.getPollingTaskIds(STT.Status.PROCESSING)).thenReturn(Collections.emptySet());
+            when(sttCacheService.getDuePollingTaskIds(eq(STT.Status.PROCESSING), anyInt())).thenReturn(Collections.emptySet());
             when(sttCacheService.isRedisAvailable()).thenReturn(false);
             when(sttRepository.findIdsByStatus(STT.Status.PROCESSING))
                     .thenThrow(new RuntimeException("DB unavailable"));
@@ -266,7 +235,97 @@ class SttPollingSchedulerTest {
             sttPollingScheduler.pollProcessingTasks();
 
             // then
-            verify(sttJobProcessor, never()).processSingleSttJob(anyLong());
+            verify(sttJobProcessor, never()).processSingleSttJob(anyLong(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("녹음 마감 스위퍼 테스트")
+    class SweepExpiredRecordingsTest {
+
+        @Test
+        @DisplayName("성공: 가져온 만료 세션마다 복구, 하나가 실패해도 계속")
+        void sweep_ClaimedIds_Recovered() {
+            // given
+            when(sttRecordingDeadlineService.claimExpired(100)).thenReturn(List.of(1L, 2L));
+            doThrow(new RuntimeException("recovery failed")).when(sttService).handleAbnormalTermination(1L);
+
+            // when
+            sttPollingScheduler.sweepExpiredRecordings();
+
+            // then
+            verify(sttService).handleAbnormalTermination(1L);
+            verify(sttService).handleAbnormalTermination(2L);
+            verifyNoInteractions(sttRepository);
+        }
+
+        @Test
+        @DisplayName("Redis 장애: 복구 호출 없이 종료")
+        void sweep_RedisDown_NoRecovery() {
+            // given
+            when(sttRecordingDeadlineService.claimExpired(anyInt())).thenThrow(new RuntimeException("Redis down"));
+
+            // when
+            sttPollingScheduler.sweepExpiredRecordings();
+
+            // then
+            verify(sttService, never()).handleAbnormalTermination(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("녹음 고아 안전망 테스트")
+    class ScanOrphanedRecordingTasksTest {
+
+        @Test
+        @DisplayName("마감이 걸린 세션은 캐시 조회 없이 건너뜀")
+        void scan_TrackedRecordings_Skipped() {
+            // given
+            Set<Long> recordingIds = Set.of(1L, 2L);
+            when(sttRepository.findIdsByStatus(STT.Status.RECORDING)).thenReturn(recordingIds);
+            when(sttRecordingDeadlineService.findUntracked(recordingIds)).thenReturn(List.of());
+
+            // when
+            sttPollingScheduler.scanOrphanedRecordingTasks();
+
+            // then
+            verify(sttCacheService, never()).getCachedSttStatus(anyLong(), anyBoolean());
+            verify(sttService, never()).handleAbnormalTermination(anyLong());
+        }
+
+        @Test
+        @DisplayName("마감 없는 RECORDING 캐시: 즉시 복구하지 않고 마감을 다시 등록")
+        void scan_UntrackedRecording_DeadlineRearmed() {
+            // given
+            Set<Long> recordingIds = Set.of(1L);
+            when(sttRepository.findIdsByStatus(STT.Status.RECORDING)).thenReturn(recordingIds);
+            when(sttRecordingDeadlineService.findUntracked(recordingIds)).thenReturn(List.of(1L));
+            when(sttCacheService.getCachedSttStatus(1L, false))
+                    .thenReturn(STTDto.builder().id(1L).status(STT.Status.RECORDING).build());
+
+            // when
+            sttPollingScheduler.scanOrphanedRecordingTasks();
+
+            // then
+            verify(sttRecordingDeadlineService).register(1L);
+            verify(sttService, never()).handleAbnormalTermination(anyLong());
+        }
+
+        @Test
+        @DisplayName("캐시도 없음: DB 생성 시각 기준 안전망에 위임")
+        void scan_NoCache_DelegatesToStuckCheck() {
+            // given
+            Set<Long> recordingIds = Set.of(1L);
+            when(sttRepository.findIdsByStatus(STT.Status.RECORDING)).thenReturn(recordingIds);
+            when(sttRecordingDeadlineService.findUntracked(recordingIds)).thenReturn(List.of(1L));
+            when(sttCacheService.getCachedSttStatus(1L, false)).thenReturn(null);
+
+            // when
+            sttPollingScheduler.scanOrphanedRecordingTasks();
+
+            // then
+            verify(sttService).handleAbnormalTerminationIfStuck(1L, 3L);
+            verify(sttRecordingDeadlineService, never()).register(anyLong());
         }
     }
 }
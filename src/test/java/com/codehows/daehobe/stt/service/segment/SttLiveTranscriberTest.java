@@ -0,0 +1,221 @@
+package com.codehows.daehobe.stt.service.segment;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.file.service.RecordingChunkWriter;
+import com.codehows.daehobe.stt.dto.STTDto;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import com.codehows.daehobe.stt.entity.STT;
+import com.codehows.daehobe.stt.service.cache.SttCacheService;
+import com.codehows.daehobe.stt.service.messaging.SttUpdatePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_LIVE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SttLiveTranscriberTest {
+
+    private static final int SAMPLE_RATE = 16000;
+
+    @Mock
+    private RecordingChunkWriter recordingChunkWriter;
+    @Mock
+    private SttSegmentedTranscriber sttSegmentedTranscriber;
+    @Mock
+    private SttCacheService sttCacheService;
+    @Mock
+    private SttUpdatePublisher sttUpdatePublisher;
+    @Mock
+    private ThreadPoolTaskExecutor executor;
+    @Mock
+    private StringRedisTemplate hashRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @TempDir
+    Path tempDir;
+
+    private SttLiveTranscriber sttLiveTranscriber;
+
+    @BeforeEach
+    void setUp() {
+        sttLiveTranscriber = new SttLiveTranscriber(recordingChunkWriter, sttSegmentedTranscriber, sttCacheService,
+                sttUpdatePublisher, executor, hashRedisTemplate);
+        ReflectionTestUtils.setField(sttLiveTranscriber, "fileLocation", tempDir.toString());
+        ReflectionTestUtils.setField(sttLiveTranscriber, "enabled", true);
+        ReflectionTestUtils.setField(sttLiveTranscriber, "intervalSeconds", 8L);
+        ReflectionTestUtils.setField(sttLiveTranscriber, "searchWindowSeconds", 5L);
+        ReflectionTestUtils.setField(sttLiveTranscriber, "silenceWindowMs", 300L);
+        ReflectionTestUtils.setField(sttLiveTranscriber, "stateTtlHours", 24L);
+
+        when(hashRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(sttSegmentedTranscriber.requestSegment(any(Path.class)))
+                .thenReturn(new SttSegmentedTranscriber.SegmentRequest("rid-live", null));
+        when(sttSegmentedTranscriber.checkTranscriptionStatus("seg:g1")).thenReturn(
+                SttTranscriptionResult.builder().completed(false).content("부분 전사").progress(50).build());
+    }
+
+    /**
+     * 16kHz 모노 16비트 PCM: ±8000 진폭, 9.0~9.5초만 무음
+     */
+    private Path recording(String name, int seconds) throws IOException {
+        int frames = SAMPLE_RATE * seconds;
+        ByteBuffer buffer = ByteBuffer.allocate(44 + frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(0).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2)
+                .putShort((short) 2).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(0);
+        for (int i = 0; i < frames; i++) {
+            boolean silent = i >= SAMPLE_RATE * 9 && i < SAMPLE_RATE * 9 + SAMPLE_RATE / 2;
+            buffer.putShort(silent ? 0 : (short) (i % 2 == 0 ? 8000 : -8000));
+        }
+        Path file = tempDir.resolve(name);
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    private Map<Object, Object> liveState(long cursorFrame, int count) {
+        Map<Object, Object> state = new HashMap<>();
+        state.put("group", "g1");
+        state.put("cursorFrame", String.valueOf(cursorFrame));
+        state.put("count", String.valueOf(count));
+        return state;
+    }
+
+    private STTDto recordingDto() {
+        return STTDto.builder().id(1L).meetingId(1L).status(STT.Status.RECORDING).content("").build();
+    }
+
+    @Nested
+    @DisplayName("녹음 중 구간 요청")
+    class ProcessTest {
+
+        @Test
+        @DisplayName("새 오디오가 간격 이상: 끝부분 무음에서 잘라 요청, 부분 전사 delta 전송")
+        void process_EnoughAudio_SegmentRequestedAndPartialPublished() throws Exception {
+            // given
+            sttLiveTranscriber.start(1L);
+            when(recordingChunkWriter.livePcmSource(1L)).thenReturn(Optional.of(recording("rec.wav", 12)));
+            STTDto cached = recordingDto();
+            when(sttCacheService.getCachedSttStatus(1L)).thenReturn(cached);
+            when(hashOperations.entries(STT_LIVE_PREFIX + 1L)).thenReturn(liveState(0, 0));
+
+            // when
+            sttLiveTranscriber.process(1L);
+
+            // then
+            verify(sttSegmentedTranscriber).appendSegment(eq("g1"), eq(0),
+                    eq(new SttSegmentedTranscriber.SegmentRequest("rid-live", null)), eq(0L),
+                    longThat(duration -> duration >= 9000 && duration <= 9500));
+            verify(hashOperations).putAll(eq(STT_LIVE_PREFIX + 1L), argThat(fields -> "1".equals(fields.get("count"))));
+            ArgumentCaptor<BooleanSupplier> write = ArgumentCaptor.forClass(BooleanSupplier.class);
+            verify(sttUpdatePublisher).publishProgress(eq(cached), eq(""), write.capture());
+            write.getValue().getAsBoolean();
+            verify(sttCacheService).cacheContentIfStatus(cached, STT.Status.RECORDING);
+            verify(sttCacheService, never()).cacheSttStatus(any());
+            assertThat(cached.getContent()).isEqualTo("부분 전사");
+            try (var files = Files.list(tempDir)) {
+                assertThat(files.filter(file -> file.getFileName().toString().startsWith("stt-live-"))).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("새 오디오가 간격 미만: 요청 없음")
+        void process_NotEnoughAudio_Skipped() throws Exception {
+            // given
+            sttLiveTranscriber.start(1L);
+            when(recordingChunkWriter.livePcmSource(1L)).thenReturn(Optional.of(recording("rec.wav", 4)));
+            when(sttCacheService.getCachedSttStatus(1L)).thenReturn(recordingDto());
+            when(hashOperations.entries(STT_LIVE_PREFIX + 1L)).thenReturn(liveState(0, 0));
+
+            // when
+            sttLiveTranscriber.process(1L);
+
+            // then
+            verify(sttSegmentedTranscriber, never()).requestSegment(any());
+            verify(sttUpdatePublisher, never()).publishProgress(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("녹음 종료됨: 세션 정리, 이후는 finish가 처리")
+        void process_NotRecording_SessionRemoved() {
+            // given
+            sttLiveTranscriber.start(1L);
+            STTDto encoding = recordingDto();
+            encoding.updateStatus(STT.Status.ENCODING);
+            when(sttCacheService.getCachedSttStatus(1L)).thenReturn(encoding);
+
+            // when
+            sttLiveTranscriber.process(1L);
+
+            // then
+            assertThat(sttLiveTranscriber.getActiveSessionCount()).isZero();
+            verifyNoInteractions(recordingChunkWriter);
+        }
+    }
+
+    @Nested
+    @DisplayName("finish")
+    class FinishTest {
+
+        @Test
+        @DisplayName("실시간 구간 있음: 남은 꼬리 구간만 요청하고 그룹 rid 반환")
+        void finish_WithLiveSegments_TailRequested() throws Exception {
+            // given
+            Path encoded = recording("encoded.wav", 12);
+            when(hashOperations.entries(STT_LIVE_PREFIX + 1L)).thenReturn(liveState(SAMPLE_RATE * 9L, 1));
+
+            // when
+            Optional<String> rid = sttLiveTranscriber.finish(1L, encoded);
+
+            // then
+            assertThat(rid).contains("seg:g1");
+            verify(sttSegmentedTranscriber).appendSegment("g1", 1,
+                    new SttSegmentedTranscriber.SegmentRequest("rid-live", null), 9000L, 3000L);
+            verify(hashRedisTemplate).delete(STT_LIVE_PREFIX + 1L);
+        }
+
+        @Test
+        @DisplayName("실시간 전사가 아닌 녹음: empty (호출 측이 전체 요청)")
+        void finish_NoLiveState_Empty() throws Exception {
+            // given
+            when(hashOperations.entries(STT_LIVE_PREFIX + 1L)).thenReturn(Map.of());
+
+            // when
+            Optional<String> rid = sttLiveTranscriber.finish(1L, recording("encoded.wav", 2));
+
+            // then
+            assertThat(rid).isEmpty();
+            verify(sttSegmentedTranscriber, never()).requestSegment(any());
+        }
+    }
+}
@@ -0,0 +1,454 @@
+package com.codehows.daehobe.stt.service.segment;
+
+import com.codehows.daehobe.common.PerformanceLoggingExtension;
+import com.codehows.daehobe.common.utils.AudioProfile;
+import com.codehows.daehobe.common.utils.WavSilenceTrimmer;
+import com.codehows.daehobe.stt.dto.SttTranscriptionResult;
+import com.codehows.daehobe.stt.exception.SttRateLimitedException;
+import com.codehows.daehobe.stt.service.audio.SegmentedAudio;
+import com.codehows.daehobe.stt.service.audio.SttAudioPreparer;
+import com.codehows.daehobe.stt.service.audio.SttAudioSegmenter;
+import com.codehows.daehobe.stt.service.audio.SttSilenceTrimmer;
+import com.codehows.daehobe.stt.service.audio.TranscriptionAudio;
+import com.codehows.daehobe.stt.service.audio.TrimmedAudio;
+import com.codehows.daehobe.stt.service.provider.SttProvider;
+import com.codehows.daehobe.stt.service.provider.SttStatusCallBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_SEGMENT_GROUP_PREFIX;
+import static com.codehows.daehobe.stt.constant.SttRedisKeys.STT_SEGMENT_RESUME_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class, PerformanceLoggingExtension.class})
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SttSegmentedTranscriberTest {
+
+    @Mock
+    private SttProvider sttProvider;
+    @Mock
+    private SttAudioSegmenter sttAudioSegmenter;
+    @Mock
+    private SttAudioPreparer sttAudioPreparer;
+    @Mock
+    private SttSilenceTrimmer sttSilenceTrimmer;
+    @Mock
+    private StringRedisTemplate hashRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ThreadPoolTaskExecutor executor;
+    private SttSegmentedTranscriber transcriber;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.initialize();
+
+        transcriber = new SttSegmentedTranscriber(sttProvider, sttAudioSegmenter, sttAudioPreparer,
+                sttSilenceTrimmer, executor, hashRedisTemplate, objectMapper);
+        ReflectionTestUtils.setField(transcriber, "groupTtlHours", 24L);
+        ReflectionTestUtils.setField(transcriber, "uploadWaitSeconds", 5L);
+
+        when(hashRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(sttProvider.getAudioProfile()).thenReturn(AudioProfile.WAV_16K_MONO);
+        when(sttSilenceTrimmer.trim(any(Path.class))).thenAnswer(invocation ->
+                TrimmedAudio.untouched(invocation.getArgument(0)));
+        when(sttAudioPreparer.prepare(any(Path.class), any())).thenAnswer(invocation ->
+                TranscriptionAudio.passthrough(new FileSystemResource(invocation.<Path>getArgument(0))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private SegmentedAudio twoSegments() throws Exception {
+        Path first = Files.createFile(tempDir.resolve("segment-0.wav"));
+        Path second = Files.createFile(tempDir.resolve("segment-1.wav"));
+        return new SegmentedAudio(List.of(
+                new SegmentedAudio.AudioSegment(0, first, 0, 600_000),
+                new SegmentedAudio.AudioSegment(1, second, 600_000, 300_000)));
+    }
+
+    private Map<Object, Object> group(String utterancesOfFirst) {
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("count", "2");
+        fields.put("0:rid", "rid-0");
+        fields.put("0:offsetMs", "0");
+        fields.put("0:durationMs", "600000");
+        fields.put("0:content", "첫 구간 원문");
+        fields.put("0:utterances", utterancesOfFirst);
+        fields.put("1:rid", "rid-1");
+        fields.put("1:offsetMs", "600000");
+        fields.put("1:durationMs", "300000");
+        return fields;
+    }
+
+    @Nested
+    @DisplayName("requestTranscription")
+    class RequestTest {
+
+        @Test
+        @DisplayName("나누지 않는 녹음: 원본 한 번 요청, 프로바이더 rid 그대로")
+        void requestTranscription_Unsplit_SingleRequest() {
+            // given
+            Path recording = tempDir.resolve("short.wav");
+            when(sttAudioSegmenter.split(recording)).thenReturn(SegmentedAudio.unsplit());
+            when(sttProvider.requestTranscription(any(Resource.class))).thenReturn("rid-1");
+
+            // when
+            String rid = transcriber.requestTranscription(recording, "1");
+
+            // then
+            assertThat(rid).isEqualTo("rid-1");
+            verifyNoInteractions(hashRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("긴 녹음: 구간별 요청 후 그룹 저장, seg: rid 반환, 구간 임시 파일 삭제")
+        void requestTranscription_Segmented_GroupSaved() throws Exception {
+            // given
+            Path recording = tempDir.resolve("long.wav");
+            SegmentedAudio segmented = twoSegments();
+            when(sttAudioSegmenter.split(recording)).thenReturn(segmented);
+            when(sttProvider.requestTranscription(any(Resource.class))).thenAnswer(invocation ->
+                    "rid-" + invocation.<Resource>getArgument(0).getFilename());
+
+            // when
+            String rid = transcriber.requestTranscription(recording, "1");
+
+            // then
+            assertThat(SttSegmentedTranscriber.isSegmented(rid)).isTrue();
+            String key = STT_SEGMENT_GROUP_PREFIX + rid.substring("seg:".length());
+            verify(hashOperations).putAll(eq(key), argThat(fields -> "2".equals(fields.get("count"))
+                    && "rid-segment-0.wav".equals(fields.get("0:rid"))
+                    && "rid-segment-1.wav".equals(fields.get("1:rid"))
+                    && "600000".equals(fields.get("1:offsetMs"))));
+            verify(hashRedisTemplate).expire(key, Duration.ofHours(24));
+            assertThat(segmented.segments()).allSatisfy(segment -> assertThat(segment.file()).doesNotExist());
+        }
+
+        @Test
+        @DisplayName("무음을 압축한 녹음: 압축본 업로드, 시각 변환표와 함께 구간 하나짜리 그룹 저장")
+        void requestTranscription_Trimmed_SingleSegmentGroupWithTimeMap() throws Exception {
+            // given
+            Path recording = tempDir.resolve("quiet.wav");
+            Path trimmedFile = Files.createFile(tempDir.resolve("stt-vad-1.wav"));
+            WavSilenceTrimmer.TimeMap timeMap = new WavSilenceTrimmer.TimeMap(new long[]{0, 10_000}, new long[]{0, 70_000});
+            when(sttAudioSegmenter.split(recording)).thenReturn(SegmentedAudio.unsplit());
+            when(sttSilenceTrimmer.trim(recording)).thenReturn(new TrimmedAudio(trimmedFile, trimmedFile, timeMap));
+            when(sttProvider.requestTranscription(any(Resource.class))).thenAnswer(invocation ->
+                    "rid-" + invocation.<Resource>getArgument(0).getFilename());
+
+            // when
+            String rid = transcriber.requestTranscription(recording, "1");
+
+            // then
+            assertThat(SttSegmentedTranscriber.isSegmented(rid)).isTrue();
+            verify(hashOperations).putAll(startsWith(STT_SEGMENT_GROUP_PREFIX), argThat(fields ->
+                    "1".equals(fields.get("count"))
+                            && "rid-stt-vad-1.wav".equals(fields.get("0:rid"))
+                            && fields.get("0:timeMap") != null
+                            && fields.containsKey("plainSpeakers")));
+            assertThat(trimmedFile).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("일부 구간 요청 실패: 원래 예외 전달, 성공 구간 rid는 그룹에 남기고 재개 키 기록")
+        void requestTranscription_SegmentFails_AcceptedRidsKept() throws Exception {
+            // given
+            Path recording = tempDir.resolve("long.wav");
+            when(sttAudioSegmenter.split(recording)).thenReturn(twoSegments());
+            when(sttProvider.requestTranscription(any(Resource.class))).thenAnswer(invocation -> {
+                if ("segment-1.wav".equals(invocation.<Resource>getArgument(0).getFilename())) {
+                    throw new SttRateLimitedException("429", Duration.ofSeconds(10));
+                }
+                return "rid-0";
+            });
+
+            // when & then
+            assertThatThrownBy(() -> transcriber.requestTranscription(recording, "1"))
+                    .isInstanceOf(SttRateLimitedException.class);
+            ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+            verify(hashOperations).putAll(startsWith(STT_SEGMENT_GROUP_PREFIX), fields.capture());
+            assertThat(fields.getValue())
+                    .containsEntry("count", "2")
+                    .containsEntry("0:rid", "rid-0")
+                    .containsEntry("1:failed", "SttRateLimitedException")
+                    .containsEntry("1:offsetMs", "600000")
+                    .doesNotContainKeys("1:rid", "0:failed");
+            verify(valueOperations).set(eq(STT_SEGMENT_RESUME_PREFIX + "1"), anyString(), eq(Duration.ofHours(24)));
+        }
+
+        @Test
+        @DisplayName("요청 한도 초과: 구간을 바로 실패시키지 않고 retryAfter 뒤 다시 전송")
+        void requestTranscription_RateLimited_RetriedWithinDeadline() throws Exception {
+            // given
+            Path recording = tempDir.resolve("long.wav");
+            when(sttAudioSegmenter.split(recording)).thenReturn(twoSegments());
+            when(sttProvider.requestTranscription(any(Resource.class)))
+                    .thenThrow(new SttRateLimitedException("한도 초과", Duration.ofMillis(50)))
+                    .thenAnswer(invocation -> "rid-" + invocation.<Resource>getArgument(0).getFilename());
+
+            // when
+            String rid = transcriber.requestTranscription(recording, "1");
+
+            // then
+            assertThat(rid).startsWith("seg:");
+            verify(sttProvider, times(3)).requestTranscription(any(Resource.class));
+            verify(hashOperations).putAll(startsWith(STT_SEGMENT_GROUP_PREFIX), argThat(fields ->
+                    fields.containsKey("0:rid") && fields.containsKey("1:rid")
+                            && !fields.containsKey("0:failed") && !fields.containsKey("1:failed")));
+        }
+
+        @Test
+        @DisplayName("동시 업로드: 프로바이더 동시 요청 한도를 넘겨 보내지 않음")
+        void requestTranscription_Segmented_UploadsCappedAtProviderConcurrency() throws Exception {
+            // given: 스레드는 2개지만 프로바이더 동시 요청 한도 1
+            when(sttProvider.maxConcurrentTranscriptions()).thenReturn(1);
+            transcriber = new SttSegmentedTranscriber(sttProvider, sttAudioSegmenter, sttAudioPreparer,
+                    sttSilenceTrimmer, executor, hashRedisTemplate, objectMapper);
+            ReflectionTestUtils.setField(transcriber, "groupTtlHours", 24L);
+            ReflectionTestUtils.setField(transcriber, "uploadWaitSeconds", 5L);
+            Path recording = tempDir.resolve("long.wav");
+            when(sttAudioSegmenter.split(recording)).thenReturn(twoSegments());
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            when(sttProvider.requestTranscription(any(Resource.class))).thenAnswer(invocation -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(100);
+                inFlight.decrementAndGet();
+                return "rid-" + invocation.<Resource>getArgument(0).getFilename();
+            });
+
+            // when
+            String rid = transcriber.requestTranscription(recording, "1");
+
+            // then
+            assertThat(rid).startsWith("seg:");
+            assertThat(maxInFlight.get()).isEqualTo(1);
+            verify(sttProvider, times(2)).requestTranscription(any(Resource.class));
+        }
+
+        @Test
+        @DisplayName("재시도: 이전 그룹에서 접수된 구간은 건너뛰고 실패 구간만 다시 요청")
+        void requestTranscription_Resumed_OnlyFailedSegmentRequested() throws Exception {
+            // given
+            Path recording = tempDir.resolve("long.wav");
+            when(sttAudioSegmenter.split(recording)).thenReturn(twoSegments());
+            when(valueOperations.get(STT_SEGMENT_RESUME_PREFIX + "1")).thenReturn("g1");
+            Map<Object, Object> previous = new HashMap<>();
+            previous.put("count", "2");
+            previous.put("0:rid", "rid-0");
+            previous.put("0:offsetMs", "0");
+            previous.put("1:offsetMs", "600000");
+            previous.put("1:failed", "SttRateLimitedException");
+            when(hashOperations.entries(STT_SEGMENT_GROUP_PREFIX + "g1")).thenReturn(previous);
+            when(sttProvider.requestTranscription(any(Resource.class))).thenAnswer(invocation ->
+                    "rid-" + invocation.<Resource>getArgument(0).getFilename());
+
+            // when
+            String rid = transcriber.requestTranscription(recording, "1");
+
+            // then
+            assertThat(rid).isEqualTo("seg:g1");
+            verify(sttProvider, times(1)).requestTranscription(any(Resource.class));
+            verify(hashOperations).putAll(eq(STT_SEGMENT_GROUP_PREFIX + "g1"), argThat(fields ->
+                    "rid-segment-1.wav".equals(fields.get("1:rid")) && !fields.containsKey("0:rid")));
+            verify(hashOperations).delete(STT_SEGMENT_GROUP_PREFIX + "g1", "1:failed");
+            verify(hashRedisTemplate).delete(STT_SEGMENT_RESUME_PREFIX + "1");
+        }
+    }
+
+    @Nested
+    @DisplayName("checkTranscriptionStatus")
+    class CheckStatusTest {
+
+        @Test
+        @DisplayName("일부 완료: 완료 구간은 다시 조회하지 않고 길이 가중 진행률 + 앞 구간 본문")
+        void checkStatus_PartiallyCompleted_WeightedProgress() throws Exception {
+            // given
+            String utterances = objectMapper.writeValueAsString(
+                    List.of(new SttTranscriptionResult.Utterance("A", 5000, "안녕하세요")));
+            when(hashOperations.entries(STT_SEGMENT_GROUP_PREFIX + "g1")).thenReturn(group(utterances));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(
+                    SttTranscriptionResult.builder().completed(false).content("").progress(50).build());
+
+            // when
+            SttTranscriptionResult result = transcriber.checkTranscriptionStatus("seg:g1", SttStatusCallBudget.NONE);
+
+            // then: (600000 * 100 + 300000 * 50) / 900000
+            assertThat(result.isCompleted()).isFalse();
+            assertThat(result.getProgress()).isEqualTo(83);
+            assertThat(result.getContent()).contains("**화자 1-A** (00:00:05)").contains("안녕하세요");
+            verify(sttProvider, never()).checkTranscriptionStatus("rid-0");
+            verify(hashOperations).put(STT_SEGMENT_GROUP_PREFIX + "g1", "1:progress", "50");
+        }
+
+        @Test
+        @DisplayName("모두 완료: 구간 오프셋만큼 보정한 시각과 구간별 화자 라벨로 이어 붙임")
+        void checkStatus_AllCompleted_Stitched() throws Exception {
+            // given
+            String utterances = objectMapper.writeValueAsString(
+                    List.of(new SttTranscriptionResult.Utterance("A", 5000, "안녕하세요")));
+            when(hashOperations.entries(STT_SEGMENT_GROUP_PREFIX + "g1")).thenReturn(group(utterances));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(SttTranscriptionResult.builder()
+                    .completed(true).content("둘째 구간 원문").progress(100)
+                    .utterances(List.of(new SttTranscriptionResult.Utterance("A", 5000, "반갑습니다")))
+                    .build());
+
+            // when
+            SttTranscriptionResult result = transcriber.checkTranscriptionStatus("seg:g1", SttStatusCallBudget.NONE);
+
+            // then
+            assertThat(result.isCompleted()).isTrue();
+            assertThat(result.getProgress()).isEqualTo(100);
+            assertThat(result.getContent())
+                    .contains("**화자 2-A** (00:10:05)")
+                    .doesNotContain("둘째 구간 원문");
+            assertThat(result.getContent().indexOf("안녕하세요")).isLessThan(result.getContent().indexOf("반갑습니다"));
+            verify(hashOperations).putAll(eq(STT_SEGMENT_GROUP_PREFIX + "g1"),
+                    argThat(fields -> "둘째 구간 원문".equals(fields.get("1:content"))));
+        }
+
+        @Test
+        @DisplayName("무음 압축 구간: 발화 시각을 원본 기준으로 되돌리고 화자 라벨 그대로")
+        void checkStatus_TrimmedSingleSegment_TimesRestored() throws Exception {
+            // given: 압축본 10초 이후는 원본 70초 이후
+            Map<Object, Object> fields = new HashMap<>();
+            fields.put("count", "1");
+            fields.put("plainSpeakers", "true");
+            fields.put("0:rid", "rid-0");
+            fields.put("0:offsetMs", "0");
+            fields.put("0:durationMs", "0");
+            fields.put("0:timeMap", objectMapper.writeValueAsString(
+                    new WavSilenceTrimmer.TimeMap(new long[]{0, 10_000}, new long[]{0, 70_000})));
+            when(hashOperations.entries(STT_SEGMENT_GROUP_PREFIX + "g1")).thenReturn(fields);
+            when(sttProvider.checkTranscriptionStatus("rid-0")).thenReturn(SttTranscriptionResult.builder()
+                    .completed(true).content("원문").progress(100)
+                    .utterances(List.of(
+                            new SttTranscriptionResult.Utterance("A", 5_000, "시작합니다"),
+                            new SttTranscriptionResult.Utterance("B", 12_000, "다시 왔습니다")))
+                    .build());
+
+            // when
+            SttTranscriptionResult result = transcriber.checkTranscriptionStatus("seg:g1", SttStatusCallBudget.NONE);
+
+            // then
+            assertThat(result.isCompleted()).isTrue();
+            assertThat(result.getContent())
+                    .contains("**화자 A** (00:00:05)")
+                    .contains("**화자 B** (00:01:12)");
+        }
+
+        @Test
+        @DisplayName("발화 정보 없는 결과: 구간 본문을 그대로 이어 붙임")
+        void checkStatus_NoUtterances_RawContentAppended() {
+            // given
+            when(hashOperations.entries(STT_SEGMENT_GROUP_PREFIX + "g1")).thenReturn(group(null));
+            when(sttProvider.checkTranscriptionStatus("rid-1")).thenReturn(
+                    SttTranscriptionResult.builder().completed(true).content("둘째").progress(100).build());
+
+            // when
+            SttTranscriptionResult result = transcriber.checkTranscriptionStatus("seg:g1", SttStatusCallBudget.NONE);
+
+            // then
+            assertThat(result.getContent()).isEqualTo("첫 구간 원문둘째");
+        }
+
+        @Test
+        @DisplayName("추가 예산 소진: 끝나지 않은 구간 중 첫 구간만 조회, 나머지는 저장된 진행률")
+        void checkStatus_BudgetExhausted_RemainingSegmentsUseStoredProgress() {
+            // given: 세 구간 모두 미완료, 추가 예산 1회
+            Map<Object, Object> fields = new HashMap<>();
+            fields.put("count", "3");
+            for (int i = 0; i < 3; i++) {
+                fields.put(i + ":rid", "rid-" + i);
+                fields.put(i + ":offsetMs", String.valueOf(i * 100_000));
+                fields.put(i + ":durationMs", "100000");
+                fields.put(i + ":progress", "30");
+            }
+            when(hashOperations.entries(STT_SEGMENT_GROUP_PREFIX + "g1")).thenReturn(fields);
+            when(sttProvider.checkTranscriptionStatus(anyString())).thenReturn(
+                    SttTranscriptionResult.builder().completed(false).content("").progress(90).build());
+            SttStatusCallBudget extraStatusCalls = SttStatusCallBudget.of(1);
+
+            // when
+            SttTranscriptionResult result = transcriber.checkTranscriptionStatus("seg:g1", extraStatusCalls);
+
+            // then: (90 + 90 + 30) / 3
+            verify(sttProvider).checkTranscriptionStatus("rid-0");
+            verify(sttProvider).checkTranscriptionStatus("rid-1");
+            verify(sttProvider, never()).checkTranscriptionStatus("rid-2");
+            assertThat(extraStatusCalls.remaining()).isZero();
+            assertThat(result.getProgress()).isEqualTo(70);
+        }
+
+        @Test
+        @DisplayName("예약 없는 조회(실시간 전사): STATUS 예산이 없으면 조회하지 않고 SttRateLimitedException")
+        void checkStatus_NoProviderBudget_Throttled() {
+            // given
+            when(sttProvider.availableStatusCalls()).thenReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> transcriber.checkTranscriptionStatus("seg:g1"))
+                    .isInstanceOf(SttRateLimitedException.class);
+            verify(sttProvider, never()).checkTranscriptionStatus(anyString());
+            verifyNoInteractions(hashRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("일반 rid: 프로바이더 조회 그대로")
+        void checkStatus_PlainRid_DelegatesToProvider() {
+            // given
+            SttTranscriptionResult expected = SttTranscriptionResult.stillProcessing();
+            when(sttProvider.checkTranscriptionStatus("rid-9")).thenReturn(expected);
+
+            // when
+            SttTranscriptionResult result = transcriber.checkTranscriptionStatus("rid-9", SttStatusCallBudget.NONE);
+
+            // then
+            assertThat(result).isSameAs(expected);
+            verifyNoInteractions(hashRedisTemplate);
+        }
+    }
+}